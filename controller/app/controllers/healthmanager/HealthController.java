@@ -12,12 +12,17 @@ import java.util.concurrent.CompletionStage;
 import javax.inject.Inject;
 import javax.inject.Named;
 import modules.SignalHandler;
+import org.sunbird.auth.verifier.PublicKeyRegistry;
+import org.sunbird.common.CassandraMetrics;
+import org.sunbird.common.ElasticSearchMetrics;
+import org.sunbird.datasecurity.DecryptedValueCache;
 import org.sunbird.exception.ProjectCommonException;
 import org.sunbird.exception.ResponseCode;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.operations.ActorOperations;
 import org.sunbird.request.Request;
 import org.sunbird.response.Response;
+import org.sunbird.telemetry.util.TelemetryWriter;
 import org.sunbird.util.ProjectUtil;
 import play.mvc.Http;
 import play.mvc.Result;
@@ -118,6 +123,33 @@ public class HealthController extends BaseController {
     }
   }
 
+  /**
+   * This method will return the cassandra query metrics (latency percentiles, driver errors and
+   * connection pool state) and the elastic search client metrics (node failures and connection pool
+   * state), the decrypted / masked value cache metrics and the access token key registry metrics
+   * (key count, last reload) and the telemetry queue metrics collected by this instance. It is
+   * served under /private as it names keyspaces, tables and indices, so it is not reachable from
+   * outside the cluster.
+   *
+   * @return CompletionStage<Result>
+   */
+  public CompletionStage<Result> getMetrics(Http.Request httpRequest) {
+    Response response = new Response();
+    response
+        .getResult()
+        .put(JsonKey.CASSANDRA_SERVICE, CassandraMetrics.getInstance().getSnapshot());
+    response.getResult().put(JsonKey.ES_SERVICE, ElasticSearchMetrics.getInstance().getSnapshot());
+    response.getResult().put(JsonKey.DECRYPTION_CACHE, DecryptedValueCache.getSnapshot());
+    response
+        .getResult()
+        .put(JsonKey.ACCESS_TOKEN_KEYS, PublicKeyRegistry.getInstance().getMetrics());
+    response.getResult().put(JsonKey.TELEMETRY_WRITER, TelemetryWriter.getMetrics());
+    response.setId("learner.service.metrics.api");
+    response.setVer(getApiVersion(httpRequest.path()));
+    response.setTs(Common.getFromRequest(httpRequest, Attrs.X_REQUEST_ID));
+    return CompletableFuture.completedFuture(ok(play.libs.Json.toJson(response)));
+  }
+
   private void handleSigTerm() {
     if (signalHandler.isShuttingDown()) {
       throw new ProjectCommonException(
@@ -9,6 +9,7 @@ import org.sunbird.helper.CassandraConnectionManager;
 import org.sunbird.helper.CassandraConnectionMngrFactory;
 import org.sunbird.http.HttpClientUtil;
 import org.sunbird.keys.JsonKey;
+import org.sunbird.telemetry.util.TelemetryWriter;
 import org.sunbird.util.ProjectUtil;
 import org.sunbird.util.user.SchedulerManager;
 import play.api.Environment;
@@ -18,6 +19,7 @@ import play.api.inject.ApplicationLifecycle;
 public class ApplicationStart {
   public static ProjectUtil.Environment env;
   public static String ssoPublicKey = "";
+  private static final long TELEMETRY_FLUSH_TIMEOUT = 5000;
 
   @Inject
   public ApplicationStart(ApplicationLifecycle applicationLifecycle, Environment environment) {
@@ -25,7 +27,8 @@ public class ApplicationStart {
     ssoPublicKey = System.getenv(JsonKey.SSO_PUBLIC_KEY);
     checkCassandraConnections();
     HttpClientUtil.getInstance();
-    applicationLifecycle.addStopHook(() -> CompletableFuture.completedFuture(null));
+    applicationLifecycle.addStopHook(
+        () -> CompletableFuture.runAsync(() -> TelemetryWriter.shutdown(TELEMETRY_FLUSH_TIMEOUT)));
     KeyManager.init();
   }
 
@@ -59,4 +59,16 @@ public class HealthControllerTest extends BaseApplicationTest {
     Result result = Helpers.route(application, req);
     assertEquals(200, result.status());
   }
+
+  @Test
+  public void testGetMetrics() {
+    Map userAuthentication = new HashMap<String, String>();
+    userAuthentication.put(JsonKey.USER_ID, "uuiuhcf784508 8y8c79-fhh");
+    PowerMockito.mockStatic(RequestInterceptor.class);
+    when(RequestInterceptor.verifyRequestData(Mockito.anyObject(), Mockito.anyMap()))
+        .thenReturn(userAuthentication);
+    RequestBuilder req = new RequestBuilder().uri("/private/v1/metrics").method("GET");
+    Result result = Helpers.route(application, req);
+    assertEquals(200, result.status());
+  }
 }
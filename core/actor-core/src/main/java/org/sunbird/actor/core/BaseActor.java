@@ -1,11 +1,14 @@
 package org.sunbird.actor.core;
 
 import akka.actor.UntypedAbstractActor;
+import akka.dispatch.Recover;
+import akka.pattern.Patterns;
 import org.sunbird.exception.ProjectCommonException;
 import org.sunbird.exception.ResponseCode;
 import org.sunbird.logging.LoggerUtil;
 import org.sunbird.operations.ActorOperations;
 import org.sunbird.request.Request;
+import scala.concurrent.Future;
 
 public abstract class BaseActor extends UntypedAbstractActor {
   public final LoggerUtil logger = new LoggerUtil(this.getClass());
@@ -36,6 +39,36 @@ public abstract class BaseActor extends UntypedAbstractActor {
     }
   }
 
+  /**
+   * Send the result of a future to the sender once it completes, without blocking the actor. A
+   * failure is sent the same way {@link #onReceive(Object)} sends exceptions thrown while
+   * processing the request.
+   *
+   * @param future Future completing with the response
+   * @param request Request being processed
+   */
+  protected void pipeToSender(Future<?> future, Request request) {
+    Future<Object> result =
+        future.recover(
+            new Recover<Object>() {
+              @Override
+              public Object recover(Throwable failure) {
+                logger.error(
+                    request.getRequestContext(),
+                    "Error while processing the message for operation: " + request.getOperation(),
+                    failure);
+                if (failure instanceof ProjectCommonException) {
+                  return new ProjectCommonException(
+                      (ProjectCommonException) failure,
+                      ActorOperations.getOperationCodeByActorOperation(request.getOperation()));
+                }
+                return failure;
+              }
+            },
+            getContext().dispatcher());
+    Patterns.pipe(result, getContext().dispatcher()).to(sender());
+  }
+
   protected void onReceiveUnsupportedOperation() {
     ProjectCommonException exception =
         new ProjectCommonException(
@@ -0,0 +1,247 @@
+package org.sunbird.cassandra;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import org.sunbird.request.RequestContext;
+import org.sunbird.response.Response;
+
+/**
+ * Non-blocking counterpart of {@link CassandraOperation}. Every method is executed with the
+ * driver's executeAsync and returns immediately; the returned stage completes with the same
+ * Response the blocking method would return, or exceptionally with a ProjectCommonException.
+ */
+public interface AsyncCassandraOperation {
+
+  /**
+   * Insert record in cassandra db (upsert semantics as insert in cassandra always upserts).
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param request Map<String,Object>(i.e map of column name and their value)
+   * @param context
+   * @return Stage completing with response indicating status of operation
+   */
+  CompletionStage<Response> upsertRecordAsync(
+      String keyspaceName, String tableName, Map<String, Object> request, RequestContext context);
+
+  /**
+   * Insert record in cassandra db.
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param request Map<String,Object>(i.e map of column name and their value)
+   * @param context
+   * @return Stage completing with response indicating status of operation
+   */
+  CompletionStage<Response> insertRecordAsync(
+      String keyspaceName, String tableName, Map<String, Object> request, RequestContext context);
+
+  /**
+   * Update record in cassandra db by primary key (id).
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param request Map<String,Object>(i.e map of column name and their value)
+   * @param context
+   * @return Stage completing with response indicating status of operation
+   */
+  CompletionStage<Response> updateRecordAsync(
+      String keyspaceName, String tableName, Map<String, Object> request, RequestContext context);
+
+  /**
+   * Update record in cassandra db on basis of composite primary key.
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param updateAttributes Column map to be used in set clause of update query
+   * @param compositeKey Column map for composite primary key
+   * @param context
+   * @return Stage completing with response indicating status of operation
+   */
+  CompletionStage<Response> updateRecordAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> updateAttributes,
+      Map<String, Object> compositeKey,
+      RequestContext context);
+
+  /**
+   * Delete record in cassandra db by primary key (id).
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param identifier Primary key
+   * @param context
+   * @return Stage completing with response indicating status of operation
+   */
+  CompletionStage<Response> deleteRecordAsync(
+      String keyspaceName, String tableName, String identifier, RequestContext context);
+
+  /**
+   * Get record by primary key.
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param key Primary key
+   * @param context
+   * @return Stage completing with response consisting of matched record
+   */
+  CompletionStage<Response> getRecordByIdAsync(
+      String keyspaceName, String tableName, String key, RequestContext context);
+
+  /**
+   * Get record by composite primary key.
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param key Column map representing composite primary key
+   * @param context
+   * @return Stage completing with response consisting of matched record
+   */
+  CompletionStage<Response> getRecordByIdAsync(
+      String keyspaceName, String tableName, Map<String, Object> key, RequestContext context);
+
+  /**
+   * Get record by primary key consisting of only specified fields (return all if null).
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param key Primary key
+   * @param fields List of columns to be returned in each record
+   * @param context
+   * @return Stage completing with response consisting of matched record
+   */
+  CompletionStage<Response> getRecordByIdAsync(
+      String keyspaceName,
+      String tableName,
+      String key,
+      List<String> fields,
+      RequestContext context);
+
+  /**
+   * Get record by composite primary key consisting of only specified fields (return all if null).
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param key Column map representing composite primary key
+   * @param fields List of columns to be returned in each record
+   * @param context
+   * @return Stage completing with response consisting of matched record
+   */
+  CompletionStage<Response> getRecordByIdAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> key,
+      List<String> fields,
+      RequestContext context);
+
+  /**
+   * Fetch records matching any of the given values of a property (IN query).
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param propertyName Column name
+   * @param propertyValueList List of values
+   * @param context
+   * @return Stage completing with response consisting of fetched records
+   */
+  CompletionStage<Response> getRecordsByPropertyAsync(
+      String keyspaceName,
+      String tableName,
+      String propertyName,
+      List<Object> propertyValueList,
+      RequestContext context);
+
+  /**
+   * Fetch records for given column map (name, value pairs).
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param propertyMap Map describing columns to be used in where clause of select query
+   * @param context
+   * @return Stage completing with response consisting of fetched records
+   */
+  CompletionStage<Response> getRecordsByPropertiesAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> propertyMap,
+      RequestContext context);
+
+  /**
+   * Fetch records with specified columns (select all if null) for given column map (name, value
+   * pairs).
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param propertyMap Map describing columns to be used in where clause of select query
+   * @param fields List of columns to be returned in each record
+   * @param context
+   * @return Stage completing with response consisting of fetched records
+   */
+  CompletionStage<Response> getRecordsByPropertiesAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> propertyMap,
+      List<String> fields,
+      RequestContext context);
+
+  /**
+   * Fetch specified columns (select all if null) of records with given list of ids.
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param ids List of primary keys
+   * @param properties List of columns to be returned in each record
+   * @param context
+   * @return Stage completing with response consisting of fetched records
+   */
+  CompletionStage<Response> getPropertiesValueByIdAsync(
+      String keyspaceName,
+      String tableName,
+      List<String> ids,
+      List<String> properties,
+      RequestContext context);
+
+  /**
+   * Fetch all records of table with specified columns (select all if null).
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param fields List of columns to be returned in each record
+   * @param context
+   * @return Stage completing with response consisting of fetched records
+   */
+  CompletionStage<Response> getAllRecordsAsync(
+      String keyspaceName, String tableName, List<String> fields, RequestContext context);
+
+  /**
+   * Perform batch insert operation.
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param records List of records in the batch insert operation
+   * @param context
+   * @return Stage completing with response indicating status of operation
+   */
+  CompletionStage<Response> batchInsertAsync(
+      String keyspaceName,
+      String tableName,
+      List<Map<String, Object>> records,
+      RequestContext context);
+
+  /**
+   * Perform batch update operation where each record is updated by its primary key (id).
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param records List of records in the batch update operation
+   * @param context
+   * @return Stage completing with response indicating status of operation
+   */
+  CompletionStage<Response> batchUpdateByIdAsync(
+      String keyspaceName,
+      String tableName,
+      List<Map<String, Object>> records,
+      RequestContext context);
+}
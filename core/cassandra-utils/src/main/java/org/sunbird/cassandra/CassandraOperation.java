@@ -3,6 +3,7 @@ package org.sunbird.cassandra;
 
 import com.datastax.driver.core.ResultSet;
 import com.google.common.util.concurrent.FutureCallback;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import org.sunbird.request.RequestContext;
@@ -189,6 +190,87 @@ public interface CassandraOperation {
   public Response getAllRecords(
       String keyspaceName, String tableName, List<String> fields, RequestContext context);
 
+  /**
+   * Fetch one page of the records of table with specified columns (select all if null). The
+   * response holds the records under {@code response} and, if more records remain, the token of the
+   * next page under {@code pagingState}. The token can be stored to resume a scan later.
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param fields List of columns to be returned in each record
+   * @param pageSize Maximum number of records in the page
+   * @param pagingState Token returned with the previous page, null for the first page
+   * @param context
+   * @return Response consisting of the records of the page and the token of the next page
+   */
+  Response getAllRecordsPage(
+      String keyspaceName,
+      String tableName,
+      List<String> fields,
+      int pageSize,
+      String pagingState,
+      RequestContext context);
+
+  /**
+   * Fetch one page of the records matching any of the given values of a property.
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param propertyName Column name
+   * @param propertyValueList List of values
+   * @param pageSize Maximum number of records in the page
+   * @param pagingState Token returned with the previous page, null for the first page
+   * @param context
+   * @return Response consisting of the records of the page and the token of the next page
+   * @see #getAllRecordsPage(String, String, List, int, String, RequestContext)
+   */
+  Response getRecordsByPropertyPage(
+      String keyspaceName,
+      String tableName,
+      String propertyName,
+      List<Object> propertyValueList,
+      int pageSize,
+      String pagingState,
+      RequestContext context);
+
+  /**
+   * Iterate over all records of table with specified columns (select all if null). Records are
+   * fetched lazily {@code fetchSize} at a time, so only one page is held in memory.
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param fields List of columns to be returned in each record
+   * @param fetchSize Number of records fetched per round trip
+   * @param context
+   * @return Iterator over the records
+   */
+  Iterator<Map<String, Object>> scanAllRecords(
+      String keyspaceName,
+      String tableName,
+      List<String> fields,
+      int fetchSize,
+      RequestContext context);
+
+  /**
+   * Iterate over the records matching any of the given values of a property, fetching them lazily
+   * {@code fetchSize} at a time.
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param propertyName Column name
+   * @param propertyValueList List of values
+   * @param fetchSize Number of records fetched per round trip
+   * @param context
+   * @return Iterator over the records
+   */
+  Iterator<Map<String, Object>> scanRecordsByProperty(
+      String keyspaceName,
+      String tableName,
+      String propertyName,
+      List<Object> propertyValueList,
+      int fetchSize,
+      RequestContext context);
+
   /**
    * Method to update the record on basis of composite primary key.
    *
@@ -284,7 +366,9 @@ public interface CassandraOperation {
       RequestContext context);
 
   /**
-   * Method to perform batch insert operation.
+   * Method to perform batch insert operation. Records are grouped by partition and written as
+   * unlogged batches; a {@link org.sunbird.common.BatchWriteException} listing the failed records
+   * is thrown if some of them could not be written.
    *
    * @param keyspaceName Keyspace name
    * @param tableName Table name
@@ -299,7 +383,8 @@ public interface CassandraOperation {
       RequestContext context);
 
   /**
-   * Method to perform batch update operation.
+   * Method to perform batch update operation. Records are grouped by partition as in {@link
+   * #batchInsert(String, String, List, RequestContext)}.
    *
    * @param keyspaceName Keyspace name
    * @param tableName Table name
@@ -450,7 +535,8 @@ public interface CassandraOperation {
       RequestContext context);
 
   /**
-   * Apply callback on cassandra async read call.
+   * Apply callback on cassandra async read call. The callback runs on the shared {@link
+   * org.sunbird.common.CallbackExecutor}.
    *
    * @param keySpace Keyspace name
    * @param table Table name
@@ -1,27 +1,41 @@
 package org.sunbird.cassandraimpl;
 
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.querybuilder.Delete;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.datastax.driver.core.querybuilder.Select;
 import com.datastax.driver.core.querybuilder.Update;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
+import org.sunbird.cassandra.AsyncCassandraOperation;
+import org.sunbird.common.BatchWriteException;
+import org.sunbird.common.CallbackExecutor;
 import org.sunbird.common.CassandraUtil;
 import org.sunbird.common.Constants;
+import org.sunbird.common.PartitionedBatchWriter;
+import org.sunbird.common.PreparedStatementCache.StatementType;
 import org.sunbird.exception.ProjectCommonException;
 import org.sunbird.exception.ResponseCode;
+import org.sunbird.helper.HotReadSpeculativeExecutionPolicy;
+import org.sunbird.keys.JsonKey;
 import org.sunbird.logging.LoggerUtil;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
 
-public class CassandraDACImpl extends CassandraOperationImpl {
+public class CassandraDACImpl extends CassandraOperationImpl implements AsyncCassandraOperation {
   private final LoggerUtil logger = new LoggerUtil(CassandraDACImpl.class);
 
   public Response getRecords(
@@ -63,9 +77,7 @@ public class CassandraDACImpl extends CassandraOperationImpl {
           ResponseCode.serverError.getErrorMessage(),
           ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
-      if (null != select) {
-        logQueryElapseTime("getRecords", startTime, select.getQueryString(), context);
-      }
+      logQueryElapseTime("getRecords", keySpace, table, startTime, context);
     }
     return response;
   }
@@ -99,7 +111,7 @@ public class CassandraDACImpl extends CassandraOperationImpl {
         }
       }
       ResultSetFuture future = session.executeAsync(select);
-      Futures.addCallback(future, callback, Executors.newFixedThreadPool(1));
+      Futures.addCallback(future, callback, CallbackExecutor.getInstance());
     } catch (Exception e) {
       logger.error(context, Constants.EXCEPTION_MSG_FETCH + table + " : " + e.getMessage(), e);
       throw new ProjectCommonException(
@@ -107,10 +119,7 @@ public class CassandraDACImpl extends CassandraOperationImpl {
           ResponseCode.serverError.getErrorMessage(),
           ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
-      if (null != select) {
-        logQueryElapseTime(
-            "applyOperationOnRecordsAsync", startTime, select.getQueryString(), context);
-      }
+      logQueryElapseTime("applyOperationOnRecordsAsync", keySpace, table, startTime, context);
     }
   }
 
@@ -181,9 +190,427 @@ public class CassandraDACImpl extends CassandraOperationImpl {
           ResponseCode.serverError.getErrorMessage(),
           ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
-      if (null != update) {
-        logQueryElapseTime("updateMapRecord", startTime, update.getQueryString(), context);
+      logQueryElapseTime("updateMapRecord", keySpace, table, startTime, context);
+    }
+  }
+
+  @Override
+  public CompletionStage<Response> upsertRecordAsync(
+      String keyspaceName, String tableName, Map<String, Object> request, RequestContext context) {
+    return insertRecordAsync(keyspaceName, tableName, request, context);
+  }
+
+  @Override
+  public CompletionStage<Response> insertRecordAsync(
+      String keyspaceName, String tableName, Map<String, Object> request, RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    try {
+      Session session = connectionManager.getSession(keyspaceName);
+      List<String> columns = CassandraUtil.getOrderedColumns(request);
+      PreparedStatement statement =
+          getPreparedStatement(session, StatementType.INSERT, keyspaceName, tableName, columns);
+      BoundStatement boundStatement =
+          statement.bind(CassandraUtil.getOrderedValues(request, columns));
+      return executeAsync(
+          session, boundStatement, false, "insertRecordAsync", tableName, startTime, context);
+    } catch (Exception e) {
+      return failedStage("insertRecordAsync", tableName, e, context);
+    }
+  }
+
+  @Override
+  public CompletionStage<Response> updateRecordAsync(
+      String keyspaceName, String tableName, Map<String, Object> request, RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    try {
+      Session session = connectionManager.getSession(keyspaceName);
+      List<String> columns = CassandraUtil.getOrderedUpdateColumns(request);
+      PreparedStatement statement =
+          getPreparedStatement(session, StatementType.UPDATE, keyspaceName, tableName, columns);
+      Object[] values = new Object[columns.size() + 1];
+      int i = 0;
+      for (String column : columns) {
+        values[i++] = request.get(column);
+      }
+      values[i] = request.get(Constants.IDENTIFIER);
+      return executeAsync(
+          session,
+          statement.bind(values),
+          false,
+          "updateRecordAsync",
+          tableName,
+          startTime,
+          context);
+    } catch (Exception e) {
+      return failedStage("updateRecordAsync", tableName, e, context);
+    }
+  }
+
+  @Override
+  public CompletionStage<Response> updateRecordAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> updateAttributes,
+      Map<String, Object> compositeKey,
+      RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    try {
+      Session session = connectionManager.getSession(keyspaceName);
+      RegularStatement update =
+          CassandraUtil.createUpdateQuery(compositeKey, updateAttributes, keyspaceName, tableName);
+      return executeAsync(
+          session, update, false, "updateRecordAsync", tableName, startTime, context);
+    } catch (Exception e) {
+      return failedStage("updateRecordAsync", tableName, e, context);
+    }
+  }
+
+  @Override
+  public CompletionStage<Response> deleteRecordAsync(
+      String keyspaceName, String tableName, String identifier, RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    try {
+      Session session = connectionManager.getSession(keyspaceName);
+      Delete.Where delete =
+          QueryBuilder.delete()
+              .from(keyspaceName, tableName)
+              .where(QueryBuilder.eq(Constants.IDENTIFIER, identifier));
+      return executeAsync(
+          session, delete, false, "deleteRecordAsync", tableName, startTime, context);
+    } catch (Exception e) {
+      return failedStage("deleteRecordAsync", tableName, e, context);
+    }
+  }
+
+  @Override
+  public CompletionStage<Response> getRecordByIdAsync(
+      String keyspaceName, String tableName, String key, RequestContext context) {
+    return getRecordByIdentifierAsync(keyspaceName, tableName, key, null, context);
+  }
+
+  @Override
+  public CompletionStage<Response> getRecordByIdAsync(
+      String keyspaceName, String tableName, Map<String, Object> key, RequestContext context) {
+    return getRecordByIdentifierAsync(keyspaceName, tableName, key, null, context);
+  }
+
+  @Override
+  public CompletionStage<Response> getRecordByIdAsync(
+      String keyspaceName,
+      String tableName,
+      String key,
+      List<String> fields,
+      RequestContext context) {
+    return getRecordByIdentifierAsync(keyspaceName, tableName, key, fields, context);
+  }
+
+  @Override
+  public CompletionStage<Response> getRecordByIdAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> key,
+      List<String> fields,
+      RequestContext context) {
+    return getRecordByIdentifierAsync(keyspaceName, tableName, key, fields, context);
+  }
+
+  private CompletionStage<Response> getRecordByIdentifierAsync(
+      String keyspaceName,
+      String tableName,
+      Object key,
+      List<String> fields,
+      RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    try {
+      Session session = connectionManager.getSession(keyspaceName);
+      Select.Where select =
+          createSelectByIdentifierQuery(keyspaceName, tableName, key, fields, context);
+      return executeAsync(
+          session,
+          HotReadSpeculativeExecutionPolicy.markHotRead(select),
+          true,
+          "getRecordByIdAsync",
+          tableName,
+          startTime,
+          context);
+    } catch (Exception e) {
+      return failedStage("getRecordByIdAsync", tableName, e, context);
+    }
+  }
+
+  @Override
+  public CompletionStage<Response> getRecordsByPropertyAsync(
+      String keyspaceName,
+      String tableName,
+      String propertyName,
+      List<Object> propertyValueList,
+      RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    try {
+      Session session = connectionManager.getSession(keyspaceName);
+      Select.Where select =
+          QueryBuilder.select()
+              .all()
+              .from(keyspaceName, tableName)
+              .where(QueryBuilder.in(propertyName, propertyValueList));
+      return executeAsync(
+          session, select, true, "getRecordsByPropertyAsync", tableName, startTime, context);
+    } catch (Exception e) {
+      return failedStage("getRecordsByPropertyAsync", tableName, e, context);
+    }
+  }
+
+  @Override
+  public CompletionStage<Response> getRecordsByPropertiesAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> propertyMap,
+      RequestContext context) {
+    return getRecordsByPropertiesAsync(keyspaceName, tableName, propertyMap, null, context);
+  }
+
+  @Override
+  public CompletionStage<Response> getRecordsByPropertiesAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> propertyMap,
+      List<String> fields,
+      RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    try {
+      Session session = connectionManager.getSession(keyspaceName);
+      Select select = createSelectByPropertiesQuery(keyspaceName, tableName, propertyMap, fields);
+      return executeAsync(
+          session, select, true, "getRecordsByPropertiesAsync", tableName, startTime, context);
+    } catch (Exception e) {
+      return failedStage("getRecordsByPropertiesAsync", tableName, e, context);
+    }
+  }
+
+  @Override
+  public CompletionStage<Response> getPropertiesValueByIdAsync(
+      String keyspaceName,
+      String tableName,
+      List<String> ids,
+      List<String> properties,
+      RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    try {
+      Session session = connectionManager.getSession(keyspaceName);
+      Select select = createSelectQuery(keyspaceName, tableName, properties);
+      select.where(QueryBuilder.in(JsonKey.ID, ids));
+      return executeAsync(
+          session, select, true, "getPropertiesValueByIdAsync", tableName, startTime, context);
+    } catch (Exception e) {
+      return failedStage("getPropertiesValueByIdAsync", tableName, e, context);
+    }
+  }
+
+  @Override
+  public CompletionStage<Response> getAllRecordsAsync(
+      String keyspaceName, String tableName, List<String> fields, RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    try {
+      Session session = connectionManager.getSession(keyspaceName);
+      Select select = createSelectQuery(keyspaceName, tableName, fields);
+      return executeAsync(
+          session, select, true, "getAllRecordsAsync", tableName, startTime, context);
+    } catch (Exception e) {
+      return failedStage("getAllRecordsAsync", tableName, e, context);
+    }
+  }
+
+  @Override
+  public CompletionStage<Response> batchInsertAsync(
+      String keyspaceName,
+      String tableName,
+      List<Map<String, Object>> records,
+      RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    try {
+      Session session = connectionManager.getSession(keyspaceName);
+      List<Statement> statements = new ArrayList<>(records.size());
+      for (Map<String, Object> record : records) {
+        statements.add(createInsertStatement(keyspaceName, tableName, record));
+      }
+      return executeBatchAsync(
+          session,
+          keyspaceName,
+          tableName,
+          statements,
+          records,
+          "batchInsertAsync",
+          startTime,
+          context);
+    } catch (Exception e) {
+      return failedStage("batchInsertAsync", tableName, e, context);
+    }
+  }
+
+  @Override
+  public CompletionStage<Response> batchUpdateByIdAsync(
+      String keyspaceName,
+      String tableName,
+      List<Map<String, Object>> records,
+      RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    try {
+      Session session = connectionManager.getSession(keyspaceName);
+      List<Statement> statements = new ArrayList<>(records.size());
+      for (Map<String, Object> record : records) {
+        statements.add(createUpdateStatement(keyspaceName, tableName, record));
+      }
+      return executeBatchAsync(
+          session,
+          keyspaceName,
+          tableName,
+          statements,
+          records,
+          "batchUpdateByIdAsync",
+          startTime,
+          context);
+    } catch (Exception e) {
+      return failedStage("batchUpdateByIdAsync", tableName, e, context);
+    }
+  }
+
+  /**
+   * Write the statements grouped by partition without blocking. The stage completes exceptionally
+   * with a {@link BatchWriteException} if some of the records could not be written.
+   */
+  private CompletionStage<Response> executeBatchAsync(
+      Session session,
+      String keyspaceName,
+      String tableName,
+      List<Statement> statements,
+      List<Map<String, Object>> records,
+      String operation,
+      long startTime,
+      RequestContext context) {
+    return PartitionedBatchWriter.getInstance()
+        .writeAsync(session, keyspaceName, tableName, statements, records)
+        .thenApply(
+            failures -> {
+              if (!failures.isEmpty()) {
+                throw toBatchWriteException(
+                    operation, tableName, failures, statements.size(), context);
+              }
+              Response response = new Response();
+              response.put(Constants.RESPONSE, Constants.SUCCESS);
+              return response;
+            })
+        .whenComplete(
+            (response, error) ->
+                logQueryElapseTime(operation, keyspaceName, tableName, startTime, context));
+  }
+
+  /**
+   * Execute the statement asynchronously. For reads the stage completes once every page of the
+   * result set has been fetched, so that building the response never blocks on a page fetch; writes
+   * complete with a SUCCESS response. Pages are fetched and the response is built on the {@link
+   * CallbackExecutor}, not on the driver's I/O thread.
+   */
+  private CompletionStage<Response> executeAsync(
+      Session session,
+      Statement statement,
+      boolean isRead,
+      String operation,
+      String tableName,
+      long startTime,
+      RequestContext context) {
+    CompletableFuture<Response> result = new CompletableFuture<>();
+    Futures.addCallback(
+        session.executeAsync(statement),
+        new FutureCallback<ResultSet>() {
+          @Override
+          public void onSuccess(ResultSet resultSet) {
+            if (isRead) {
+              fetchRemainingPages(resultSet, result, operation, tableName, context);
+            } else {
+              Response response = new Response();
+              response.put(Constants.RESPONSE, Constants.SUCCESS);
+              result.complete(response);
+            }
+          }
+
+          @Override
+          public void onFailure(Throwable t) {
+            result.completeExceptionally(
+                toProjectCommonException(operation, tableName, t, context));
+          }
+        },
+        CallbackExecutor.getInstance());
+    return result.whenComplete(
+        (response, error) ->
+            logQueryElapseTime(
+                operation, session.getLoggedKeyspace(), tableName, startTime, context));
+  }
+
+  private void fetchRemainingPages(
+      ResultSet resultSet,
+      CompletableFuture<Response> result,
+      String operation,
+      String tableName,
+      RequestContext context) {
+    if (resultSet.isFullyFetched()) {
+      try {
+        result.complete(CassandraUtil.createResponse(resultSet));
+      } catch (Exception e) {
+        result.completeExceptionally(toProjectCommonException(operation, tableName, e, context));
       }
+      return;
+    }
+    Futures.addCallback(
+        resultSet.fetchMoreResults(),
+        new FutureCallback<ResultSet>() {
+          @Override
+          public void onSuccess(ResultSet page) {
+            fetchRemainingPages(resultSet, result, operation, tableName, context);
+          }
+
+          @Override
+          public void onFailure(Throwable t) {
+            result.completeExceptionally(
+                toProjectCommonException(operation, tableName, t, context));
+          }
+        },
+        CallbackExecutor.getInstance());
+  }
+
+  private CompletionStage<Response> failedStage(
+      String operation, String tableName, Throwable t, RequestContext context) {
+    CompletableFuture<Response> result = new CompletableFuture<>();
+    result.completeExceptionally(toProjectCommonException(operation, tableName, t, context));
+    return result;
+  }
+
+  private ProjectCommonException toProjectCommonException(
+      String operation, String tableName, Throwable t, RequestContext context) {
+    if (t instanceof ProjectCommonException) {
+      return (ProjectCommonException) t;
+    }
+    logger.error(
+        context,
+        "CassandraDACImpl:"
+            + operation
+            + ": Exception occurred for "
+            + tableName
+            + " : "
+            + t.getMessage(),
+        t);
+    String message = t.getMessage();
+    if (t instanceof Exception
+        && null != message
+        && (message.contains(JsonKey.UNKNOWN_IDENTIFIER)
+            || message.contains(JsonKey.UNDEFINED_IDENTIFIER))) {
+      return new ProjectCommonException(
+          ResponseCode.invalidPropertyError,
+          CassandraUtil.processExceptionForUnknownIdentifier((Exception) t),
+          ResponseCode.CLIENT_ERROR.getResponseCode());
     }
+    return new ProjectCommonException(
+        ResponseCode.serverError,
+        ResponseCode.serverError.getErrorMessage(),
+        ResponseCode.SERVER_ERROR.getResponseCode());
   }
 }
@@ -4,6 +4,7 @@ import static com.datastax.driver.core.querybuilder.QueryBuilder.eq;
 
 import com.datastax.driver.core.*;
 import com.datastax.driver.core.exceptions.NoHostAvailableException;
+import com.datastax.driver.core.exceptions.PagingStateException;
 import com.datastax.driver.core.exceptions.QueryExecutionException;
 import com.datastax.driver.core.exceptions.QueryValidationException;
 import com.datastax.driver.core.querybuilder.*;
@@ -12,6 +13,7 @@ import com.datastax.driver.core.querybuilder.Select.Selection;
 import com.datastax.driver.core.querybuilder.Select.Where;
 import com.datastax.driver.core.querybuilder.Update.Assignments;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -20,12 +22,19 @@ import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.sunbird.cassandra.CassandraOperation;
+import org.sunbird.common.BatchWriteException;
+import org.sunbird.common.CassandraMetrics;
 import org.sunbird.common.CassandraUtil;
 import org.sunbird.common.Constants;
+import org.sunbird.common.MultiGetReader;
+import org.sunbird.common.PartitionedBatchWriter;
+import org.sunbird.common.PreparedStatementCache;
+import org.sunbird.common.PreparedStatementCache.StatementType;
 import org.sunbird.exception.ProjectCommonException;
 import org.sunbird.exception.ResponseCode;
 import org.sunbird.helper.CassandraConnectionManager;
 import org.sunbird.helper.CassandraConnectionMngrFactory;
+import org.sunbird.helper.HotReadSpeculativeExecutionPolicy;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.logging.LoggerUtil;
 import org.sunbird.request.RequestContext;
@@ -47,17 +56,12 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     long startTime = System.currentTimeMillis();
     logger.debug(context, "Cassandra Service insertRecord method started at ==" + startTime);
     Response response = new Response();
-    String query = CassandraUtil.getPreparedStatement(keyspaceName, tableName, request);
     try {
-      PreparedStatement statement = connectionManager.getSession(keyspaceName).prepare(query);
-      BoundStatement boundStatement = new BoundStatement(statement);
-      Iterator<Object> iterator = request.values().iterator();
-      Object[] array = new Object[request.keySet().size()];
-      int i = 0;
-      while (iterator.hasNext()) {
-        array[i++] = iterator.next();
-      }
-      connectionManager.getSession(keyspaceName).execute(boundStatement.bind(array));
+      Session session = connectionManager.getSession(keyspaceName);
+      List<String> columns = CassandraUtil.getOrderedColumns(request);
+      PreparedStatement statement =
+          getPreparedStatement(session, StatementType.INSERT, keyspaceName, tableName, columns);
+      session.execute(statement.bind(CassandraUtil.getOrderedValues(request, columns)));
       response.put(Constants.RESPONSE, Constants.SUCCESS);
       if (tableName.equalsIgnoreCase(JsonKey.USER)) {
         logger.info(context, "Cassandra Service insertRecord in user table :" + request);
@@ -83,7 +87,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           "DB insert operation failed.",
           ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
-      logQueryElapseTime("insertRecord", startTime, query, context);
+      logQueryElapseTime("insertRecord", keyspaceName, tableName, startTime, context);
     }
     return response;
   }
@@ -94,24 +98,19 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     long startTime = System.currentTimeMillis();
     logger.debug(context, "Cassandra Service updateRecord method started at ==" + startTime);
     Response response = new Response();
-    String query = CassandraUtil.getUpdateQueryStatement(keyspaceName, tableName, request);
     try {
-      PreparedStatement statement = connectionManager.getSession(keyspaceName).prepare(query);
-      Object[] array = new Object[request.size()];
+      Session session = connectionManager.getSession(keyspaceName);
+      List<String> columns = CassandraUtil.getOrderedUpdateColumns(request);
+      PreparedStatement statement =
+          getPreparedStatement(session, StatementType.UPDATE, keyspaceName, tableName, columns);
+      Object[] array = new Object[columns.size() + 1];
       int i = 0;
-      String str = "";
-      int index = query.lastIndexOf(Constants.SET.trim());
-      str = query.substring(index + 4);
-      str = str.replace(Constants.EQUAL_WITH_QUE_MARK, "");
-      str = str.replace(Constants.WHERE_ID, "");
-      str = str.replace(Constants.SEMICOLON, "");
-      String[] arr = str.split(",");
-      for (String key : arr) {
-        array[i++] = request.get(key.trim());
+      for (String key : columns) {
+        array[i++] = request.get(key);
       }
       array[i] = request.get(Constants.IDENTIFIER);
       BoundStatement boundStatement = statement.bind(array);
-      connectionManager.getSession(keyspaceName).execute(boundStatement);
+      session.execute(boundStatement);
       response.put(Constants.RESPONSE, Constants.SUCCESS);
       if (tableName.equalsIgnoreCase(JsonKey.USER)) {
         logger.info(context, "Cassandra Service updateRecord in user table :" + request);
@@ -131,7 +130,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           "Db update operation failed.",
           ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
-      logQueryElapseTime("updateRecord", startTime, query, context);
+      logQueryElapseTime("updateRecord", keyspaceName, tableName, startTime, context);
     }
     return response;
   }
@@ -157,9 +156,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           ResponseCode.serverError.getErrorMessage(),
           ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
-      if (null != delete) {
-        logQueryElapseTime("deleteRecord", startTime, delete.getQueryString(), context);
-      }
+      logQueryElapseTime("deleteRecord", keyspaceName, tableName, startTime, context);
     }
     return response;
   }
@@ -191,9 +188,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           ResponseCode.serverError.getErrorMessage(),
           ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
-      if (null != selectStatement) {
-        logQueryElapseTime("getRecordsByProperty", startTime, selectStatement.toString(), context);
-      }
+      logQueryElapseTime("getRecordsByProperty", keyspaceName, tableName, startTime, context);
     }
     return response;
   }
@@ -211,30 +206,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     Response response;
     Select selectQuery = null;
     try {
-      Builder selectBuilder;
-      if (CollectionUtils.isNotEmpty(fields)) {
-        String[] dbFields = fields.toArray(new String[fields.size()]);
-        selectBuilder = QueryBuilder.select(dbFields);
-      } else {
-        selectBuilder = QueryBuilder.select().all();
-      }
-      selectQuery = selectBuilder.from(keyspaceName, tableName);
-      if (MapUtils.isNotEmpty(propertyMap)) {
-        Where selectWhere = selectQuery.where();
-        for (Entry<String, Object> entry : propertyMap.entrySet()) {
-          if (entry.getValue() instanceof List) {
-            List<Object> list = (List) entry.getValue();
-            if (null != list) {
-              Object[] propertyValues = list.toArray(new Object[list.size()]);
-              Clause clause = QueryBuilder.in(entry.getKey(), propertyValues);
-              selectWhere.and(clause);
-            }
-          } else {
-            Clause clause = eq(entry.getKey(), entry.getValue());
-            selectWhere.and(clause);
-          }
-        }
-      }
+      selectQuery = createSelectByPropertiesQuery(keyspaceName, tableName, propertyMap, fields);
       ResultSet results = connectionManager.getSession(keyspaceName).execute(selectQuery);
       response = CassandraUtil.createResponse(results);
     } catch (Exception e) {
@@ -242,10 +214,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       throw new ProjectCommonException(
           ResponseCode.serverError, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
-      if (null != selectQuery) {
-        logQueryElapseTime(
-            "getRecordsByProperties", startTime, selectQuery.getQueryString(), context);
-      }
+      logQueryElapseTime("getRecordsByProperties", keyspaceName, tableName, startTime, context);
     }
     return response;
   }
@@ -276,16 +245,16 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       PreparedStatement statement = connectionManager.getSession(keyspaceName).prepare(selectQuery);
       BoundStatement boundStatement = new BoundStatement(statement);
       ResultSet results =
-          connectionManager.getSession(keyspaceName).execute(boundStatement.bind(id));
+          connectionManager
+              .getSession(keyspaceName)
+              .execute(HotReadSpeculativeExecutionPolicy.markHotRead(boundStatement.bind(id)));
       response = CassandraUtil.createResponse(results);
     } catch (Exception e) {
       logger.error(context, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage(), e);
       throw new ProjectCommonException(
           ResponseCode.serverError, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
-      if (null != selectQuery) {
-        logQueryElapseTime("getPropertiesValueById", startTime, selectQuery, context);
-      }
+      logQueryElapseTime("getPropertiesValueById", keyspaceName, tableName, startTime, context);
     }
     return response;
   }
@@ -301,29 +270,14 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     logger.debug(
         context, "Cassandra Service getPropertiesValueById method started at ==" + startTime);
     Response response;
-    Select selectQuery = null;
     try {
-      Builder selectBuilder;
-      if (CollectionUtils.isNotEmpty(properties)) {
-        String[] dbFields = properties.toArray(new String[properties.size()]);
-        selectBuilder = QueryBuilder.select(dbFields);
-      } else {
-        selectBuilder = QueryBuilder.select().all();
-      }
-      selectQuery = selectBuilder.from(keyspaceName, tableName);
-      selectQuery.where(QueryBuilder.in(JsonKey.ID, ids));
-      ResultSet results = connectionManager.getSession(keyspaceName).execute(selectQuery);
-
-      response = CassandraUtil.createResponse(results);
+      response = getRecordsByKeys(keyspaceName, tableName, JsonKey.ID, properties, ids);
     } catch (Exception e) {
       logger.error(context, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage(), e);
       throw new ProjectCommonException(
           ResponseCode.serverError, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
-      if (null != selectQuery) {
-        logQueryElapseTime(
-            "getPropertiesValueById", startTime, selectQuery.getQueryString(), context);
-      }
+      logQueryElapseTime("getPropertiesValueById", keyspaceName, tableName, startTime, context);
     }
     return response;
   }
@@ -341,14 +295,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     Response response;
     Select selectQuery = null;
     try {
-      Builder selectBuilder;
-      if (CollectionUtils.isNotEmpty(fields)) {
-        String[] dbFields = fields.toArray(new String[fields.size()]);
-        selectBuilder = QueryBuilder.select(dbFields);
-      } else {
-        selectBuilder = QueryBuilder.select().all();
-      }
-      selectQuery = selectBuilder.from(keyspaceName, tableName);
+      selectQuery = createSelectQuery(keyspaceName, tableName, fields);
       ResultSet results = connectionManager.getSession(keyspaceName).execute(selectQuery);
       response = CassandraUtil.createResponse(results);
     } catch (Exception e) {
@@ -356,31 +303,143 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       throw new ProjectCommonException(
           ResponseCode.serverError, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
-      if (null != selectQuery) {
-        logQueryElapseTime("getAllRecords", startTime, selectQuery.getQueryString(), context);
-      }
+      logQueryElapseTime("getAllRecords", keyspaceName, tableName, startTime, context);
     }
     return response;
   }
 
+  @Override
+  public Response getAllRecordsPage(
+      String keyspaceName,
+      String tableName,
+      List<String> fields,
+      int pageSize,
+      String pagingState,
+      RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    try {
+      Select selectQuery = createSelectQuery(keyspaceName, tableName, fields);
+      return executePageQuery(keyspaceName, selectQuery, pageSize, pagingState);
+    } catch (ProjectCommonException e) {
+      throw e;
+    } catch (Exception e) {
+      logger.error(context, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage(), e);
+      throw new ProjectCommonException(
+          ResponseCode.serverError, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
+    } finally {
+      logQueryElapseTime("getAllRecordsPage", keyspaceName, tableName, startTime, context);
+    }
+  }
+
+  @Override
+  public Response getRecordsByPropertyPage(
+      String keyspaceName,
+      String tableName,
+      String propertyName,
+      List<Object> propertyValueList,
+      int pageSize,
+      String pagingState,
+      RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    try {
+      Statement selectStatement =
+          QueryBuilder.select()
+              .all()
+              .from(keyspaceName, tableName)
+              .where(QueryBuilder.in(propertyName, propertyValueList));
+      return executePageQuery(keyspaceName, selectStatement, pageSize, pagingState);
+    } catch (ProjectCommonException e) {
+      throw e;
+    } catch (Exception e) {
+      logger.error(context, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage(), e);
+      throw new ProjectCommonException(
+          ResponseCode.serverError, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
+    } finally {
+      logQueryElapseTime("getRecordsByPropertyPage", keyspaceName, tableName, startTime, context);
+    }
+  }
+
+  @Override
+  public Iterator<Map<String, Object>> scanAllRecords(
+      String keyspaceName,
+      String tableName,
+      List<String> fields,
+      int fetchSize,
+      RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    try {
+      Select selectQuery = createSelectQuery(keyspaceName, tableName, fields);
+      selectQuery.setFetchSize(fetchSize);
+      ResultSet results = connectionManager.getSession(keyspaceName).execute(selectQuery);
+      return CassandraUtil.createRowIterator(results);
+    } catch (Exception e) {
+      logger.error(context, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage(), e);
+      throw new ProjectCommonException(
+          ResponseCode.serverError, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
+    } finally {
+      logQueryElapseTime("scanAllRecords", keyspaceName, tableName, startTime, context);
+    }
+  }
+
+  @Override
+  public Iterator<Map<String, Object>> scanRecordsByProperty(
+      String keyspaceName,
+      String tableName,
+      String propertyName,
+      List<Object> propertyValueList,
+      int fetchSize,
+      RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    try {
+      Statement selectStatement =
+          QueryBuilder.select()
+              .all()
+              .from(keyspaceName, tableName)
+              .where(QueryBuilder.in(propertyName, propertyValueList))
+              .setFetchSize(fetchSize);
+      ResultSet results = connectionManager.getSession(keyspaceName).execute(selectStatement);
+      return CassandraUtil.createRowIterator(results);
+    } catch (Exception e) {
+      logger.error(context, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage(), e);
+      throw new ProjectCommonException(
+          ResponseCode.serverError, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
+    } finally {
+      logQueryElapseTime("scanRecordsByProperty", keyspaceName, tableName, startTime, context);
+    }
+  }
+
+  /** Execute a select query returning a single page of at most pageSize records. */
+  private Response executePageQuery(
+      String keyspaceName, Statement statement, int pageSize, String pagingState) {
+    statement.setFetchSize(pageSize);
+    if (StringUtils.isNotBlank(pagingState)) {
+      try {
+        statement.setPagingState(PagingState.fromString(pagingState));
+      } catch (PagingStateException e) {
+        ProjectCommonException.throwClientErrorException(
+            ResponseCode.invalidParameterValue,
+            MessageFormat.format(
+                ResponseCode.invalidParameterValue.getErrorMessage(),
+                pagingState,
+                Constants.PAGING_STATE));
+      }
+    }
+    ResultSet results = connectionManager.getSession(keyspaceName).execute(statement);
+    return CassandraUtil.createPageResponse(results);
+  }
+
   @Override
   public Response upsertRecord(
       String keyspaceName, String tableName, Map<String, Object> request, RequestContext context) {
     long startTime = System.currentTimeMillis();
     logger.debug(context, "Cassandra Service upsertRecord method started at ==" + startTime);
     Response response = new Response();
-    String query = "";
     try {
-      query = CassandraUtil.getPreparedStatement(keyspaceName, tableName, request);
-      PreparedStatement statement = connectionManager.getSession(keyspaceName).prepare(query);
-      BoundStatement boundStatement = new BoundStatement(statement);
-      Iterator<Object> iterator = request.values().iterator();
-      Object[] array = new Object[request.keySet().size()];
-      int i = 0;
-      while (iterator.hasNext()) {
-        array[i++] = iterator.next();
-      }
-      connectionManager.getSession(keyspaceName).execute(boundStatement.bind(array));
+      Session session = connectionManager.getSession(keyspaceName);
+      List<String> columns = CassandraUtil.getOrderedColumns(request);
+      PreparedStatement statement =
+          getPreparedStatement(session, StatementType.INSERT, keyspaceName, tableName, columns);
+      session.execute(statement.bind(CassandraUtil.getOrderedValues(request, columns)));
       response.put(Constants.RESPONSE, Constants.SUCCESS);
       if (tableName.equalsIgnoreCase(JsonKey.USER)) {
         logger.info(context, "Cassandra Service upsertRecord in user table :" + request);
@@ -398,9 +457,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       throw new ProjectCommonException(
           ResponseCode.serverError, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
-      if (null != query) {
-        logQueryElapseTime("upsertRecord", startTime, query, context);
-      }
+      logQueryElapseTime("upsertRecord", keyspaceName, tableName, startTime, context);
     }
     return response;
   }
@@ -452,9 +509,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           "Db update operation failed.",
           ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
-      if (null != updateQuery) {
-        logQueryElapseTime("updateRecord", startTime, updateQuery.toString(), context);
-      }
+      logQueryElapseTime("updateRecord", keyspaceName, tableName, startTime, context);
     }
     return response;
   }
@@ -471,50 +526,113 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     Where selectWhereQuery = null;
     try {
       Session session = connectionManager.getSession(keyspaceName);
-      Builder selectBuilder;
-      if (CollectionUtils.isNotEmpty(fields)) {
-        selectBuilder = QueryBuilder.select(fields.toArray(new String[fields.size()]));
-      } else {
-        selectBuilder = QueryBuilder.select().all();
-      }
-      Select selectQuery = selectBuilder.from(keyspaceName, tableName);
-      Where selectWhere = selectQuery.where();
-      if (key instanceof String) {
-        if (StringUtils.isBlank(String.valueOf(key))) {
-          logger.info(context, "primary key is empty or null");
-          ProjectCommonException.throwServerErrorException(ResponseCode.SERVER_ERROR);
-        }
-        selectWhere.and(eq(Constants.IDENTIFIER, key));
-      } else if (key instanceof Map) {
-        if (MapUtils.isEmpty((Map) key)) {
-          logger.info(context, "primary composite key is empty or null");
-          ProjectCommonException.throwServerErrorException(ResponseCode.SERVER_ERROR);
-        }
-        Map<String, Object> compositeKey = (Map<String, Object>) key;
-        compositeKey
-            .entrySet()
-            .stream()
-            .forEach(
-                x -> {
-                  CassandraUtil.createQuery(x.getKey(), x.getValue(), selectWhere);
-                });
-      }
+      Where selectWhere =
+          createSelectByIdentifierQuery(keyspaceName, tableName, key, fields, context);
       selectWhereQuery = selectWhere;
-      ResultSet results = session.execute(selectWhere);
+      ResultSet results =
+          session.execute(HotReadSpeculativeExecutionPolicy.markHotRead(selectWhere));
       response = CassandraUtil.createResponse(results);
     } catch (Exception e) {
       logger.error(context, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage(), e);
       throw new ProjectCommonException(
           ResponseCode.serverError, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
-      if (null != selectWhereQuery) {
-        logQueryElapseTime(
-            "getRecordByIdentifier", startTime, selectWhereQuery.getQueryString(), context);
-      }
+      logQueryElapseTime("getRecordByIdentifier", keyspaceName, tableName, startTime, context);
     }
     return response;
   }
 
+  /**
+   * Create select query for the given table with specified columns (select all if empty). The query
+   * is marked idempotent so that the driver may retry it on another host.
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param fields List of columns to be returned in each record
+   * @return Select query
+   */
+  protected Select createSelectQuery(String keyspaceName, String tableName, List<String> fields) {
+    Builder selectBuilder;
+    if (CollectionUtils.isNotEmpty(fields)) {
+      selectBuilder = QueryBuilder.select(fields.toArray(new String[fields.size()]));
+    } else {
+      selectBuilder = QueryBuilder.select().all();
+    }
+    Select select = selectBuilder.from(keyspaceName, tableName);
+    select.setIdempotent(true);
+    return select;
+  }
+
+  /**
+   * Create select query matching the given column map. List values are used in an IN clause, other
+   * values in an equality clause.
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param propertyMap Map describing columns to be used in where clause of select query
+   * @param fields List of columns to be returned in each record
+   * @return Select query
+   */
+  protected Select createSelectByPropertiesQuery(
+      String keyspaceName, String tableName, Map<String, Object> propertyMap, List<String> fields) {
+    Select selectQuery = createSelectQuery(keyspaceName, tableName, fields);
+    if (MapUtils.isNotEmpty(propertyMap)) {
+      Where selectWhere = selectQuery.where();
+      for (Entry<String, Object> entry : propertyMap.entrySet()) {
+        if (entry.getValue() instanceof List) {
+          List<Object> list = (List) entry.getValue();
+          if (null != list) {
+            Object[] propertyValues = list.toArray(new Object[list.size()]);
+            Clause clause = QueryBuilder.in(entry.getKey(), propertyValues);
+            selectWhere.and(clause);
+          }
+        } else {
+          Clause clause = eq(entry.getKey(), entry.getValue());
+          selectWhere.and(clause);
+        }
+      }
+    }
+    return selectQuery;
+  }
+
+  /**
+   * Create select query by primary key (String) or composite primary key (Map).
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param key Primary key or column map representing composite primary key
+   * @param fields List of columns to be returned in each record
+   * @param context
+   * @return Select query with where clause
+   */
+  protected Where createSelectByIdentifierQuery(
+      String keyspaceName,
+      String tableName,
+      Object key,
+      List<String> fields,
+      RequestContext context) {
+    Where selectWhere = createSelectQuery(keyspaceName, tableName, fields).where();
+    if (key instanceof String) {
+      if (StringUtils.isBlank(String.valueOf(key))) {
+        logger.info(context, "primary key is empty or null");
+        ProjectCommonException.throwServerErrorException(ResponseCode.SERVER_ERROR);
+      }
+      selectWhere.and(eq(Constants.IDENTIFIER, key));
+    } else if (key instanceof Map) {
+      if (MapUtils.isEmpty((Map) key)) {
+        logger.info(context, "primary composite key is empty or null");
+        ProjectCommonException.throwServerErrorException(ResponseCode.SERVER_ERROR);
+      }
+      Map<String, Object> compositeKey = (Map<String, Object>) key;
+      compositeKey.entrySet().stream()
+          .forEach(
+              x -> {
+                CassandraUtil.createQuery(x.getKey(), x.getValue(), selectWhere);
+              });
+    }
+    return selectWhere;
+  }
+
   @Override
   public Response getRecordById(
       String keyspaceName, String tableName, String key, RequestContext context) {
@@ -593,10 +711,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       throw new ProjectCommonException(
           ResponseCode.serverError, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
-      if (null != selectWhereQuery) {
-        logQueryElapseTime(
-            "getRecordByIdentifier", startTime, selectWhereQuery.getQueryString(), context);
-      }
+      logQueryElapseTime("getRecordByIdentifier", keyspaceName, tableName, startTime, context);
     }
     return response;
   }
@@ -613,21 +728,12 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
 
     Session session = connectionManager.getSession(keyspaceName);
     Response response = new Response();
-    BatchStatement batchStatement = new BatchStatement();
-    ResultSet resultSet = null;
-
     try {
+      List<Statement> statements = new ArrayList<>(records.size());
       for (Map<String, Object> map : records) {
-        Insert insert = QueryBuilder.insertInto(keyspaceName, tableName);
-        map.entrySet()
-            .stream()
-            .forEach(
-                x -> {
-                  insert.value(x.getKey(), x.getValue());
-                });
-        batchStatement.add(insert);
+        statements.add(createInsertStatement(keyspaceName, tableName, map));
       }
-      resultSet = session.execute(batchStatement);
+      executeBatch(session, "batchInsert", keyspaceName, tableName, statements, records, context);
       response.put(Constants.RESPONSE, Constants.SUCCESS);
     } catch (QueryExecutionException
         | QueryValidationException
@@ -637,10 +743,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       throw new ProjectCommonException(
           ResponseCode.serverError, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
-      if (null != batchStatement) {
-        logQueryElapseTime(
-            "batchInsert", startTime, batchStatement.getStatements().toString(), context);
-      }
+      logQueryElapseTime("batchInsert", keyspaceName, tableName, startTime, context);
     }
     return response;
   }
@@ -665,15 +768,13 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     logger.debug(context, "Cassandra Service batchUpdateById method started at ==" + startTime);
     Session session = connectionManager.getSession(keyspaceName);
     Response response = new Response();
-    BatchStatement batchStatement = new BatchStatement();
-    ResultSet resultSet = null;
-
     try {
+      List<Statement> statements = new ArrayList<>(records.size());
       for (Map<String, Object> map : records) {
-        Update update = createUpdateStatement(keyspaceName, tableName, map);
-        batchStatement.add(update);
+        statements.add(createUpdateStatement(keyspaceName, tableName, map));
       }
-      resultSet = session.execute(batchStatement);
+      executeBatch(
+          session, "batchUpdateById", keyspaceName, tableName, statements, records, context);
       response.put(Constants.RESPONSE, Constants.SUCCESS);
     } catch (QueryExecutionException
         | QueryValidationException
@@ -683,10 +784,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       throw new ProjectCommonException(
           ResponseCode.serverError, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
-      if (null != batchStatement) {
-        logQueryElapseTime(
-            "batchUpdateById", startTime, batchStatement.getStatements().toString(), context);
-      }
+      logQueryElapseTime("batchUpdateById", keyspaceName, tableName, startTime, context);
     }
     return response;
   }
@@ -737,15 +835,12 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       throw new ProjectCommonException(
           ResponseCode.SERVER_ERROR, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
-      if (null != batchStatement) {
-        logQueryElapseTime(
-            "performBatchAction", startTime, batchStatement.getStatements().toString(), context);
-      }
+      logQueryElapseTime("performBatchAction", keySpaceName, tableName, startTime, context);
     }
     return response;
   }
 
-  private Insert createInsertStatement(
+  protected Insert createInsertStatement(
       String keySpaceName, String tableName, Map<String, Object> record) {
     Insert insert = QueryBuilder.insertInto(keySpaceName, tableName);
     record
@@ -758,7 +853,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     return insert;
   }
 
-  private Update createUpdateStatement(
+  protected Update createUpdateStatement(
       String keySpaceName, String tableName, Map<String, Object> record) {
     Update update = QueryBuilder.update(keySpaceName, tableName);
     Assignments assignments = update.with();
@@ -785,42 +880,109 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       RequestContext context) {
 
     Session session = connectionManager.getSession(keyspaceName);
-    BatchStatement batchStatement = new BatchStatement();
     long startTime = System.currentTimeMillis();
     logger.debug(context, "Cassandra Service batchUpdate method started at ==" + startTime);
     Response response = new Response();
-    ResultSet resultSet = null;
     try {
+      List<Statement> statements = new ArrayList<>(list.size());
+      List<Map<String, Object>> primaryKeys = new ArrayList<>(list.size());
       for (Map<String, Map<String, Object>> record : list) {
         Map<String, Object> primaryKey = record.get(JsonKey.PRIMARY_KEY);
         Map<String, Object> nonPKRecord = record.get(JsonKey.NON_PRIMARY_KEY);
-        batchStatement.add(
+        statements.add(
             CassandraUtil.createUpdateQuery(primaryKey, nonPKRecord, keyspaceName, tableName));
+        primaryKeys.add(primaryKey);
       }
-      resultSet = session.execute(batchStatement);
+      executeBatch(
+          session, "batchUpdate", keyspaceName, tableName, statements, primaryKeys, context);
       response.put(Constants.RESPONSE, Constants.SUCCESS);
+    } catch (BatchWriteException ex) {
+      throw ex;
     } catch (Exception ex) {
       logger.error(context, "Cassandra Batch Update failed " + ex.getMessage(), ex);
       throw new ProjectCommonException(
           ResponseCode.SERVER_ERROR, ex.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
-      if (null != batchStatement) {
-        logQueryElapseTime(
-            "batchUpdate", startTime, batchStatement.getStatements().toString(), context);
-      }
+      logQueryElapseTime("batchUpdate", keyspaceName, tableName, startTime, context);
     }
     return response;
   }
 
-  protected void logQueryElapseTime(
-      String operation, long startTime, String query, RequestContext context) {
-    logger.info(context, "Cassandra query : " + query);
-    long stopTime = System.currentTimeMillis();
-    long elapsedTime = stopTime - startTime;
+  /**
+   * Write the statements grouped by partition (see {@link PartitionedBatchWriter}) and throw a
+   * {@link BatchWriteException} listing the records which could not be written.
+   */
+  protected void executeBatch(
+      Session session,
+      String operation,
+      String keyspaceName,
+      String tableName,
+      List<Statement> statements,
+      List<Map<String, Object>> records,
+      RequestContext context) {
+    Map<Integer, Throwable> failures =
+        PartitionedBatchWriter.getInstance()
+            .write(session, keyspaceName, tableName, statements, records);
+    if (!failures.isEmpty()) {
+      throw toBatchWriteException(operation, tableName, failures, statements.size(), context);
+    }
+  }
+
+  protected BatchWriteException toBatchWriteException(
+      String operation,
+      String tableName,
+      Map<Integer, Throwable> failures,
+      int total,
+      RequestContext context) {
     String message =
-        "Cassandra operation {0} started at {1} and completed at {2}. Total time elapsed is {3}.";
-    MessageFormat mf = new MessageFormat(message);
-    logger.debug(context, mf.format(new Object[] {operation, startTime, stopTime, elapsedTime}));
+        failures.size() + " of " + total + " records failed to be written to " + tableName;
+    Throwable cause = failures.values().iterator().next();
+    logger.error(
+        context,
+        "CassandraOperationImpl:"
+            + operation
+            + ": "
+            + message
+            + ", failed records = "
+            + failures.keySet(),
+        cause);
+    return new BatchWriteException(message, failures);
+  }
+
+  /**
+   * Get the prepared statement for the given columns from the shared statement cache, preparing it
+   * only the first time this shape of query is seen.
+   */
+  protected PreparedStatement getPreparedStatement(
+      Session session,
+      StatementType type,
+      String keyspaceName,
+      String tableName,
+      List<String> columns) {
+    return PreparedStatementCache.getInstance()
+        .get(
+            session,
+            type,
+            keyspaceName,
+            tableName,
+            columns,
+            () ->
+                StatementType.INSERT == type
+                    ? CassandraUtil.getPreparedStatement(keyspaceName, tableName, columns)
+                    : CassandraUtil.getUpdateQueryStatement(keyspaceName, tableName, columns));
+  }
+
+  protected void logQueryElapseTime(
+      String operation,
+      String keyspaceName,
+      String tableName,
+      long startTime,
+      RequestContext context) {
+    long elapsedTime = System.currentTimeMillis() - startTime;
+    CassandraMetrics.getInstance().recordLatency(operation, keyspaceName, tableName, elapsedTime);
+    logger.debug(
+        context,
+        "Cassandra operation " + operation + " on " + tableName + " took " + elapsedTime + " ms");
   }
 
   @Override
@@ -857,10 +1019,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       throw new ProjectCommonException(
           ResponseCode.SERVER_ERROR, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
-      if (null != delete) {
-        logQueryElapseTime(
-            "deleteRecordByCompositeKey", startTime, delete.getQueryString(), context);
-      }
+      logQueryElapseTime("deleteRecordByCompositeKey", keyspaceName, tableName, startTime, context);
     }
   }
 
@@ -889,9 +1048,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       throw new ProjectCommonException(
           ResponseCode.SERVER_ERROR, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
-      if (null != delete) {
-        logQueryElapseTime("deleteRecords", startTime, delete.getQueryString(), context);
-      }
+      logQueryElapseTime("deleteRecords", keyspaceName, tableName, startTime, context);
     }
     return resultSet.wasApplied();
   }
@@ -929,10 +1086,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       throw new ProjectCommonException(
           ResponseCode.SERVER_ERROR, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
-      if (null != selectQuery) {
-        logQueryElapseTime(
-            "getRecordsByCompositeKey", startTime, selectQuery.getQueryString(), context);
-      }
+      logQueryElapseTime("getRecordsByCompositeKey", keyspaceName, tableName, startTime, context);
     }
     return response;
   }
@@ -945,47 +1099,45 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       List<String> ids,
       RequestContext context) {
     Response response;
+    long startTime = System.currentTimeMillis();
     try {
-      Builder selectBuilder;
-      if (CollectionUtils.isNotEmpty(properties)) {
-        selectBuilder = QueryBuilder.select(properties.toArray(new String[properties.size()]));
-      } else {
-        selectBuilder = QueryBuilder.select().all();
-      }
-      response = executeSelectQuery(keyspaceName, tableName, ids, selectBuilder, "", context);
+      response = getRecordsByKeys(keyspaceName, tableName, JsonKey.ID, properties, ids);
     } catch (Exception e) {
       logger.error(context, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage(), e);
       throw new ProjectCommonException(
           ResponseCode.SERVER_ERROR, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
+    } finally {
+      logQueryElapseTime("read", keyspaceName, tableName, startTime, context);
     }
     return response;
   }
 
-  private Response executeSelectQuery(
+  /**
+   * Read the records of the given keys, with a single IN query for short lists and with concurrent
+   * single-partition reads otherwise (see {@link MultiGetReader}).
+   */
+  private Response getRecordsByKeys(
       String keyspaceName,
       String tableName,
-      List<String> ids,
-      Builder selectBuilder,
-      String primaryKeyColumnName,
-      RequestContext context) {
-    Response response;
-    long startTime = System.currentTimeMillis();
-    Select selectQuery = selectBuilder.from(keyspaceName, tableName);
-    Where selectWhere = selectQuery.where();
-    Clause clause = null;
-    if (StringUtils.isBlank(primaryKeyColumnName)) {
-      clause = QueryBuilder.in(JsonKey.ID, ids.toArray(new Object[ids.size()]));
-    } else {
-      clause = QueryBuilder.in(primaryKeyColumnName, ids.toArray(new Object[ids.size()]));
+      String keyColumn,
+      List<String> fields,
+      List<String> keys) {
+    Session session = connectionManager.getSession(keyspaceName);
+    MultiGetReader reader = MultiGetReader.getInstance();
+    if (!reader.isInQueryPreferred(keys.size())) {
+      return CassandraUtil.createResponse(
+          reader.read(session, keyspaceName, tableName, keyColumn, fields, keys));
     }
-
-    selectWhere.and(clause);
-    if (null != selectQuery) {
-      logQueryElapseTime("read", startTime, selectQuery.getQueryString(), context);
+    Builder selectBuilder;
+    if (CollectionUtils.isNotEmpty(fields)) {
+      selectBuilder = QueryBuilder.select(fields.toArray(new String[fields.size()]));
+    } else {
+      selectBuilder = QueryBuilder.select().all();
     }
-    ResultSet results = connectionManager.getSession(keyspaceName).execute(selectQuery);
-    response = CassandraUtil.createResponse(results);
-    return response;
+    Select selectQuery = selectBuilder.from(keyspaceName, tableName);
+    selectQuery.where(QueryBuilder.in(keyColumn, keys.toArray(new Object[keys.size()])));
+    ResultSet results = session.execute(selectQuery);
+    return CassandraUtil.createResponse(results);
   }
 
   @Override
@@ -996,15 +1148,15 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       String primaryKeyColumnName,
       RequestContext context) {
     Response response;
+    long startTime = System.currentTimeMillis();
     try {
-      Builder selectBuilder = QueryBuilder.select().all();
-      response =
-          executeSelectQuery(
-              keyspaceName, tableName, primaryKeys, selectBuilder, primaryKeyColumnName, context);
+      response = getRecordsByKeys(keyspaceName, tableName, primaryKeyColumnName, null, primaryKeys);
     } catch (Exception e) {
       logger.error(context, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage(), e);
       throw new ProjectCommonException(
           ResponseCode.SERVER_ERROR, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
+    } finally {
+      logQueryElapseTime("read", keyspaceName, tableName, startTime, context);
     }
     return response;
   }
@@ -1026,10 +1178,8 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
               insert.value(x.getKey(), x.getValue());
             });
     insert.using(QueryBuilder.ttl(ttl));
-    if (null != insert) {
-      logQueryElapseTime("insertRecordWithTTL", startTime, insert.getQueryString(), context);
-    }
     ResultSet results = connectionManager.getSession(keyspaceName).execute(insert);
+    logQueryElapseTime("insertRecordWithTTL", keyspaceName, tableName, startTime, context);
     Response response = CassandraUtil.createResponse(results);
     return response;
   }
@@ -1062,10 +1212,8 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
               where.and(eq(x.getKey(), x.getValue()));
             });
     update.using(QueryBuilder.ttl(ttl));
-    if (null != update) {
-      logQueryElapseTime("updateRecordWithTTL", startTime, update.getQueryString(), context);
-    }
     ResultSet results = session.execute(update);
+    logQueryElapseTime("updateRecordWithTTL", keyspaceName, tableName, startTime, context);
     Response response = CassandraUtil.createResponse(results);
     return response;
   }
@@ -1130,13 +1278,8 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       throw new ProjectCommonException(
           ResponseCode.SERVER_ERROR, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
-      if (null != selectQuery) {
-        logQueryElapseTime(
-            "getRecordsByIdsWithSpecifiedColumnsAndTTL",
-            startTime,
-            selectQuery.getQueryString(),
-            context);
-      }
+      logQueryElapseTime(
+          "getRecordsByIdsWithSpecifiedColumnsAndTTL", keyspaceName, tableName, startTime, context);
     }
     return response;
   }
@@ -1163,27 +1306,21 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     }
     Session session = connectionManager.getSession(keyspaceName);
     Response response = new Response();
-    BatchStatement batchStatement = new BatchStatement();
-    ResultSet resultSet = null;
     Iterator<Integer> ttlIterator = ttls.iterator();
     try {
+      List<Statement> statements = new ArrayList<>(records.size());
       for (Map<String, Object> map : records) {
-        Insert insert = QueryBuilder.insertInto(keyspaceName, tableName);
-        map.entrySet()
-            .stream()
-            .forEach(
-                x -> {
-                  insert.value(x.getKey(), x.getValue());
-                });
+        Insert insert = createInsertStatement(keyspaceName, tableName, map);
         if (ttlIterator.hasNext()) {
           Integer ttlVal = ttlIterator.next();
           if (ttlVal != null & ttlVal > 0) {
             insert.using(QueryBuilder.ttl(ttlVal));
           }
         }
-        batchStatement.add(insert);
+        statements.add(insert);
       }
-      resultSet = session.execute(batchStatement);
+      executeBatch(
+          session, "batchInsertWithTTL", keyspaceName, tableName, statements, records, context);
       response.put(Constants.RESPONSE, Constants.SUCCESS);
     } catch (QueryExecutionException
         | QueryValidationException
@@ -1197,10 +1334,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       throw new ProjectCommonException(
           ResponseCode.SERVER_ERROR, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
-      if (null != batchStatement) {
-        logQueryElapseTime(
-            "batchInsertWithTTL", startTime, batchStatement.getStatements().toString(), context);
-      }
+      logQueryElapseTime("batchInsertWithTTL", keyspaceName, tableName, startTime, context);
     }
     return response;
   }
@@ -1238,10 +1372,8 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
         }
       }
     }
-    if (null != selectQuery) {
-      logQueryElapseTime("searchValueInList", startTime, selectQuery.getQueryString(), context);
-    }
     ResultSet resultSet = connectionManager.getSession(keyspace).execute(selectQuery);
+    logQueryElapseTime("searchValueInList", keyspace, tableName, startTime, context);
     Response response = CassandraUtil.createResponse(resultSet);
     return response;
   }
@@ -1288,10 +1420,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       throw new ProjectCommonException(
           ResponseCode.SERVER_ERROR, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
-      if (null != selectQuery) {
-        logQueryElapseTime(
-            "getRecordsByCompositeKey", startTime, selectQuery.getQueryString(), context);
-      }
+      logQueryElapseTime("getRecordsByCompositeKey", keyspaceName, tableName, startTime, context);
     }
     return response;
   }
@@ -0,0 +1,27 @@
+package org.sunbird.common;
+
+import java.util.Collections;
+import java.util.Map;
+import org.sunbird.exception.ProjectCommonException;
+import org.sunbird.exception.ResponseCode;
+
+/**
+ * Thrown by the batch write operations when some of the records could not be written. Records not
+ * listed in {@link #getFailures()} have been written, so callers may retry only the failed ones.
+ */
+public class BatchWriteException extends ProjectCommonException {
+
+  private static final long serialVersionUID = 1L;
+
+  private final transient Map<Integer, Throwable> failures;
+
+  public BatchWriteException(String message, Map<Integer, Throwable> failures) {
+    super(ResponseCode.serverError, message, ResponseCode.SERVER_ERROR.getResponseCode());
+    this.failures = Collections.unmodifiableMap(failures);
+  }
+
+  /** @return Cause of failure keyed by the index of the record in the request list */
+  public Map<Integer, Throwable> getFailures() {
+    return failures;
+  }
+}
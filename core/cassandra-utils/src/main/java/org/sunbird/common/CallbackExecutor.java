@@ -0,0 +1,142 @@
+package org.sunbird.common;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.StringUtils;
+import org.sunbird.logging.LoggerUtil;
+
+/**
+ * Executor shared by the callbacks of asynchronous queries. Callbacks run on a bounded pool of
+ * {@code callbackExecutorThreads} threads with a queue of {@code callbackExecutorQueueSize} tasks.
+ * When the queue is full the callback runs on the thread completing the query (the driver I/O
+ * thread), which slows down the producer instead of dropping the callback. With {@code
+ * callbackExecutorThreads=0} every callback runs directly on the driver I/O thread, which is only
+ * suitable for cheap callbacks.
+ */
+public final class CallbackExecutor implements Executor {
+  private static final LoggerUtil logger = new LoggerUtil(CallbackExecutor.class);
+
+  private static final int DEFAULT_THREADS = 4;
+  private static final int DEFAULT_QUEUE_SIZE = 1000;
+  private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+  private static final CallbackExecutor instance = create();
+
+  private final ThreadPoolExecutor pool;
+  private final Executor executor;
+  private final AtomicLong callerRuns = new AtomicLong();
+  private final AtomicLong rejected = new AtomicLong();
+
+  CallbackExecutor(int threads, int queueSize) {
+    if (threads > 0) {
+      pool =
+          new ThreadPoolExecutor(
+              threads,
+              threads,
+              0L,
+              TimeUnit.MILLISECONDS,
+              new ArrayBlockingQueue<>(Math.max(1, queueSize)),
+              new ThreadFactoryBuilder()
+                  .setNameFormat("cassandra-callback-%d")
+                  .setDaemon(true)
+                  .build(),
+              new CallerRunsOnSaturation());
+      executor = pool;
+    } else {
+      pool = null;
+      executor = MoreExecutors.directExecutor();
+    }
+  }
+
+  /** Shared executor, the only one whose gauges are registered in {@link CassandraMetrics}. */
+  private static CallbackExecutor create() {
+    CallbackExecutor executor =
+        new CallbackExecutor(
+            getConfigValue(Constants.CALLBACK_EXECUTOR_THREADS, DEFAULT_THREADS),
+            getConfigValue(Constants.CALLBACK_EXECUTOR_QUEUE_SIZE, DEFAULT_QUEUE_SIZE));
+    CassandraMetrics.getInstance().registerCallbackExecutor(executor);
+    return executor;
+  }
+
+  public static CallbackExecutor getInstance() {
+    return instance;
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    executor.execute(command);
+  }
+
+  /** @return true if callbacks run directly on the driver I/O thread */
+  public boolean isDirect() {
+    return null == pool;
+  }
+
+  /** @return Number of callbacks waiting for a thread */
+  public int getQueueDepth() {
+    return null == pool ? 0 : pool.getQueue().size();
+  }
+
+  /** @return Number of threads currently running a callback */
+  public int getActiveCount() {
+    return null == pool ? 0 : pool.getActiveCount();
+  }
+
+  /** @return Number of callbacks run on the calling thread because the queue was full */
+  public long getCallerRunsCount() {
+    return callerRuns.get();
+  }
+
+  /** @return Number of callbacks dropped because the executor was shut down */
+  public long getRejectedCount() {
+    return rejected.get();
+  }
+
+  /** Stop accepting callbacks and wait for the queued ones to complete. */
+  public void shutdown() {
+    if (null == pool) {
+      return;
+    }
+    pool.shutdown();
+    try {
+      if (!pool.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        logger.info(
+            "CallbackExecutor:shutdown: "
+                + pool.shutdownNow().size()
+                + " callbacks dropped after waiting "
+                + SHUTDOWN_TIMEOUT_SECONDS
+                + " seconds");
+      }
+    } catch (InterruptedException e) {
+      pool.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static int getConfigValue(String key, int defaultValue) {
+    String value = CassandraPropertyReader.getInstance().getProperty(key);
+    return StringUtils.isNumeric(value) ? Integer.parseInt(value) : defaultValue;
+  }
+
+  private class CallerRunsOnSaturation implements RejectedExecutionHandler {
+
+    @Override
+    public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+      if (executor.isShutdown()) {
+        logger.error(
+            "CallbackExecutor: callback dropped as executor is shut down, dropped callbacks = "
+                + rejected.incrementAndGet(),
+            null);
+        return;
+      }
+      callerRuns.incrementAndGet();
+      task.run();
+    }
+  }
+}
@@ -0,0 +1,187 @@
+package org.sunbird.common;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.Host;
+import com.datastax.driver.core.LatencyTracker;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query metrics of the cassandra layer: latency percentiles per (operation, keyspace, table), error
+ * counts per exception class as reported by the driver, connection pool gauges taken from {@link
+ * Session.State} of every open session and queue gauges of the {@link CallbackExecutor}.
+ */
+public final class CassandraMetrics {
+
+  private static final String LATENCY = "latency";
+  private static final String ERRORS = "errors";
+  private static final String SESSIONS = "sessions";
+  private static final String EXECUTORS = "executors";
+  private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private static final CassandraMetrics instance = new CassandraMetrics();
+
+  private final MetricRegistry registry = new MetricRegistry();
+  private final LatencyTracker errorTracker = new ErrorTracker();
+
+  CassandraMetrics() {}
+
+  public static CassandraMetrics getInstance() {
+    return instance;
+  }
+
+  /**
+   * Record the time taken by one operation.
+   *
+   * @param operation Operation name (e.g. insertRecord)
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param elapsedMillis Elapsed time in milliseconds
+   */
+  public void recordLatency(
+      String operation, String keyspaceName, String tableName, long elapsedMillis) {
+    registry
+        .timer(MetricRegistry.name(LATENCY, operation, keyspaceName, tableName))
+        .update(elapsedMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Count a failed request by the class of the exception raised by the driver.
+   *
+   * @param error Exception raised by the driver
+   */
+  public void recordError(Throwable error) {
+    registry.counter(MetricRegistry.name(ERRORS, error.getClass().getSimpleName())).inc();
+  }
+
+  /**
+   * Register pool gauges (connected hosts, open connections, in-flight queries) of a session.
+   *
+   * @param keyspaceName Keyspace the session is connected to
+   * @param session Session
+   */
+  public void registerSession(String keyspaceName, Session session) {
+    registerGauge(
+        MetricRegistry.name(SESSIONS, keyspaceName, "connectedHosts"),
+        () -> session.getState().getConnectedHosts().size());
+    registerGauge(
+        MetricRegistry.name(SESSIONS, keyspaceName, "openConnections"),
+        () -> {
+          Session.State state = session.getState();
+          int count = 0;
+          for (Host host : state.getConnectedHosts()) {
+            count += state.getOpenConnections(host);
+          }
+          return count;
+        });
+    registerGauge(
+        MetricRegistry.name(SESSIONS, keyspaceName, "inFlightQueries"),
+        () -> {
+          Session.State state = session.getState();
+          int count = 0;
+          for (Host host : state.getConnectedHosts()) {
+            count += state.getInFlightQueries(host);
+          }
+          return count;
+        });
+  }
+
+  /**
+   * Register queue gauges (queue depth, active threads, callbacks run on the caller, callbacks
+   * dropped after shutdown) of the callback executor.
+   *
+   * @param executor Callback executor
+   */
+  public void registerCallbackExecutor(CallbackExecutor executor) {
+    registerGauge(
+        MetricRegistry.name(EXECUTORS, "callback", "queueDepth"), executor::getQueueDepth);
+    registerGauge(
+        MetricRegistry.name(EXECUTORS, "callback", "activeThreads"), executor::getActiveCount);
+    registerGauge(
+        MetricRegistry.name(EXECUTORS, "callback", "callerRuns"), executor::getCallerRunsCount);
+    registerGauge(
+        MetricRegistry.name(EXECUTORS, "callback", "rejected"), executor::getRejectedCount);
+  }
+
+  /** @return Tracker to be registered on the cluster so that driver errors are counted. */
+  public LatencyTracker getErrorTracker() {
+    return errorTracker;
+  }
+
+  /**
+   * Snapshot of all metrics. Latencies are in milliseconds.
+   *
+   * @return Map of latency, errors, sessions and executors metrics keyed by metric name
+   */
+  public Map<String, Object> getSnapshot() {
+    Map<String, Object> latency = new TreeMap<>();
+    for (Map.Entry<String, Timer> entry : registry.getTimers().entrySet()) {
+      Timer timer = entry.getValue();
+      Snapshot snapshot = timer.getSnapshot();
+      Map<String, Object> values = new HashMap<>();
+      values.put("count", timer.getCount());
+      values.put("mean", toMillis(snapshot.getMean()));
+      values.put("p50", toMillis(snapshot.getMedian()));
+      values.put("p75", toMillis(snapshot.get75thPercentile()));
+      values.put("p95", toMillis(snapshot.get95thPercentile()));
+      values.put("p99", toMillis(snapshot.get99thPercentile()));
+      values.put("p999", toMillis(snapshot.get999thPercentile()));
+      values.put("max", toMillis(snapshot.getMax()));
+      latency.put(entry.getKey().substring(LATENCY.length() + 1), values);
+    }
+    Map<String, Object> errors = new TreeMap<>();
+    for (Map.Entry<String, Counter> entry : registry.getCounters().entrySet()) {
+      errors.put(entry.getKey().substring(ERRORS.length() + 1), entry.getValue().getCount());
+    }
+    Map<String, Object> sessions = new TreeMap<>();
+    Map<String, Object> executors = new TreeMap<>();
+    for (Map.Entry<String, Gauge> entry : registry.getGauges().entrySet()) {
+      String name = entry.getKey();
+      if (name.startsWith(EXECUTORS)) {
+        executors.put(name.substring(EXECUTORS.length() + 1), entry.getValue().getValue());
+      } else {
+        sessions.put(name.substring(SESSIONS.length() + 1), entry.getValue().getValue());
+      }
+    }
+    Map<String, Object> metrics = new HashMap<>();
+    metrics.put(LATENCY, latency);
+    metrics.put(ERRORS, errors);
+    metrics.put(SESSIONS, sessions);
+    metrics.put(EXECUTORS, executors);
+    return metrics;
+  }
+
+  private void registerGauge(String name, Gauge<?> gauge) {
+    registry.remove(name);
+    registry.register(name, gauge);
+  }
+
+  private static double toMillis(double nanos) {
+    return nanos / NANOS_PER_MILLI;
+  }
+
+  private class ErrorTracker implements LatencyTracker {
+
+    @Override
+    public void update(Host host, Statement statement, Exception exception, long newLatencyNanos) {
+      if (null != exception) {
+        recordError(exception);
+      }
+    }
+
+    @Override
+    public void onRegister(Cluster cluster) {}
+
+    @Override
+    public void onUnregister(Cluster cluster) {}
+  }
+}
@@ -1,5 +1,7 @@
 package org.sunbird.common;
 
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.PagingState;
 import com.datastax.driver.core.RegularStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
@@ -7,17 +9,17 @@ import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.datastax.driver.core.querybuilder.Select.Where;
 import com.datastax.driver.core.querybuilder.Update;
 import com.datastax.driver.core.querybuilder.Update.Assignments;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 import org.sunbird.cassandraannotation.ClusteringKey;
 import org.sunbird.cassandraannotation.PartitioningKey;
 import org.sunbird.exception.ProjectCommonException;
@@ -37,6 +39,9 @@ public final class CassandraUtil {
   private static final CassandraPropertyReader propertiesCache =
       CassandraPropertyReader.getInstance();
   private static final String SERIAL_VERSION_UID = "serialVersionUID";
+  private static final int PREFETCH_THRESHOLD = 100;
+  private static final Cache<String, ColumnMapping> columnMappingCache =
+      CacheBuilder.newBuilder().maximumSize(1000).build();
 
   private CassandraUtil() {}
 
@@ -50,15 +55,27 @@ public final class CassandraUtil {
    */
   public static String getPreparedStatement(
       String keyspaceName, String tableName, Map<String, Object> map) {
+    return getPreparedStatement(keyspaceName, tableName, getOrderedColumns(map));
+  }
+
+  /**
+   * @desc This method is used to create insert prepared statement for the given columns, in the
+   *     order they are provided
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param columns Ordered list of column names
+   * @return Prepared statement
+   */
+  public static String getPreparedStatement(
+      String keyspaceName, String tableName, List<String> columns) {
     StringBuilder query = new StringBuilder();
     query.append(
         Constants.INSERT_INTO + keyspaceName + Constants.DOT + tableName + Constants.OPEN_BRACE);
-    Set<String> keySet = map.keySet();
-    query.append(String.join(",", keySet) + Constants.VALUES_WITH_BRACE);
+    query.append(String.join(",", columns) + Constants.VALUES_WITH_BRACE);
     StringBuilder commaSepValueBuilder = new StringBuilder();
-    for (int i = 0; i < keySet.size(); i++) {
+    for (int i = 0; i < columns.size(); i++) {
       commaSepValueBuilder.append(Constants.QUE_MARK);
-      if (i != keySet.size() - 1) {
+      if (i != columns.size() - 1) {
         commaSepValueBuilder.append(Constants.COMMA);
       }
     }
@@ -66,6 +83,47 @@ public final class CassandraUtil {
     return query.toString();
   }
 
+  /**
+   * Method to get the column names of the request in a stable (sorted) order, so that requests with
+   * the same columns always produce the same query.
+   *
+   * @param map Map where key is column name and value is column value
+   * @return Sorted list of column names
+   */
+  public static List<String> getOrderedColumns(Map<String, Object> map) {
+    List<String> columns = new ArrayList<>(map.keySet());
+    Collections.sort(columns);
+    return columns;
+  }
+
+  /**
+   * Method to get the column names to be set by an update query in a stable (sorted) order. The
+   * identifier column is excluded as it is used in the where clause.
+   *
+   * @param map Map where key is column name and value is column value
+   * @return Sorted list of column names excluding identifier
+   */
+  public static List<String> getOrderedUpdateColumns(Map<String, Object> map) {
+    List<String> columns = getOrderedColumns(map);
+    columns.remove(Constants.IDENTIFIER);
+    return columns;
+  }
+
+  /**
+   * Method to get the values of the request in the order of the given columns.
+   *
+   * @param map Map where key is column name and value is column value
+   * @param columns Ordered list of column names
+   * @return Array of values to bind
+   */
+  public static Object[] getOrderedValues(Map<String, Object> map, List<String> columns) {
+    Object[] values = new Object[columns.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = map.get(columns.get(i));
+    }
+    return values;
+  }
+
   /**
    * @desc This method is used for creating response from the resultset i.e return map
    *     <String,Object> or map<columnName,columnValue>
@@ -74,30 +132,131 @@ public final class CassandraUtil {
    */
   public static Response createResponse(ResultSet results) {
     Response response = new Response();
-    List<Map<String, Object>> responseList = new ArrayList<>();
-    Map<String, String> columnsMapping = fetchColumnsMapping(results);
-    Iterator<Row> rowIterator = results.iterator();
-    rowIterator.forEachRemaining(
-        row -> {
-          Map<String, Object> rowMap = new HashMap<>();
-          columnsMapping
-              .entrySet()
-              .stream()
-              .forEach(entry -> rowMap.put(entry.getKey(), row.getObject(entry.getValue())));
-          responseList.add(rowMap);
-        });
+    ColumnMapping columnMapping = getColumnMapping(results.getColumnDefinitions());
+    List<Map<String, Object>> responseList =
+        new ArrayList<>(Math.max(results.getAvailableWithoutFetching(), 1));
+    for (Row row : results) {
+      responseList.add(columnMapping.decode(row));
+    }
+    response.put(Constants.RESPONSE, responseList);
+    return response;
+  }
+
+  /**
+   * @desc This method is used for creating one response from several resultsets, keeping the order
+   *     of the resultsets
+   * @param resultSets List of ResultSet
+   * @return Response Response
+   */
+  public static Response createResponse(List<ResultSet> resultSets) {
+    Response response = new Response();
+    List<Map<String, Object>> responseList = new ArrayList<>(resultSets.size());
+    for (ResultSet results : resultSets) {
+      ColumnMapping columnMapping = getColumnMapping(results.getColumnDefinitions());
+      for (Row row : results) {
+        responseList.add(columnMapping.decode(row));
+      }
+    }
+    response.put(Constants.RESPONSE, responseList);
+    return response;
+  }
+
+  /**
+   * @desc This method is used for creating response from the current page of the resultset only,
+   *     without fetching the following pages. The paging state of the next page, if any, is added
+   *     to the response so that the scan can be resumed.
+   * @param results ResultSet of a statement with a fetch size
+   * @return Response Response
+   */
+  public static Response createPageResponse(ResultSet results) {
+    Response response = new Response();
+    ColumnMapping columnMapping = getColumnMapping(results.getColumnDefinitions());
+    int available = results.getAvailableWithoutFetching();
+    List<Map<String, Object>> responseList = new ArrayList<>(available);
+    for (int i = 0; i < available; i++) {
+      responseList.add(columnMapping.decode(results.one()));
+    }
     response.put(Constants.RESPONSE, responseList);
+    PagingState pagingState = results.getExecutionInfo().getPagingState();
+    if (null != pagingState) {
+      response.put(Constants.PAGING_STATE, pagingState.toString());
+    }
     return response;
   }
 
+  /**
+   * @desc This method is used to iterate over the rows of the resultset as map<property,value>
+   *     without materialising the whole result. Rows are decoded lazily and the next page is
+   *     requested in the background once the current page is about to be exhausted, so memory stays
+   *     bounded by the fetch size of the statement.
+   * @param results ResultSet
+   * @return Iterator over the decoded rows
+   */
+  public static Iterator<Map<String, Object>> createRowIterator(ResultSet results) {
+    ColumnMapping columnMapping = getColumnMapping(results.getColumnDefinitions());
+    Iterator<Row> rowIterator = results.iterator();
+    return new Iterator<Map<String, Object>>() {
+      @Override
+      public boolean hasNext() {
+        return rowIterator.hasNext();
+      }
+
+      @Override
+      public Map<String, Object> next() {
+        if (results.getAvailableWithoutFetching() == PREFETCH_THRESHOLD
+            && !results.isFullyFetched()) {
+          results.fetchMoreResults();
+        }
+        return columnMapping.decode(rowIterator.next());
+      }
+    };
+  }
+
   public static Map<String, String> fetchColumnsMapping(ResultSet results) {
-    return results
-        .getColumnDefinitions()
-        .asList()
-        .stream()
-        .collect(
-            Collectors.toMap(
-                d -> propertiesCache.readProperty(d.getName()).trim(), d -> d.getName()));
+    ColumnMapping columnMapping = getColumnMapping(results.getColumnDefinitions());
+    Map<String, String> columnsMapping = new HashMap<>();
+    for (int i = 0; i < columnMapping.properties.length; i++) {
+      columnsMapping.put(columnMapping.properties[i], columnMapping.columns[i]);
+    }
+    return columnsMapping;
+  }
+
+  private static ColumnMapping getColumnMapping(ColumnDefinitions definitions) {
+    int size = definitions.size();
+    String[] columns = new String[size];
+    for (int i = 0; i < size; i++) {
+      columns[i] = definitions.getName(i);
+    }
+    return columnMappingCache
+        .asMap()
+        .computeIfAbsent(String.join(Constants.COMMA, columns), key -> new ColumnMapping(columns));
+  }
+
+  /**
+   * Column name to response property mapping of a result set, resolved once per distinct column
+   * list and reused for every row.
+   */
+  private static final class ColumnMapping {
+    private final String[] columns;
+    private final String[] properties;
+    private final int mapCapacity;
+
+    ColumnMapping(String[] columns) {
+      this.columns = columns;
+      this.properties = new String[columns.length];
+      for (int i = 0; i < columns.length; i++) {
+        properties[i] = propertiesCache.readProperty(columns[i]).trim();
+      }
+      this.mapCapacity = (int) (columns.length / 0.75f) + 1;
+    }
+
+    Map<String, Object> decode(Row row) {
+      Map<String, Object> rowMap = new HashMap<>(mapCapacity);
+      for (int i = 0; i < properties.length; i++) {
+        rowMap.put(properties[i], row.getObject(i));
+      }
+      return rowMap;
+    }
   }
 
   /**
@@ -110,12 +269,23 @@ public final class CassandraUtil {
    */
   public static String getUpdateQueryStatement(
       String keyspaceName, String tableName, Map<String, Object> map) {
+    return getUpdateQueryStatement(keyspaceName, tableName, getOrderedUpdateColumns(map));
+  }
+
+  /**
+   * @desc This method is used to create update query statement for the given columns, in the order
+   *     they are provided. Identifier is bound last in the where clause.
+   * @param keyspaceName String (data base keyspace name)
+   * @param tableName String
+   * @param columns Ordered list of column names to be set
+   * @return String String
+   */
+  public static String getUpdateQueryStatement(
+      String keyspaceName, String tableName, List<String> columns) {
     StringBuilder query =
         new StringBuilder(
             Constants.UPDATE + keyspaceName + Constants.DOT + tableName + Constants.SET);
-    Set<String> key = new HashSet<>(map.keySet());
-    key.remove(Constants.IDENTIFIER);
-    query.append(String.join(" = ? ,", key));
+    query.append(String.join(" = ? ,", columns));
     query.append(
         Constants.EQUAL_WITH_QUE_MARK + Constants.WHERE_ID + Constants.EQUAL_WITH_QUE_MARK);
     return query.toString();
@@ -17,7 +17,23 @@ public interface Constants {
   public static final String CONTACT_POINT = "contactPoint";
   public static final String PORT = "port";
   public static final String QUERY_LOGGER_THRESHOLD = "queryLoggerConstantThreshold";
+  public static final String PREPARED_STATEMENT_CACHE_SIZE = "preparedStatementCacheSize";
+  public static final String BATCH_WRITE_MAX_IN_FLIGHT = "batchWriteMaxInFlight";
+  public static final String BATCH_WRITE_MAX_STATEMENTS = "batchWriteMaxStatements";
+  public static final String CALLBACK_EXECUTOR_THREADS = "callbackExecutorThreads";
+  public static final String CALLBACK_EXECUTOR_QUEUE_SIZE = "callbackExecutorQueueSize";
+  public static final String MULTI_GET_IN_THRESHOLD = "multiGetInThreshold";
+  public static final String MULTI_GET_MAX_IN_FLIGHT = "multiGetMaxInFlight";
   public static final String CASSANDRA_PROPERTIES_FILE = "cassandra.config.properties";
+  // CLUSTER BUILDER CONFIG (dbconfig.properties)
+  public static final String LOCAL_DC = "sunbird_cassandra_local_dc";
+  public static final String TOKEN_AWARE = "sunbird_cassandra_token_aware";
+  public static final String PROTOCOL_VERSION = "sunbird_cassandra_protocol_version";
+  public static final String COMPRESSION = "sunbird_cassandra_compression";
+  public static final String SPECULATIVE_EXECUTION_DELAY =
+      "sunbird_cassandra_speculative_execution_delay_ms";
+  public static final String SPECULATIVE_EXECUTION_MAX =
+      "sunbird_cassandra_speculative_execution_max";
 
   // CONSTANT
   public static final String COURSE_ID = "courseId";
@@ -26,6 +42,7 @@ public interface Constants {
   public static final String IDENTIFIER = "id";
   public static final String SUCCESS = "SUCCESS";
   public static final String RESPONSE = "response";
+  public static final String PAGING_STATE = "pagingState";
   public static final String SESSION_IS_NULL = "cassandra session is null for this ";
   public static final String CLUSTER_IS_NULL = "cassandra cluster value is null for this ";
   public static final String QUE_MARK = "?";
@@ -62,4 +79,7 @@ public interface Constants {
   public static final String GTE = ">=";
   public static final String GT = ">";
   public static final String ID = "id";
+  public static final String HEALTH_CHECK_QUERY = "SELECT release_version FROM system.local";
+  public static final String RELEASE_VERSION = "release_version";
+  public static final int HEALTH_CHECK_READ_TIMEOUT_MILLIS = 2000;
 }
@@ -0,0 +1,165 @@
+package org.sunbird.common;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.ColumnMetadata;
+import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.Metadata;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.TableMetadata;
+import com.datastax.driver.core.querybuilder.QueryBuilder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.sunbird.common.PreparedStatementCache.StatementType;
+import org.sunbird.logging.LoggerUtil;
+
+/**
+ * Reads records by a list of keys. Up to {@code multiGetInThreshold} keys are read with a single IN
+ * query; larger lists are split into one single-partition read per key, executed concurrently with
+ * at most {@code multiGetMaxInFlight} reads in flight, so that no single coordinator has to gather
+ * every partition. Results are returned in the order of the requested keys.
+ *
+ * <p>When every column is requested, the query names the columns of the table as known by the
+ * driver metadata rather than {@code SELECT *}: a prepared {@code SELECT *} keeps the result
+ * metadata of the schema it was prepared against, while a new column list after a schema change
+ * gets a statement of its own.
+ */
+public final class MultiGetReader {
+  private static final LoggerUtil logger = new LoggerUtil(MultiGetReader.class);
+
+  private static final int DEFAULT_IN_THRESHOLD = 10;
+  private static final int DEFAULT_MAX_IN_FLIGHT = 16;
+
+  private static final MultiGetReader instance =
+      new MultiGetReader(
+          getConfigValue(Constants.MULTI_GET_IN_THRESHOLD, DEFAULT_IN_THRESHOLD),
+          getConfigValue(Constants.MULTI_GET_MAX_IN_FLIGHT, DEFAULT_MAX_IN_FLIGHT));
+
+  private final int inThreshold;
+  private final int maxInFlight;
+
+  MultiGetReader(int inThreshold, int maxInFlight) {
+    this.inThreshold = inThreshold;
+    this.maxInFlight = maxInFlight;
+  }
+
+  public static MultiGetReader getInstance() {
+    return instance;
+  }
+
+  /**
+   * @param keyCount Number of keys to be read
+   * @return true if the keys should be read with a single IN query
+   */
+  public boolean isInQueryPreferred(int keyCount) {
+    return keyCount <= inThreshold;
+  }
+
+  /**
+   * Read the records of every key with one single-partition query per key. Duplicate keys are read
+   * once.
+   *
+   * @param session Session connected to the keyspace
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param keyColumn Partition key column
+   * @param fields List of columns to be returned in each record (all if empty)
+   * @param keys List of keys
+   * @return Result set of each distinct key in request order
+   */
+  public List<ResultSet> read(
+      Session session,
+      String keyspaceName,
+      String tableName,
+      String keyColumn,
+      List<String> fields,
+      List<?> keys) {
+    PreparedStatement statement = prepare(session, keyspaceName, tableName, keyColumn, fields);
+    List<BoundStatement> statements = new ArrayList<>(keys.size());
+    for (Object key : new LinkedHashSet<>(keys)) {
+      BoundStatement bound = statement.bind(key);
+      bound.setIdempotent(true);
+      statements.add(bound);
+    }
+    ThrottledExecution execution =
+        ThrottledExecution.execute(session, statements, maxInFlight).toCompletableFuture().join();
+    List<ResultSet> results = new ArrayList<>(execution.size());
+    for (int i = 0; i < execution.size(); i++) {
+      Throwable failure = execution.getFailure(i);
+      if (null != failure) {
+        if (failure instanceof RuntimeException) {
+          throw (RuntimeException) failure;
+        }
+        throw new IllegalStateException(failure);
+      }
+      results.add(execution.getResult(i));
+    }
+    return results;
+  }
+
+  private static PreparedStatement prepare(
+      Session session,
+      String keyspaceName,
+      String tableName,
+      String keyColumn,
+      List<String> fields) {
+    List<String> selected =
+        CollectionUtils.isEmpty(fields) ? readColumns(session, keyspaceName, tableName) : fields;
+    if (selected.isEmpty()) {
+      // without table metadata fall back to SELECT *, prepared for this read only
+      return session.prepare(
+          QueryBuilder.select()
+              .all()
+              .from(keyspaceName, tableName)
+              .where(QueryBuilder.eq(keyColumn, QueryBuilder.bindMarker()))
+              .getQueryString());
+    }
+    List<String> columns = new ArrayList<>();
+    columns.add(keyColumn);
+    columns.addAll(selected);
+    return PreparedStatementCache.getInstance()
+        .get(
+            session,
+            StatementType.SELECT,
+            keyspaceName,
+            tableName,
+            columns,
+            () ->
+                QueryBuilder.select(selected.toArray(new String[0]))
+                    .from(keyspaceName, tableName)
+                    .where(QueryBuilder.eq(keyColumn, QueryBuilder.bindMarker()))
+                    .getQueryString());
+  }
+
+  private static List<String> readColumns(Session session, String keyspaceName, String tableName) {
+    try {
+      KeyspaceMetadata keyspace = session.getCluster().getMetadata().getKeyspace(keyspaceName);
+      TableMetadata table = null == keyspace ? null : keyspace.getTable(tableName);
+      if (null != table) {
+        List<String> columns = new ArrayList<>();
+        for (ColumnMetadata column : table.getColumns()) {
+          columns.add(Metadata.quoteIfNecessary(column.getName()));
+        }
+        return columns;
+      }
+    } catch (Exception e) {
+      logger.error(
+          "MultiGetReader:readColumns: Unable to read metadata of "
+              + keyspaceName
+              + Constants.DOT
+              + tableName,
+          e);
+    }
+    return Collections.emptyList();
+  }
+
+  private static int getConfigValue(String key, int defaultValue) {
+    String value = CassandraPropertyReader.getInstance().getProperty(key);
+    return StringUtils.isNumeric(value) ? Integer.parseInt(value) : defaultValue;
+  }
+}
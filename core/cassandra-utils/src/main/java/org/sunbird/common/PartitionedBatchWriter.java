@@ -0,0 +1,197 @@
+package org.sunbird.common;
+
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.ColumnMetadata;
+import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.TableMetadata;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.lang3.StringUtils;
+import org.sunbird.logging.LoggerUtil;
+
+/**
+ * Writes a list of statements grouped by partition. Statements of the same partition are sent as
+ * one UNLOGGED batch (split every {@code batchWriteMaxStatements}), statements of different
+ * partitions are sent concurrently as separate requests with at most {@code batchWriteMaxInFlight}
+ * requests in flight. A failure only affects the records of the request that failed; the outcome is
+ * reported per record.
+ */
+public final class PartitionedBatchWriter {
+  private static final LoggerUtil logger = new LoggerUtil(PartitionedBatchWriter.class);
+
+  private static final int DEFAULT_MAX_IN_FLIGHT = 32;
+  private static final int DEFAULT_MAX_STATEMENTS = 100;
+
+  private static final PartitionedBatchWriter instance =
+      new PartitionedBatchWriter(
+          getConfigValue(Constants.BATCH_WRITE_MAX_IN_FLIGHT, DEFAULT_MAX_IN_FLIGHT),
+          getConfigValue(Constants.BATCH_WRITE_MAX_STATEMENTS, DEFAULT_MAX_STATEMENTS));
+
+  private final int maxInFlight;
+  private final int maxStatementsPerBatch;
+  private final Map<String, List<String>> partitionKeyCache = new ConcurrentHashMap<>();
+
+  PartitionedBatchWriter(int maxInFlight, int maxStatementsPerBatch) {
+    this.maxInFlight = maxInFlight;
+    this.maxStatementsPerBatch = maxStatementsPerBatch;
+  }
+
+  public static PartitionedBatchWriter getInstance() {
+    return instance;
+  }
+
+  /**
+   * Write the statements and wait for all of them to complete.
+   *
+   * @param session Session connected to the keyspace
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param statements Write statements, one per record
+   * @param records Column map of each record, used to read its partition key
+   * @return Cause of failure keyed by record index, empty if every record was written
+   */
+  public Map<Integer, Throwable> write(
+      Session session,
+      String keyspaceName,
+      String tableName,
+      List<? extends Statement> statements,
+      List<Map<String, Object>> records) {
+    return writeAsync(session, keyspaceName, tableName, statements, records)
+        .toCompletableFuture()
+        .join();
+  }
+
+  /**
+   * Write the statements without blocking the calling thread.
+   *
+   * @see #write(Session, String, String, List, List)
+   */
+  public CompletionStage<Map<Integer, Throwable>> writeAsync(
+      Session session,
+      String keyspaceName,
+      String tableName,
+      List<? extends Statement> statements,
+      List<Map<String, Object>> records) {
+    List<String> partitionKey = getPartitionKey(session, keyspaceName, tableName);
+    Map<Object, List<Integer>> partitions = new LinkedHashMap<>();
+    for (int i = 0; i < statements.size(); i++) {
+      partitions
+          .computeIfAbsent(
+              getPartitionValue(partitionKey, records.get(i), i), k -> new ArrayList<>())
+          .add(i);
+    }
+    List<List<Integer>> units = new ArrayList<>();
+    List<Statement> unitStatements = new ArrayList<>();
+    for (List<Integer> indexes : partitions.values()) {
+      for (int from = 0; from < indexes.size(); from += maxStatementsPerBatch) {
+        List<Integer> chunk =
+            indexes.subList(from, Math.min(from + maxStatementsPerBatch, indexes.size()));
+        units.add(chunk);
+        unitStatements.add(toStatement(statements, chunk));
+      }
+    }
+    return ThrottledExecution.execute(session, unitStatements, maxInFlight)
+        .thenApply(
+            execution -> {
+              Map<Integer, Throwable> failures = new HashMap<>();
+              for (int i = 0; i < execution.size(); i++) {
+                Throwable failure = execution.getFailure(i);
+                if (null != failure) {
+                  for (Integer index : units.get(i)) {
+                    failures.put(index, failure);
+                  }
+                }
+              }
+              return failures;
+            });
+  }
+
+  private Statement toStatement(List<? extends Statement> statements, List<Integer> indexes) {
+    if (indexes.size() == 1) {
+      return statements.get(indexes.get(0));
+    }
+    BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
+    for (Integer index : indexes) {
+      batch.add(statements.get(index));
+    }
+    return batch;
+  }
+
+  /**
+   * Partition key value of a record. Column names are matched ignoring case as the metadata holds
+   * them in lower case. A record without the partition key columns (or a table whose metadata is
+   * unknown) is treated as a partition of its own.
+   */
+  private static Object getPartitionValue(
+      List<String> partitionKey, Map<String, Object> record, int index) {
+    if (partitionKey.isEmpty() || null == record) {
+      return index;
+    }
+    List<Object> values = new ArrayList<>(partitionKey.size());
+    for (String column : partitionKey) {
+      Map.Entry<String, Object> value = findColumn(record, column);
+      if (null == value) {
+        return index;
+      }
+      values.add(value.getValue());
+    }
+    return values;
+  }
+
+  private static Map.Entry<String, Object> findColumn(Map<String, Object> record, String column) {
+    for (Map.Entry<String, Object> entry : record.entrySet()) {
+      if (column.equalsIgnoreCase(entry.getKey())) {
+        return entry;
+      }
+    }
+    return null;
+  }
+
+  private List<String> getPartitionKey(Session session, String keyspaceName, String tableName) {
+    String key = keyspaceName + Constants.DOT + tableName;
+    List<String> partitionKey = partitionKeyCache.get(key);
+    if (null == partitionKey) {
+      partitionKey = readPartitionKey(session, keyspaceName, tableName);
+      if (!partitionKey.isEmpty()) {
+        partitionKeyCache.put(key, partitionKey);
+      }
+    }
+    return partitionKey;
+  }
+
+  private static List<String> readPartitionKey(
+      Session session, String keyspaceName, String tableName) {
+    try {
+      KeyspaceMetadata keyspace = session.getCluster().getMetadata().getKeyspace(keyspaceName);
+      TableMetadata table = null == keyspace ? null : keyspace.getTable(tableName);
+      if (null != table) {
+        List<String> columns = new ArrayList<>();
+        for (ColumnMetadata column : table.getPartitionKey()) {
+          columns.add(column.getName());
+        }
+        return columns;
+      }
+    } catch (Exception e) {
+      logger.error(
+          "PartitionedBatchWriter:readPartitionKey: Unable to read metadata of "
+              + keyspaceName
+              + Constants.DOT
+              + tableName,
+          e);
+    }
+    return Collections.emptyList();
+  }
+
+  private static int getConfigValue(String key, int defaultValue) {
+    String value = CassandraPropertyReader.getInstance().getProperty(key);
+    return StringUtils.isNumeric(value) ? Integer.parseInt(value) : defaultValue;
+  }
+}
@@ -0,0 +1,136 @@
+package org.sunbird.common;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.StringUtils;
+import org.sunbird.logging.LoggerUtil;
+
+/**
+ * Bounded cache of {@link PreparedStatement} keyed by keyspace, table, statement type and the
+ * ordered column set used to build the query. Preparing a statement costs a round trip to the
+ * cluster, so insert/update/upsert paths prepare a given shape once and reuse it afterwards.
+ */
+public final class PreparedStatementCache {
+  private static final LoggerUtil logger = new LoggerUtil(PreparedStatementCache.class);
+
+  private static final long DEFAULT_MAX_SIZE = 1000;
+  private static final PreparedStatementCache instance = new PreparedStatementCache(getMaxSize());
+
+  private final Cache<StatementKey, PreparedStatement> cache;
+
+  public enum StatementType {
+    INSERT,
+    UPDATE,
+    SELECT
+  }
+
+  PreparedStatementCache(long maxSize) {
+    cache = CacheBuilder.newBuilder().maximumSize(maxSize).recordStats().build();
+  }
+
+  public static PreparedStatementCache getInstance() {
+    return instance;
+  }
+
+  /**
+   * Return the prepared statement for the given shape, preparing it on the session on first use.
+   *
+   * @param session Session connected to the given keyspace
+   * @param type Statement type (insert, update or select)
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param columns Ordered list of columns the query is built from
+   * @param querySupplier Builds the CQL query, only invoked on a cache miss
+   * @return Prepared statement
+   */
+  public PreparedStatement get(
+      Session session,
+      StatementType type,
+      String keyspaceName,
+      String tableName,
+      List<String> columns,
+      Supplier<String> querySupplier) {
+    StatementKey key = new StatementKey(type, keyspaceName, tableName, columns);
+    try {
+      return cache.get(key, () -> session.prepare(querySupplier.get()));
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+
+  /** Drop every cached statement, e.g. after a schema change on the cluster. */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  public long size() {
+    return cache.size();
+  }
+
+  /** @return Hit, miss and eviction counts of the cache. */
+  public CacheStats getStats() {
+    return cache.stats();
+  }
+
+  private static long getMaxSize() {
+    String size =
+        CassandraPropertyReader.getInstance().getProperty(Constants.PREPARED_STATEMENT_CACHE_SIZE);
+    if (StringUtils.isNumeric(size)) {
+      return Long.parseLong(size);
+    }
+    logger.info(
+        "PreparedStatementCache:getMaxSize: Invalid cache size "
+            + size
+            + ", using default "
+            + DEFAULT_MAX_SIZE);
+    return DEFAULT_MAX_SIZE;
+  }
+
+  private static final class StatementKey {
+    private final StatementType type;
+    private final String keyspaceName;
+    private final String tableName;
+    private final List<String> columns;
+    private final int hash;
+
+    StatementKey(StatementType type, String keyspaceName, String tableName, List<String> columns) {
+      this.type = type;
+      this.keyspaceName = keyspaceName;
+      this.tableName = tableName;
+      this.columns = columns;
+      this.hash = Objects.hash(type, keyspaceName, tableName, columns);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof StatementKey)) {
+        return false;
+      }
+      StatementKey other = (StatementKey) o;
+      return type == other.type
+          && keyspaceName.equals(other.keyspaceName)
+          && tableName.equals(other.tableName)
+          && columns.equals(other.columns);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
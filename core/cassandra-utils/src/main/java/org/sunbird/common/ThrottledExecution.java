@@ -0,0 +1,110 @@
+package org.sunbird.common;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executes a list of statements asynchronously keeping at most {@code maxInFlight} of them in
+ * flight. Every statement is executed even if others fail; the outcome of each statement is
+ * available by index once the returned stage completes.
+ */
+final class ThrottledExecution {
+  private final Session session;
+  private final List<? extends Statement> statements;
+  private final ResultSet[] results;
+  private final Throwable[] failures;
+  private final AtomicInteger next = new AtomicInteger();
+  private final AtomicInteger remaining;
+  private final AtomicInteger pending = new AtomicInteger();
+  private final CompletableFuture<ThrottledExecution> done = new CompletableFuture<>();
+
+  private ThrottledExecution(Session session, List<? extends Statement> statements) {
+    this.session = session;
+    this.statements = statements;
+    this.results = new ResultSet[statements.size()];
+    this.failures = new Throwable[statements.size()];
+    this.remaining = new AtomicInteger(statements.size());
+  }
+
+  static CompletionStage<ThrottledExecution> execute(
+      Session session, List<? extends Statement> statements, int maxInFlight) {
+    ThrottledExecution execution = new ThrottledExecution(session, statements);
+    if (statements.isEmpty()) {
+      execution.done.complete(execution);
+    }
+    for (int i = 0; i < Math.min(Math.max(1, maxInFlight), statements.size()); i++) {
+      execution.sendNext();
+    }
+    return execution.done;
+  }
+
+  int size() {
+    return results.length;
+  }
+
+  ResultSet getResult(int index) {
+    return results[index];
+  }
+
+  Throwable getFailure(int index) {
+    return failures[index];
+  }
+
+  /**
+   * Send the next statement. Futures which are already complete, e.g. because no host is available,
+   * call back on the sending thread; to keep the stack flat in that case sends are queued on {@code
+   * pending} and only the thread which found it at zero sends, in a loop.
+   */
+  private void sendNext() {
+    if (pending.getAndIncrement() != 0) {
+      return;
+    }
+    do {
+      send();
+    } while (pending.decrementAndGet() != 0);
+  }
+
+  private void send() {
+    int index = next.getAndIncrement();
+    if (index >= statements.size()) {
+      return;
+    }
+    try {
+      Futures.addCallback(
+          session.executeAsync(statements.get(index)),
+          new FutureCallback<ResultSet>() {
+            @Override
+            public void onSuccess(ResultSet resultSet) {
+              results[index] = resultSet;
+              completed();
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+              failures[index] = t;
+              completed();
+            }
+          },
+          MoreExecutors.directExecutor());
+    } catch (Exception e) {
+      failures[index] = e;
+      completed();
+    }
+  }
+
+  private void completed() {
+    if (remaining.decrementAndGet() == 0) {
+      done.complete(this);
+    } else {
+      sendNext();
+    }
+  }
+}
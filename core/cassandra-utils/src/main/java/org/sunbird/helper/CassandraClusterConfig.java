@@ -0,0 +1,99 @@
+package org.sunbird.helper;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.ProtocolOptions;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.policies.DCAwareRoundRobinPolicy;
+import com.datastax.driver.core.policies.LoadBalancingPolicy;
+import com.datastax.driver.core.policies.TokenAwarePolicy;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.sunbird.common.Constants;
+import org.sunbird.logging.LoggerUtil;
+import org.sunbird.util.ProjectUtil;
+
+/**
+ * Applies the cluster level options (load balancing, protocol version, compression and speculative
+ * execution) read from dbconfig.properties, each of which can be overridden by an environment
+ * variable of the same name.
+ */
+public final class CassandraClusterConfig {
+  private static final LoggerUtil logger = new LoggerUtil(CassandraClusterConfig.class);
+
+  private static final String LZ4_FACTORY = "net.jpountz.lz4.LZ4Factory";
+
+  private CassandraClusterConfig() {}
+
+  public static Cluster.Builder configure(Cluster.Builder builder) {
+    builder.withLoadBalancingPolicy(getLoadBalancingPolicy());
+    ProtocolVersion protocolVersion = getProtocolVersion();
+    if (null != protocolVersion) {
+      builder.withProtocolVersion(protocolVersion);
+    }
+    builder.withCompression(getCompression());
+    long delay =
+        NumberUtils.toLong(ProjectUtil.getConfigValue(Constants.SPECULATIVE_EXECUTION_DELAY), 0);
+    if (delay > 0) {
+      int maxExecutions =
+          NumberUtils.toInt(ProjectUtil.getConfigValue(Constants.SPECULATIVE_EXECUTION_MAX), 1);
+      builder.withSpeculativeExecutionPolicy(
+          new HotReadSpeculativeExecutionPolicy(delay, maxExecutions));
+      logger.info(
+          "CassandraClusterConfig:configure: Speculative execution for hot reads with delay = "
+              + delay
+              + " ms, max executions = "
+              + maxExecutions);
+    }
+    return builder;
+  }
+
+  static LoadBalancingPolicy getLoadBalancingPolicy() {
+    DCAwareRoundRobinPolicy.Builder dcAwareBuilder = DCAwareRoundRobinPolicy.builder();
+    String localDc = ProjectUtil.getConfigValue(Constants.LOCAL_DC);
+    if (StringUtils.isNotBlank(localDc)) {
+      dcAwareBuilder.withLocalDc(localDc);
+    }
+    LoadBalancingPolicy policy = dcAwareBuilder.build();
+    if (!Boolean.FALSE
+        .toString()
+        .equalsIgnoreCase(ProjectUtil.getConfigValue(Constants.TOKEN_AWARE))) {
+      policy = new TokenAwarePolicy(policy);
+    }
+    logger.info(
+        "CassandraClusterConfig:getLoadBalancingPolicy: local dc = "
+            + localDc
+            + ", policy = "
+            + policy.getClass().getSimpleName());
+    return policy;
+  }
+
+  /** @return Configured protocol version, or null to let the driver negotiate it. */
+  static ProtocolVersion getProtocolVersion() {
+    String version = ProjectUtil.getConfigValue(Constants.PROTOCOL_VERSION);
+    if (StringUtils.isBlank(version)) {
+      return null;
+    }
+    try {
+      return ProtocolVersion.valueOf(version.trim().toUpperCase());
+    } catch (IllegalArgumentException e) {
+      logger.error(
+          "CassandraClusterConfig:getProtocolVersion: Invalid protocol version " + version, e);
+    }
+    return null;
+  }
+
+  static ProtocolOptions.Compression getCompression() {
+    String compression = ProjectUtil.getConfigValue(Constants.COMPRESSION);
+    if (ProtocolOptions.Compression.LZ4.name().equalsIgnoreCase(compression)) {
+      try {
+        Class.forName(LZ4_FACTORY);
+        return ProtocolOptions.Compression.LZ4;
+      } catch (ClassNotFoundException e) {
+        logger.info(
+            "CassandraClusterConfig:getCompression: LZ4 library not found on classpath, compression disabled");
+        return ProtocolOptions.Compression.NONE;
+      }
+    }
+    return ProtocolOptions.Compression.NONE;
+  }
+}
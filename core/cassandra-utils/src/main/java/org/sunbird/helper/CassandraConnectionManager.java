@@ -31,4 +31,13 @@ public interface CassandraConnectionManager {
    * @return List<String>
    */
   List<String> getTableList(String keyspaceName);
+
+  /**
+   * Method to check the cassandra connection health. Uses the driver connection pool state and a
+   * lightweight query on system.local, so no application table is read.
+   *
+   * @param keyspaceName
+   * @return true if at least one host is connected and the probe query succeeds
+   */
+  boolean isHealthy(String keyspaceName);
 }
@@ -8,6 +8,8 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
+import org.sunbird.common.CallbackExecutor;
+import org.sunbird.common.CassandraMetrics;
 import org.sunbird.common.CassandraPropertyReader;
 import org.sunbird.common.Constants;
 import org.sunbird.exception.ProjectCommonException;
@@ -39,6 +41,7 @@ public class CassandraConnectionManagerImpl implements CassandraConnectionManage
     } else {
       Session session2 = cluster.connect(keyspace);
       cassandraSessionMap.put(keyspace, session2);
+      CassandraMetrics.getInstance().registerSession(keyspace, session2);
       return session2;
     }
   }
@@ -68,6 +71,7 @@ public class CassandraConnectionManagerImpl implements CassandraConnectionManage
           Integer.parseInt(cache.getProperty(Constants.POOL_TIMEOUT)));
 
       cluster = createCluster(hosts, poolingOptions);
+      cluster.register(CassandraMetrics.getInstance().getErrorTracker());
 
       final Metadata metadata = cluster.getMetadata();
       String msg = String.format("Connected to cluster: %s", metadata.getClusterName());
@@ -90,10 +94,10 @@ public class CassandraConnectionManagerImpl implements CassandraConnectionManage
     Cluster.Builder builder =
         Cluster.builder()
             .addContactPoints(hosts)
-            .withProtocolVersion(ProtocolVersion.V3)
             .withRetryPolicy(DefaultRetryPolicy.INSTANCE)
             .withTimestampGenerator(new AtomicMonotonicTimestampGenerator())
             .withPoolingOptions(poolingOptions);
+    CassandraClusterConfig.configure(builder);
 
     ConsistencyLevel consistencyLevel = getConsistencyLevel();
     logger.info(
@@ -132,6 +136,20 @@ public class CassandraConnectionManagerImpl implements CassandraConnectionManage
     return tables.stream().map(tm -> tm.getName()).collect(Collectors.toList());
   }
 
+  @Override
+  public boolean isHealthy(String keyspaceName) {
+    Session session = getSession(keyspaceName);
+    if (session.getState().getConnectedHosts().isEmpty()) {
+      logger.info("CassandraConnectionManagerImpl:isHealthy: No connected hosts");
+      return false;
+    }
+    Statement statement =
+        new SimpleStatement(Constants.HEALTH_CHECK_QUERY)
+            .setReadTimeoutMillis(Constants.HEALTH_CHECK_READ_TIMEOUT_MILLIS);
+    Row row = session.execute(statement).one();
+    return null != row && null != row.getString(Constants.RELEASE_VERSION);
+  }
+
   /** Register the hook for resource clean up. this will be called when jvm shut down. */
   public static void registerShutDownHook() {
     Runtime runtime = Runtime.getRuntime();
@@ -146,6 +164,7 @@ public class CassandraConnectionManagerImpl implements CassandraConnectionManage
     @Override
     public void run() {
       try {
+        CallbackExecutor.getInstance().shutdown();
         for (Map.Entry<String, Session> entry : cassandraSessionMap.entrySet()) {
           cassandraSessionMap.get(entry.getKey()).close();
         }
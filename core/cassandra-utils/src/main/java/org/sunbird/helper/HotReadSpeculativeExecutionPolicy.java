@@ -0,0 +1,58 @@
+package org.sunbird.helper;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.StatementWrapper;
+import com.datastax.driver.core.policies.ConstantSpeculativeExecutionPolicy;
+import com.datastax.driver.core.policies.NoSpeculativeExecutionPolicy;
+import com.datastax.driver.core.policies.SpeculativeExecutionPolicy;
+
+/**
+ * Speculative execution restricted to hot reads. Only statements marked with {@link
+ * #markHotRead(Statement)} are sent to another replica when the first one has not answered within
+ * the delay; every other statement (scans, writes) runs once as before.
+ */
+public class HotReadSpeculativeExecutionPolicy implements SpeculativeExecutionPolicy {
+
+  private final SpeculativeExecutionPolicy hotReadPolicy;
+  private final SpeculativeExecutionPolicy defaultPolicy = NoSpeculativeExecutionPolicy.INSTANCE;
+
+  public HotReadSpeculativeExecutionPolicy(long delayMillis, int maxSpeculativeExecutions) {
+    hotReadPolicy = new ConstantSpeculativeExecutionPolicy(delayMillis, maxSpeculativeExecutions);
+  }
+
+  /**
+   * Mark a read as idempotent and eligible for speculative execution.
+   *
+   * @param statement Read statement (e.g. lookup by primary key)
+   * @return Statement to be executed in place of the given one
+   */
+  public static Statement markHotRead(Statement statement) {
+    statement.setIdempotent(true);
+    return new HotReadStatement(statement);
+  }
+
+  @Override
+  public void init(Cluster cluster) {
+    hotReadPolicy.init(cluster);
+  }
+
+  @Override
+  public SpeculativeExecutionPlan newPlan(String loggedKeyspace, Statement statement) {
+    if (statement instanceof HotReadStatement) {
+      return hotReadPolicy.newPlan(loggedKeyspace, statement);
+    }
+    return defaultPolicy.newPlan(loggedKeyspace, statement);
+  }
+
+  @Override
+  public void close() {
+    hotReadPolicy.close();
+  }
+
+  private static final class HotReadStatement extends StatementWrapper {
+    HotReadStatement(Statement wrapped) {
+      super(wrapped);
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package org.sunbird.helper;
 
+import org.sunbird.cassandra.AsyncCassandraOperation;
 import org.sunbird.cassandra.CassandraOperation;
 import org.sunbird.cassandraimpl.CassandraDACImpl;
 
@@ -9,7 +10,7 @@ import org.sunbird.cassandraimpl.CassandraDACImpl;
  * @author Manzarul
  */
 public class ServiceFactory {
-  private static CassandraOperation operation = null;
+  private static CassandraDACImpl operation = null;
 
   private ServiceFactory() {}
 
@@ -28,4 +29,15 @@ public class ServiceFactory {
     }
     return operation;
   }
+
+  /**
+   * Provides the non-blocking cassandra operations. Backed by the same instance as {@link
+   * #getInstance()}.
+   *
+   * @return
+   */
+  public static AsyncCassandraOperation getAsyncInstance() {
+    getInstance();
+    return operation;
+  }
 }
@@ -0,0 +1,79 @@
+package org.sunbird.cassandraimpl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.exceptions.NoHostAvailableException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.sunbird.common.Constants;
+import org.sunbird.common.TestResultSetFuture;
+import org.sunbird.exception.ProjectCommonException;
+import org.sunbird.helper.CassandraConnectionManager;
+import org.sunbird.response.Response;
+
+public class CassandraDACImplTest {
+
+  private CassandraDACImpl cassandraDAC;
+  private Session session;
+
+  @Before
+  public void setUp() {
+    CassandraConnectionManager connectionManager = Mockito.mock(CassandraConnectionManager.class);
+    session = Mockito.mock(Session.class);
+    Mockito.when(connectionManager.getSession(Mockito.anyString())).thenReturn(session);
+    cassandraDAC = new CassandraDACImpl();
+    cassandraDAC.connectionManager = connectionManager;
+  }
+
+  @Test
+  public void testInsertRecordAsyncSuccess() throws Exception {
+    PreparedStatement statement = Mockito.mock(PreparedStatement.class);
+    Mockito.when(session.prepare(Mockito.anyString())).thenReturn(statement);
+    Mockito.when(statement.bind(Mockito.any())).thenReturn(Mockito.mock(BoundStatement.class));
+    TestResultSetFuture future = new TestResultSetFuture();
+    Mockito.when(session.executeAsync(Mockito.any(Statement.class))).thenReturn(future);
+
+    Map<String, Object> address = new HashMap<>();
+    address.put("id", "1234567890");
+    address.put("addrLine1", "Line 1");
+    CompletableFuture<Response> result =
+        cassandraDAC
+            .insertRecordAsync("sunbird", "address_async", address, null)
+            .toCompletableFuture();
+    assertFalse(result.isDone());
+
+    future.set(Mockito.mock(ResultSet.class));
+    assertEquals(Constants.SUCCESS, result.get(1, TimeUnit.SECONDS).get(Constants.RESPONSE));
+  }
+
+  @Test
+  public void testGetRecordByIdAsyncFailure() throws Exception {
+    TestResultSetFuture future = new TestResultSetFuture();
+    Mockito.when(session.executeAsync(Mockito.any(Statement.class))).thenReturn(future);
+
+    CompletableFuture<Response> result =
+        cassandraDAC.getRecordByIdAsync("sunbird", "address", "123", null).toCompletableFuture();
+    future.setException(new NoHostAvailableException(new HashMap<>()));
+    try {
+      result.get(1, TimeUnit.SECONDS);
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof ProjectCommonException);
+      return;
+    }
+    fail("Expected ProjectCommonException");
+  }
+}
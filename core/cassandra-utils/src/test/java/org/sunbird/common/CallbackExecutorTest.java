@@ -0,0 +1,75 @@
+package org.sunbird.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+
+public class CallbackExecutorTest {
+
+  @Test
+  public void testDirectExecutorRunsOnCallingThread() {
+    CallbackExecutor executor = new CallbackExecutor(0, 0);
+    AtomicReference<Thread> thread = new AtomicReference<>();
+
+    executor.execute(() -> thread.set(Thread.currentThread()));
+
+    assertTrue(executor.isDirect());
+    assertSame(Thread.currentThread(), thread.get());
+  }
+
+  @Test
+  public void testSaturatedExecutorRunsOnCallingThread() throws Exception {
+    CallbackExecutor executor = new CallbackExecutor(1, 1);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch started = new CountDownLatch(1);
+    AtomicReference<Thread> first = new AtomicReference<>();
+    AtomicReference<Thread> third = new AtomicReference<>();
+    try {
+      executor.execute(
+          () -> {
+            first.set(Thread.currentThread());
+            started.countDown();
+            awaitQuietly(release);
+          });
+      started.await(1, TimeUnit.SECONDS);
+      executor.execute(() -> {});
+      assertEquals(1, executor.getQueueDepth());
+
+      executor.execute(() -> third.set(Thread.currentThread()));
+
+      assertNotSame(Thread.currentThread(), first.get());
+      assertSame(Thread.currentThread(), third.get());
+      assertEquals(1, executor.getCallerRunsCount());
+    } finally {
+      release.countDown();
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testCallbackAfterShutdownIsCounted() {
+    CallbackExecutor executor = new CallbackExecutor(1, 1);
+    executor.shutdown();
+    AtomicReference<Thread> thread = new AtomicReference<>();
+
+    executor.execute(() -> thread.set(Thread.currentThread()));
+
+    assertNull(thread.get());
+    assertEquals(1, executor.getRejectedCount());
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package org.sunbird.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.datastax.driver.core.Host;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.exceptions.ReadTimeoutException;
+import java.util.Arrays;
+import java.util.Map;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class CassandraMetricsTest {
+
+  @Test
+  public void testRecordLatency() {
+    CassandraMetrics metrics = new CassandraMetrics();
+    metrics.recordLatency("getRecordById", "sunbird", "user", 10);
+    metrics.recordLatency("getRecordById", "sunbird", "user", 20);
+
+    Map<String, Object> latency = (Map<String, Object>) metrics.getSnapshot().get("latency");
+    Map<String, Object> values = (Map<String, Object>) latency.get("getRecordById.sunbird.user");
+    assertEquals(2L, values.get("count"));
+    assertEquals(20.0, (double) values.get("max"), 0.001);
+  }
+
+  @Test
+  public void testErrorTrackerCountsByExceptionClass() {
+    CassandraMetrics metrics = new CassandraMetrics();
+    metrics.getErrorTracker().update(null, null, null, 100);
+    metrics.getErrorTracker().update(null, null, Mockito.mock(ReadTimeoutException.class), 100);
+
+    Map<String, Object> errors = (Map<String, Object>) metrics.getSnapshot().get("errors");
+    assertEquals(1, errors.size());
+    assertTrue(errors.keySet().iterator().next().startsWith("ReadTimeoutException"));
+  }
+
+  @Test
+  public void testSessionGauges() {
+    Host host = Mockito.mock(Host.class);
+    Session.State state = Mockito.mock(Session.State.class);
+    Mockito.when(state.getConnectedHosts()).thenReturn(Arrays.asList(host));
+    Mockito.when(state.getOpenConnections(host)).thenReturn(2);
+    Mockito.when(state.getInFlightQueries(host)).thenReturn(5);
+    Session session = Mockito.mock(Session.class);
+    Mockito.when(session.getState()).thenReturn(state);
+
+    CassandraMetrics metrics = new CassandraMetrics();
+    metrics.registerSession("sunbird", session);
+
+    Map<String, Object> sessions = (Map<String, Object>) metrics.getSnapshot().get("sessions");
+    assertEquals(1, sessions.get("sunbird.connectedHosts"));
+    assertEquals(2, sessions.get("sunbird.openConnections"));
+    assertEquals(5, sessions.get("sunbird.inFlightQueries"));
+  }
+}
@@ -0,0 +1,84 @@
+package org.sunbird.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.sunbird.response.Response;
+
+public class CassandraUtilTest {
+
+  @Test
+  public void testCreateResponseMapsColumnsToProperties() {
+    ResultSet resultSet = mockResultSet(mockRow("1", "user1"), mockRow("2", "user2"));
+
+    Response response = CassandraUtil.createResponse(resultSet);
+
+    List<Map<String, Object>> rows = (List<Map<String, Object>>) response.get(Constants.RESPONSE);
+    assertEquals(2, rows.size());
+    assertEquals("1", rows.get(0).get("id"));
+    assertEquals("user1", rows.get(0).get("userId"));
+    assertEquals("user2", rows.get(1).get("userId"));
+  }
+
+  @Test
+  public void testCreateRowIteratorDecodesLazily() {
+    Row first = mockRow("1", "user1");
+    Row second = mockRow("2", "user2");
+    ResultSet resultSet = mockResultSet(first, second);
+
+    Iterator<Map<String, Object>> iterator = CassandraUtil.createRowIterator(resultSet);
+
+    Mockito.verify(first, Mockito.never()).getObject(Mockito.anyInt());
+    assertEquals("1", iterator.next().get("id"));
+    assertEquals("user2", iterator.next().get("userId"));
+    assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  public void testCreatePageResponseReadsOnlyCurrentPage() {
+    ResultSet resultSet = mockResultSet(mockRow("1", "user1"), mockRow("2", "user2"));
+    Mockito.when(resultSet.getAvailableWithoutFetching()).thenReturn(1);
+    Row first = resultSet.iterator().next();
+    Mockito.when(resultSet.one()).thenReturn(first);
+    ExecutionInfo executionInfo = Mockito.mock(ExecutionInfo.class);
+    Mockito.when(resultSet.getExecutionInfo()).thenReturn(executionInfo);
+
+    Response response = CassandraUtil.createPageResponse(resultSet);
+
+    List<Map<String, Object>> rows = (List<Map<String, Object>>) response.get(Constants.RESPONSE);
+    assertEquals(1, rows.size());
+    assertEquals("user1", rows.get(0).get("userId"));
+    assertFalse(response.getResult().containsKey(Constants.PAGING_STATE));
+    Mockito.verify(resultSet, Mockito.never()).fetchMoreResults();
+  }
+
+  private static ResultSet mockResultSet(Row... rows) {
+    ColumnDefinitions definitions = Mockito.mock(ColumnDefinitions.class);
+    Mockito.when(definitions.size()).thenReturn(2);
+    Mockito.when(definitions.getName(0)).thenReturn("id");
+    Mockito.when(definitions.getName(1)).thenReturn("userid");
+    ResultSet resultSet = Mockito.mock(ResultSet.class);
+    Mockito.when(resultSet.getColumnDefinitions()).thenReturn(definitions);
+    Mockito.when(resultSet.getAvailableWithoutFetching()).thenReturn(rows.length);
+    Mockito.when(resultSet.isFullyFetched()).thenReturn(true);
+    Mockito.when(resultSet.iterator()).thenReturn(Arrays.asList(rows).iterator());
+    return resultSet;
+  }
+
+  private static Row mockRow(String id, String userId) {
+    Row row = Mockito.mock(Row.class);
+    Mockito.when(row.getObject(0)).thenReturn(id);
+    Mockito.when(row.getObject(1)).thenReturn(userId);
+    return row;
+  }
+}
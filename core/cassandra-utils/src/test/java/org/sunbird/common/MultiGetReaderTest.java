@@ -0,0 +1,142 @@
+package org.sunbird.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.ColumnMetadata;
+import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.Metadata;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.TableMetadata;
+import com.datastax.driver.core.exceptions.NoHostAvailableException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+public class MultiGetReaderTest {
+
+  @Test
+  public void testIsInQueryPreferredUnderThreshold() {
+    MultiGetReader reader = new MultiGetReader(2, 4);
+
+    assertTrue(reader.isInQueryPreferred(2));
+    assertFalse(reader.isInQueryPreferred(3));
+  }
+
+  @Test
+  public void testReadReturnsResultsInRequestOrder() {
+    Map<Object, ResultSet> resultsByKey = new HashMap<>();
+    Map<Statement, TestResultSetFuture> futures = new HashMap<>();
+    Session session = Mockito.mock(Session.class);
+    PreparedStatement prepared = Mockito.mock(PreparedStatement.class);
+    Mockito.when(session.prepare(Mockito.anyString())).thenReturn(prepared);
+    Mockito.when(prepared.bind(Mockito.any()))
+        .thenAnswer(
+            invocation -> {
+              Object key = invocation.getArguments()[0];
+              BoundStatement bound = Mockito.mock(BoundStatement.class);
+              resultsByKey.put(key, Mockito.mock(ResultSet.class));
+              futures.put(bound, TestResultSetFuture.succeeded(resultsByKey.get(key)));
+              return bound;
+            });
+    Mockito.when(session.executeAsync(Mockito.any(Statement.class)))
+        .thenAnswer(invocation -> futures.get(invocation.getArguments()[0]));
+    MultiGetReader reader = new MultiGetReader(1, 2);
+
+    List<ResultSet> results =
+        reader.read(
+            session,
+            "sunbird",
+            "multi_get_test",
+            "id",
+            Arrays.asList("id", "name"),
+            Arrays.asList("3", "1", "2", "1"));
+
+    assertEquals(3, results.size());
+    assertSame(resultsByKey.get("3"), results.get(0));
+    assertSame(resultsByKey.get("1"), results.get(1));
+    assertSame(resultsByKey.get("2"), results.get(2));
+    Mockito.verify(session, Mockito.times(3)).executeAsync(Mockito.any(Statement.class));
+  }
+
+  @Test
+  public void testReadOfAllColumnsNamesTheColumnsOfTheTable() {
+    List<ColumnMetadata> columns = new ArrayList<>();
+    columns.add(column("id"));
+    columns.add(column("name"));
+    TableMetadata table = Mockito.mock(TableMetadata.class);
+    Mockito.when(table.getColumns()).thenAnswer(invocation -> new ArrayList<>(columns));
+    KeyspaceMetadata keyspace = Mockito.mock(KeyspaceMetadata.class);
+    Mockito.when(keyspace.getTable(Mockito.anyString())).thenReturn(table);
+    Metadata metadata = Mockito.mock(Metadata.class);
+    Mockito.when(metadata.getKeyspace(Mockito.anyString())).thenReturn(keyspace);
+    Cluster cluster = Mockito.mock(Cluster.class);
+    Mockito.when(cluster.getMetadata()).thenReturn(metadata);
+    Session session = Mockito.mock(Session.class);
+    Mockito.when(session.getCluster()).thenReturn(cluster);
+    PreparedStatement prepared = Mockito.mock(PreparedStatement.class);
+    Mockito.when(session.prepare(Mockito.anyString())).thenReturn(prepared);
+    BoundStatement bound = Mockito.mock(BoundStatement.class);
+    Mockito.when(prepared.bind(Mockito.any())).thenReturn(bound);
+    Mockito.when(session.executeAsync(Mockito.any(Statement.class)))
+        .thenAnswer(invocation -> TestResultSetFuture.succeeded(Mockito.mock(ResultSet.class)));
+    MultiGetReader reader = new MultiGetReader(1, 2);
+
+    reader.read(session, "sunbird", "multi_get_columns_test", "id", null, Arrays.asList("1"));
+    reader.read(session, "sunbird", "multi_get_columns_test", "id", null, Arrays.asList("2"));
+    columns.add(column("email"));
+    reader.read(session, "sunbird", "multi_get_columns_test", "id", null, Arrays.asList("3"));
+
+    ArgumentCaptor<String> queries = ArgumentCaptor.forClass(String.class);
+    Mockito.verify(session, Mockito.times(2)).prepare(queries.capture());
+    assertEquals(
+        "SELECT id,name FROM sunbird.multi_get_columns_test WHERE id=?;",
+        queries.getAllValues().get(0));
+    assertEquals(
+        "SELECT id,name,email FROM sunbird.multi_get_columns_test WHERE id=?;",
+        queries.getAllValues().get(1));
+  }
+
+  @Test
+  public void testReadWithThousandsOfSynchronouslyFailedFuturesDoesNotRecurse() {
+    Session session = Mockito.mock(Session.class);
+    PreparedStatement prepared = Mockito.mock(PreparedStatement.class);
+    Mockito.when(session.prepare(Mockito.anyString())).thenReturn(prepared);
+    Mockito.when(prepared.bind(Mockito.any())).thenReturn(Mockito.mock(BoundStatement.class));
+    NoHostAvailableException failure = new NoHostAvailableException(new HashMap<>());
+    Mockito.when(session.executeAsync(Mockito.any(Statement.class)))
+        .thenReturn(TestResultSetFuture.failed(failure));
+    List<String> keys = new ArrayList<>();
+    for (int i = 0; i < 20000; i++) {
+      keys.add(String.valueOf(i));
+    }
+    MultiGetReader reader = new MultiGetReader(1, 4);
+
+    try {
+      reader.read(session, "sunbird", "multi_get_failure_test", "id", null, keys);
+      fail("Expected NoHostAvailableException");
+    } catch (NoHostAvailableException e) {
+      assertSame(failure, e);
+    }
+    Mockito.verify(session, Mockito.times(keys.size())).executeAsync(Mockito.any(Statement.class));
+  }
+
+  private static ColumnMetadata column(String name) {
+    ColumnMetadata column = Mockito.mock(ColumnMetadata.class);
+    Mockito.when(column.getName()).thenReturn(name);
+    return column;
+  }
+}
@@ -0,0 +1,129 @@
+package org.sunbird.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.ColumnMetadata;
+import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.Metadata;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.TableMetadata;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.powermock.reflect.Whitebox;
+
+public class PartitionedBatchWriterTest {
+
+  @Test
+  public void testWriteGroupsRecordsOfSamePartitionInUnloggedBatch() {
+    List<Statement> executed = new ArrayList<>();
+    Session session = mockSession(executed, null);
+    PartitionedBatchWriter writer = new PartitionedBatchWriter(4, 100);
+
+    Map<Integer, Throwable> failures =
+        writer.write(
+            session,
+            "sunbird",
+            "bulk_upload_process_task",
+            statements(3),
+            Arrays.asList(record("p1"), record("p2"), record("p1")));
+
+    assertTrue(failures.isEmpty());
+    assertEquals(2, executed.size());
+    BatchStatement batch = (BatchStatement) executed.get(0);
+    assertEquals(2, batch.size());
+    assertEquals(BatchStatement.Type.UNLOGGED, Whitebox.getInternalState(batch, "batchType"));
+    assertTrue(executed.get(1) instanceof SimpleStatement);
+  }
+
+  @Test
+  public void testWriteReportsFailuresPerRecord() {
+    List<Statement> executed = new ArrayList<>();
+    Session session = mockSession(executed, "INSERT 1");
+    PartitionedBatchWriter writer = new PartitionedBatchWriter(1, 1);
+
+    Map<Integer, Throwable> failures =
+        writer.write(
+            session,
+            "sunbird",
+            "bulk_upload_process_task",
+            statements(3),
+            Arrays.asList(record("p1"), record("p2"), record("p1")));
+
+    assertEquals(3, executed.size());
+    assertEquals(Collections.singleton(1), failures.keySet());
+  }
+
+  @Test
+  public void testWriteWithSynchronouslyFailedFuturesDoesNotRecurse() {
+    int count = 20000;
+    Session session = mockSession(new ArrayList<>(), null);
+    Mockito.when(session.executeAsync(Mockito.any(Statement.class)))
+        .thenReturn(TestResultSetFuture.failed(new IllegalStateException("session closed")));
+    List<Map<String, Object>> records = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      records.add(record("p" + i));
+    }
+    PartitionedBatchWriter writer = new PartitionedBatchWriter(2, 100);
+
+    Map<Integer, Throwable> failures =
+        writer.write(session, "sunbird", "bulk_upload_process_task", statements(count), records);
+
+    assertEquals(count, failures.size());
+  }
+
+  private static Session mockSession(List<Statement> executed, String failingQuery) {
+    ColumnMetadata column = Mockito.mock(ColumnMetadata.class);
+    Mockito.when(column.getName()).thenReturn("processid");
+    TableMetadata table = Mockito.mock(TableMetadata.class);
+    Mockito.when(table.getPartitionKey()).thenReturn(Collections.singletonList(column));
+    KeyspaceMetadata keyspace = Mockito.mock(KeyspaceMetadata.class);
+    Mockito.when(keyspace.getTable(Mockito.anyString())).thenReturn(table);
+    Metadata metadata = Mockito.mock(Metadata.class);
+    Mockito.when(metadata.getKeyspace(Mockito.anyString())).thenReturn(keyspace);
+    Cluster cluster = Mockito.mock(Cluster.class);
+    Mockito.when(cluster.getMetadata()).thenReturn(metadata);
+    Session session = Mockito.mock(Session.class);
+    Mockito.when(session.getCluster()).thenReturn(cluster);
+    Mockito.when(session.executeAsync(Mockito.any(Statement.class)))
+        .thenAnswer(
+            invocation -> {
+              Statement statement = (Statement) invocation.getArguments()[0];
+              executed.add(statement);
+              TestResultSetFuture future = new TestResultSetFuture();
+              if (statement instanceof SimpleStatement
+                  && ((SimpleStatement) statement).getQueryString().equals(failingQuery)) {
+                future.setException(new IllegalStateException("write failed"));
+              } else {
+                future.set(Mockito.mock(ResultSet.class));
+              }
+              return future;
+            });
+    return session;
+  }
+
+  private static List<Statement> statements(int count) {
+    List<Statement> statements = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      statements.add(new SimpleStatement("INSERT " + i));
+    }
+    return statements;
+  }
+
+  private static Map<String, Object> record(String processId) {
+    Map<String, Object> record = new HashMap<>();
+    record.put("processId", processId);
+    return record;
+  }
+}
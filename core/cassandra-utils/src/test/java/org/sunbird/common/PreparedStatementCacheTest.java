@@ -0,0 +1,77 @@
+package org.sunbird.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.sunbird.common.PreparedStatementCache.StatementType;
+
+public class PreparedStatementCacheTest {
+
+  @Test
+  public void testGetPreparesOnlyOnceForSameShape() {
+    PreparedStatementCache cache = new PreparedStatementCache(10);
+    Session session = Mockito.mock(Session.class);
+    PreparedStatement statement = Mockito.mock(PreparedStatement.class);
+    Mockito.when(session.prepare(Mockito.anyString())).thenReturn(statement);
+
+    List<String> columns = Arrays.asList("addrLine1", "id");
+    PreparedStatement first =
+        cache.get(session, StatementType.INSERT, "sunbird", "address", columns, () -> "query");
+    PreparedStatement second =
+        cache.get(
+            session,
+            StatementType.INSERT,
+            "sunbird",
+            "address",
+            Arrays.asList("addrLine1", "id"),
+            () -> "query");
+
+    assertSame(first, second);
+    Mockito.verify(session, Mockito.times(1)).prepare(Mockito.anyString());
+    assertEquals(1, cache.getStats().hitCount());
+    assertEquals(1, cache.getStats().missCount());
+  }
+
+  @Test
+  public void testGetPreparesSeparatelyForDifferentType() {
+    PreparedStatementCache cache = new PreparedStatementCache(10);
+    Session session = Mockito.mock(Session.class);
+    Mockito.when(session.prepare(Mockito.anyString()))
+        .thenReturn(Mockito.mock(PreparedStatement.class));
+
+    List<String> columns = Arrays.asList("addrLine1", "id");
+    cache.get(session, StatementType.INSERT, "sunbird", "address", columns, () -> "insert");
+    cache.get(session, StatementType.UPDATE, "sunbird", "address", columns, () -> "update");
+
+    Mockito.verify(session, Mockito.times(2)).prepare(Mockito.anyString());
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  public void testOrderedColumnsIgnoreMapOrder() {
+    Map<String, Object> first = new LinkedHashMap<>();
+    first.put("id", "1");
+    first.put("addrLine2", "Line 2");
+    first.put("addrLine1", "Line 1");
+    Map<String, Object> second = new HashMap<>();
+    second.put("addrLine1", "Line 1");
+    second.put("id", "1");
+    second.put("addrLine2", "Line 2");
+
+    assertEquals(
+        CassandraUtil.getPreparedStatement("sunbird", "address", first),
+        CassandraUtil.getPreparedStatement("sunbird", "address", second));
+    assertEquals(
+        "UPDATE sunbird.address SET addrLine1 = ? ,addrLine2 = ? where id = ? ",
+        CassandraUtil.getUpdateQueryStatement("sunbird", "address", first));
+  }
+}
@@ -0,0 +1,42 @@
+package org.sunbird.common;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.google.common.util.concurrent.AbstractFuture;
+import java.util.concurrent.TimeUnit;
+
+/** ResultSetFuture completed by the test, to stand in for the driver's futures. */
+public class TestResultSetFuture extends AbstractFuture<ResultSet> implements ResultSetFuture {
+
+  public static TestResultSetFuture succeeded(ResultSet resultSet) {
+    TestResultSetFuture future = new TestResultSetFuture();
+    future.set(resultSet);
+    return future;
+  }
+
+  public static TestResultSetFuture failed(Throwable throwable) {
+    TestResultSetFuture future = new TestResultSetFuture();
+    future.setException(throwable);
+    return future;
+  }
+
+  @Override
+  public boolean set(ResultSet value) {
+    return super.set(value);
+  }
+
+  @Override
+  public boolean setException(Throwable throwable) {
+    return super.setException(throwable);
+  }
+
+  @Override
+  public ResultSet getUninterruptibly() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public ResultSet getUninterruptibly(long timeout, TimeUnit unit) {
+    throw new UnsupportedOperationException();
+  }
+}
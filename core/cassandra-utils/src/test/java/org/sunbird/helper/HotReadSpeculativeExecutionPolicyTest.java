@@ -0,0 +1,31 @@
+package org.sunbird.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+import org.junit.Test;
+
+public class HotReadSpeculativeExecutionPolicyTest {
+
+  @Test
+  public void testNewPlanForHotRead() {
+    HotReadSpeculativeExecutionPolicy policy = new HotReadSpeculativeExecutionPolicy(50, 1);
+    Statement statement =
+        HotReadSpeculativeExecutionPolicy.markHotRead(
+            new SimpleStatement("SELECT * FROM sunbird.user WHERE id = ?", "1"));
+
+    assertTrue(statement.isIdempotent());
+    assertEquals(50, policy.newPlan("sunbird", statement).nextExecution(null));
+  }
+
+  @Test
+  public void testNewPlanForOtherStatement() {
+    HotReadSpeculativeExecutionPolicy policy = new HotReadSpeculativeExecutionPolicy(50, 1);
+    Statement statement = new SimpleStatement("SELECT * FROM sunbird.user");
+    statement.setIdempotent(true);
+
+    assertEquals(-1, policy.newPlan("sunbird", statement).nextExecution(null));
+  }
+}
@@ -1,9 +1,15 @@
 package org.sunbird.common;
 
 import akka.util.Timeout;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
 import java.math.BigInteger;
+import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -16,9 +22,13 @@ import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.lucene.search.join.ScoreMode;
+import org.apache.lucene.util.BytesRef;
 import org.elasticsearch.action.search.SearchRequestBuilder;
 import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.client.transport.TransportClient;
+import org.elasticsearch.common.bytes.BytesReference;
+import org.elasticsearch.common.xcontent.XContentHelper;
+import org.elasticsearch.common.xcontent.XContentType;
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.query.ExistsQueryBuilder;
 import org.elasticsearch.index.query.MatchQueryBuilder;
@@ -36,6 +46,8 @@ import org.elasticsearch.search.aggregations.bucket.terms.Terms;
 import org.elasticsearch.search.aggregations.bucket.terms.Terms.Bucket;
 import org.elasticsearch.search.sort.SortOrder;
 import org.sunbird.dto.SearchDTO;
+import org.sunbird.exception.ProjectCommonException;
+import org.sunbird.exception.ResponseCode;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.logging.LoggerUtil;
 import scala.concurrent.Await;
@@ -50,6 +62,7 @@ import scala.concurrent.Future;
  */
 public class ElasticSearchHelper {
   private static final LoggerUtil logger = new LoggerUtil(ElasticSearchHelper.class);
+  private static final ObjectMapper mapper = new ObjectMapper();
   public static final String LTE = "<=";
   public static final String LT = "<";
   public static final String GTE = ">=";
@@ -71,7 +84,10 @@ public class ElasticSearchHelper {
    *
    * @param future
    * @return Object which future inherits
+   * @deprecated blocks the calling thread and returns null on failure; compose the future instead,
+   *     or use {@link #awaitResult(Future)} where a blocking wait cannot be avoided.
    */
+  @Deprecated
   @SuppressWarnings("unchecked")
   public static Object getResponseFromFuture(Future future) {
     try {
@@ -83,6 +99,27 @@ public class ElasticSearchHelper {
     return null;
   }
 
+  /**
+   * Wait for the future and return its result. A failure or timeout is not hidden but rethrown, as
+   * a ProjectCommonException, so this is only meant for callers which cannot compose the future.
+   *
+   * @param future Future returned by ElasticSearchService
+   * @return Result of the future
+   */
+  public static <T> T awaitResult(Future<T> future) {
+    try {
+      return Await.result(future, timeout.duration());
+    } catch (ProjectCommonException e) {
+      throw e;
+    } catch (Exception e) {
+      logger.error("awaitResult: error occurred ", e);
+      throw new ProjectCommonException(
+          ResponseCode.serverError,
+          ResponseCode.serverError.getErrorMessage(),
+          ResponseCode.SERVER_ERROR.getResponseCode());
+    }
+  }
+
   /**
    * This method adds aggregations to the incoming SearchRequestBuilder object
    *
@@ -601,6 +638,16 @@ public class ElasticSearchHelper {
     search = getBasicBuiders(search, searchQueryMap);
     search = setOffset(search, searchQueryMap);
     search = getLimits(search, searchQueryMap);
+    Object cursor = searchQueryMap.get(JsonKey.CURSOR);
+    if (cursor instanceof String) {
+      search.setCursor((String) cursor);
+    } else if (null != cursor) {
+      throw new ProjectCommonException(
+          ResponseCode.dataTypeError,
+          MessageFormat.format(
+              ResponseCode.dataTypeError.getErrorMessage(), JsonKey.CURSOR, "String"),
+          ResponseCode.CLIENT_ERROR.getResponseCode());
+    }
     if (searchQueryMap.containsKey(JsonKey.GROUP_QUERY)) {
       search
           .getGroupQuery()
@@ -719,14 +766,25 @@ public class ElasticSearchHelper {
       SearchHits hits = response.getHits();
       count = hits.getTotalHits();
 
+      // the requested fields were already applied by elastic search (source includes)
       for (SearchHit hit : hits) {
-        esSource.add(hit.getSourceAsMap());
+        esSource.add(getSourceMap(hit));
       }
 
       // fetch aggregations aggregations
       finalFacetList = getFinalFacetList(response, searchDTO, finalFacetList);
     }
     responseMap.put(JsonKey.CONTENT, esSource);
+    // a full page may be followed by more hits, hand out the position of its last hit
+    if (null != response
+        && null != searchDTO.getCursor()
+        && null != searchDTO.getLimit()
+        && searchDTO.getLimit() > 0
+        && response.getHits().getHits().length == searchDTO.getLimit()) {
+      SearchHit[] pageHits = response.getHits().getHits();
+      responseMap.put(
+          JsonKey.NEXT_CURSOR, encodeCursor(pageHits[pageHits.length - 1].getSortValues()));
+    }
     if (!(finalFacetList.isEmpty())) {
       responseMap.put(JsonKey.FACETS, finalFacetList);
     }
@@ -734,6 +792,48 @@ public class ElasticSearchHelper {
     return responseMap;
   }
 
+  /**
+   * Decode the source of a hit straight from its bytes with a streaming parser. Unlike {@link
+   * SearchHit#getSourceAsMap()} the map is not cached on the hit, so it does not outlive the
+   * response map.
+   *
+   * @param hit Search hit
+   * @return Source of the hit, null if the hit has no source
+   */
+  public static Map<String, Object> getSourceMap(SearchHit hit) {
+    return getSourceMap(hit.getSourceRef());
+  }
+
+  /**
+   * Decode a document source with a streaming parser. Every call returns a new map, so a source
+   * shared by several callers can be decoded by each.
+   *
+   * @param source JSON source
+   * @return Source map, null if there is no source
+   */
+  public static Map<String, Object> getSourceMap(BytesReference source) {
+    if (null == source) {
+      return null;
+    }
+    BytesRef bytes = source.toBytesRef();
+    try (JsonParser parser =
+        mapper.getFactory().createParser(bytes.bytes, bytes.offset, bytes.length)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return XContentHelper.convertToMap(source, false, XContentType.JSON).v2();
+      }
+      Map<String, Object> sourceMap = new HashMap<>();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String name = parser.getCurrentName();
+        parser.nextToken();
+        sourceMap.put(name, mapper.readValue(parser, Object.class));
+      }
+      return sourceMap;
+    } catch (IOException e) {
+      logger.error("ElasticSearchHelper:getSourceMap: error parsing source " + e.getMessage(), e);
+      return XContentHelper.convertToMap(source, false, XContentType.JSON).v2();
+    }
+  }
+
   private static List getFinalFacetList(
       SearchResponse response, SearchDTO searchDTO, List finalFacetList) {
     if (null != searchDTO.getFacets() && !searchDTO.getFacets().isEmpty()) {
@@ -770,4 +870,46 @@ public class ElasticSearchHelper {
     }
     return finalFacetList;
   }
+
+  /**
+   * Encode the sort values of the last hit of a page as an opaque continuation token.
+   *
+   * @param sortValues Sort values of the last hit
+   * @return URL safe base64 token
+   */
+  public static String encodeCursor(Object[] sortValues) {
+    try {
+      return Base64.getUrlEncoder()
+          .withoutPadding()
+          .encodeToString(mapper.writeValueAsBytes(sortValues));
+    } catch (IOException e) {
+      logger.error("ElasticSearchHelper:encodeCursor: " + e.getMessage(), e);
+      throw new ProjectCommonException(
+          ResponseCode.serverError,
+          ResponseCode.serverError.getErrorMessage(),
+          ResponseCode.SERVER_ERROR.getResponseCode());
+    }
+  }
+
+  /**
+   * Decode a continuation token created by {@link #encodeCursor(Object[])}.
+   *
+   * @param cursor Continuation token
+   * @return Sort values to search after
+   */
+  public static Object[] decodeCursor(String cursor) {
+    try {
+      List<Object> sortValues = mapper.readValue(Base64.getUrlDecoder().decode(cursor), List.class);
+      if (CollectionUtils.isNotEmpty(sortValues)) {
+        return sortValues.toArray();
+      }
+    } catch (IllegalArgumentException | IOException e) {
+      logger.info("ElasticSearchHelper:decodeCursor: invalid cursor " + cursor);
+    }
+    throw new ProjectCommonException(
+        ResponseCode.invalidParameterValue,
+        MessageFormat.format(
+            ResponseCode.invalidParameterValue.getErrorMessage(), cursor, JsonKey.CURSOR),
+        ResponseCode.CLIENT_ERROR.getResponseCode());
+  }
 }
@@ -0,0 +1,98 @@
+package org.sunbird.common;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Client metrics of the elasticsearch layer: counters (e.g. failures per node as reported by the
+ * rest client's failure listener) and gauges (e.g. connection pool state), both kept per group and
+ * name.
+ */
+public final class ElasticSearchMetrics {
+
+  public static final String NODE_FAILURES = "nodeFailures";
+  public static final String CONNECTIONS = "connections";
+  public static final String BULK = "bulk";
+  public static final String GET = "get";
+  public static final String CIRCUIT_BREAKER = "circuitBreaker";
+  public static final String STALE_CACHE = "staleCache";
+
+  private static final ElasticSearchMetrics instance = new ElasticSearchMetrics();
+
+  private final Map<String, Map<String, LongAdder>> counters = new ConcurrentHashMap<>();
+  private final Map<String, Map<String, Supplier<?>>> gauges = new ConcurrentHashMap<>();
+
+  ElasticSearchMetrics() {}
+
+  public static ElasticSearchMetrics getInstance() {
+    return instance;
+  }
+
+  /**
+   * Increment a counter.
+   *
+   * @param group Metric group (e.g. nodeFailures)
+   * @param name Metric name within the group (e.g. host:port of the failed node)
+   */
+  public void increment(String group, String name) {
+    increment(group, name, 1);
+  }
+
+  /**
+   * Add to a counter.
+   *
+   * @param group Metric group
+   * @param name Metric name within the group
+   * @param delta Amount to add
+   */
+  public void increment(String group, String name, long delta) {
+    counters
+        .computeIfAbsent(group, key -> new ConcurrentHashMap<>())
+        .computeIfAbsent(name, key -> new LongAdder())
+        .add(delta);
+  }
+
+  /**
+   * @param group Metric group
+   * @param name Metric name within the group
+   * @return Current value of the counter, 0 if it was never incremented
+   */
+  public long getCount(String group, String name) {
+    Map<String, LongAdder> values = counters.get(group);
+    LongAdder counter = null == values ? null : values.get(name);
+    return null == counter ? 0 : counter.sum();
+  }
+
+  /**
+   * Register a gauge, replacing any gauge registered earlier with the same group and name.
+   *
+   * @param group Metric group (e.g. connections)
+   * @param name Metric name within the group
+   * @param gauge Supplier of the current value
+   */
+  public void registerGauge(String group, String name, Supplier<?> gauge) {
+    gauges.computeIfAbsent(group, key -> new ConcurrentHashMap<>()).put(name, gauge);
+  }
+
+  /**
+   * Snapshot of all metrics.
+   *
+   * @return Map of metric group to (metric name, value) map
+   */
+  public Map<String, Object> getSnapshot() {
+    Map<String, Map<String, Object>> metrics = new HashMap<>();
+    for (Map.Entry<String, Map<String, LongAdder>> group : counters.entrySet()) {
+      Map<String, Object> values = metrics.computeIfAbsent(group.getKey(), key -> new TreeMap<>());
+      group.getValue().forEach((name, counter) -> values.put(name, counter.sum()));
+    }
+    for (Map.Entry<String, Map<String, Supplier<?>>> group : gauges.entrySet()) {
+      Map<String, Object> values = metrics.computeIfAbsent(group.getKey(), key -> new TreeMap<>());
+      group.getValue().forEach((name, gauge) -> values.put(name, gauge.get()));
+    }
+    return new HashMap<>(metrics);
+  }
+}
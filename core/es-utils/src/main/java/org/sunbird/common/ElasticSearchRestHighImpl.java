@@ -1,49 +1,66 @@
 package org.sunbird.common;
 
+import akka.dispatch.ExecutionContexts;
 import akka.dispatch.Futures;
+import akka.dispatch.Mapper;
+import akka.dispatch.OnComplete;
+import akka.dispatch.Recover;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
-import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.elasticsearch.action.ActionListener;
 import org.elasticsearch.action.DocWriteResponse;
-import org.elasticsearch.action.admin.indices.get.GetIndexRequest;
+import org.elasticsearch.action.admin.cluster.health.ClusterHealthRequest;
+import org.elasticsearch.action.admin.cluster.health.ClusterHealthResponse;
 import org.elasticsearch.action.bulk.BulkItemResponse;
 import org.elasticsearch.action.bulk.BulkRequest;
 import org.elasticsearch.action.bulk.BulkResponse;
 import org.elasticsearch.action.delete.DeleteRequest;
 import org.elasticsearch.action.delete.DeleteResponse;
-import org.elasticsearch.action.get.GetRequest;
 import org.elasticsearch.action.get.GetResponse;
 import org.elasticsearch.action.index.IndexRequest;
 import org.elasticsearch.action.index.IndexResponse;
+import org.elasticsearch.action.search.ClearScrollRequest;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.action.search.SearchScrollRequest;
 import org.elasticsearch.action.update.UpdateRequest;
 import org.elasticsearch.action.update.UpdateResponse;
+import org.elasticsearch.cluster.health.ClusterHealthStatus;
+import org.elasticsearch.common.unit.TimeValue;
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
 import org.elasticsearch.index.query.SimpleQueryStringBuilder;
-import org.elasticsearch.index.query.TermQueryBuilder;
-import org.elasticsearch.search.aggregations.AggregationBuilders;
-import org.elasticsearch.search.aggregations.bucket.histogram.DateHistogramInterval;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
 import org.elasticsearch.search.sort.FieldSortBuilder;
-import org.elasticsearch.search.sort.SortMode;
+import org.elasticsearch.search.sort.SortBuilders;
+import org.elasticsearch.search.sort.SortOrder;
 import org.sunbird.common.inf.ElasticSearchService;
+import org.sunbird.common.inf.ScanIterator;
 import org.sunbird.dto.SearchDTO;
+import org.sunbird.exception.ProjectCommonException;
 import org.sunbird.exception.ResponseCode;
+import org.sunbird.helper.BulkIndexer;
 import org.sunbird.helper.ConnectionManager;
+import org.sunbird.helper.ElasticSearchCircuitBreaker;
+import org.sunbird.helper.ElasticSearchCircuitBreaker.Operation;
+import org.sunbird.helper.ElasticSearchClientConfig;
+import org.sunbird.helper.ElasticSearchProjection;
+import org.sunbird.helper.GetCoalescer;
+import org.sunbird.helper.StaleResponseCache;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.logging.LoggerUtil;
 import org.sunbird.request.RequestContext;
 import org.sunbird.util.ProjectUtil;
-import org.sunbird.util.PropertiesCache;
+import scala.concurrent.ExecutionContext;
 import scala.concurrent.Future;
 import scala.concurrent.Promise;
 
@@ -54,7 +71,30 @@ import scala.concurrent.Promise;
  */
 public class ElasticSearchRestHighImpl implements ElasticSearchService {
   private static final String ERROR = "ERROR";
+  /**
+   * Tiebreaker of cursor pagination: the id field every sunbird document carries. It must be a
+   * keyword field (with doc values, as in the user and org indices); sorting on _id would load its
+   * fielddata on the heap.
+   */
+  private static final String CURSOR_TIEBREAKER_FIELD = JsonKey.ID;
+  /** A scroll context only has to outlive the processing of one batch. */
+  private static final TimeValue SCROLL_KEEP_ALIVE = TimeValue.timeValueMinutes(1);
+
   private static final LoggerUtil logger = new LoggerUtil(ElasticSearchRestHighImpl.class);
+  /** Runs cheap transformations of results on the thread completing the future. */
+  private static final ExecutionContext SAME_THREAD = ExecutionContexts.fromExecutor(Runnable::run);
+  /** One search query in this many is logged at INFO, besides those of debug enabled requests. */
+  private static final int QUERY_LOG_SAMPLE_RATE =
+      Math.max(1, ElasticSearchClientConfig.getInt("sunbird_es_query_log_sample_rate", 100));
+
+  private static final AtomicLong searchCount = new AtomicLong();
+
+  /** Last responses of reads, served while elastic search is unavailable when enabled. */
+  private static final StaleResponseCache<List<Object>, SearchResponse> staleSearches =
+      StaleResponseCache.create("search");
+
+  private static final StaleResponseCache<String, GetResponse> staleGets =
+      StaleResponseCache.create("get");
 
   /**
    * This method will put a new data entry inside Elastic search. identifier value becomes _id
@@ -89,12 +129,15 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
     }
     data.put("identifier", identifier);
 
-    IndexRequest indexRequest = new IndexRequest(index, _DOC, identifier).source(data);
+    IndexRequest indexRequest =
+        new IndexRequest(index, _DOC, identifier)
+            .source(ElasticSearchProjection.forIndex(index).project(data));
 
     ActionListener<IndexResponse> listener =
         new ActionListener<IndexResponse>() {
           @Override
           public void onResponse(IndexResponse indexResponse) {
+            GetCoalescer.getInstance().forget(index, identifier);
             logger.info(
                 context,
                 "ElasticSearchRestHighImpl:save: Success for index : "
@@ -135,7 +178,12 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
           }
         };
 
-    ConnectionManager.getRestClient().indexAsync(indexRequest, listener);
+    ElasticSearchCircuitBreaker.forOperation(Operation.WRITE)
+        .execute(
+            listener,
+            l ->
+                ConnectionManager.getRestClient()
+                    .indexAsync(indexRequest, ConnectionManager.getRequestOptions(), l));
 
     return promise.future();
   }
@@ -163,12 +211,15 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
     data.put("identifier", identifier);
 
     if (!StringUtils.isBlank(index) && !StringUtils.isBlank(identifier) && data != null) {
-      UpdateRequest updateRequest = new UpdateRequest(index, _DOC, identifier).doc(data);
+      UpdateRequest updateRequest =
+          new UpdateRequest(index, _DOC, identifier)
+              .doc(ElasticSearchProjection.forIndex(index).project(data));
 
       ActionListener<UpdateResponse> listener =
           new ActionListener<UpdateResponse>() {
             @Override
             public void onResponse(UpdateResponse updateResponse) {
+              GetCoalescer.getInstance().forget(index, identifier);
               promise.success(true);
               logger.info(
                   context,
@@ -196,7 +247,12 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
               promise.failure(e);
             }
           };
-      ConnectionManager.getRestClient().updateAsync(updateRequest, listener);
+      ElasticSearchCircuitBreaker.forOperation(Operation.WRITE)
+          .execute(
+              listener,
+              l ->
+                  ConnectionManager.getRestClient()
+                      .updateAsync(updateRequest, ConnectionManager.getRequestOptions(), l));
 
     } else {
       logger.info(context, "ElasticSearchRestHighImpl:update: Requested data is invalid.");
@@ -216,6 +272,17 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
   @Override
   public Future<Map<String, Object>> getDataByIdentifier(
       String index, String identifier, RequestContext context) {
+    return getDataByIdentifier(index, identifier, false, context);
+  }
+
+  @Override
+  public Future<Map<String, Object>> getDataByIdentifierForUpdate(
+      String index, String identifier, RequestContext context) {
+    return getDataByIdentifier(index, identifier, true, context);
+  }
+
+  private Future<Map<String, Object>> getDataByIdentifier(
+      String index, String identifier, boolean forUpdate, RequestContext context) {
     long startTime = System.currentTimeMillis();
     Promise<Map<String, Object>> promise = Futures.promise();
     if (StringUtils.isNotEmpty(identifier) && StringUtils.isNotEmpty(index)) {
@@ -227,42 +294,56 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
               + " for Index "
               + index);
 
-      GetRequest getRequest = new GetRequest(index, _DOC, identifier);
-
-      ActionListener<GetResponse> listener =
-          new ActionListener<GetResponse>() {
-            @Override
-            public void onResponse(GetResponse getResponse) {
-              if (getResponse.isExists()) {
-                Map<String, Object> sourceAsMap = getResponse.getSourceAsMap();
-                if (MapUtils.isNotEmpty(sourceAsMap)) {
-                  promise.success(sourceAsMap);
-                  logger.debug(
-                      context,
-                      "ElasticSearchRestHighImpl:getDataByIdentifier: method end =="
-                          + " for Index "
-                          + index
-                          + " ,Total time elapsed = "
-                          + calculateEndTime(startTime));
-                } else {
-                  promise.success(new HashMap<>());
+      (forUpdate
+              ? GetCoalescer.getInstance().getUncoalesced(index, identifier)
+              : GetCoalescer.getInstance().get(index, identifier))
+          .onComplete(
+              new OnComplete<GetResponse>() {
+                @Override
+                public void onComplete(Throwable e, GetResponse getResponse) {
+                  String staleKey = index + "/" + identifier;
+                  GetResponse response = getResponse;
+                  if (null != e) {
+                    response =
+                        !forUpdate && ElasticSearchCircuitBreaker.isUnavailable(e)
+                            ? staleGets.get(staleKey)
+                            : null;
+                    if (null == response) {
+                      logger.error(
+                          context,
+                          "ElasticSearchRestHighImpl:getDataByIdentifier: method Failed with error == ",
+                          e);
+                      promise.failure(e);
+                      return;
+                    }
+                    logger.info(
+                        context,
+                        "ElasticSearchRestHighImpl:getDataByIdentifier: serving last response"
+                            + " as elastic search is unavailable: "
+                            + e.getMessage());
+                  } else {
+                    staleGets.put(staleKey, response);
+                  }
+                  // the response may be shared with concurrent gets, decode a map of our own
+                  Map<String, Object> sourceAsMap =
+                      response.isExists()
+                          ? ElasticSearchHelper.getSourceMap(response.getSourceInternal())
+                          : null;
+                  if (MapUtils.isNotEmpty(sourceAsMap)) {
+                    promise.success(sourceAsMap);
+                    logger.debug(
+                        context,
+                        "ElasticSearchRestHighImpl:getDataByIdentifier: method end =="
+                            + " for Index "
+                            + index
+                            + " ,Total time elapsed = "
+                            + calculateEndTime(startTime));
+                  } else {
+                    promise.success(new HashMap<>());
+                  }
                 }
-              } else {
-                promise.success(new HashMap<>());
-              }
-            }
-
-            @Override
-            public void onFailure(Exception e) {
-              logger.error(
-                  context,
-                  "ElasticSearchRestHighImpl:getDataByIdentifier: method Failed with error == ",
-                  e);
-              promise.failure(e);
-            }
-          };
-
-      ConnectionManager.getRestClient().getAsync(getRequest, listener);
+              },
+              SAME_THREAD);
     } else {
       logger.info(
           context,
@@ -296,6 +377,7 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
           new ActionListener<DeleteResponse>() {
             @Override
             public void onResponse(DeleteResponse deleteResponse) {
+              GetCoalescer.getInstance().forget(index, identifier);
               if (deleteResponse.getResult() == DocWriteResponse.Result.NOT_FOUND) {
                 logger.info(
                     context,
@@ -317,7 +399,12 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
             }
           };
 
-      ConnectionManager.getRestClient().deleteAsync(delRequest, listener);
+      ElasticSearchCircuitBreaker.forOperation(Operation.WRITE)
+          .execute(
+              listener,
+              l ->
+                  ConnectionManager.getRestClient()
+                      .deleteAsync(delRequest, ConnectionManager.getRequestOptions(), l));
     } else {
       logger.info(
           context,
@@ -357,66 +444,20 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
     SearchRequest searchRequest = new SearchRequest(index);
     searchRequest.types(_DOC);
 
-    // check mode and set constraints
-    Map<String, Float> constraintsMap = ElasticSearchHelper.getConstraints(searchDTO);
-
-    BoolQueryBuilder query = new BoolQueryBuilder();
-
-    // add channel field as mandatory
-    String channel = PropertiesCache.getInstance().getProperty(JsonKey.SUNBIRD_ES_CHANNEL);
-    if (!(StringUtils.isBlank(channel) || JsonKey.SUNBIRD_ES_CHANNEL.equals(channel))) {
-      query.must(
-          ElasticSearchHelper.createMatchQuery(
-              JsonKey.CHANNEL, channel, constraintsMap.get(JsonKey.CHANNEL)));
-    }
-
-    // apply simple query string
-    if (!StringUtils.isBlank(searchDTO.getQuery())) {
-      SimpleQueryStringBuilder sqsb = QueryBuilders.simpleQueryStringQuery(searchDTO.getQuery());
-      query.must(sqsb);
-      if (CollectionUtils.isNotEmpty(searchDTO.getQueryFields())) {
-        Map<String, Float> searchFields =
-            searchDTO
-                .getQueryFields()
-                .stream()
-                .collect(Collectors.<String, String, Float>toMap(s -> s, v -> 1.0f));
-        query.must(sqsb.fields(searchFields));
+    ElasticSearchProjection.forIndex(index).applyDefaults(searchDTO);
+    SearchQueryTemplate template = SearchQueryTemplate.of(searchDTO);
+    BoolQueryBuilder query = buildQuery(searchDTO, template);
+    // apply the sorting, fields filter and facets
+    template.apply(searchSourceBuilder);
+
+    // setting the offset, or the position to continue from in cursor mode
+    if (null != searchDTO.getCursor()) {
+      try {
+        applyCursor(searchSourceBuilder, searchDTO);
+      } catch (ProjectCommonException e) {
+        return Futures.failed(e);
       }
-    }
-    // apply the sorting
-    if (searchDTO.getSortBy() != null && searchDTO.getSortBy().size() > 0) {
-      for (Map.Entry<String, Object> entry : searchDTO.getSortBy().entrySet()) {
-        if (!entry.getKey().contains(".")) {
-          searchSourceBuilder.sort(
-              entry.getKey() + ElasticSearchHelper.RAW_APPEND,
-              ElasticSearchHelper.getSortOrder((String) entry.getValue()));
-        } else {
-          Map<String, Object> map = (Map<String, Object>) entry.getValue();
-          Map<String, String> dataMap = (Map) map.get(JsonKey.TERM);
-          for (Map.Entry<String, String> dateMapEntry : dataMap.entrySet()) {
-            FieldSortBuilder mySort =
-                new FieldSortBuilder(entry.getKey() + ElasticSearchHelper.RAW_APPEND)
-                    .setNestedFilter(
-                        new TermQueryBuilder(dateMapEntry.getKey(), dateMapEntry.getValue()))
-                    .sortMode(SortMode.MIN)
-                    .order(ElasticSearchHelper.getSortOrder((String) map.get(JsonKey.ORDER)));
-            searchSourceBuilder.sort(mySort);
-          }
-        }
-      }
-    }
-
-    // apply the fields filter
-    searchSourceBuilder.fetchSource(
-        searchDTO.getFields() != null
-            ? searchDTO.getFields().stream().toArray(String[]::new)
-            : null,
-        searchDTO.getExcludedFields() != null
-            ? searchDTO.getExcludedFields().stream().toArray(String[]::new)
-            : null);
-
-    // setting the offset
-    if (searchDTO.getOffset() != null) {
+    } else if (searchDTO.getOffset() != null) {
       searchSourceBuilder.from(searchDTO.getOffset());
     }
 
@@ -424,35 +465,29 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
     if (searchDTO.getLimit() != null) {
       searchSourceBuilder.size(searchDTO.getLimit());
     }
-    // apply additional properties
-    if (searchDTO.getAdditionalProperties() != null
-        && searchDTO.getAdditionalProperties().size() > 0) {
-      for (Map.Entry<String, Object> entry : searchDTO.getAdditionalProperties().entrySet()) {
-        ElasticSearchHelper.addAdditionalProperties(query, entry, constraintsMap);
-      }
-    }
-
     // set final query to search request builder
     searchSourceBuilder.query(query);
     List finalFacetList = new ArrayList();
 
-    if (null != searchDTO.getFacets() && !searchDTO.getFacets().isEmpty()) {
-      searchSourceBuilder = addAggregations(searchSourceBuilder, searchDTO.getFacets());
+    if (isQueryLogged(context)) {
+      logger.info(
+          context,
+          "ElasticSearchRestHighImpl:search: calling search for index "
+              + index
+              + ", with query = "
+              + searchSourceBuilder.toString());
     }
-    logger.info(
-        context,
-        "ElasticSearchRestHighImpl:search: calling search for index "
-            + index
-            + ", with query = "
-            + searchSourceBuilder.toString());
 
     searchRequest.source(searchSourceBuilder);
     Promise<Map<String, Object>> promise = Futures.promise();
+    List<Object> staleKey =
+        staleSearches.isEnabled() ? Arrays.asList(index, searchSourceBuilder) : null;
 
     ActionListener<SearchResponse> listener =
         new ActionListener<SearchResponse>() {
           @Override
           public void onResponse(SearchResponse response) {
+            staleSearches.put(staleKey, response);
             logger.debug(
                 context, "ElasticSearchRestHighImpl:search:onResponse  response1 = " + response);
             if (response.getHits() == null || response.getHits().getTotalHits() == 0) {
@@ -476,6 +511,18 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
 
           @Override
           public void onFailure(Exception e) {
+            SearchResponse stale =
+                ElasticSearchCircuitBreaker.isUnavailable(e) ? staleSearches.get(staleKey) : null;
+            if (null != stale) {
+              logger.info(
+                  context,
+                  "ElasticSearchRestHighImpl:search: serving last response for index "
+                      + index
+                      + " as elastic search is unavailable: "
+                      + e.getMessage());
+              onResponse(stale);
+              return;
+            }
             promise.failure(e);
 
             logger.debug(
@@ -489,10 +536,122 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
           }
         };
 
-    ConnectionManager.getRestClient().searchAsync(searchRequest, listener);
+    ElasticSearchCircuitBreaker.forOperation(Operation.SEARCH)
+        .execute(
+            listener,
+            l ->
+                ConnectionManager.getRestClient()
+                    .searchAsync(searchRequest, ConnectionManager.getRequestOptions(), l));
     return promise.future();
   }
 
+  /**
+   * Build the query of a search: the configured channel, the simple query string and the filters
+   * held in additional properties, with the soft constraints of the requested mode.
+   */
+  private static BoolQueryBuilder buildQuery(SearchDTO searchDTO, SearchQueryTemplate template) {
+    // soft constraints of the requested mode
+    Map<String, Float> constraintsMap = template.getConstraints();
+
+    BoolQueryBuilder query = new BoolQueryBuilder();
+
+    // add channel field as mandatory
+    String channel = SearchQueryTemplate.getChannel();
+    if (null != channel) {
+      query.must(
+          ElasticSearchHelper.createMatchQuery(
+              JsonKey.CHANNEL, channel, constraintsMap.get(JsonKey.CHANNEL)));
+    }
+
+    // apply simple query string
+    if (!StringUtils.isBlank(searchDTO.getQuery())) {
+      SimpleQueryStringBuilder sqsb = QueryBuilders.simpleQueryStringQuery(searchDTO.getQuery());
+      query.must(sqsb);
+      if (null != template.getQueryFields()) {
+        query.must(sqsb.fields(template.getQueryFields()));
+      }
+    }
+    // apply additional properties
+    if (searchDTO.getAdditionalProperties() != null
+        && searchDTO.getAdditionalProperties().size() > 0) {
+      for (Map.Entry<String, Object> entry : searchDTO.getAdditionalProperties().entrySet()) {
+        ElasticSearchHelper.addAdditionalProperties(query, entry, constraintsMap);
+      }
+    }
+
+    return query;
+  }
+
+  /**
+   * Cursor pagination: sort by the requested fields (relevance if none) with the id field as
+   * tiebreaker, so that every hit has a unique position, and continue after the position encoded in
+   * the cursor. Unlike from / size the cost of a page does not grow with its depth.
+   */
+  private static void applyCursor(SearchSourceBuilder searchSourceBuilder, SearchDTO searchDTO) {
+    if (MapUtils.isEmpty(searchDTO.getSortBy())) {
+      searchSourceBuilder.sort(SortBuilders.scoreSort());
+    }
+    searchSourceBuilder.sort(SortBuilders.fieldSort(CURSOR_TIEBREAKER_FIELD).order(SortOrder.ASC));
+    if (StringUtils.isNotEmpty(searchDTO.getCursor())) {
+      searchSourceBuilder.searchAfter(ElasticSearchHelper.decodeCursor(searchDTO.getCursor()));
+    }
+  }
+
+  /**
+   * This method will stream every document matching the search through a scroll, sorted by _doc
+   * (index order) which is the cheapest order to scroll in.
+   *
+   * @param searchDTO Search criteria
+   * @param index String index name
+   * @param batchSize Number of documents fetched per request
+   * @param context
+   * @return Iterator over the source of the matching documents
+   */
+  @Override
+  public ScanIterator scan(
+      SearchDTO searchDTO, String index, int batchSize, RequestContext context) {
+    ElasticSearchProjection.forIndex(index).applyDefaults(searchDTO);
+    SearchQueryTemplate template = SearchQueryTemplate.of(searchDTO);
+    SearchSourceBuilder searchSourceBuilder =
+        new SearchSourceBuilder()
+            .query(buildQuery(searchDTO, template))
+            .size(batchSize)
+            .sort(SortBuilders.fieldSort(FieldSortBuilder.DOC_FIELD_NAME));
+    searchSourceBuilder.fetchSource(template.getIncludes(), template.getExcludes());
+    SearchRequest searchRequest = new SearchRequest(index).types(_DOC).source(searchSourceBuilder);
+    logger.info(
+        context,
+        "ElasticSearchRestHighImpl:scan: scanning index "
+            + index
+            + " in batches of "
+            + batchSize
+            + ", with query = "
+            + searchSourceBuilder.toString());
+    return new ElasticSearchScanIterator(
+        new ElasticSearchScanIterator.ScrollClient() {
+          @Override
+          public SearchResponse search(SearchRequest request) throws IOException {
+            return ConnectionManager.getRestClient()
+                .search(request, ConnectionManager.getRequestOptions());
+          }
+
+          @Override
+          public SearchResponse scroll(SearchScrollRequest request) throws IOException {
+            return ConnectionManager.getRestClient()
+                .scroll(request, ConnectionManager.getRequestOptions());
+          }
+
+          @Override
+          public void clearScroll(ClearScrollRequest request) throws IOException {
+            ConnectionManager.getRestClient()
+                .clearScroll(request, ConnectionManager.getRequestOptions());
+          }
+        },
+        searchRequest,
+        SCROLL_KEEP_ALIVE,
+        context);
+  }
+
   /**
    * This method will do the health check of elastic search.
    *
@@ -500,19 +659,14 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
    */
   @Override
   public Future<Boolean> healthCheck() {
-
-    GetIndexRequest indexRequest =
-        new GetIndexRequest().indices(ProjectUtil.EsType.user.getTypeName());
+    // Cluster health answered by the coordinating node; no index or document is touched.
+    ClusterHealthRequest healthRequest = new ClusterHealthRequest().local(true);
     Promise<Boolean> promise = Futures.promise();
-    ActionListener<Boolean> listener =
-        new ActionListener<Boolean>() {
+    ActionListener<ClusterHealthResponse> listener =
+        new ActionListener<ClusterHealthResponse>() {
           @Override
-          public void onResponse(Boolean getResponse) {
-            if (getResponse) {
-              promise.success(getResponse);
-            } else {
-              promise.success(false);
-            }
+          public void onResponse(ClusterHealthResponse healthResponse) {
+            promise.success(ClusterHealthStatus.RED != healthResponse.getStatus());
           }
 
           @Override
@@ -521,7 +675,9 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
             logger.error("ElasticSearchRestHighImpl:healthCheck: error " + e.getMessage(), e);
           }
         };
-    ConnectionManager.getRestClient().indices().existsAsync(indexRequest, listener);
+    ConnectionManager.getRestClient()
+        .cluster()
+        .healthAsync(healthRequest, ConnectionManager.getRequestOptions(), listener);
 
     return promise.future();
   }
@@ -548,12 +704,15 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
     Promise<Boolean> promise = Futures.promise();
     for (Map<String, Object> data : dataList) {
       data.put("identifier", data.get(JsonKey.ID));
-      request.add(new IndexRequest(index, _DOC, (String) data.get(JsonKey.ID)).source(data));
+      request.add(
+          new IndexRequest(index, _DOC, (String) data.get(JsonKey.ID))
+              .source(ElasticSearchProjection.forIndex(index).project(data)));
     }
     ActionListener<BulkResponse> listener =
         new ActionListener<BulkResponse>() {
           @Override
           public void onResponse(BulkResponse bulkResponse) {
+            bulkResponse.forEach(item -> GetCoalescer.getInstance().forget(index, item.getId()));
             Iterator<BulkItemResponse> responseItr = bulkResponse.iterator();
             if (responseItr != null) {
               promise.success(true);
@@ -580,7 +739,12 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
             promise.success(false);
           }
         };
-    ConnectionManager.getRestClient().bulkAsync(request, listener);
+    ElasticSearchCircuitBreaker.forOperation(Operation.WRITE)
+        .execute(
+            listener,
+            l ->
+                ConnectionManager.getRestClient()
+                    .bulkAsync(request, ConnectionManager.getRequestOptions(), l));
 
     logger.debug(
         context,
@@ -592,37 +756,122 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
     return promise.future();
   }
 
-  private static long calculateEndTime(long startTime) {
-    return System.currentTimeMillis() - startTime;
+  /**
+   * This method will queue a document to be indexed by the bulk indexer. identifier value becomes
+   * _id inside ES.
+   *
+   * @param index String ES index name
+   * @param identifier ES column identifier as an String
+   * @param data Map<String,Object>
+   * @param context
+   * @return Future<String> which contains identifier of the indexed document
+   */
+  @Override
+  public Future<String> bulkSave(
+      String index, String identifier, Map<String, Object> data, RequestContext context) {
+    if (StringUtils.isBlank(identifier) || StringUtils.isBlank(index)) {
+      logger.info(
+          context,
+          "ElasticSearchRestHighImpl:bulkSave: Identifier or Index value is null or empty, identifier : "
+              + identifier
+              + ",index: "
+              + index
+              + ",not able to save data.");
+      return Futures.successful(ERROR);
+    }
+    data.put("identifier", identifier);
+    IndexRequest indexRequest =
+        new IndexRequest(index, _DOC, identifier)
+            .source(ElasticSearchProjection.forIndex(index).project(data));
+    return BulkIndexer.getInstance()
+        .add(indexRequest)
+        .map(
+            new Mapper<BulkItemResponse, String>() {
+              @Override
+              public String apply(BulkItemResponse itemResponse) {
+                GetCoalescer.getInstance().forget(index, identifier);
+                return itemResponse.getId();
+              }
+            },
+            SAME_THREAD)
+        .recoverWith(
+            new Recover<Future<String>>() {
+              @Override
+              public Future<String> recover(Throwable e) throws Throwable {
+                if (!BulkIndexer.isRejected(e)) {
+                  throw e;
+                }
+                logger.info(
+                    context,
+                    "ElasticSearchRestHighImpl:bulkSave: bulk indexer rejected the document, saving"
+                        + " it directly: "
+                        + identifier);
+                return save(index, identifier, data, context);
+              }
+            },
+            SAME_THREAD);
   }
 
-  private static SearchSourceBuilder addAggregations(
-      SearchSourceBuilder searchSourceBuilder, List<Map<String, String>> facets) {
-    long startTime = System.currentTimeMillis();
-    logger.debug(
-        null, "ElasticSearchRestHighImpl:addAggregations: method started at ==" + startTime);
-    Map<String, String> map = facets.get(0);
-    for (Map.Entry<String, String> entry : map.entrySet()) {
-
-      String key = entry.getKey();
-      String value = entry.getValue();
-      if (JsonKey.DATE_HISTOGRAM.equalsIgnoreCase(value)) {
-        searchSourceBuilder.aggregation(
-            AggregationBuilders.dateHistogram(key)
-                .field(key + ElasticSearchHelper.RAW_APPEND)
-                .dateHistogramInterval(DateHistogramInterval.days(1)));
-
-      } else if (null == value) {
-        searchSourceBuilder.aggregation(
-            AggregationBuilders.terms(key).field(key + ElasticSearchHelper.RAW_APPEND));
-      }
+  /**
+   * This method will queue a partial update of a document to be sent by the bulk indexer.
+   *
+   * @param index String ES index name
+   * @param identifier ES column identifier as an String
+   * @param data Map<String,Object>
+   * @param context
+   * @return true or false
+   */
+  @Override
+  public Future<Boolean> bulkUpdate(
+      String index, String identifier, Map<String, Object> data, RequestContext context) {
+    if (StringUtils.isBlank(index) || StringUtils.isBlank(identifier) || data == null) {
+      logger.info(context, "ElasticSearchRestHighImpl:bulkUpdate: Requested data is invalid.");
+      return Futures.failed(ProjectUtil.createClientException(ResponseCode.invalidRequestData));
     }
-    logger.debug(
-        null,
-        "ElasticSearchRestHighImpl:addAggregations: method end =="
-            + " ,Total time elapsed = "
-            + calculateEndTime(startTime));
-    return searchSourceBuilder;
+    data.put("identifier", identifier);
+    UpdateRequest updateRequest =
+        new UpdateRequest(index, _DOC, identifier)
+            .doc(ElasticSearchProjection.forIndex(index).project(data));
+    return BulkIndexer.getInstance()
+        .add(updateRequest)
+        .map(
+            new Mapper<BulkItemResponse, Boolean>() {
+              @Override
+              public Boolean apply(BulkItemResponse itemResponse) {
+                GetCoalescer.getInstance().forget(index, identifier);
+                return true;
+              }
+            },
+            SAME_THREAD)
+        .recoverWith(
+            new Recover<Future<Boolean>>() {
+              @Override
+              public Future<Boolean> recover(Throwable e) throws Throwable {
+                if (!BulkIndexer.isRejected(e)) {
+                  throw e;
+                }
+                logger.info(
+                    context,
+                    "ElasticSearchRestHighImpl:bulkUpdate: bulk indexer rejected the document,"
+                        + " updating it directly: "
+                        + identifier);
+                return update(index, identifier, data, context);
+              }
+            },
+            SAME_THREAD);
+  }
+
+  /**
+   * Rendering a query as JSON costs about as much as building it, so only sampled queries, and
+   * those of requests with debug enabled, are rendered and logged.
+   */
+  private static boolean isQueryLogged(RequestContext context) {
+    return (null != context && "true".equalsIgnoreCase(context.getDebugEnabled()))
+        || searchCount.getAndIncrement() % QUERY_LOG_SAMPLE_RATE == 0;
+  }
+
+  private static long calculateEndTime(long startTime) {
+    return System.currentTimeMillis() - startTime;
   }
 
   /**
@@ -651,7 +900,9 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
         && data != null
         && data.size() > 0) {
       data.put("identifier", identifier);
-      IndexRequest indexRequest = new IndexRequest(index, _DOC, identifier).source(data);
+      IndexRequest indexRequest =
+          new IndexRequest(index, _DOC, identifier)
+              .source(ElasticSearchProjection.forIndex(index).project(data));
 
       UpdateRequest updateRequest = new UpdateRequest(index, _DOC, identifier).upsert(indexRequest);
       updateRequest.doc(indexRequest);
@@ -659,6 +910,7 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
           new ActionListener<UpdateResponse>() {
             @Override
             public void onResponse(UpdateResponse updateResponse) {
+              GetCoalescer.getInstance().forget(index, identifier);
               promise.success(true);
               logger.info(
                   context,
@@ -686,7 +938,12 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
               promise.failure(e);
             }
           };
-      ConnectionManager.getRestClient().updateAsync(updateRequest, listener);
+      ElasticSearchCircuitBreaker.forOperation(Operation.WRITE)
+          .execute(
+              listener,
+              l ->
+                  ConnectionManager.getRestClient()
+                      .updateAsync(updateRequest, ConnectionManager.getRequestOptions(), l));
       return promise.future();
     } else {
       logger.info(context, "ElasticSearchRestHighImpl:upsert: Requested data is invalid.");
@@ -717,23 +974,20 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
     searchDTO.setFields(fields);
 
     Future<Map<String, Object>> resultF = search(searchDTO, index, null);
-    Map<String, Object> result =
-        (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(resultF);
-    List<Map<String, Object>> esContent = (List<Map<String, Object>>) result.get(JsonKey.CONTENT);
-    Promise<Map<String, Map<String, Object>>> promise = Futures.promise();
-    promise.success(
-        esContent
-            .stream()
-            .collect(
-                Collectors.toMap(
-                    obj -> {
-                      return (String) obj.get("id");
-                    },
-                    val -> val)));
-    logger.debug(
-        context,
-        "ElasticSearchRestHighImpl:getEsResultByListOfIds: method ended for index " + index);
-
-    return promise.future();
+    return resultF.map(
+        new Mapper<Map<String, Object>, Map<String, Map<String, Object>>>() {
+          @Override
+          public Map<String, Map<String, Object>> apply(Map<String, Object> result) {
+            List<Map<String, Object>> esContent =
+                (List<Map<String, Object>>) result.get(JsonKey.CONTENT);
+            logger.debug(
+                context,
+                "ElasticSearchRestHighImpl:getEsResultByListOfIds: method ended for index "
+                    + index);
+            return esContent.stream()
+                .collect(Collectors.toMap(obj -> (String) obj.get(JsonKey.ID), val -> val));
+          }
+        },
+        SAME_THREAD);
   }
 }
@@ -0,0 +1,134 @@
+package org.sunbird.common;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.elasticsearch.action.search.ClearScrollRequest;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.action.search.SearchScrollRequest;
+import org.elasticsearch.common.unit.TimeValue;
+import org.elasticsearch.search.SearchHit;
+import org.sunbird.common.inf.ScanIterator;
+import org.sunbird.exception.ProjectCommonException;
+import org.sunbird.exception.ResponseCode;
+import org.sunbird.logging.LoggerUtil;
+import org.sunbird.request.RequestContext;
+
+/**
+ * Scroll based {@link ScanIterator}. The first batch is fetched by the initial search, the
+ * following ones by scrolling; requests are made on the calling thread when the current batch is
+ * exhausted.
+ */
+public class ElasticSearchScanIterator implements ScanIterator {
+  private static final LoggerUtil logger = new LoggerUtil(ElasticSearchScanIterator.class);
+
+  /** Calls made by the iterator, implemented with the rest client outside of tests. */
+  interface ScrollClient {
+    SearchResponse search(SearchRequest request) throws IOException;
+
+    SearchResponse scroll(SearchScrollRequest request) throws IOException;
+
+    void clearScroll(ClearScrollRequest request) throws IOException;
+  }
+
+  private final ScrollClient client;
+  private final SearchRequest searchRequest;
+  private final TimeValue keepAlive;
+  private final RequestContext context;
+  private Iterator<SearchHit> batch = Collections.emptyIterator();
+  private String scrollId;
+  private long totalHits = -1;
+  private boolean exhausted;
+  private boolean closed;
+
+  ElasticSearchScanIterator(
+      ScrollClient client,
+      SearchRequest searchRequest,
+      TimeValue keepAlive,
+      RequestContext context) {
+    this.client = client;
+    this.searchRequest = searchRequest.scroll(keepAlive);
+    this.keepAlive = keepAlive;
+    this.context = context;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (batch.hasNext()) {
+      return true;
+    }
+    if (exhausted || closed) {
+      return false;
+    }
+    fetchNextBatch();
+    return batch.hasNext();
+  }
+
+  @Override
+  public Map<String, Object> next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return ElasticSearchHelper.getSourceMap(batch.next());
+  }
+
+  @Override
+  public long getTotalHits() {
+    return totalHits;
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    batch = Collections.emptyIterator();
+    clearScroll();
+  }
+
+  private void clearScroll() {
+    if (null == scrollId) {
+      return;
+    }
+    ClearScrollRequest clearScrollRequest = new ClearScrollRequest();
+    clearScrollRequest.addScrollId(scrollId);
+    scrollId = null;
+    try {
+      client.clearScroll(clearScrollRequest);
+    } catch (IOException | RuntimeException e) {
+      logger.error(
+          context,
+          "ElasticSearchScanIterator:clearScroll: error clearing scroll " + e.getMessage(),
+          e);
+    }
+  }
+
+  private void fetchNextBatch() {
+    SearchResponse response;
+    try {
+      if (null == scrollId) {
+        response = client.search(searchRequest);
+        totalHits = response.getHits().getTotalHits();
+      } else {
+        response = client.scroll(new SearchScrollRequest(scrollId).scroll(keepAlive));
+      }
+    } catch (IOException | RuntimeException e) {
+      logger.error(context, "ElasticSearchScanIterator:fetchNextBatch: error " + e.getMessage(), e);
+      close();
+      throw new ProjectCommonException(
+          ResponseCode.serverError,
+          ResponseCode.serverError.getErrorMessage(),
+          ResponseCode.SERVER_ERROR.getResponseCode());
+    }
+    scrollId = response.getScrollId();
+    SearchHit[] hits = response.getHits().getHits();
+    batch = Arrays.asList(hits).iterator();
+    // a short batch is the last one, the scroll can be released before it is read
+    if (hits.length < searchRequest.source().size()) {
+      exhausted = true;
+      clearScroll();
+    }
+  }
+}
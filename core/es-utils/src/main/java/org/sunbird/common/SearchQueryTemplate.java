@@ -0,0 +1,186 @@
+package org.sunbird.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.collections.MapUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.elasticsearch.index.query.TermQueryBuilder;
+import org.elasticsearch.search.aggregations.AggregationBuilder;
+import org.elasticsearch.search.aggregations.AggregationBuilders;
+import org.elasticsearch.search.aggregations.bucket.histogram.DateHistogramInterval;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.elasticsearch.search.sort.FieldSortBuilder;
+import org.elasticsearch.search.sort.SortBuilder;
+import org.elasticsearch.search.sort.SortMode;
+import org.sunbird.dto.SearchDTO;
+import org.sunbird.keys.JsonKey;
+import org.sunbird.util.PropertiesCache;
+
+/**
+ * The parts of a search request which only depend on the shape of the {@link SearchDTO} (sort,
+ * fields, query fields, facets and soft constraints), built once per shape and shared by every
+ * search of that shape. Filter values are request specific and are still turned into queries per
+ * request.
+ *
+ * <p>The fragments are never modified once built, so they can be added to any number of {@link
+ * SearchSourceBuilder}s concurrently.
+ */
+final class SearchQueryTemplate {
+
+  /** Beyond this many shapes, templates are built per request and no longer cached. */
+  static final int MAX_CACHED_TEMPLATES = 1000;
+
+  private static final Map<List<Object>, SearchQueryTemplate> templates = new ConcurrentHashMap<>();
+
+  /** Configured channel, or null if searches are not restricted to a channel. */
+  private static final String CHANNEL = readChannel();
+
+  private final List<SortBuilder<?>> sorts;
+  private final String[] includes;
+  private final String[] excludes;
+  private final Map<String, Float> queryFields;
+  private final List<AggregationBuilder> aggregations;
+  private final Map<String, Float> constraints;
+
+  private SearchQueryTemplate(SearchDTO searchDTO) {
+    sorts = Collections.unmodifiableList(buildSorts(searchDTO.getSortBy()));
+    includes = searchDTO.getFields() != null ? searchDTO.getFields().toArray(new String[0]) : null;
+    excludes =
+        searchDTO.getExcludedFields() != null
+            ? searchDTO.getExcludedFields().toArray(new String[0])
+            : null;
+    queryFields =
+        CollectionUtils.isNotEmpty(searchDTO.getQueryFields())
+            ? Collections.unmodifiableMap(
+                searchDTO.getQueryFields().stream()
+                    .collect(
+                        Collectors.<String, String, Float>toMap(s -> s, v -> 1.0f, (a, b) -> a)))
+            : null;
+    aggregations = Collections.unmodifiableList(buildAggregations(searchDTO.getFacets()));
+    constraints = Collections.unmodifiableMap(ElasticSearchHelper.getConstraints(searchDTO));
+  }
+
+  /**
+   * @param searchDTO Search criteria
+   * @return Template for the shape of the search, from the cache when the shape was seen before
+   */
+  static SearchQueryTemplate of(SearchDTO searchDTO) {
+    List<Object> key = shapeOf(searchDTO);
+    SearchQueryTemplate template = templates.get(key);
+    if (null == template) {
+      template = new SearchQueryTemplate(searchDTO);
+      if (templates.size() < MAX_CACHED_TEMPLATES) {
+        templates.putIfAbsent(key, template);
+      }
+    }
+    return template;
+  }
+
+  static String getChannel() {
+    return CHANNEL;
+  }
+
+  /** Add the sort, source filtering and aggregations to the source builder. */
+  void apply(SearchSourceBuilder searchSourceBuilder) {
+    sorts.forEach(searchSourceBuilder::sort);
+    searchSourceBuilder.fetchSource(includes, excludes);
+    aggregations.forEach(searchSourceBuilder::aggregation);
+  }
+
+  String[] getIncludes() {
+    return includes;
+  }
+
+  String[] getExcludes() {
+    return excludes;
+  }
+
+  /** @return Fields of the simple query string, each with boost 1, or null to use the defaults */
+  Map<String, Float> getQueryFields() {
+    return queryFields;
+  }
+
+  Map<String, Float> getConstraints() {
+    return constraints;
+  }
+
+  private static List<Object> shapeOf(SearchDTO searchDTO) {
+    return Arrays.asList(
+        copy(searchDTO.getSortBy()),
+        copy(searchDTO.getFields()),
+        copy(searchDTO.getExcludedFields()),
+        copy(searchDTO.getQueryFields()),
+        CollectionUtils.isEmpty(searchDTO.getFacets()) ? null : copy(searchDTO.getFacets().get(0)),
+        copy(searchDTO.getSoftConstraints()));
+  }
+
+  private static <K, V> Map<K, V> copy(Map<K, V> map) {
+    return null == map ? null : new HashMap<>(map);
+  }
+
+  private static <T> List<T> copy(List<T> list) {
+    return null == list ? null : new ArrayList<>(list);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<SortBuilder<?>> buildSorts(Map<String, Object> sortBy) {
+    List<SortBuilder<?>> sorts = new ArrayList<>();
+    if (MapUtils.isEmpty(sortBy)) {
+      return sorts;
+    }
+    for (Map.Entry<String, Object> entry : sortBy.entrySet()) {
+      if (!entry.getKey().contains(".")) {
+        sorts.add(
+            new FieldSortBuilder(entry.getKey() + ElasticSearchHelper.RAW_APPEND)
+                .order(ElasticSearchHelper.getSortOrder((String) entry.getValue())));
+      } else {
+        Map<String, Object> map = (Map<String, Object>) entry.getValue();
+        Map<String, String> dataMap = (Map) map.get(JsonKey.TERM);
+        for (Map.Entry<String, String> dateMapEntry : dataMap.entrySet()) {
+          sorts.add(
+              new FieldSortBuilder(entry.getKey() + ElasticSearchHelper.RAW_APPEND)
+                  .setNestedFilter(
+                      new TermQueryBuilder(dateMapEntry.getKey(), dateMapEntry.getValue()))
+                  .sortMode(SortMode.MIN)
+                  .order(ElasticSearchHelper.getSortOrder((String) map.get(JsonKey.ORDER))));
+        }
+      }
+    }
+    return sorts;
+  }
+
+  private static List<AggregationBuilder> buildAggregations(List<Map<String, String>> facets) {
+    List<AggregationBuilder> aggregations = new ArrayList<>();
+    if (CollectionUtils.isEmpty(facets) || MapUtils.isEmpty(facets.get(0))) {
+      return aggregations;
+    }
+    for (Map.Entry<String, String> entry : facets.get(0).entrySet()) {
+      String key = entry.getKey();
+      String value = entry.getValue();
+      if (JsonKey.DATE_HISTOGRAM.equalsIgnoreCase(value)) {
+        aggregations.add(
+            AggregationBuilders.dateHistogram(key)
+                .field(key + ElasticSearchHelper.RAW_APPEND)
+                .dateHistogramInterval(DateHistogramInterval.days(1)));
+      } else if (null == value) {
+        aggregations.add(
+            AggregationBuilders.terms(key).field(key + ElasticSearchHelper.RAW_APPEND));
+      }
+    }
+    return aggregations;
+  }
+
+  private static String readChannel() {
+    String channel = PropertiesCache.getInstance().getProperty(JsonKey.SUNBIRD_ES_CHANNEL);
+    return StringUtils.isBlank(channel) || JsonKey.SUNBIRD_ES_CHANNEL.equals(channel)
+        ? null
+        : channel;
+  }
+}
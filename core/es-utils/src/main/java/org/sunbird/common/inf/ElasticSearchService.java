@@ -47,6 +47,19 @@ public interface ElasticSearchService {
   public Future<Map<String, Object>> getDataByIdentifier(
       String index, String identifier, RequestContext context);
 
+  /**
+   * Same as {@link #getDataByIdentifier}, but the document is always read with a get of its own and
+   * never served from a previous response. To be used when the data is modified and written back,
+   * so that concurrent updates do not start from the same copy of the document.
+   *
+   * @param index String
+   * @param identifier String
+   * @param context
+   * @return Map<String,Object> or empty map
+   */
+  public Future<Map<String, Object>> getDataByIdentifierForUpdate(
+      String index, String identifier, RequestContext context);
+
   /**
    * This method will remove data from ES based on identifier.
    *
@@ -108,4 +121,49 @@ public interface ElasticSearchService {
    */
   public Future<Map<String, Map<String, Object>>> getEsResultByListOfIds(
       List<String> ids, List<String> fields, String index, RequestContext context);
+
+  /**
+   * This method will queue a document to be indexed by the bulk indexer. The document is sent
+   * together with other queued documents once the batch is full or the flush interval elapses. If
+   * the bulk indexer rejects it, the document is saved directly. Not suited to documents built from
+   * a read of the current one, as the write may be delayed.
+   *
+   * @param index String ES index name
+   * @param identifier ES column identifier as an String
+   * @param data Map<String,Object>
+   * @param context
+   * @return Future<String> which contains identifier of the indexed document
+   */
+  public Future<String> bulkSave(
+      String index, String identifier, Map<String, Object> data, RequestContext context);
+
+  /**
+   * This method will queue a partial update of a document to be sent by the bulk indexer. If the
+   * bulk indexer rejects it, the document is updated directly. Only for updates which do not depend
+   * on the current document: a read-modify-write must use {@link #update}, as the queued write may
+   * be delayed by the flush interval.
+   *
+   * @param index String ES index name
+   * @param identifier ES column identifier as an String
+   * @param data Map<String,Object>
+   * @param context
+   * @return true or false
+   */
+  public Future<Boolean> bulkUpdate(
+      String index, String identifier, Map<String, Object> data, RequestContext context);
+
+  /**
+   * This method will stream every document matching the search, batchSize documents per request,
+   * without the from / size limits of {@link #search}. Offset, limit, sort and facets of the
+   * SearchDTO are ignored. The returned iterator must be closed if it is not read to the end. No
+   * caller uses it yet; it is meant for full exports such as reports.
+   *
+   * @param searchDTO Search criteria
+   * @param index String index name
+   * @param batchSize Number of documents fetched per request
+   * @param context
+   * @return Iterator over the source of the matching documents
+   */
+  public ScanIterator scan(
+      SearchDTO searchDTO, String index, int batchSize, RequestContext context);
 }
@@ -0,0 +1,19 @@
+package org.sunbird.common.inf;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Pull based iterator over the source of every document matching a search, fetched from elastic
+ * search one batch at a time. The server side search context is released once the last document has
+ * been read or the iterator is closed, whichever comes first.
+ */
+public interface ScanIterator extends Iterator<Map<String, Object>>, AutoCloseable {
+
+  /** @return Number of matching documents, known once the first batch has been fetched */
+  long getTotalHits();
+
+  /** Release the server side search context. */
+  @Override
+  void close();
+}
@@ -26,6 +26,7 @@ public class SearchDTO {
 
   private Integer limit = 250;
   private Integer offset = 0;
+  private String cursor;
   private boolean fuzzySearch = false;
   // additional properties will hold , filters, exist , not exist
   private Map<String, Object> additionalProperties = new HashMap<>();
@@ -174,4 +175,16 @@ public class SearchDTO {
   public void setQueryFields(List<String> queryFields) {
     this.queryFields = queryFields;
   }
+
+  /**
+   * @return Continuation token of cursor pagination; empty to request the first page, null when
+   *     paging by offset
+   */
+  public String getCursor() {
+    return cursor;
+  }
+
+  public void setCursor(String cursor) {
+    this.cursor = cursor;
+  }
 }
@@ -0,0 +1,436 @@
+package org.sunbird.helper;
+
+import akka.dispatch.Futures;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import org.elasticsearch.ExceptionsHelper;
+import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.rest.RestStatus;
+import org.sunbird.common.ElasticSearchMetrics;
+import org.sunbird.logging.LoggerUtil;
+import scala.concurrent.Future;
+import scala.concurrent.Promise;
+
+/**
+ * Accumulates index / update requests and sends them as bulk requests once the configured number of
+ * actions or bytes is reached, or when the flush interval elapses, whichever comes first.
+ *
+ * <p>At most the configured number of bulk requests are in flight. A full batch which finds every
+ * slot busy is queued and sent once a request in flight completes; when that queue is full too, the
+ * requests of the batch fail instead of the caller waiting, so that no dispatcher thread is parked.
+ * Callers recognise such failures with {@link #isRejected(Throwable)} and write the document
+ * directly instead. Items rejected with 429 (too many requests), as well as whole requests rejected
+ * with 429, are retried with exponential backoff. Every added request gets its own future which
+ * completes with the item response, or fails with the item's failure.
+ */
+public final class BulkIndexer {
+  private static final LoggerUtil logger = new LoggerUtil(BulkIndexer.class);
+
+  static final String BULK_ACTIONS = "sunbird_es_bulk_actions";
+  static final String BULK_SIZE = "sunbird_es_bulk_size_bytes";
+  static final String FLUSH_INTERVAL = "sunbird_es_bulk_flush_interval_ms";
+  static final String CONCURRENT_REQUESTS = "sunbird_es_bulk_concurrent_requests";
+  static final String MAX_RETRIES = "sunbird_es_bulk_max_retries";
+  static final String RETRY_BACKOFF = "sunbird_es_bulk_retry_backoff_ms";
+  static final String MAX_PENDING_BATCHES = "sunbird_es_bulk_max_pending_batches";
+
+  private static final int DEFAULT_BULK_ACTIONS = 1000;
+  private static final int DEFAULT_BULK_SIZE = 5 * 1024 * 1024;
+  private static final int DEFAULT_FLUSH_INTERVAL = 1000;
+  private static final int DEFAULT_CONCURRENT_REQUESTS = 2;
+  private static final int DEFAULT_MAX_RETRIES = 3;
+  private static final int DEFAULT_RETRY_BACKOFF = 100;
+  private static final int DEFAULT_MAX_PENDING_BATCHES = 10;
+  private static final long CLOSE_TIMEOUT_SECONDS = 30;
+
+  private static BulkIndexer instance;
+
+  private final BiConsumer<BulkRequest, ActionListener<BulkResponse>> consumer;
+  private final int bulkActions;
+  private final long bulkSize;
+  private final int concurrentRequests;
+  private final int maxRetries;
+  private final long retryBackoff;
+  private final int maxPendingBatches;
+  private final Semaphore semaphore;
+  private final ScheduledExecutorService scheduler;
+  private final Object lock = new Object();
+  private Batch batch = new Batch();
+  private final Deque<Batch> pending = new ArrayDeque<>();
+  private boolean closed;
+
+  BulkIndexer(
+      BiConsumer<BulkRequest, ActionListener<BulkResponse>> consumer,
+      int bulkActions,
+      long bulkSize,
+      long flushInterval,
+      int concurrentRequests,
+      int maxRetries,
+      long retryBackoff,
+      int maxPendingBatches) {
+    this.consumer = consumer;
+    this.bulkActions = bulkActions;
+    this.bulkSize = bulkSize;
+    this.concurrentRequests = Math.max(1, concurrentRequests);
+    this.maxRetries = maxRetries;
+    this.retryBackoff = retryBackoff;
+    this.maxPendingBatches = Math.max(0, maxPendingBatches);
+    this.semaphore = new Semaphore(this.concurrentRequests);
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "es-bulk-indexer");
+              thread.setDaemon(true);
+              return thread;
+            });
+    if (flushInterval > 0) {
+      scheduler.scheduleWithFixedDelay(
+          this::flushIfIdle, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Bulk indexer sending its requests through the rest client of {@link ConnectionManager},
+   * configured from elasticsearch.config.properties.
+   *
+   * @return BulkIndexer
+   */
+  public static synchronized BulkIndexer getInstance() {
+    if (null == instance) {
+      int bulkActions = ElasticSearchClientConfig.getInt(BULK_ACTIONS, DEFAULT_BULK_ACTIONS);
+      int bulkSize = ElasticSearchClientConfig.getInt(BULK_SIZE, DEFAULT_BULK_SIZE);
+      int flushInterval = ElasticSearchClientConfig.getInt(FLUSH_INTERVAL, DEFAULT_FLUSH_INTERVAL);
+      int concurrentRequests =
+          ElasticSearchClientConfig.getInt(CONCURRENT_REQUESTS, DEFAULT_CONCURRENT_REQUESTS);
+      int maxRetries = ElasticSearchClientConfig.getInt(MAX_RETRIES, DEFAULT_MAX_RETRIES);
+      int retryBackoff = ElasticSearchClientConfig.getInt(RETRY_BACKOFF, DEFAULT_RETRY_BACKOFF);
+      int maxPendingBatches =
+          ElasticSearchClientConfig.getInt(MAX_PENDING_BATCHES, DEFAULT_MAX_PENDING_BATCHES);
+      instance =
+          new BulkIndexer(
+              (request, listener) ->
+                  ElasticSearchCircuitBreaker.forOperation(
+                          ElasticSearchCircuitBreaker.Operation.WRITE)
+                      .execute(
+                          listener,
+                          l ->
+                              ConnectionManager.getRestClient()
+                                  .bulkAsync(request, ConnectionManager.getRequestOptions(), l)),
+              bulkActions,
+              bulkSize,
+              flushInterval,
+              concurrentRequests,
+              maxRetries,
+              retryBackoff,
+              maxPendingBatches);
+      ElasticSearchMetrics metrics = ElasticSearchMetrics.getInstance();
+      metrics.registerGauge(ElasticSearchMetrics.BULK, "bufferedItems", instance::getBufferedItems);
+      metrics.registerGauge(
+          ElasticSearchMetrics.BULK, "pendingBatches", instance::getPendingBatches);
+      logger.info(
+          "BulkIndexer:getInstance: bulk actions = "
+              + bulkActions
+              + ", bulk size = "
+              + bulkSize
+              + " bytes, flush interval = "
+              + flushInterval
+              + " ms, concurrent requests = "
+              + concurrentRequests
+              + ", max retries = "
+              + maxRetries
+              + ", max pending batches = "
+              + maxPendingBatches);
+    }
+    return instance;
+  }
+
+  /** Flush and close the shared instance, if it was created. */
+  static synchronized void closeInstance() {
+    if (null != instance) {
+      instance.close();
+    }
+  }
+
+  /**
+   * Add a request to the current batch, sending the batch if it is full.
+   *
+   * @param request Index, update or delete request
+   * @return Future completing with the item response once the batch holding the request has been
+   *     executed
+   */
+  public Future<BulkItemResponse> add(DocWriteRequest<?> request) {
+    Promise<BulkItemResponse> promise = Futures.promise();
+    Batch full = null;
+    synchronized (lock) {
+      if (closed) {
+        promise.failure(new RejectedException("BulkIndexer is closed"));
+        return promise.future();
+      }
+      batch.add(new Item(request, promise));
+      if (batch.request.numberOfActions() >= bulkActions
+          || batch.request.estimatedSizeInBytes() >= bulkSize) {
+        full = batch;
+        batch = new Batch();
+      }
+    }
+    if (null != full) {
+      execute(full);
+    }
+    return promise.future();
+  }
+
+  /** Send the current batch, or queue it if every slot is busy. */
+  public void flush() {
+    Batch current;
+    synchronized (lock) {
+      if (batch.items.isEmpty()) {
+        return;
+      }
+      current = batch;
+      batch = new Batch();
+    }
+    execute(current);
+  }
+
+  /**
+   * Flush the buffered requests and wait (up to 30 seconds) for the queued batches to be sent and
+   * the requests in flight to complete. Requests added afterwards fail immediately.
+   */
+  public void close() {
+    synchronized (lock) {
+      closed = true;
+    }
+    flush();
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(CLOSE_TIMEOUT_SECONDS);
+    try {
+      while (true) {
+        if (!semaphore.tryAcquire(
+            concurrentRequests, deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+          logger.info("BulkIndexer:close: bulk requests still in flight after timeout");
+          break;
+        }
+        synchronized (lock) {
+          if (pending.isEmpty()) {
+            break;
+          }
+        }
+        // a batch was queued while its slot was being released: hand the slots back to send it
+        semaphore.release(concurrentRequests);
+        sendPending();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    scheduler.shutdownNow();
+  }
+
+  /**
+   * @param e Failure of an added request
+   * @return true if the request was not sent because the indexer is closed or its queue was full
+   */
+  public static boolean isRejected(Throwable e) {
+    return e instanceof RejectedException;
+  }
+
+  int getBufferedItems() {
+    synchronized (lock) {
+      return batch.items.size();
+    }
+  }
+
+  int getPendingBatches() {
+    synchronized (lock) {
+      return pending.size();
+    }
+  }
+
+  /** Periodic flush; skipped when all slots are busy so that the scheduler never blocks. */
+  private void flushIfIdle() {
+    if (!semaphore.tryAcquire()) {
+      return;
+    }
+    Batch current;
+    synchronized (lock) {
+      current = pending.poll();
+      if (null == current && !batch.items.isEmpty()) {
+        current = batch;
+        batch = new Batch();
+      }
+    }
+    if (null == current) {
+      releaseSlot();
+    } else {
+      send(current, 0);
+    }
+  }
+
+  /** Send the batch if a slot is free, else queue it; never blocks the calling thread. */
+  private void execute(Batch current) {
+    boolean acquired = false;
+    boolean queued = false;
+    synchronized (lock) {
+      // queued batches go first, so that writes of a document are sent in order
+      if (pending.isEmpty() && semaphore.tryAcquire()) {
+        acquired = true;
+      } else if (pending.size() < maxPendingBatches) {
+        pending.add(current);
+        queued = true;
+      }
+    }
+    if (acquired) {
+      send(current, 0);
+      return;
+    }
+    if (!queued) {
+      logger.info(
+          "BulkIndexer:execute: "
+              + current.items.size()
+              + " items rejected as "
+              + maxPendingBatches
+              + " bulk requests are already waiting");
+      ElasticSearchMetrics.getInstance()
+          .increment(ElasticSearchMetrics.BULK, "rejectedItems", current.items.size());
+      current.fail(new RejectedException("BulkIndexer queue is full"));
+      return;
+    }
+    // a request may have completed since the slot was tried
+    sendPending();
+  }
+
+  /** Release the slot of a completed request and hand it to the next queued batch, if any. */
+  private void releaseSlot() {
+    semaphore.release();
+    sendPending();
+  }
+
+  private void sendPending() {
+    while (semaphore.tryAcquire()) {
+      Batch next;
+      synchronized (lock) {
+        next = pending.poll();
+      }
+      if (null == next) {
+        semaphore.release();
+        return;
+      }
+      send(next, 0);
+    }
+  }
+
+  private void send(Batch current, int attempt) {
+    ElasticSearchMetrics metrics = ElasticSearchMetrics.getInstance();
+    metrics.increment(ElasticSearchMetrics.BULK, "requests");
+    metrics.increment(ElasticSearchMetrics.BULK, "items", current.items.size());
+    ActionListener<BulkResponse> listener =
+        new ActionListener<BulkResponse>() {
+          @Override
+          public void onResponse(BulkResponse response) {
+            BulkItemResponse[] itemResponses = response.getItems();
+            Batch retry = new Batch();
+            for (int i = 0; i < current.items.size(); i++) {
+              Item item = current.items.get(i);
+              BulkItemResponse itemResponse = i < itemResponses.length ? itemResponses[i] : null;
+              if (null == itemResponse) {
+                item.promise.failure(new IllegalStateException("No response for bulk item"));
+                metrics.increment(ElasticSearchMetrics.BULK, "failedItems");
+              } else if (!itemResponse.isFailed()) {
+                item.promise.success(itemResponse);
+              } else if (RestStatus.TOO_MANY_REQUESTS == itemResponse.status()
+                  && attempt < maxRetries) {
+                retry.add(item);
+              } else {
+                item.promise.failure(itemResponse.getFailure().getCause());
+                metrics.increment(ElasticSearchMetrics.BULK, "failedItems");
+              }
+            }
+            retryOrRelease(retry, attempt);
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            if (RestStatus.TOO_MANY_REQUESTS == ExceptionsHelper.status(e)
+                && attempt < maxRetries) {
+              retryOrRelease(current, attempt);
+              return;
+            }
+            logger.error(
+                "BulkIndexer:send: bulk request of "
+                    + current.items.size()
+                    + " items failed: "
+                    + e.getMessage(),
+                e);
+            metrics.increment(ElasticSearchMetrics.BULK, "failedItems", current.items.size());
+            current.fail(e);
+            releaseSlot();
+          }
+        };
+    try {
+      consumer.accept(current.request, listener);
+    } catch (Exception e) {
+      listener.onFailure(e);
+    }
+  }
+
+  private void retryOrRelease(Batch retry, int attempt) {
+    if (retry.items.isEmpty()) {
+      releaseSlot();
+      return;
+    }
+    long delay = retryBackoff << attempt;
+    ElasticSearchMetrics.getInstance()
+        .increment(ElasticSearchMetrics.BULK, "retriedItems", retry.items.size());
+    logger.info(
+        "BulkIndexer:retryOrRelease: retrying "
+            + retry.items.size()
+            + " rejected items in "
+            + delay
+            + " ms");
+    try {
+      scheduler.schedule(() -> send(retry, attempt + 1), delay, TimeUnit.MILLISECONDS);
+    } catch (Exception e) {
+      retry.fail(e);
+      releaseSlot();
+    }
+  }
+
+  private static class RejectedException extends IllegalStateException {
+    RejectedException(String message) {
+      super(message);
+    }
+  }
+
+  private static class Item {
+    private final DocWriteRequest<?> request;
+    private final Promise<BulkItemResponse> promise;
+
+    Item(DocWriteRequest<?> request, Promise<BulkItemResponse> promise) {
+      this.request = request;
+      this.promise = promise;
+    }
+  }
+
+  private static class Batch {
+    private final BulkRequest request = new BulkRequest();
+    private final List<Item> items = new ArrayList<>();
+
+    void add(Item item) {
+      request.add(item.request);
+      items.add(item);
+    }
+
+    void fail(Exception e) {
+      items.forEach(item -> item.promise.tryFailure(e));
+    }
+  }
+}
@@ -2,13 +2,15 @@
 package org.sunbird.helper;
 
 import java.io.IOException;
-import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.List;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpHost;
+import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.client.sniff.SniffOnFailureListener;
+import org.elasticsearch.client.sniff.Sniffer;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.logging.LoggerUtil;
 
@@ -21,6 +23,8 @@ public class ConnectionManager {
   private static final LoggerUtil logger = new LoggerUtil(ConnectionManager.class);
 
   private static RestHighLevelClient restClient = null;
+  private static Sniffer sniffer = null;
+  private static RequestOptions requestOptions = RequestOptions.DEFAULT;
   private static List<String> host = new ArrayList<>();
   private static List<Integer> ports = new ArrayList<>();
 
@@ -47,9 +51,9 @@ public class ConnectionManager {
       }
       String[] splitedPort = port.split(",");
       for (String val : splitedPort) {
-        ports.add(Integer.parseInt(val));
+        ports.add(Integer.parseInt(val.trim()));
       }
-      response = createRestClient(cluster, host);
+      response = createRestClient(cluster, host, ports);
       logger.info(
           "ELASTIC SEARCH CONNECTION ESTABLISHED for restClient from EVN with Following Details cluster "
               + cluster
@@ -80,20 +84,38 @@ public class ConnectionManager {
     return restClient;
   }
 
+  /**
+   * Request options (headers and response consumer) to be passed with every request made through
+   * the rest client.
+   *
+   * @return RequestOptions
+   */
+  public static RequestOptions getRequestOptions() {
+    return requestOptions;
+  }
+
   /**
    * This method will create the client instance for elastic search.
    *
    * @param clusterName String
    * @param host List<String>
+   * @param ports List<Integer>
    * @return boolean
-   * @throws UnknownHostException
    */
-  private static boolean createRestClient(String clusterName, List<String> host) {
-    HttpHost[] httpHost = new HttpHost[host.size()];
-    for (int i = 0; i < host.size(); i++) {
-      httpHost[i] = new HttpHost(host.get(i), 9200);
+  private static boolean createRestClient(
+      String clusterName, List<String> host, List<Integer> ports) {
+    HttpHost[] httpHost = ElasticSearchClientConfig.getHttpHosts(host, ports);
+    SniffOnFailureListener sniffOnFailureListener =
+        ElasticSearchClientConfig.isSniffingEnabled() ? new SniffOnFailureListener() : null;
+    restClient =
+        new RestHighLevelClient(
+            ElasticSearchClientConfig.configure(
+                RestClient.builder(httpHost), sniffOnFailureListener));
+    if (null != sniffOnFailureListener) {
+      sniffer = ElasticSearchClientConfig.createSniffer(restClient.getLowLevelClient());
+      sniffOnFailureListener.setSniffer(sniffer);
     }
-    restClient = new RestHighLevelClient(RestClient.builder(httpHost));
+    requestOptions = ElasticSearchClientConfig.createRequestOptions();
     logger.info("ConnectionManager:createRestClient client initialisation done. ");
     return true;
   }
@@ -107,7 +129,11 @@ public class ConnectionManager {
   public static class ResourceCleanUp extends Thread {
     @Override
     public void run() {
+      BulkIndexer.closeInstance();
       try {
+        if (null != sniffer) {
+          sniffer.close();
+        }
         if (null != restClient) {
           restClient.close();
         }
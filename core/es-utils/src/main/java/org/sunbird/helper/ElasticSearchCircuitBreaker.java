@@ -0,0 +1,259 @@
+package org.sunbird.helper;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import org.elasticsearch.ExceptionsHelper;
+import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.rest.RestStatus;
+import org.sunbird.common.ElasticSearchMetrics;
+import org.sunbird.exception.ProjectCommonException;
+import org.sunbird.exception.ResponseCode;
+import org.sunbird.logging.LoggerUtil;
+import org.sunbird.util.ProjectUtil;
+
+/**
+ * Circuit breaker and bulkhead around the calls made to elastic search, one per operation type.
+ *
+ * <p>The bulkhead bounds the calls of an operation type in flight. Once the configured number of
+ * consecutive calls failed because elastic search is unavailable (connection errors, timeouts, 5xx
+ * or 429 responses), the circuit opens and calls fail immediately with {@link
+ * ResponseCode#serviceUnAvailable} instead of queueing up. After the open duration a single trial
+ * call is let through (half open): its success closes the circuit, its failure opens it again.
+ *
+ * <p>The state, calls in flight and rejections of every operation type are published in the
+ * "circuitBreaker" group of {@link ElasticSearchMetrics}.
+ */
+public final class ElasticSearchCircuitBreaker {
+  private static final LoggerUtil logger = new LoggerUtil(ElasticSearchCircuitBreaker.class);
+
+  /** Operation types, each with its own breaker and bulkhead. */
+  public enum Operation {
+    SEARCH,
+    GET,
+    WRITE;
+
+    String getName() {
+      return name().toLowerCase();
+    }
+  }
+
+  public enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  static final String ENABLED = "sunbird_es_circuit_breaker_enabled";
+  static final String MAX_CONCURRENT_REQUESTS = "sunbird_es_%s_max_concurrent_requests";
+  static final String FAILURE_THRESHOLD = "sunbird_es_%s_failure_threshold";
+  static final String OPEN_DURATION = "sunbird_es_%s_open_duration_ms";
+
+  private static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 200;
+  private static final int DEFAULT_FAILURE_THRESHOLD = 10;
+  private static final int DEFAULT_OPEN_DURATION = 10000;
+
+  private static final Map<Operation, ElasticSearchCircuitBreaker> breakers =
+      new EnumMap<>(Operation.class);
+
+  private final String name;
+  private final boolean enabled;
+  private final int maxConcurrentRequests;
+  private final int failureThreshold;
+  private final long openDuration;
+  private final LongSupplier clock;
+  private final Semaphore bulkhead;
+  private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+  private final AtomicInteger consecutiveFailures = new AtomicInteger();
+  private volatile long openedAt;
+
+  ElasticSearchCircuitBreaker(
+      String name,
+      boolean enabled,
+      int maxConcurrentRequests,
+      int failureThreshold,
+      long openDuration,
+      LongSupplier clock) {
+    this.name = name;
+    this.enabled = enabled;
+    this.maxConcurrentRequests = Math.max(1, maxConcurrentRequests);
+    this.failureThreshold = Math.max(1, failureThreshold);
+    this.openDuration = openDuration;
+    this.clock = clock;
+    this.bulkhead = new Semaphore(this.maxConcurrentRequests);
+    ElasticSearchMetrics metrics = ElasticSearchMetrics.getInstance();
+    metrics.registerGauge(
+        ElasticSearchMetrics.CIRCUIT_BREAKER, name + ".state", () -> getState().name());
+    metrics.registerGauge(
+        ElasticSearchMetrics.CIRCUIT_BREAKER, name + ".inFlight", this::getInFlightRequests);
+  }
+
+  /**
+   * Breaker of an operation type, configured from elasticsearch.config.properties.
+   *
+   * @param operation Operation type
+   * @return ElasticSearchCircuitBreaker
+   */
+  public static synchronized ElasticSearchCircuitBreaker forOperation(Operation operation) {
+    return breakers.computeIfAbsent(
+        operation,
+        op -> {
+          String name = op.getName();
+          boolean enabled = !"false".equalsIgnoreCase(ProjectUtil.getConfigValue(ENABLED));
+          int maxConcurrentRequests =
+              ElasticSearchClientConfig.getInt(
+                  String.format(MAX_CONCURRENT_REQUESTS, name), DEFAULT_MAX_CONCURRENT_REQUESTS);
+          int failureThreshold =
+              ElasticSearchClientConfig.getInt(
+                  String.format(FAILURE_THRESHOLD, name), DEFAULT_FAILURE_THRESHOLD);
+          int openDuration =
+              ElasticSearchClientConfig.getInt(
+                  String.format(OPEN_DURATION, name), DEFAULT_OPEN_DURATION);
+          logger.info(
+              "ElasticSearchCircuitBreaker:forOperation: "
+                  + name
+                  + " enabled = "
+                  + enabled
+                  + ", max concurrent requests = "
+                  + maxConcurrentRequests
+                  + ", failure threshold = "
+                  + failureThreshold
+                  + ", open duration = "
+                  + openDuration
+                  + " ms");
+          return new ElasticSearchCircuitBreaker(
+              name,
+              enabled,
+              maxConcurrentRequests,
+              failureThreshold,
+              openDuration,
+              System::currentTimeMillis);
+        });
+  }
+
+  /**
+   * Make a call through the bulkhead and breaker. When the call is not allowed the listener fails
+   * immediately with {@link ResponseCode#serviceUnAvailable}, without the call being made.
+   *
+   * @param listener Listener of the call
+   * @param call Call to make, completing the listener it is given
+   */
+  public <T> void execute(ActionListener<T> listener, Consumer<ActionListener<T>> call) {
+    if (!enabled) {
+      call.accept(listener);
+      return;
+    }
+    if (!bulkhead.tryAcquire()) {
+      reject(listener, "too many requests in flight");
+      return;
+    }
+    if (!allowRequest()) {
+      bulkhead.release();
+      reject(listener, "circuit open");
+      return;
+    }
+    AtomicBoolean completed = new AtomicBoolean();
+    ActionListener<T> guarded =
+        new ActionListener<T>() {
+          @Override
+          public void onResponse(T response) {
+            if (completed.compareAndSet(false, true)) {
+              bulkhead.release();
+              onSuccess();
+            }
+            listener.onResponse(response);
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            if (completed.compareAndSet(false, true)) {
+              bulkhead.release();
+              if (isUnavailable(e)) {
+                onUnavailable();
+              } else {
+                onSuccess();
+              }
+            }
+            listener.onFailure(e);
+          }
+        };
+    try {
+      call.accept(guarded);
+    } catch (Exception e) {
+      if (!completed.get()) {
+        guarded.onFailure(e);
+      }
+    }
+  }
+
+  /**
+   * @param e Failure of a call
+   * @return true if the call failed because elastic search is unavailable or overloaded, or was
+   *     rejected by a breaker
+   */
+  public static boolean isUnavailable(Throwable e) {
+    if (e instanceof ProjectCommonException) {
+      return ResponseCode.SERVICE_UNAVAILABLE.getResponseCode()
+          == ((ProjectCommonException) e).getErrorResponseCode();
+    }
+    RestStatus status = ExceptionsHelper.status(e);
+    return status.getStatus() >= 500 || RestStatus.TOO_MANY_REQUESTS == status;
+  }
+
+  public State getState() {
+    return state.get();
+  }
+
+  int getInFlightRequests() {
+    return maxConcurrentRequests - bulkhead.availablePermits();
+  }
+
+  /** Closed lets every call through; open lets a single trial through once the duration elapsed. */
+  private boolean allowRequest() {
+    State current = state.get();
+    if (State.CLOSED == current) {
+      return true;
+    }
+    return State.OPEN == current
+        && clock.getAsLong() - openedAt >= openDuration
+        && state.compareAndSet(State.OPEN, State.HALF_OPEN);
+  }
+
+  private void onSuccess() {
+    consecutiveFailures.set(0);
+    if (state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+      logger.info("ElasticSearchCircuitBreaker: " + name + " circuit closed");
+    }
+  }
+
+  private void onUnavailable() {
+    ElasticSearchMetrics.getInstance()
+        .increment(ElasticSearchMetrics.CIRCUIT_BREAKER, name + ".failures");
+    if (state.compareAndSet(State.HALF_OPEN, State.OPEN)
+        || (consecutiveFailures.incrementAndGet() >= failureThreshold
+            && state.compareAndSet(State.CLOSED, State.OPEN))) {
+      openedAt = clock.getAsLong();
+      consecutiveFailures.set(0);
+      ElasticSearchMetrics.getInstance()
+          .increment(ElasticSearchMetrics.CIRCUIT_BREAKER, name + ".opened");
+      logger.info(
+          "ElasticSearchCircuitBreaker: " + name + " circuit open for " + openDuration + " ms");
+    }
+  }
+
+  private <T> void reject(ActionListener<T> listener, String reason) {
+    ElasticSearchMetrics.getInstance()
+        .increment(ElasticSearchMetrics.CIRCUIT_BREAKER, name + ".rejected");
+    logger.debug("ElasticSearchCircuitBreaker: " + name + " request rejected, " + reason);
+    listener.onFailure(
+        new ProjectCommonException(
+            ResponseCode.serviceUnAvailable,
+            ResponseCode.serviceUnAvailable.getErrorMessage(),
+            ResponseCode.SERVICE_UNAVAILABLE.getResponseCode()));
+  }
+}
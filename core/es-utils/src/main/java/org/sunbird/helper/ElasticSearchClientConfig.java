@@ -0,0 +1,259 @@
+package org.sunbird.helper;
+
+import java.util.List;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.entity.GzipDecompressingEntity;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.protocol.HttpContext;
+import org.elasticsearch.client.HeapBufferedAsyncResponseConsumer;
+import org.elasticsearch.client.Node;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestClient;
+import org.elasticsearch.client.RestClientBuilder;
+import org.elasticsearch.client.sniff.SniffOnFailureListener;
+import org.elasticsearch.client.sniff.Sniffer;
+import org.sunbird.common.ElasticSearchMetrics;
+import org.sunbird.logging.LoggerUtil;
+import org.sunbird.util.ProjectUtil;
+
+/**
+ * Applies the rest client options (connection pool limits, IO reactor threads, timeouts, response
+ * compression and node sniffing) read from elasticsearch.config.properties, each of which can be
+ * overridden by an environment variable of the same name.
+ */
+public final class ElasticSearchClientConfig {
+  private static final LoggerUtil logger = new LoggerUtil(ElasticSearchClientConfig.class);
+
+  static final String MAX_CONN_PER_ROUTE = "sunbird_es_max_conn_per_route";
+  static final String MAX_CONN_TOTAL = "sunbird_es_max_conn_total";
+  static final String IO_THREADS = "sunbird_es_io_threads";
+  static final String CONNECT_TIMEOUT = "sunbird_es_connect_timeout_ms";
+  static final String SOCKET_TIMEOUT = "sunbird_es_socket_timeout_ms";
+  static final String CONNECTION_REQUEST_TIMEOUT = "sunbird_es_connection_request_timeout_ms";
+  static final String COMPRESSION = "sunbird_es_compression";
+  static final String SNIFF_INTERVAL = "sunbird_es_sniff_interval_ms";
+  static final String SNIFF_AFTER_FAILURE_DELAY = "sunbird_es_sniff_after_failure_delay_ms";
+
+  static final int DEFAULT_PORT = 9200;
+  private static final int DEFAULT_MAX_CONN_PER_ROUTE = 50;
+  private static final int DEFAULT_MAX_CONN_TOTAL = 200;
+  private static final int DEFAULT_CONNECT_TIMEOUT = 1000;
+  private static final int DEFAULT_SOCKET_TIMEOUT = 30000;
+  private static final int DEFAULT_CONNECTION_REQUEST_TIMEOUT = 1000;
+  private static final int DEFAULT_SNIFF_AFTER_FAILURE_DELAY = 60000;
+  private static final int RESPONSE_BUFFER_LIMIT = 100 * 1024 * 1024;
+  private static final String GZIP = "gzip";
+
+  private ElasticSearchClientConfig() {}
+
+  /**
+   * Pair every host with its port. If fewer ports than hosts are configured, the hosts without a
+   * port of their own use the last configured port (9200 if none).
+   *
+   * @param hosts Host names
+   * @param ports Ports
+   * @return Http hosts
+   */
+  static HttpHost[] getHttpHosts(List<String> hosts, List<Integer> ports) {
+    HttpHost[] httpHosts = new HttpHost[hosts.size()];
+    for (int i = 0; i < hosts.size(); i++) {
+      int port = DEFAULT_PORT;
+      if (i < ports.size()) {
+        port = ports.get(i);
+      } else if (!ports.isEmpty()) {
+        port = ports.get(ports.size() - 1);
+      }
+      httpHosts[i] = new HttpHost(hosts.get(i).trim(), port);
+    }
+    return httpHosts;
+  }
+
+  /**
+   * Apply the configured pool, IO reactor and timeout settings and register a failure listener
+   * which counts node failures.
+   *
+   * @param builder Rest client builder
+   * @param sniffOnFailureListener Listener to be notified of node failures when sniffing is
+   *     enabled, may be null
+   * @return builder
+   */
+  public static RestClientBuilder configure(
+      RestClientBuilder builder, SniffOnFailureListener sniffOnFailureListener) {
+    int connectTimeout = getInt(CONNECT_TIMEOUT, DEFAULT_CONNECT_TIMEOUT);
+    int socketTimeout = getInt(SOCKET_TIMEOUT, DEFAULT_SOCKET_TIMEOUT);
+    int connectionRequestTimeout =
+        getInt(CONNECTION_REQUEST_TIMEOUT, DEFAULT_CONNECTION_REQUEST_TIMEOUT);
+    builder.setRequestConfigCallback(
+        requestConfig ->
+            requestConfig
+                .setConnectTimeout(connectTimeout)
+                .setSocketTimeout(socketTimeout)
+                .setConnectionRequestTimeout(connectionRequestTimeout));
+    builder.setMaxRetryTimeoutMillis(socketTimeout);
+    PoolingNHttpClientConnectionManager connectionManager = createConnectionManager();
+    if (null != connectionManager) {
+      builder.setHttpClientConfigCallback(
+          httpClient -> httpClient.setConnectionManager(connectionManager));
+    }
+    builder.setFailureListener(
+        new RestClient.FailureListener() {
+          @Override
+          public void onFailure(Node node) {
+            ElasticSearchMetrics.getInstance()
+                .increment(ElasticSearchMetrics.NODE_FAILURES, node.getHost().toHostString());
+            logger.info("ElasticSearchClientConfig: Node marked dead " + node.getHost());
+            if (null != sniffOnFailureListener) {
+              sniffOnFailureListener.onFailure(node);
+            }
+          }
+        });
+    logger.info(
+        "ElasticSearchClientConfig:configure: connect timeout = "
+            + connectTimeout
+            + " ms, socket timeout = "
+            + socketTimeout
+            + " ms, connection request timeout = "
+            + connectionRequestTimeout
+            + " ms");
+    return builder;
+  }
+
+  /**
+   * Create the connection pool with the configured per route and total limits on an IO reactor with
+   * the configured number of threads, and register its gauges.
+   *
+   * @return Connection manager, or null to fall back to the client defaults if the reactor cannot
+   *     be created
+   */
+  static PoolingNHttpClientConnectionManager createConnectionManager() {
+    IOReactorConfig.Builder reactorConfig = IOReactorConfig.custom();
+    int ioThreads = getInt(IO_THREADS, 0);
+    if (ioThreads > 0) {
+      reactorConfig.setIoThreadCount(ioThreads);
+    }
+    PoolingNHttpClientConnectionManager connectionManager;
+    try {
+      connectionManager =
+          new PoolingNHttpClientConnectionManager(
+              new DefaultConnectingIOReactor(reactorConfig.build()));
+    } catch (IOReactorException e) {
+      logger.error("ElasticSearchClientConfig:createConnectionManager: " + e.getMessage(), e);
+      return null;
+    }
+    int maxPerRoute = getInt(MAX_CONN_PER_ROUTE, DEFAULT_MAX_CONN_PER_ROUTE);
+    int maxTotal = getInt(MAX_CONN_TOTAL, DEFAULT_MAX_CONN_TOTAL);
+    connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+    connectionManager.setMaxTotal(maxTotal);
+    registerPoolGauges(connectionManager);
+    logger.info(
+        "ElasticSearchClientConfig:createConnectionManager: max connections per route = "
+            + maxPerRoute
+            + ", max connections total = "
+            + maxTotal
+            + ", io threads = "
+            + (ioThreads > 0 ? ioThreads : Runtime.getRuntime().availableProcessors()));
+    return connectionManager;
+  }
+
+  private static void registerPoolGauges(PoolingNHttpClientConnectionManager connectionManager) {
+    ElasticSearchMetrics metrics = ElasticSearchMetrics.getInstance();
+    metrics.registerGauge(
+        ElasticSearchMetrics.CONNECTIONS,
+        "leased",
+        () -> connectionManager.getTotalStats().getLeased());
+    metrics.registerGauge(
+        ElasticSearchMetrics.CONNECTIONS,
+        "pending",
+        () -> connectionManager.getTotalStats().getPending());
+    metrics.registerGauge(
+        ElasticSearchMetrics.CONNECTIONS,
+        "available",
+        () -> connectionManager.getTotalStats().getAvailable());
+    metrics.registerGauge(
+        ElasticSearchMetrics.CONNECTIONS, "max", () -> connectionManager.getTotalStats().getMax());
+  }
+
+  /** @return Whether node sniffing is enabled, i.e. a positive sniff interval is configured. */
+  public static boolean isSniffingEnabled() {
+    return getInt(SNIFF_INTERVAL, 0) > 0;
+  }
+
+  /**
+   * Create a sniffer which periodically refreshes the nodes the client sends requests to.
+   *
+   * @param restClient Low level rest client
+   * @return Sniffer
+   */
+  public static Sniffer createSniffer(RestClient restClient) {
+    int interval = getInt(SNIFF_INTERVAL, 0);
+    int afterFailureDelay = getInt(SNIFF_AFTER_FAILURE_DELAY, DEFAULT_SNIFF_AFTER_FAILURE_DELAY);
+    logger.info(
+        "ElasticSearchClientConfig:createSniffer: sniff interval = "
+            + interval
+            + " ms, after failure delay = "
+            + afterFailureDelay
+            + " ms");
+    return Sniffer.builder(restClient)
+        .setSniffIntervalMillis(interval)
+        .setSniffAfterFailureDelayMillis(afterFailureDelay)
+        .build();
+  }
+
+  /**
+   * Request options to be passed with every request. When compression is enabled the client asks
+   * for gzip encoded responses and decompresses them before they are parsed.
+   *
+   * @return Request options
+   */
+  public static RequestOptions createRequestOptions() {
+    if (!Boolean.parseBoolean(ProjectUtil.getConfigValue(COMPRESSION))) {
+      return RequestOptions.DEFAULT;
+    }
+    RequestOptions.Builder options = RequestOptions.DEFAULT.toBuilder();
+    options.addHeader("Accept-Encoding", GZIP);
+    options.setHttpAsyncResponseConsumerFactory(GzipResponseConsumer::new);
+    return options.build();
+  }
+
+  /**
+   * @param key Configuration key
+   * @param defaultValue Value used when the key is not configured or is not a number
+   * @return Configured integer value
+   */
+  public static int getInt(String key, int defaultValue) {
+    String value = ProjectUtil.getConfigValue(key);
+    return StringUtils.isBlank(value)
+        ? defaultValue
+        : NumberUtils.toInt(value.trim(), defaultValue);
+  }
+
+  /** Buffers the response on the heap and replaces a gzip encoded entity by a decoding one. */
+  static class GzipResponseConsumer extends HeapBufferedAsyncResponseConsumer {
+
+    GzipResponseConsumer() {
+      super(RESPONSE_BUFFER_LIMIT);
+    }
+
+    @Override
+    protected HttpResponse buildResult(HttpContext context) throws Exception {
+      HttpResponse response = super.buildResult(context);
+      HttpEntity entity = response.getEntity();
+      Header contentEncoding = response.getFirstHeader("Content-Encoding");
+      if (null != entity
+          && null != contentEncoding
+          && GZIP.equalsIgnoreCase(contentEncoding.getValue())) {
+        response.setEntity(new GzipDecompressingEntity(entity));
+        response.removeHeaders("Content-Encoding");
+      }
+      return response;
+    }
+  }
+}
@@ -0,0 +1,126 @@
+package org.sunbird.helper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.collections.MapUtils;
+import org.sunbird.dto.SearchDTO;
+import org.sunbird.keys.JsonKey;
+import org.sunbird.util.ProjectUtil;
+
+/**
+ * This class will define, per index, which fields of the synced documents are kept, complementing
+ * the index {@link ElasticSearchMapping} and {@link ElasticSearchSettings}.
+ *
+ * <ul>
+ *   <li>dropped fields are neither indexed nor stored: they are removed from every document written
+ *       to the index.
+ *   <li>source excluded fields are indexed, so they can still be searched on, but are left out of
+ *       the _source returned by searches unless the search asks for fields explicitly.
+ * </ul>
+ *
+ * Dropped fields are source excluded too, for documents indexed before they were dropped. Fields
+ * are not excluded from _source in the index mapping itself, as partial updates rebuild documents
+ * from their _source and would lose them.
+ */
+public final class ElasticSearchProjection {
+
+  /** Projection of indices without a definition: documents and searches are left as they are. */
+  public static final ElasticSearchProjection NONE =
+      new ElasticSearchProjection(Collections.emptyList(), Collections.emptyList());
+
+  private static final Map<String, ElasticSearchProjection> projections = new ConcurrentHashMap<>();
+
+  static {
+    register(
+        ProjectUtil.EsType.user.getTypeName(),
+        new ElasticSearchProjection(
+            Arrays.asList(
+                JsonKey.PASSWORD,
+                JsonKey.COMPLETENESS,
+                JsonKey.MISSING_FIELDS,
+                JsonKey.PROFILE_VISIBILITY),
+            Collections.singletonList(JsonKey.LOGIN_ID)));
+  }
+
+  private final Set<String> droppedFields;
+  private final List<String> sourceExcludes;
+
+  /**
+   * @param droppedFields Fields removed from the documents
+   * @param sourceExcludes Fields indexed but not returned by default
+   */
+  public ElasticSearchProjection(
+      Collection<String> droppedFields, Collection<String> sourceExcludes) {
+    this.droppedFields = Collections.unmodifiableSet(new LinkedHashSet<>(droppedFields));
+    Set<String> excludes = new LinkedHashSet<>(droppedFields);
+    excludes.addAll(sourceExcludes);
+    this.sourceExcludes = Collections.unmodifiableList(new ArrayList<>(excludes));
+  }
+
+  /**
+   * Define the projection of an index, replacing any earlier definition.
+   *
+   * @param index Index name (or alias used by the callers)
+   * @param projection Projection of the index
+   */
+  public static void register(String index, ElasticSearchProjection projection) {
+    if (null != index) {
+      projections.put(index, projection);
+    }
+  }
+
+  /**
+   * @param index Index name (or alias used by the callers)
+   * @return Projection of the index, {@link #NONE} if it has none
+   */
+  public static ElasticSearchProjection forIndex(String index) {
+    ElasticSearchProjection projection = null == index ? null : projections.get(index);
+    return null == projection ? NONE : projection;
+  }
+
+  /**
+   * Document to write to the index: the given document when it has no dropped field, otherwise a
+   * copy without them, leaving the caller's map untouched.
+   *
+   * @param document Document built by the caller
+   * @return Compact document
+   */
+  public Map<String, Object> project(Map<String, Object> document) {
+    if (MapUtils.isEmpty(document) || Collections.disjoint(document.keySet(), droppedFields)) {
+      return document;
+    }
+    Map<String, Object> compact = new HashMap<>(document);
+    compact.keySet().removeAll(droppedFields);
+    return compact;
+  }
+
+  /**
+   * Exclude the source excluded fields from the result of a search which neither selects nor
+   * excludes fields itself.
+   *
+   * @param searchDTO Search criteria
+   */
+  public void applyDefaults(SearchDTO searchDTO) {
+    if (!sourceExcludes.isEmpty()
+        && null == searchDTO.getFields()
+        && null == searchDTO.getExcludedFields()) {
+      searchDTO.setExcludedFields(new ArrayList<>(sourceExcludes));
+    }
+  }
+
+  public Set<String> getDroppedFields() {
+    return droppedFields;
+  }
+
+  public List<String> getSourceExcludes() {
+    return sourceExcludes;
+  }
+}
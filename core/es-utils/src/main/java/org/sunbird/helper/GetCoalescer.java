@@ -0,0 +1,296 @@
+package org.sunbird.helper;
+
+import akka.dispatch.Futures;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.action.get.GetRequest;
+import org.elasticsearch.action.get.GetResponse;
+import org.elasticsearch.action.get.MultiGetItemResponse;
+import org.elasticsearch.action.get.MultiGetRequest;
+import org.elasticsearch.action.get.MultiGetResponse;
+import org.sunbird.common.ElasticSearchMetrics;
+import org.sunbird.logging.LoggerUtil;
+import scala.concurrent.Future;
+import scala.concurrent.Promise;
+
+/**
+ * Single flight for document gets: while a get of a document is in flight, further gets of the same
+ * document share its response instead of sending their own request.
+ *
+ * <p>When a batch window is configured, gets of different documents arriving within the window are
+ * sent together as one multi get (at most the configured batch size per request).
+ *
+ * <p>Writes made through {@link org.sunbird.common.ElasticSearchRestHighImpl} call {@link
+ * #forget(String, String)} once they complete, so that a get issued after a write never joins a get
+ * issued before it. Reads whose result is modified and written back must use {@link
+ * #getUncoalesced(String, String)}, otherwise concurrent updates start from the same pre-image and
+ * all but one of them are lost.
+ */
+public final class GetCoalescer {
+  private static final LoggerUtil logger = new LoggerUtil(GetCoalescer.class);
+
+  static final String BATCH_WINDOW = "sunbird_es_get_batch_window_ms";
+  static final String MAX_BATCH_SIZE = "sunbird_es_get_max_batch_size";
+
+  private static final int DEFAULT_BATCH_WINDOW = 0;
+  private static final int DEFAULT_MAX_BATCH_SIZE = 100;
+  private static final String _DOC = "_doc";
+
+  private static GetCoalescer instance;
+
+  private final BiConsumer<GetRequest, ActionListener<GetResponse>> getConsumer;
+  private final BiConsumer<MultiGetRequest, ActionListener<MultiGetResponse>> multiGetConsumer;
+  private final long batchWindow;
+  private final int maxBatchSize;
+  private final Map<String, Future<GetResponse>> inFlight = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService scheduler;
+  private final Object lock = new Object();
+  private List<PendingGet> pending = new ArrayList<>();
+
+  GetCoalescer(
+      BiConsumer<GetRequest, ActionListener<GetResponse>> getConsumer,
+      BiConsumer<MultiGetRequest, ActionListener<MultiGetResponse>> multiGetConsumer,
+      long batchWindow,
+      int maxBatchSize) {
+    this.getConsumer = getConsumer;
+    this.multiGetConsumer = multiGetConsumer;
+    this.batchWindow = batchWindow;
+    this.maxBatchSize = Math.max(1, maxBatchSize);
+    this.scheduler =
+        batchWindow > 0
+            ? Executors.newSingleThreadScheduledExecutor(
+                runnable -> {
+                  Thread thread = new Thread(runnable, "es-get-coalescer");
+                  thread.setDaemon(true);
+                  return thread;
+                })
+            : null;
+  }
+
+  /**
+   * Get coalescer sending its requests through the rest client of {@link ConnectionManager},
+   * configured from elasticsearch.config.properties.
+   *
+   * @return GetCoalescer
+   */
+  public static synchronized GetCoalescer getInstance() {
+    if (null == instance) {
+      int batchWindow = ElasticSearchClientConfig.getInt(BATCH_WINDOW, DEFAULT_BATCH_WINDOW);
+      int maxBatchSize = ElasticSearchClientConfig.getInt(MAX_BATCH_SIZE, DEFAULT_MAX_BATCH_SIZE);
+      instance =
+          new GetCoalescer(
+              (request, listener) ->
+                  ElasticSearchCircuitBreaker.forOperation(
+                          ElasticSearchCircuitBreaker.Operation.GET)
+                      .execute(
+                          listener,
+                          l ->
+                              ConnectionManager.getRestClient()
+                                  .getAsync(request, ConnectionManager.getRequestOptions(), l)),
+              (request, listener) ->
+                  ElasticSearchCircuitBreaker.forOperation(
+                          ElasticSearchCircuitBreaker.Operation.GET)
+                      .execute(
+                          listener,
+                          l ->
+                              ConnectionManager.getRestClient()
+                                  .mgetAsync(request, ConnectionManager.getRequestOptions(), l)),
+              batchWindow,
+              maxBatchSize);
+      ElasticSearchMetrics.getInstance()
+          .registerGauge(ElasticSearchMetrics.GET, "inFlight", instance.inFlight::size);
+      logger.info(
+          "GetCoalescer:getInstance: batch window = "
+              + batchWindow
+              + " ms, max batch size = "
+              + maxBatchSize);
+    }
+    return instance;
+  }
+
+  /**
+   * Get a document, sharing the response of a get of the same document already in flight.
+   *
+   * @param index Index name
+   * @param identifier Document id
+   * @return Future of the get response, shared by all concurrent callers: callers must not modify
+   *     it (e.g. through {@link GetResponse#getSourceAsMap()})
+   */
+  public Future<GetResponse> get(String index, String identifier) {
+    String key = key(index, identifier);
+    Promise<GetResponse> promise = Futures.promise();
+    Future<GetResponse> existing = inFlight.putIfAbsent(key, promise.future());
+    if (null != existing) {
+      ElasticSearchMetrics.getInstance().increment(ElasticSearchMetrics.GET, "coalesced");
+      return existing;
+    }
+    ElasticSearchMetrics.getInstance().increment(ElasticSearchMetrics.GET, "requests");
+    PendingGet get = new PendingGet(key, new GetRequest(index, _DOC, identifier), promise);
+    if (null == scheduler) {
+      send(get);
+    } else {
+      enqueue(get);
+    }
+    return promise.future();
+  }
+
+  /**
+   * Get a document with a request of its own, which neither joins a get in flight nor is shared
+   * with later gets, nor waits for the batch window.
+   *
+   * @param index Index name
+   * @param identifier Document id
+   * @return Future of the get response
+   */
+  public Future<GetResponse> getUncoalesced(String index, String identifier) {
+    ElasticSearchMetrics.getInstance().increment(ElasticSearchMetrics.GET, "requests");
+    Promise<GetResponse> promise = Futures.promise();
+    send(new PendingGet(null, new GetRequest(index, _DOC, identifier), promise));
+    return promise.future();
+  }
+
+  /**
+   * Stop sharing the get of a document in flight, if any, so that the next get sends its own
+   * request.
+   *
+   * @param index Index name
+   * @param identifier Document id
+   */
+  public void forget(String index, String identifier) {
+    inFlight.remove(key(index, identifier));
+  }
+
+  private void enqueue(PendingGet get) {
+    List<PendingGet> full = null;
+    boolean first;
+    synchronized (lock) {
+      pending.add(get);
+      first = pending.size() == 1;
+      if (pending.size() >= maxBatchSize) {
+        full = pending;
+        pending = new ArrayList<>();
+      }
+    }
+    if (null != full) {
+      sendBatch(full);
+    } else if (first) {
+      try {
+        scheduler.schedule(this::flush, batchWindow, TimeUnit.MILLISECONDS);
+      } catch (Exception e) {
+        flush();
+      }
+    }
+  }
+
+  private void flush() {
+    List<PendingGet> current;
+    synchronized (lock) {
+      if (pending.isEmpty()) {
+        return;
+      }
+      current = pending;
+      pending = new ArrayList<>();
+    }
+    sendBatch(current);
+  }
+
+  private void send(PendingGet get) {
+    ActionListener<GetResponse> listener =
+        new ActionListener<GetResponse>() {
+          @Override
+          public void onResponse(GetResponse response) {
+            get.complete(response, null);
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            get.complete(null, e);
+          }
+        };
+    try {
+      getConsumer.accept(get.request, listener);
+    } catch (Exception e) {
+      listener.onFailure(e);
+    }
+  }
+
+  private void sendBatch(List<PendingGet> batch) {
+    if (batch.size() == 1) {
+      send(batch.get(0));
+      return;
+    }
+    ElasticSearchMetrics.getInstance().increment(ElasticSearchMetrics.GET, "batches");
+    MultiGetRequest request = new MultiGetRequest();
+    for (PendingGet get : batch) {
+      request.add(get.request.index(), get.request.type(), get.request.id());
+    }
+    ActionListener<MultiGetResponse> listener =
+        new ActionListener<MultiGetResponse>() {
+          @Override
+          public void onResponse(MultiGetResponse response) {
+            MultiGetItemResponse[] items = response.getResponses();
+            for (int i = 0; i < batch.size(); i++) {
+              MultiGetItemResponse item = i < items.length ? items[i] : null;
+              if (null == item) {
+                batch.get(i).complete(null, new IllegalStateException("No response for get"));
+              } else if (item.isFailed()) {
+                batch.get(i).complete(null, item.getFailure().getFailure());
+              } else {
+                batch.get(i).complete(item.getResponse(), null);
+              }
+            }
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            logger.error(
+                "GetCoalescer:sendBatch: multi get of "
+                    + batch.size()
+                    + " documents failed: "
+                    + e.getMessage(),
+                e);
+            batch.forEach(get -> get.complete(null, e));
+          }
+        };
+    try {
+      multiGetConsumer.accept(request, listener);
+    } catch (Exception e) {
+      listener.onFailure(e);
+    }
+  }
+
+  private static String key(String index, String identifier) {
+    return index + "/" + identifier;
+  }
+
+  private class PendingGet {
+    private final String key;
+    private final GetRequest request;
+    private final Promise<GetResponse> promise;
+
+    PendingGet(String key, GetRequest request, Promise<GetResponse> promise) {
+      this.key = key;
+      this.request = request;
+      this.promise = promise;
+    }
+
+    /** Stop sharing the get before completing it, later gets send their own request. */
+    void complete(GetResponse response, Exception e) {
+      if (null != key) {
+        inFlight.remove(key, promise.future());
+      }
+      if (null == e) {
+        promise.trySuccess(response);
+      } else {
+        promise.tryFailure(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package org.sunbird.helper;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.sunbird.common.ElasticSearchMetrics;
+
+/**
+ * Last successful responses of reads, served instead of a failure while elastic search is
+ * unavailable (see {@link ElasticSearchCircuitBreaker#isUnavailable(Throwable)}). Least recently
+ * used responses are evicted beyond the configured size; a size of 0 disables the cache.
+ *
+ * <p>Responses are kept as returned by the client, callers build a fresh result from them on every
+ * use so that results modified by one caller are never served to another.
+ */
+public final class StaleResponseCache<K, V> {
+
+  static final String SIZE = "sunbird_es_stale_cache_size";
+  private static final int DEFAULT_SIZE = 0;
+
+  private final String name;
+  private final int maxSize;
+  private final Map<K, V> responses;
+
+  StaleResponseCache(String name, int maxSize) {
+    this.name = name;
+    this.maxSize = maxSize;
+    this.responses =
+        new LinkedHashMap<K, V>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > StaleResponseCache.this.maxSize;
+          }
+        };
+    ElasticSearchMetrics.getInstance()
+        .registerGauge(ElasticSearchMetrics.STALE_CACHE, name + ".size", this::size);
+  }
+
+  /**
+   * Cache of the given name, sized from elasticsearch.config.properties.
+   *
+   * @param name Name of the cache in the metrics (e.g. search)
+   * @return StaleResponseCache
+   */
+  public static <K, V> StaleResponseCache<K, V> create(String name) {
+    return new StaleResponseCache<>(name, ElasticSearchClientConfig.getInt(SIZE, DEFAULT_SIZE));
+  }
+
+  public boolean isEnabled() {
+    return maxSize > 0;
+  }
+
+  public void put(K key, V response) {
+    if (isEnabled()) {
+      synchronized (responses) {
+        responses.put(key, response);
+      }
+    }
+  }
+
+  /**
+   * @param key Key of the read
+   * @return Last response of the read, null if there is none
+   */
+  public V get(K key) {
+    if (!isEnabled()) {
+      return null;
+    }
+    V response;
+    synchronized (responses) {
+      response = responses.get(key);
+    }
+    if (null != response) {
+      ElasticSearchMetrics.getInstance()
+          .increment(ElasticSearchMetrics.STALE_CACHE, name + ".hits");
+    }
+    return response;
+  }
+
+  int size() {
+    synchronized (responses) {
+      return responses.size();
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package org.sunbird.common;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.elasticsearch.common.bytes.BytesArray;
+import org.elasticsearch.search.SearchHit;
+import org.junit.Test;
+import org.sunbird.dto.SearchDTO;
+import org.sunbird.exception.ProjectCommonException;
+import org.sunbird.exception.ResponseCode;
+import org.sunbird.keys.JsonKey;
+
+public class ElasticSearchHelperTest {
+
+  @Test
+  public void testCursorRoundTrip() {
+    Object[] sortValues = new Object[] {1.5, "Name", "0123-abcd"};
+
+    String cursor = ElasticSearchHelper.encodeCursor(sortValues);
+
+    assertArrayEquals(sortValues, ElasticSearchHelper.decodeCursor(cursor));
+  }
+
+  @Test
+  public void testDecodeInvalidCursor() {
+    try {
+      ElasticSearchHelper.decodeCursor("not a cursor");
+    } catch (ProjectCommonException e) {
+      assertEquals(ResponseCode.CLIENT_ERROR.getResponseCode(), e.getErrorResponseCode());
+      return;
+    }
+    throw new AssertionError("Expected ProjectCommonException");
+  }
+
+  @Test
+  public void testCreateSearchDTOReadsCursor() {
+    Map<String, Object> searchQueryMap = new HashMap<>();
+    searchQueryMap.put(JsonKey.FILTERS, new HashMap<>());
+    assertNull(ElasticSearchHelper.createSearchDTO(searchQueryMap).getCursor());
+
+    searchQueryMap.put(JsonKey.CURSOR, "");
+    SearchDTO searchDTO = ElasticSearchHelper.createSearchDTO(searchQueryMap);
+
+    assertEquals("", searchDTO.getCursor());
+  }
+
+  @Test
+  public void testCreateSearchDTORejectsCursorWhichIsNotString() {
+    Map<String, Object> searchQueryMap = new HashMap<>();
+    searchQueryMap.put(JsonKey.CURSOR, 10);
+    try {
+      ElasticSearchHelper.createSearchDTO(searchQueryMap);
+    } catch (ProjectCommonException e) {
+      assertEquals(ResponseCode.CLIENT_ERROR.getResponseCode(), e.getErrorResponseCode());
+      return;
+    }
+    throw new AssertionError("Expected ProjectCommonException");
+  }
+
+  @Test
+  public void testGetSourceMapDecodesWholeSource() {
+    SearchHit hit =
+        new SearchHit(1)
+            .sourceRef(
+                new BytesArray(
+                    "{\"userId\":\"1\",\"address\":{\"city\":\"x\"},\"roles\":[\"a\",{\"b\":1}]}"));
+
+    Map<String, Object> source = ElasticSearchHelper.getSourceMap(hit);
+
+    assertEquals(3, source.size());
+    assertEquals("1", source.get("userId"));
+    assertEquals("x", ((Map) source.get("address")).get("city"));
+    assertEquals(1, ((Map) ((List) source.get("roles")).get(1)).get("b"));
+    assertNotSame(source, ElasticSearchHelper.getSourceMap(hit));
+  }
+}
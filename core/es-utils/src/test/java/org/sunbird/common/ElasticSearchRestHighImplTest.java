@@ -22,6 +22,7 @@ import org.elasticsearch.action.get.GetResponse;
 import org.elasticsearch.action.index.IndexResponse;
 import org.elasticsearch.action.support.master.AcknowledgedResponse;
 import org.elasticsearch.action.update.UpdateResponse;
+import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.elasticsearch.common.util.concurrent.FutureUtils;
 import org.elasticsearch.search.SearchHit;
@@ -288,6 +289,7 @@ public class ElasticSearchRestHighImplTest {
       Assert.fail("Initialization of test case failed due to " + e.getLocalizedMessage());
     }
     when(ConnectionManager.getRestClient()).thenReturn(client);
+    when(ConnectionManager.getRequestOptions()).thenReturn(RequestOptions.DEFAULT);
   }
 
   private static void mockRulesForBulk(boolean fail) {
@@ -308,7 +310,7 @@ public class ElasticSearchRestHighImplTest {
                 }
               })
           .when(client)
-          .bulkAsync(Mockito.any(), Mockito.any());
+          .bulkAsync(Mockito.any(), Mockito.any(RequestOptions.class), Mockito.any());
     } else {
 
       doAnswer(
@@ -322,7 +324,7 @@ public class ElasticSearchRestHighImplTest {
                 }
               })
           .when(client)
-          .bulkAsync(Mockito.any(), Mockito.any());
+          .bulkAsync(Mockito.any(), Mockito.any(RequestOptions.class), Mockito.any());
     }
   }
 
@@ -341,7 +343,7 @@ public class ElasticSearchRestHighImplTest {
                 }
               })
           .when(client)
-          .indexAsync(Mockito.any(), Mockito.any());
+          .indexAsync(Mockito.any(), Mockito.any(RequestOptions.class), Mockito.any());
     } else {
 
       doAnswer(
@@ -355,7 +357,7 @@ public class ElasticSearchRestHighImplTest {
                 }
               })
           .when(client)
-          .indexAsync(Mockito.any(), Mockito.any());
+          .indexAsync(Mockito.any(), Mockito.any(RequestOptions.class), Mockito.any());
     }
   }
 
@@ -376,7 +378,7 @@ public class ElasticSearchRestHighImplTest {
                 }
               })
           .when(client)
-          .updateAsync(Mockito.any(), Mockito.any());
+          .updateAsync(Mockito.any(), Mockito.any(RequestOptions.class), Mockito.any());
     } else {
 
       doAnswer(
@@ -391,7 +393,7 @@ public class ElasticSearchRestHighImplTest {
                 }
               })
           .when(client)
-          .updateAsync(Mockito.any(), Mockito.any());
+          .updateAsync(Mockito.any(), Mockito.any(RequestOptions.class), Mockito.any());
     }
   }
 
@@ -416,7 +418,7 @@ public class ElasticSearchRestHighImplTest {
                 }
               })
           .when(client)
-          .getAsync(Mockito.any(), Mockito.any());
+          .getAsync(Mockito.any(), Mockito.any(RequestOptions.class), Mockito.any());
     } else {
 
       doAnswer(
@@ -430,7 +432,7 @@ public class ElasticSearchRestHighImplTest {
                 }
               })
           .when(client)
-          .getAsync(Mockito.any(), Mockito.any());
+          .getAsync(Mockito.any(), Mockito.any(RequestOptions.class), Mockito.any());
     }
   }
 
@@ -452,7 +454,7 @@ public class ElasticSearchRestHighImplTest {
                 }
               })
           .when(client)
-          .deleteAsync(Mockito.any(), Mockito.any());
+          .deleteAsync(Mockito.any(), Mockito.any(RequestOptions.class), Mockito.any());
     } else {
 
       doAnswer(
@@ -466,7 +468,7 @@ public class ElasticSearchRestHighImplTest {
                 }
               })
           .when(client)
-          .deleteAsync(Mockito.any(), Mockito.any());
+          .deleteAsync(Mockito.any(), Mockito.any(RequestOptions.class), Mockito.any());
     }
   }
 }
@@ -0,0 +1,93 @@
+package org.sunbird.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import org.elasticsearch.action.search.ClearScrollRequest;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.action.search.SearchScrollRequest;
+import org.elasticsearch.common.bytes.BytesArray;
+import org.elasticsearch.common.unit.TimeValue;
+import org.elasticsearch.search.SearchHit;
+import org.elasticsearch.search.SearchHits;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class ElasticSearchScanIteratorTest {
+
+  private final Queue<SearchResponse> responses = new LinkedList<>();
+  private final List<String> cleared = new ArrayList<>();
+  private int scrolls;
+
+  private final ElasticSearchScanIterator.ScrollClient client =
+      new ElasticSearchScanIterator.ScrollClient() {
+        @Override
+        public SearchResponse search(SearchRequest request) {
+          return responses.poll();
+        }
+
+        @Override
+        public SearchResponse scroll(SearchScrollRequest request) {
+          scrolls++;
+          return responses.poll();
+        }
+
+        @Override
+        public void clearScroll(ClearScrollRequest request) {
+          cleared.addAll(request.getScrollIds());
+        }
+      };
+
+  @Test
+  public void testIteratesAllBatchesAndClearsScroll() {
+    responses.add(response("scroll1", 3, "1", "2"));
+    responses.add(response("scroll2", 3, "3"));
+
+    ElasticSearchScanIterator iterator = newIterator(2);
+    List<Object> ids = new ArrayList<>();
+    iterator.forEachRemaining(source -> ids.add(source.get("id")));
+
+    assertEquals(3, ids.size());
+    assertEquals("3", ids.get(2));
+    assertEquals(3, iterator.getTotalHits());
+    assertEquals(1, scrolls);
+    assertEquals(1, cleared.size());
+    assertEquals("scroll2", cleared.get(0));
+  }
+
+  @Test
+  public void testCloseClearsOpenScroll() {
+    responses.add(response("scroll1", 4, "1", "2"));
+
+    ElasticSearchScanIterator iterator = newIterator(2);
+    iterator.next();
+    iterator.close();
+
+    assertFalse(iterator.hasNext());
+    assertEquals(0, scrolls);
+    assertEquals("scroll1", cleared.get(0));
+  }
+
+  private ElasticSearchScanIterator newIterator(int batchSize) {
+    SearchRequest request =
+        new SearchRequest("user").source(new SearchSourceBuilder().size(batchSize));
+    return new ElasticSearchScanIterator(client, request, TimeValue.timeValueMinutes(1), null);
+  }
+
+  private static SearchResponse response(String scrollId, long totalHits, String... ids) {
+    SearchHit[] hits = new SearchHit[ids.length];
+    for (int i = 0; i < ids.length; i++) {
+      hits[i] = new SearchHit(i).sourceRef(new BytesArray("{\"id\":\"" + ids[i] + "\"}"));
+    }
+    SearchResponse response = Mockito.mock(SearchResponse.class);
+    Mockito.when(response.getScrollId()).thenReturn(scrollId);
+    Mockito.when(response.getHits()).thenReturn(new SearchHits(hits, totalHits, 1.0f));
+    return response;
+  }
+}
@@ -0,0 +1,59 @@
+package org.sunbird.common;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.junit.Test;
+import org.sunbird.dto.SearchDTO;
+import org.sunbird.keys.JsonKey;
+
+public class SearchQueryTemplateTest {
+
+  @Test
+  public void testSameShapeSharesTemplate() {
+    SearchDTO first = searchDTO("firstName");
+    first.addAdditionalProperty(JsonKey.FILTERS, filters("1"));
+    SearchDTO second = searchDTO("firstName");
+    second.addAdditionalProperty(JsonKey.FILTERS, filters("2"));
+
+    assertSame(SearchQueryTemplate.of(first), SearchQueryTemplate.of(second));
+    assertNotSame(SearchQueryTemplate.of(first), SearchQueryTemplate.of(searchDTO("lastName")));
+  }
+
+  @Test
+  public void testApplyAddsSortFieldsAndFacets() {
+    SearchDTO searchDTO = searchDTO("firstName");
+    Map<String, String> facets = new HashMap<>();
+    facets.put("createdDate", JsonKey.DATE_HISTOGRAM);
+    searchDTO.setFacets(Arrays.asList(facets));
+    SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
+
+    SearchQueryTemplate.of(searchDTO).apply(searchSourceBuilder);
+
+    assertEquals(1, searchSourceBuilder.sorts().size());
+    assertEquals(1, searchSourceBuilder.aggregations().count());
+    assertArrayEquals(
+        new String[] {"firstName", "userId"}, searchSourceBuilder.fetchSource().includes());
+  }
+
+  private static SearchDTO searchDTO(String sortField) {
+    SearchDTO searchDTO = new SearchDTO();
+    Map<String, Object> sortBy = new HashMap<>();
+    sortBy.put(sortField, "asc");
+    searchDTO.setSortBy(sortBy);
+    searchDTO.setFields(Arrays.asList("firstName", "userId"));
+    return searchDTO;
+  }
+
+  private static Map<String, Object> filters(String userId) {
+    Map<String, Object> filters = new HashMap<>();
+    filters.put(JsonKey.USER_ID, userId);
+    return filters;
+  }
+}
@@ -0,0 +1,195 @@
+package org.sunbird.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.action.index.IndexResponse;
+import org.elasticsearch.common.util.concurrent.EsRejectedExecutionException;
+import org.elasticsearch.index.shard.ShardId;
+import org.junit.Test;
+import scala.concurrent.Await;
+import scala.concurrent.Future;
+import scala.concurrent.duration.Duration;
+
+public class BulkIndexerTest {
+
+  private final List<BulkRequest> requests = new ArrayList<>();
+
+  @Test
+  public void testAddSendsBatchWhenFullAndCompletesEachItem() throws Exception {
+    BulkIndexer indexer =
+        new BulkIndexer(
+            (request, listener) -> {
+              requests.add(request);
+              listener.onResponse(
+                  new BulkResponse(
+                      new BulkItemResponse[] {
+                        success(0, request.requests().get(0)),
+                        failure(1, request.requests().get(1), new IllegalArgumentException("bad"))
+                      },
+                      1));
+            },
+            2,
+            Long.MAX_VALUE,
+            0,
+            1,
+            0,
+            0,
+            1);
+
+    Future<BulkItemResponse> first = indexer.add(indexRequest("1"));
+    assertTrue(requests.isEmpty());
+    Future<BulkItemResponse> second = indexer.add(indexRequest("2"));
+
+    assertEquals(1, requests.size());
+    assertEquals("1", Await.result(first, Duration.create(1, TimeUnit.SECONDS)).getId());
+    Await.ready(second, Duration.create(1, TimeUnit.SECONDS));
+    assertTrue(second.value().get().failed().get() instanceof IllegalArgumentException);
+    indexer.close();
+  }
+
+  @Test
+  public void testRejectedItemIsRetried() throws Exception {
+    BulkIndexer indexer =
+        new BulkIndexer(
+            (request, listener) -> {
+              requests.add(request);
+              DocWriteRequest<?> item = request.requests().get(0);
+              BulkItemResponse response =
+                  requests.size() == 1
+                      ? failure(0, item, new EsRejectedExecutionException("rejected"))
+                      : success(0, item);
+              listener.onResponse(new BulkResponse(new BulkItemResponse[] {response}, 1));
+            },
+            10,
+            Long.MAX_VALUE,
+            0,
+            1,
+            3,
+            1,
+            1);
+
+    Future<BulkItemResponse> result = indexer.add(indexRequest("1"));
+    indexer.flush();
+
+    assertEquals("1", Await.result(result, Duration.create(1, TimeUnit.SECONDS)).getId());
+    assertEquals(2, requests.size());
+    indexer.close();
+  }
+
+  @Test
+  public void testFullBatchIsQueuedWhileSlotsAreBusyAndRejectedWhenQueueIsFull() throws Exception {
+    List<ActionListener<BulkResponse>> listeners = new ArrayList<>();
+    BulkIndexer indexer =
+        new BulkIndexer(
+            (request, listener) -> {
+              requests.add(request);
+              listeners.add(listener);
+            },
+            1,
+            Long.MAX_VALUE,
+            0,
+            1,
+            0,
+            0,
+            1);
+
+    Future<BulkItemResponse> first = indexer.add(indexRequest("1"));
+    Future<BulkItemResponse> second = indexer.add(indexRequest("2"));
+    Future<BulkItemResponse> third = indexer.add(indexRequest("3"));
+
+    assertEquals(1, requests.size());
+    assertEquals(1, indexer.getPendingBatches());
+    Await.ready(third, Duration.create(1, TimeUnit.SECONDS));
+    assertTrue(BulkIndexer.isRejected(third.value().get().failed().get()));
+
+    listeners.get(0).onResponse(response(requests.get(0)));
+    assertEquals("1", Await.result(first, Duration.create(1, TimeUnit.SECONDS)).getId());
+    assertEquals(2, requests.size());
+    assertEquals(0, indexer.getPendingBatches());
+    listeners.get(1).onResponse(response(requests.get(1)));
+    assertEquals("2", Await.result(second, Duration.create(1, TimeUnit.SECONDS)).getId());
+    indexer.close();
+  }
+
+  @Test
+  public void testCloseSendsQueuedBatches() throws Exception {
+    List<BulkRequest> sent = Collections.synchronizedList(new ArrayList<>());
+    BulkIndexer indexer =
+        new BulkIndexer(
+            (request, listener) -> {
+              sent.add(request);
+              new Thread(
+                      () -> {
+                        sleep(50);
+                        listener.onResponse(response(request));
+                      })
+                  .start();
+            },
+            1,
+            Long.MAX_VALUE,
+            0,
+            1,
+            0,
+            0,
+            5);
+
+    List<Future<BulkItemResponse>> results = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      results.add(indexer.add(indexRequest(String.valueOf(i))));
+    }
+    assertEquals(2, indexer.getPendingBatches());
+    indexer.close();
+
+    assertEquals(3, sent.size());
+    for (int i = 0; i < 3; i++) {
+      assertEquals(
+          String.valueOf(i),
+          Await.result(results.get(i), Duration.create(1, TimeUnit.SECONDS)).getId());
+    }
+    Future<BulkItemResponse> afterClose = indexer.add(indexRequest("3"));
+    Await.ready(afterClose, Duration.create(1, TimeUnit.SECONDS));
+    assertTrue(BulkIndexer.isRejected(afterClose.value().get().failed().get()));
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static BulkResponse response(BulkRequest request) {
+    return new BulkResponse(new BulkItemResponse[] {success(0, request.requests().get(0))}, 1);
+  }
+
+  private static IndexRequest indexRequest(String id) {
+    return new IndexRequest("user", "_doc", id).source("identifier", id);
+  }
+
+  private static BulkItemResponse success(int itemId, DocWriteRequest<?> request) {
+    return new BulkItemResponse(
+        itemId,
+        DocWriteRequest.OpType.INDEX,
+        new IndexResponse(
+            new ShardId(request.index(), "_na_", 0), request.type(), request.id(), 1, 1, 1, true));
+  }
+
+  private static BulkItemResponse failure(int itemId, DocWriteRequest<?> request, Exception cause) {
+    return new BulkItemResponse(
+        itemId,
+        DocWriteRequest.OpType.INDEX,
+        new BulkItemResponse.Failure(request.index(), request.type(), request.id(), cause));
+  }
+}
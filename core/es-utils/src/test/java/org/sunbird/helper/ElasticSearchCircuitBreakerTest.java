@@ -0,0 +1,79 @@
+package org.sunbird.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.elasticsearch.action.ActionListener;
+import org.junit.Test;
+import org.sunbird.exception.ProjectCommonException;
+import org.sunbird.exception.ResponseCode;
+
+public class ElasticSearchCircuitBreakerTest {
+
+  private final AtomicLong now = new AtomicLong();
+  private final List<ActionListener<String>> calls = new ArrayList<>();
+  private final List<Object> results = new ArrayList<>();
+
+  private final ActionListener<String> listener =
+      new ActionListener<String>() {
+        @Override
+        public void onResponse(String response) {
+          results.add(response);
+        }
+
+        @Override
+        public void onFailure(Exception e) {
+          results.add(e);
+        }
+      };
+
+  @Test
+  public void testOpensAfterFailuresAndClosesAfterTrial() {
+    ElasticSearchCircuitBreaker breaker =
+        new ElasticSearchCircuitBreaker("test", true, 10, 2, 1000, now::get);
+
+    breaker.execute(listener, l -> l.onFailure(new IOException("timeout")));
+    breaker.execute(listener, l -> l.onFailure(new IOException("timeout")));
+    assertEquals(ElasticSearchCircuitBreaker.State.OPEN, breaker.getState());
+
+    breaker.execute(listener, calls::add);
+    assertTrue(calls.isEmpty());
+    assertUnavailable(results.get(2));
+
+    now.addAndGet(1000);
+    breaker.execute(listener, calls::add);
+    breaker.execute(listener, calls::add);
+    assertEquals(1, calls.size());
+    assertEquals(ElasticSearchCircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+    calls.get(0).onResponse("ok");
+    assertEquals(ElasticSearchCircuitBreaker.State.CLOSED, breaker.getState());
+  }
+
+  @Test
+  public void testBulkheadRejectsBeyondLimit() {
+    ElasticSearchCircuitBreaker breaker =
+        new ElasticSearchCircuitBreaker("test", true, 1, 2, 1000, now::get);
+
+    breaker.execute(listener, calls::add);
+    breaker.execute(listener, calls::add);
+    assertEquals(1, calls.size());
+    assertUnavailable(results.get(0));
+
+    calls.get(0).onResponse("ok");
+    breaker.execute(listener, calls::add);
+    assertEquals(2, calls.size());
+    assertEquals(ElasticSearchCircuitBreaker.State.CLOSED, breaker.getState());
+  }
+
+  private static void assertUnavailable(Object result) {
+    assertTrue(result instanceof ProjectCommonException);
+    assertEquals(
+        ResponseCode.SERVICE_UNAVAILABLE.getResponseCode(),
+        ((ProjectCommonException) result).getErrorResponseCode());
+  }
+}
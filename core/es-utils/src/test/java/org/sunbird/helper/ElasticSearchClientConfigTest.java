@@ -0,0 +1,103 @@
+package org.sunbird.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.zip.GZIPOutputStream;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.nio.ContentDecoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.protocol.BasicHttpContext;
+import org.apache.http.util.EntityUtils;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class ElasticSearchClientConfigTest {
+
+  @Test
+  public void testGetHttpHostsPairsHostsWithPorts() {
+    HttpHost[] hosts =
+        ElasticSearchClientConfig.getHttpHosts(
+            Arrays.asList("es1", " es2", "es3"), Arrays.asList(9201, 9202));
+
+    assertEquals(new HttpHost("es1", 9201), hosts[0]);
+    assertEquals(new HttpHost("es2", 9202), hosts[1]);
+    assertEquals(new HttpHost("es3", 9202), hosts[2]);
+  }
+
+  @Test
+  public void testGetHttpHostsUsesDefaultPort() {
+    HttpHost[] hosts =
+        ElasticSearchClientConfig.getHttpHosts(
+            Collections.singletonList("es1"), Collections.emptyList());
+
+    assertEquals(ElasticSearchClientConfig.DEFAULT_PORT, hosts[0].getPort());
+  }
+
+  @Test
+  public void testCreateConnectionManagerAppliesPoolLimits() throws Exception {
+    PoolingNHttpClientConnectionManager connectionManager =
+        ElasticSearchClientConfig.createConnectionManager();
+
+    assertNotNull(connectionManager);
+    assertEquals(50, connectionManager.getDefaultMaxPerRoute());
+    assertEquals(200, connectionManager.getMaxTotal());
+    connectionManager.shutdown();
+  }
+
+  @Test
+  public void testGzipResponseConsumerDecompressesEntity() throws Exception {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+      gzip.write("{\"found\":true}".getBytes("UTF-8"));
+    }
+    HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_OK, "OK");
+    response.addHeader("Content-Encoding", "gzip");
+    response.setEntity(new ByteArrayEntity(bytes.toByteArray(), ContentType.APPLICATION_JSON));
+    ElasticSearchClientConfig.GzipResponseConsumer consumer =
+        new ElasticSearchClientConfig.GzipResponseConsumer();
+    consumer.responseReceived(response);
+    consumer.consumeContent(
+        new ByteArrayDecoder(bytes.toByteArray()), Mockito.mock(IOControl.class));
+    consumer.responseCompleted(new BasicHttpContext());
+
+    assertEquals("{\"found\":true}", EntityUtils.toString(consumer.getResult().getEntity()));
+  }
+
+  private static class ByteArrayDecoder implements ContentDecoder {
+    private final ByteBuffer content;
+
+    ByteArrayDecoder(byte[] content) {
+      this.content = ByteBuffer.wrap(content);
+    }
+
+    @Override
+    public int read(ByteBuffer dst) {
+      if (!content.hasRemaining()) {
+        return -1;
+      }
+      int length = Math.min(dst.remaining(), content.remaining());
+      ByteBuffer chunk = content.slice();
+      chunk.limit(length);
+      dst.put(chunk);
+      content.position(content.position() + length);
+      return length;
+    }
+
+    @Override
+    public boolean isCompleted() {
+      return !content.hasRemaining();
+    }
+  }
+}
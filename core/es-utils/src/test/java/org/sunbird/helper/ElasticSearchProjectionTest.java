@@ -0,0 +1,53 @@
+package org.sunbird.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.sunbird.dto.SearchDTO;
+
+public class ElasticSearchProjectionTest {
+
+  private final ElasticSearchProjection projection =
+      new ElasticSearchProjection(
+          Collections.singletonList("password"), Collections.singletonList("loginId"));
+
+  @Test
+  public void testProjectDropsFieldsFromCopy() {
+    Map<String, Object> document = new HashMap<>();
+    document.put("id", "1");
+    document.put("password", "secret");
+
+    Map<String, Object> compact = projection.project(document);
+
+    assertFalse(compact.containsKey("password"));
+    assertEquals("1", compact.get("id"));
+    assertTrue(document.containsKey("password"));
+    Map<String, Object> clean = Collections.singletonMap("id", "1");
+    assertSame(clean, projection.project(clean));
+  }
+
+  @Test
+  public void testApplyDefaultsOnlyWithoutFieldSelection() {
+    SearchDTO searchDTO = new SearchDTO();
+    projection.applyDefaults(searchDTO);
+    assertEquals(Arrays.asList("password", "loginId"), searchDTO.getExcludedFields());
+
+    SearchDTO withFields = new SearchDTO();
+    withFields.setFields(Arrays.asList("id"));
+    projection.applyDefaults(withFields);
+    assertNull(withFields.getExcludedFields());
+  }
+
+  @Test
+  public void testForIndexWithoutDefinition() {
+    assertSame(ElasticSearchProjection.NONE, ElasticSearchProjection.forIndex("unknown"));
+  }
+}
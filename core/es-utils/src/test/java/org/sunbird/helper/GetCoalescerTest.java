@@ -0,0 +1,102 @@
+package org.sunbird.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.action.get.GetResponse;
+import org.elasticsearch.action.get.MultiGetItemResponse;
+import org.elasticsearch.action.get.MultiGetRequest;
+import org.elasticsearch.action.get.MultiGetResponse;
+import org.elasticsearch.common.bytes.BytesArray;
+import org.elasticsearch.index.get.GetResult;
+import org.junit.Test;
+import scala.concurrent.Await;
+import scala.concurrent.Future;
+import scala.concurrent.duration.Duration;
+
+public class GetCoalescerTest {
+
+  private final List<ActionListener<GetResponse>> gets = new ArrayList<>();
+  private final List<MultiGetRequest> multiGets = new ArrayList<>();
+
+  @Test
+  public void testConcurrentGetsOfSameDocumentShareOneRequest() throws Exception {
+    GetCoalescer coalescer =
+        new GetCoalescer((request, listener) -> gets.add(listener), null, 0, 10);
+
+    Future<GetResponse> first = coalescer.get("user", "1");
+    Future<GetResponse> second = coalescer.get("user", "1");
+    assertSame(first, second);
+    assertEquals(1, gets.size());
+
+    gets.get(0).onResponse(response("1"));
+    assertEquals("1", Await.result(second, Duration.create(1, TimeUnit.SECONDS)).getId());
+
+    assertNotSame(first, coalescer.get("user", "1"));
+    assertEquals(2, gets.size());
+  }
+
+  @Test
+  public void testForgetStartsNewRequest() {
+    GetCoalescer coalescer =
+        new GetCoalescer((request, listener) -> gets.add(listener), null, 0, 10);
+
+    Future<GetResponse> first = coalescer.get("user", "1");
+    coalescer.forget("user", "1");
+
+    assertNotSame(first, coalescer.get("user", "1"));
+    assertEquals(2, gets.size());
+  }
+
+  @Test
+  public void testUncoalescedGetNeitherJoinsNorIsShared() throws Exception {
+    GetCoalescer coalescer =
+        new GetCoalescer((request, listener) -> gets.add(listener), null, 60000, 10);
+
+    Future<GetResponse> shared = coalescer.get("user", "1");
+    Future<GetResponse> own = coalescer.getUncoalesced("user", "1");
+    assertNotSame(shared, own);
+    assertEquals(1, gets.size());
+    assertSame(shared, coalescer.get("user", "1"));
+
+    gets.get(0).onResponse(response("1"));
+    assertEquals("1", Await.result(own, Duration.create(1, TimeUnit.SECONDS)).getId());
+    assertSame(shared, coalescer.get("user", "1"));
+  }
+
+  @Test
+  public void testGetsWithinWindowAreSentAsMultiGet() throws Exception {
+    GetCoalescer coalescer =
+        new GetCoalescer(
+            (request, listener) -> gets.add(listener),
+            (MultiGetRequest request, ActionListener<MultiGetResponse> listener) -> {
+              multiGets.add(request);
+              MultiGetItemResponse[] items = new MultiGetItemResponse[request.getItems().size()];
+              for (int i = 0; i < items.length; i++) {
+                items[i] = new MultiGetItemResponse(response(request.getItems().get(i).id()), null);
+              }
+              listener.onResponse(new MultiGetResponse(items));
+            },
+            60000,
+            2);
+
+    Future<GetResponse> first = coalescer.get("user", "1");
+    Future<GetResponse> second = coalescer.get("user", "2");
+
+    assertEquals(1, multiGets.size());
+    assertEquals(0, gets.size());
+    assertEquals("1", Await.result(first, Duration.create(1, TimeUnit.SECONDS)).getId());
+    assertEquals("2", Await.result(second, Duration.create(1, TimeUnit.SECONDS)).getId());
+  }
+
+  private static GetResponse response(String id) {
+    return new GetResponse(
+        new GetResult(
+            "user", "_doc", id, 0, 1, 1, true, new BytesArray("{\"id\":\"" + id + "\"}"), null));
+  }
+}
@@ -2,6 +2,7 @@ package org.sunbird.auth.verifier;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Map;
 import org.apache.commons.collections.MapUtils;
@@ -15,9 +16,15 @@ public class AccessTokenValidator {
   private static final ObjectMapper mapper = new ObjectMapper();
   private static final String sso_url = System.getenv(JsonKey.SUNBIRD_SSO_URL);
   private static final String realm = System.getenv(JsonKey.SUNBIRD_SSO_RELAM);
+  private static final VerifiedTokenCache verifiedTokens =
+      VerifiedTokenCache.create(Time::currentTime);
 
   private static Map<String, Object> validateToken(String token, Map<String, Object> requestContext)
       throws JsonProcessingException {
+    Map<String, Object> verifiedPayload = verifiedTokens.get(token);
+    if (null != verifiedPayload) {
+      return verifiedPayload;
+    }
     String[] tokenElements = token.split("\\.");
     String header = tokenElements[0];
     String body = tokenElements[1];
@@ -26,21 +33,28 @@ public class AccessTokenValidator {
     Map<Object, Object> headerData =
         mapper.readValue(new String(decodeFromBase64(header)), Map.class);
     String keyId = headerData.get("kid").toString();
+    KeyData keyData = KeyManager.getPublicKey(keyId);
+    if (null == keyData) {
+      // logged once per unknown key id by the key registry
+      return Collections.EMPTY_MAP;
+    }
     boolean isValid =
         CryptoUtil.verifyRSASign(
             payLoad,
             decodeFromBase64(signature),
-            KeyManager.getPublicKey(keyId).getPublicKey(),
+            keyData.getPublicKey(),
             JsonKey.SHA_256_WITH_RSA,
             requestContext);
     if (isValid) {
       Map<String, Object> tokenBody =
           mapper.readValue(new String(decodeFromBase64(body)), Map.class);
-      boolean isExp = isExpired((Integer) tokenBody.get("exp"));
+      Integer expiration = (Integer) tokenBody.get("exp");
+      boolean isExp = isExpired(expiration);
       if (isExp) {
         logger.info("Token is expired " + token + ", request context data :" + requestContext);
         return Collections.EMPTY_MAP;
       }
+      verifiedTokens.put(token, tokenBody, expiration);
       return tokenBody;
     }
     return Collections.EMPTY_MAP;
@@ -179,7 +193,12 @@ public class AccessTokenValidator {
     return (Time.currentTime() > expiration);
   }
 
+  /** Forget the tokens verified so far, e.g. once the public keys were reloaded. */
+  public static void clearVerifiedTokens() {
+    verifiedTokens.clear();
+  }
+
   private static byte[] decodeFromBase64(String data) {
-    return Base64Util.decode(data, 11);
+    return Base64.getUrlDecoder().decode(data);
   }
 }
@@ -6,6 +6,7 @@ import java.security.NoSuchAlgorithmException;
 import java.security.PublicKey;
 import java.security.Signature;
 import java.security.SignatureException;
+import java.util.HashMap;
 import java.util.Map;
 import org.sunbird.logging.LoggerUtil;
 
@@ -13,19 +14,32 @@ public class CryptoUtil {
   private static final Charset US_ASCII = Charset.forName("US-ASCII");
   private static final LoggerUtil logger = new LoggerUtil(CryptoUtil.class);
 
+  /** Beyond this many keys a thread drops its signatures, keys may have been rotated. */
+  private static final int MAX_SIGNATURES_PER_THREAD = 32;
+
+  /**
+   * Signatures initialised for verification, per thread and public key (i.e. per key id). A
+   * signature is reset to that state by every verification, so it can be reused as is.
+   */
+  private static final ThreadLocal<Map<PublicKey, Signature>> signatures =
+      ThreadLocal.withInitial(HashMap::new);
+
   public static boolean verifyRSASign(
       String payLoad,
       byte[] signature,
       PublicKey key,
       String algorithm,
       Map<String, Object> requestContext) {
-    Signature sign;
+    Signature sign = null;
     try {
-      sign = Signature.getInstance(algorithm);
-      sign.initVerify(key);
+      sign = getSignature(key, algorithm);
       sign.update(payLoad.getBytes(US_ASCII));
       return sign.verify(signature);
     } catch (NoSuchAlgorithmException | InvalidKeyException | SignatureException e) {
+      if (null != sign) {
+        // the signature may be left mid verification
+        signatures.get().remove(key);
+      }
       logger.error(
           "verifyRSASign: Exception occurred while token verification: "
               + e.getMessage()
@@ -35,4 +49,22 @@ public class CryptoUtil {
       return false;
     }
   }
+
+  private static Signature getSignature(PublicKey key, String algorithm)
+      throws NoSuchAlgorithmException, InvalidKeyException {
+    if (null == key) {
+      throw new InvalidKeyException("Public key is missing");
+    }
+    Map<PublicKey, Signature> threadSignatures = signatures.get();
+    Signature sign = threadSignatures.get(key);
+    if (null == sign || !sign.getAlgorithm().equals(algorithm)) {
+      sign = Signature.getInstance(algorithm);
+      sign.initVerify(key);
+      if (threadSignatures.size() >= MAX_SIGNATURES_PER_THREAD) {
+        threadSignatures.clear();
+      }
+      threadSignatures.put(key, sign);
+    }
+    return sign;
+  }
 }
@@ -0,0 +1,424 @@
+package org.sunbird.auth.verifier;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.commons.lang3.StringUtils;
+import org.sunbird.http.HttpClientUtil;
+import org.sunbird.keys.JsonKey;
+import org.sunbird.logging.LoggerUtil;
+import org.sunbird.util.ProjectUtil;
+
+/**
+ * Public keys verifying access tokens, by key id.
+ *
+ * <p>Keys are read from the top level of the key directory (one PEM file per key, named after its
+ * key id, subdirectories are ignored) and, optionally, pulled from the JWKS endpoint of the realm
+ * on a schedule. The directory is watched: any change reloads it. Every load builds a new map which
+ * replaces the previous one in a single step, so lookups never lock and never see a half loaded set
+ * of keys. A key file which can not be read keeps the key loaded from it before, e.g. while the
+ * file is being written.
+ *
+ * <p>Lookups of an unknown key id are remembered for a while, so that tokens signed with a key this
+ * instance does not know are rejected without logging each of them. With JWKS enabled, they also
+ * trigger an early pull of the keys, at most one per sunbird_access_token_jwks_min_pull_seconds
+ * whatever the number of distinct unknown key ids, as the key id is read before the signature is
+ * checked.
+ */
+public final class PublicKeyRegistry {
+  private static final LoggerUtil logger = new LoggerUtil(PublicKeyRegistry.class);
+  private static final ObjectMapper mapper = new ObjectMapper();
+
+  static final String WATCH_ENABLED = "sunbird_access_token_key_watch_enabled";
+  static final String JWKS_ENABLED = "sunbird_access_token_jwks_enabled";
+  static final String JWKS_REFRESH = "sunbird_access_token_jwks_refresh_seconds";
+  static final String UNKNOWN_KID_TTL = "sunbird_access_token_unknown_kid_ttl_seconds";
+  static final String JWKS_MIN_PULL = "sunbird_access_token_jwks_min_pull_seconds";
+
+  private static final int DEFAULT_JWKS_REFRESH = 300;
+  private static final int DEFAULT_UNKNOWN_KID_TTL = 60;
+  private static final int DEFAULT_JWKS_MIN_PULL = 30;
+  /** Longest key id logged, the rest is cut off. */
+  private static final int MAX_LOGGED_KID_LENGTH = 64;
+
+  private static final int MAX_UNKNOWN_KIDS = 1000;
+  /** Changes to the directory within this delay are loaded together. */
+  private static final long RELOAD_DELAY = 500;
+
+  private static final PublicKeyRegistry instance =
+      new PublicKeyRegistry(
+          System::currentTimeMillis,
+          TimeUnit.SECONDS.toMillis(getInt(UNKNOWN_KID_TTL, DEFAULT_UNKNOWN_KID_TTL)),
+          TimeUnit.SECONDS.toMillis(getInt(JWKS_MIN_PULL, DEFAULT_JWKS_MIN_PULL)),
+          PublicKeyRegistry::fetchJwks);
+
+  private final LongSupplier clock;
+  private final long unknownKidTtl;
+  private final long jwksMinPull;
+  private final Supplier<String> jwksFetcher;
+  private final Map<String, Long> unknownKids = new ConcurrentHashMap<>();
+  private final AtomicBoolean reloadScheduled = new AtomicBoolean();
+  private final AtomicLong nextEarlyPull = new AtomicLong(Long.MIN_VALUE);
+  private final LongAdder reloads = new LongAdder();
+  private final LongAdder reloadFailures = new LongAdder();
+  private final LongAdder unknownKidLookups = new LongAdder();
+  private final LongAdder earlyPulls = new LongAdder();
+
+  private volatile Map<String, KeyData> keys = Collections.emptyMap();
+  private volatile Map<String, KeyData> directoryKeys = Collections.emptyMap();
+  private volatile Map<String, KeyData> jwksKeys = Collections.emptyMap();
+  private volatile long lastReload;
+  private volatile Path basePath;
+  private volatile boolean jwksEnabled;
+  private ScheduledExecutorService scheduler;
+  private WatchService watchService;
+
+  PublicKeyRegistry(
+      LongSupplier clock, long unknownKidTtl, long jwksMinPull, Supplier<String> jwksFetcher) {
+    this.clock = clock;
+    this.unknownKidTtl = unknownKidTtl;
+    this.jwksMinPull = jwksMinPull;
+    this.jwksFetcher = jwksFetcher;
+  }
+
+  public static PublicKeyRegistry getInstance() {
+    return instance;
+  }
+
+  /**
+   * Load the keys of the directory, then keep them up to date: watch the directory and, when
+   * enabled, pull the keys of the JWKS endpoint on a schedule.
+   *
+   * @param basePath Key directory
+   */
+  public synchronized void start(String basePath) {
+    this.basePath = Paths.get(basePath);
+    reloadDirectory();
+    boolean watchEnabled = !"false".equalsIgnoreCase(ProjectUtil.getConfigValue(WATCH_ENABLED));
+    jwksEnabled = Boolean.parseBoolean(ProjectUtil.getConfigValue(JWKS_ENABLED));
+    if (null == scheduler && (watchEnabled || jwksEnabled)) {
+      scheduler =
+          Executors.newSingleThreadScheduledExecutor(
+              runnable -> {
+                Thread thread = new Thread(runnable, "public-key-registry");
+                thread.setDaemon(true);
+                return thread;
+              });
+      if (watchEnabled) {
+        watch();
+      }
+      if (jwksEnabled) {
+        int refresh = getInt(JWKS_REFRESH, DEFAULT_JWKS_REFRESH);
+        scheduler.scheduleWithFixedDelay(this::reloadJwks, 0, refresh, TimeUnit.SECONDS);
+      }
+    }
+    logger.info(
+        "PublicKeyRegistry:start: "
+            + keys.size()
+            + " keys loaded from "
+            + basePath
+            + ", watch enabled = "
+            + watchEnabled
+            + ", jwks enabled = "
+            + jwksEnabled);
+  }
+
+  /** Stop watching the directory and pulling keys, the loaded keys are kept. */
+  public synchronized void stop() {
+    if (null != scheduler) {
+      scheduler.shutdownNow();
+      scheduler = null;
+    }
+    if (null != watchService) {
+      try {
+        watchService.close();
+      } catch (IOException e) {
+        logger.error("PublicKeyRegistry:stop: error closing watch service " + e.getMessage(), e);
+      }
+      watchService = null;
+    }
+  }
+
+  /**
+   * @param keyId Key id (kid header of the token)
+   * @return Key of the id, null if there is none
+   */
+  public KeyData getPublicKey(String keyId) {
+    KeyData keyData = null == keyId ? null : keys.get(keyId);
+    if (null == keyData && null != keyId) {
+      onUnknownKid(keyId);
+    }
+    return keyData;
+  }
+
+  /** Reload the keys of the directory. */
+  public synchronized void reloadDirectory() {
+    Path path = basePath;
+    if (null == path) {
+      return;
+    }
+    Map<String, KeyData> previous = directoryKeys;
+    Map<String, KeyData> loaded = new HashMap<>();
+    // only the directory itself is watched, so subdirectories are not read either
+    try (Stream<Path> list = Files.list(path)) {
+      List<Path> files = list.filter(Files::isRegularFile).collect(Collectors.toList());
+      for (Path file : files) {
+        String keyId = file.getFileName().toString();
+        try {
+          String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+          loaded.put(keyId, new KeyData(keyId, KeyManager.loadPublicKey(content)));
+        } catch (Exception e) {
+          logger.error("PublicKeyRegistry:reloadDirectory: error reading key " + file, e);
+          if (previous.containsKey(keyId)) {
+            loaded.put(keyId, previous.get(keyId));
+          }
+        }
+      }
+    } catch (Exception e) {
+      reloadFailures.increment();
+      logger.error("PublicKeyRegistry:reloadDirectory: error reading keys from " + path, e);
+      return;
+    }
+    directoryKeys = Collections.unmodifiableMap(loaded);
+    publish();
+  }
+
+  /** Pull the keys of the JWKS endpoint. */
+  public void reloadJwks() {
+    try {
+      String jwks = jwksFetcher.get();
+      if (StringUtils.isBlank(jwks)) {
+        reloadFailures.increment();
+        logger.info("PublicKeyRegistry:reloadJwks: no keys returned by the jwks endpoint");
+        return;
+      }
+      Map<String, KeyData> parsed = Collections.unmodifiableMap(parseJwks(jwks));
+      synchronized (this) {
+        jwksKeys = parsed;
+        publish();
+      }
+    } catch (Exception e) {
+      reloadFailures.increment();
+      logger.error("PublicKeyRegistry:reloadJwks: error pulling keys " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Metrics of the registry.
+   *
+   * @return Map of metric name to value
+   */
+  public Map<String, Object> getMetrics() {
+    Map<String, Object> metrics = new TreeMap<>();
+    metrics.put("keyCount", keys.size());
+    metrics.put("lastReload", lastReload);
+    metrics.put("reloads", reloads.sum());
+    metrics.put("reloadFailures", reloadFailures.sum());
+    metrics.put("unknownKidLookups", unknownKidLookups.sum());
+    metrics.put("unknownKids", unknownKids.size());
+    metrics.put("earlyPulls", earlyPulls.sum());
+    return metrics;
+  }
+
+  /**
+   * Keys of a JWKS document; only RSA keys used for signatures are kept.
+   *
+   * @param jwks JWKS document
+   * @return Map of key id to key
+   */
+  static Map<String, KeyData> parseJwks(String jwks) throws Exception {
+    Map<String, KeyData> parsed = new HashMap<>();
+    for (JsonNode key : mapper.readTree(jwks).path("keys")) {
+      String keyId = key.path("kid").asText(null);
+      String use = key.path("use").asText("sig");
+      if (null == keyId || !"RSA".equals(key.path("kty").asText()) || !"sig".equals(use)) {
+        continue;
+      }
+      BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode(key.path("n").asText()));
+      BigInteger exponent =
+          new BigInteger(1, Base64.getUrlDecoder().decode(key.path("e").asText()));
+      PublicKey publicKey =
+          KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(modulus, exponent));
+      parsed.put(keyId, new KeyData(keyId, publicKey));
+    }
+    return parsed;
+  }
+
+  /** Replace the keys by those of the directory and the JWKS endpoint in a single step. */
+  private synchronized void publish() {
+    Map<String, KeyData> merged = new HashMap<>(jwksKeys);
+    merged.putAll(directoryKeys);
+    Map<String, KeyData> previous = keys;
+    keys = Collections.unmodifiableMap(merged);
+    lastReload = clock.getAsLong();
+    reloads.increment();
+    unknownKids.clear();
+    if (isKeyRemovedOrReplaced(previous, merged)) {
+      // tokens verified with a key which is no longer trusted must be verified again
+      AccessTokenValidator.clearVerifiedTokens();
+    }
+    if (!previous.keySet().equals(merged.keySet())) {
+      logger.info("PublicKeyRegistry:publish: keys loaded " + merged.keySet());
+    }
+  }
+
+  private static boolean isKeyRemovedOrReplaced(
+      Map<String, KeyData> previous, Map<String, KeyData> current) {
+    for (Map.Entry<String, KeyData> entry : previous.entrySet()) {
+      KeyData keyData = current.get(entry.getKey());
+      if (null == keyData || !keyData.getPublicKey().equals(entry.getValue().getPublicKey())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void onUnknownKid(String keyId) {
+    unknownKidLookups.increment();
+    long now = clock.getAsLong();
+    Long expiry = unknownKids.get(keyId);
+    if (null != expiry && now < expiry) {
+      return;
+    }
+    if (unknownKids.size() >= MAX_UNKNOWN_KIDS) {
+      unknownKids.clear();
+    }
+    unknownKids.put(keyId, now + unknownKidTtl);
+    // the key id comes from the token, unverified
+    logger.debug(
+        "PublicKeyRegistry:getPublicKey: no public key for kid "
+            + StringUtils.abbreviate(keyId, MAX_LOGGED_KID_LENGTH));
+    ScheduledExecutorService executor = scheduler;
+    if (jwksEnabled && null != executor && tryEarlyPull(now)) {
+      logger.info("PublicKeyRegistry:onUnknownKid: unknown kid, pulling jwks keys early");
+      try {
+        // the key may just have been rotated
+        executor.execute(this::reloadJwks);
+      } catch (Exception e) {
+        logger.error("PublicKeyRegistry:onUnknownKid: error scheduling reload", e);
+      }
+    }
+  }
+
+  /**
+   * @param now Current time
+   * @return True if no early pull of the JWKS keys was started within the minimum interval, in
+   *     which case the caller starts one
+   */
+  boolean tryEarlyPull(long now) {
+    long next = nextEarlyPull.get();
+    if (now < next || !nextEarlyPull.compareAndSet(next, now + jwksMinPull)) {
+      return false;
+    }
+    earlyPulls.increment();
+    return true;
+  }
+
+  private void watch() {
+    try {
+      watchService = FileSystems.getDefault().newWatchService();
+      basePath.register(
+          watchService,
+          StandardWatchEventKinds.ENTRY_CREATE,
+          StandardWatchEventKinds.ENTRY_MODIFY,
+          StandardWatchEventKinds.ENTRY_DELETE);
+    } catch (Exception e) {
+      logger.error(
+          "PublicKeyRegistry:watch: error watching " + basePath + ", keys not reloaded", e);
+      return;
+    }
+    WatchService service = watchService;
+    Thread watcher = new Thread(() -> watchLoop(service), "public-key-watcher");
+    watcher.setDaemon(true);
+    watcher.start();
+  }
+
+  private void watchLoop(WatchService service) {
+    try {
+      while (true) {
+        WatchKey key = service.take();
+        key.pollEvents();
+        scheduleReload();
+        if (!key.reset()) {
+          logger.info("PublicKeyRegistry:watchLoop: key directory no longer accessible");
+          return;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ClosedWatchServiceException e) {
+      // stopped
+    }
+  }
+
+  private void scheduleReload() {
+    ScheduledExecutorService executor = scheduler;
+    if (null != executor && reloadScheduled.compareAndSet(false, true)) {
+      try {
+        executor.schedule(
+            () -> {
+              reloadScheduled.set(false);
+              reloadDirectory();
+            },
+            RELOAD_DELAY,
+            TimeUnit.MILLISECONDS);
+      } catch (Exception e) {
+        reloadScheduled.set(false);
+        logger.error("PublicKeyRegistry:scheduleReload: error scheduling reload", e);
+      }
+    }
+  }
+
+  private static String fetchJwks() {
+    String url =
+        ProjectUtil.getConfigValue(JsonKey.SUNBIRD_SSO_URL)
+            + "realms/"
+            + ProjectUtil.getConfigValue(JsonKey.SUNBIRD_SSO_RELAM)
+            + "/protocol/openid-connect/certs";
+    HttpClientUtil.getInstance();
+    return HttpClientUtil.get(url, null, null);
+  }
+
+  private static int getInt(String key, int defaultValue) {
+    String value = ProjectUtil.getConfigValue(key);
+    if (StringUtils.isBlank(value)) {
+      return defaultValue;
+    }
+    try {
+      return Integer.parseInt(value.trim());
+    } catch (NumberFormatException e) {
+      logger.info("PublicKeyRegistry:getInt: invalid value " + value + " for " + key);
+      return defaultValue;
+    }
+  }
+}
@@ -0,0 +1,148 @@
+package org.sunbird.auth.verifier;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import org.apache.commons.lang3.StringUtils;
+import org.sunbird.logging.LoggerUtil;
+import org.sunbird.util.ProjectUtil;
+
+/**
+ * Payloads of access tokens whose signature was verified, so that a token presented again is not
+ * verified again. Tokens are keyed by their SHA-256 hash and kept until they expire at the latest;
+ * least recently used tokens are evicted beyond the configured size, a size of 0 disables the
+ * cache.
+ */
+public final class VerifiedTokenCache {
+  private static final LoggerUtil logger = new LoggerUtil(VerifiedTokenCache.class);
+
+  static final String SIZE = "sunbird_access_token_cache_size";
+  private static final int DEFAULT_SIZE = 10000;
+
+  private static final ThreadLocal<MessageDigest> digests =
+      ThreadLocal.withInitial(VerifiedTokenCache::newDigest);
+
+  private final int maxSize;
+  private final LongSupplier clock;
+  private final Map<String, VerifiedToken> tokens;
+
+  /**
+   * @param maxSize Maximum number of tokens kept
+   * @param clock Current time in seconds, as the exp claim of tokens
+   */
+  VerifiedTokenCache(int maxSize, LongSupplier clock) {
+    this.maxSize = maxSize;
+    this.clock = clock;
+    this.tokens =
+        new LinkedHashMap<String, VerifiedToken>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+            return size() > VerifiedTokenCache.this.maxSize;
+          }
+        };
+  }
+
+  /**
+   * Cache sized by the sunbird_access_token_cache_size setting.
+   *
+   * @param clock Current time in seconds
+   * @return VerifiedTokenCache
+   */
+  static VerifiedTokenCache create(LongSupplier clock) {
+    int maxSize = DEFAULT_SIZE;
+    String size = ProjectUtil.getConfigValue(SIZE);
+    if (StringUtils.isNotBlank(size)) {
+      try {
+        maxSize = Integer.parseInt(size.trim());
+      } catch (NumberFormatException e) {
+        logger.info("VerifiedTokenCache:create: invalid value " + size + " for " + SIZE);
+      }
+    }
+    return new VerifiedTokenCache(maxSize, clock);
+  }
+
+  public boolean isEnabled() {
+    return maxSize > 0;
+  }
+
+  /**
+   * @param token Access token
+   * @return Payload of the token if it was verified and has not expired since, null otherwise
+   */
+  public Map<String, Object> get(String token) {
+    if (!isEnabled()) {
+      return null;
+    }
+    String key = hash(token);
+    synchronized (tokens) {
+      VerifiedToken verifiedToken = tokens.get(key);
+      if (null == verifiedToken) {
+        return null;
+      }
+      if (clock.getAsLong() > verifiedToken.expiration) {
+        tokens.remove(key);
+        return null;
+      }
+      return verifiedToken.payload;
+    }
+  }
+
+  /**
+   * @param token Access token whose signature was verified
+   * @param payload Payload of the token
+   * @param expiration Expiry time of the token in seconds (exp claim)
+   */
+  public void put(String token, Map<String, Object> payload, long expiration) {
+    if (isEnabled() && clock.getAsLong() <= expiration) {
+      VerifiedToken verifiedToken =
+          new VerifiedToken(Collections.unmodifiableMap(payload), expiration);
+      String key = hash(token);
+      synchronized (tokens) {
+        tokens.put(key, verifiedToken);
+      }
+    }
+  }
+
+  /** Forget all verified tokens, e.g. once the keys they were verified with changed. */
+  public void clear() {
+    synchronized (tokens) {
+      tokens.clear();
+    }
+  }
+
+  int size() {
+    synchronized (tokens) {
+      return tokens.size();
+    }
+  }
+
+  private static String hash(String token) {
+    MessageDigest digest = digests.get();
+    digest.reset();
+    return Base64.getEncoder()
+        .encodeToString(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static final class VerifiedToken {
+    private final Map<String, Object> payload;
+    private final long expiration;
+
+    VerifiedToken(Map<String, Object> payload, long expiration) {
+      this.payload = payload;
+      this.expiration = expiration;
+    }
+  }
+}
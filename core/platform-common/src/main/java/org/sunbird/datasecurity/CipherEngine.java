@@ -0,0 +1,153 @@
+package org.sunbird.datasecurity;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Salted, multi round AES encryption and decryption of user data, safe to use from any number of
+ * threads.
+ *
+ * <p>A {@link Cipher} is not thread safe, so every thread gets its own cipher, initialised on first
+ * use, along with an output buffer reused by all the values it encrypts or decrypts.
+ *
+ * <p>Values are encoded the way {@link org.sunbird.datasecurity.impl.BASE64Encoder} encodes them (a
+ * line separator after every 76 characters, including after the last line when it is full), so that
+ * encrypted values stay byte for byte identical to the ones already stored and used as search
+ * filters.
+ */
+public final class CipherEngine {
+
+  /** Bytes encoded per line, 76 characters once encoded. */
+  private static final int BYTES_PER_LINE = 57;
+
+  /** Output buffers larger than this are not kept for the next value. */
+  private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+  private static final byte[] LINE_SEPARATOR =
+      System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+  private static final Base64.Encoder ENCODER = Base64.getMimeEncoder(76, LINE_SEPARATOR);
+  private static final Base64.Decoder DECODER = Base64.getMimeDecoder();
+
+  private final int mode;
+  private final SecretKeySpec key;
+  private final String salt;
+  private final byte[] saltBytes;
+  private final ThreadLocal<Worker> workers = new ThreadLocal<>();
+
+  /**
+   * @param mode {@link Cipher#ENCRYPT_MODE} or {@link Cipher#DECRYPT_MODE}
+   * @param key AES key
+   * @param salt Salt prepended to the value before each round
+   */
+  public CipherEngine(int mode, byte[] key, String salt) {
+    this.mode = mode;
+    this.key = new SecretKeySpec(key, EncryptionService.ALGORITHM);
+    this.salt = salt;
+    this.saltBytes = salt.getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Encrypt a value, {@link EncryptionService#ITERATIONS} times.
+   *
+   * @param value Value to encrypt
+   * @return Encrypted value
+   * @throws GeneralSecurityException if the value could not be encrypted
+   */
+  public String encrypt(String value) throws GeneralSecurityException {
+    Worker worker = worker();
+    try {
+      String eValue = value;
+      for (int i = 0; i < EncryptionService.ITERATIONS; i++) {
+        eValue = worker.encrypt(eValue);
+      }
+      return eValue;
+    } catch (GeneralSecurityException | RuntimeException e) {
+      workers.remove();
+      throw e;
+    }
+  }
+
+  /**
+   * Decrypt a value encrypted by {@link #encrypt(String)}.
+   *
+   * @param value Value to decrypt
+   * @return Decrypted value
+   * @throws GeneralSecurityException if the value is not a value encrypted with this key
+   * @throws IllegalArgumentException if the value is not base64 encoded
+   * @throws StringIndexOutOfBoundsException if the decrypted value is not salted
+   */
+  public String decrypt(String value) throws GeneralSecurityException {
+    Worker worker = worker();
+    try {
+      String dValue = value.trim();
+      for (int i = 0; i < DecryptionService.ITERATIONS; i++) {
+        dValue = worker.decrypt(dValue);
+      }
+      return dValue;
+    } catch (GeneralSecurityException | RuntimeException e) {
+      // the cipher may be left mid operation, the next call on this thread starts afresh
+      workers.remove();
+      throw e;
+    }
+  }
+
+  private Worker worker() throws GeneralSecurityException {
+    Worker worker = workers.get();
+    if (null == worker) {
+      worker = new Worker();
+      workers.set(worker);
+    }
+    return worker;
+  }
+
+  /** Cipher and output buffer of one thread. */
+  private final class Worker {
+    private final Cipher cipher;
+    private byte[] buffer = new byte[256];
+
+    Worker() throws GeneralSecurityException {
+      cipher = Cipher.getInstance(EncryptionService.ALGORITHM);
+      cipher.init(mode, key);
+    }
+
+    String encrypt(String value) throws GeneralSecurityException {
+      byte[] input = value.getBytes(StandardCharsets.UTF_8);
+      byte[] output = buffer(cipher.getOutputSize(saltBytes.length + input.length));
+      int length = cipher.update(saltBytes, 0, saltBytes.length, output, 0);
+      length += cipher.doFinal(input, 0, input.length, output, length);
+      ByteBuffer encoded = ENCODER.encode(ByteBuffer.wrap(output, 0, length));
+      String eValue =
+          new String(
+              encoded.array(),
+              encoded.arrayOffset() + encoded.position(),
+              encoded.remaining(),
+              StandardCharsets.US_ASCII);
+      if (length > 0 && length % BYTES_PER_LINE == 0) {
+        return eValue + System.lineSeparator();
+      }
+      return eValue;
+    }
+
+    String decrypt(String value) throws GeneralSecurityException {
+      byte[] input = DECODER.decode(value);
+      byte[] output = buffer(cipher.getOutputSize(input.length));
+      int length = cipher.doFinal(input, 0, input.length, output, 0);
+      return new String(output, 0, length, StandardCharsets.UTF_8).substring(salt.length());
+    }
+
+    private byte[] buffer(int size) {
+      if (size <= buffer.length) {
+        return buffer;
+      }
+      byte[] output = new byte[size];
+      if (size <= MAX_RETAINED_BUFFER) {
+        buffer = output;
+      }
+      return output;
+    }
+  }
+}
@@ -32,6 +32,28 @@ public interface DataMaskingService {
    */
   String maskEmail(String email);
 
+  /**
+   * Decrypt and mask an encrypted phone number.
+   *
+   * @param encryptedPhone Encrypted phone number
+   * @param decryptionService Service decrypting the phone number
+   * @return Masked phone number
+   */
+  default String maskEncryptedPhone(String encryptedPhone, DecryptionService decryptionService) {
+    return maskPhone(decryptionService.decryptData(encryptedPhone, null));
+  }
+
+  /**
+   * Decrypt and mask an encrypted email.
+   *
+   * @param encryptedEmail Encrypted email
+   * @param decryptionService Service decrypting the email
+   * @return Masked email
+   */
+  default String maskEncryptedEmail(String encryptedEmail, DecryptionService decryptionService) {
+    return maskEmail(decryptionService.decryptData(encryptedEmail, null));
+  }
+
   /**
    * @param data
    * @return
@@ -0,0 +1,194 @@
+package org.sunbird.datasecurity;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import org.apache.commons.lang3.StringUtils;
+import org.sunbird.logging.LoggerUtil;
+import org.sunbird.util.ProjectUtil;
+
+/**
+ * Bounded, time expiring cache of values derived from encrypted user data (decrypted or masked
+ * values), keyed by the encrypted value.
+ *
+ * <p>As the cached values are personal data, the cache is disabled unless switched on, holds at
+ * most the configured number of values (least recently used ones are evicted first) and drops every
+ * value once it is older than the configured time to live, however often it is read.
+ *
+ * <p>Hits, misses, evictions and expirations of every cache are published by {@link
+ * #getSnapshot()}.
+ */
+public final class DecryptedValueCache {
+  private static final LoggerUtil logger = new LoggerUtil(DecryptedValueCache.class);
+
+  static final String ENABLED = "sunbird_%s_cache_enabled";
+  static final String SIZE = "sunbird_%s_cache_size";
+  static final String TTL = "sunbird_%s_cache_ttl_seconds";
+
+  private static final int DEFAULT_SIZE = 10000;
+  private static final int DEFAULT_TTL = 300;
+
+  private static final Map<String, DecryptedValueCache> caches = new ConcurrentHashMap<>();
+
+  private final boolean enabled;
+  private final int maxSize;
+  private final long ttl;
+  private final LongSupplier clock;
+  private final Map<String, CachedValue> values;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder expirations = new LongAdder();
+
+  DecryptedValueCache(boolean enabled, int maxSize, long ttl, LongSupplier clock) {
+    this.enabled = enabled && maxSize > 0 && ttl > 0;
+    this.maxSize = maxSize;
+    this.ttl = ttl;
+    this.clock = clock;
+    this.values =
+        new LinkedHashMap<String, CachedValue>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, CachedValue> eldest) {
+            if (size() > DecryptedValueCache.this.maxSize) {
+              evictions.increment();
+              return true;
+            }
+            return false;
+          }
+        };
+  }
+
+  /**
+   * Cache of the given name, configured by the sunbird_&lt;name&gt;_cache_enabled,
+   * sunbird_&lt;name&gt;_cache_size and sunbird_&lt;name&gt;_cache_ttl_seconds settings.
+   *
+   * @param name Name of the cache (e.g. decryption)
+   * @return DecryptedValueCache
+   */
+  public static DecryptedValueCache create(String name) {
+    boolean enabled =
+        Boolean.parseBoolean(ProjectUtil.getConfigValue(String.format(ENABLED, name)));
+    int maxSize = getInt(String.format(SIZE, name), DEFAULT_SIZE);
+    int ttl = getInt(String.format(TTL, name), DEFAULT_TTL);
+    logger.info(
+        "DecryptedValueCache:create: "
+            + name
+            + " enabled = "
+            + enabled
+            + ", size = "
+            + maxSize
+            + ", ttl = "
+            + ttl
+            + " s");
+    DecryptedValueCache cache =
+        new DecryptedValueCache(
+            enabled, maxSize, TimeUnit.SECONDS.toMillis(ttl), System::currentTimeMillis);
+    caches.put(name, cache);
+    return cache;
+  }
+
+  /**
+   * Metrics of all caches.
+   *
+   * @return Map of cache name to (metric name, value) map
+   */
+  public static Map<String, Object> getSnapshot() {
+    Map<String, Object> snapshot = new TreeMap<>();
+    caches.forEach((name, cache) -> snapshot.put(name, cache.getMetrics()));
+    return snapshot;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * @param key Encrypted value
+   * @return Cached value, null if there is none or it expired
+   */
+  public String get(String key) {
+    if (!enabled || null == key) {
+      return null;
+    }
+    CachedValue entry;
+    synchronized (values) {
+      entry = values.get(key);
+      if (null != entry && clock.getAsLong() >= entry.expiresAt) {
+        values.remove(key);
+        expirations.increment();
+        entry = null;
+      }
+    }
+    if (null == entry) {
+      misses.increment();
+      return null;
+    }
+    hits.increment();
+    return entry.value;
+  }
+
+  /**
+   * @param key Encrypted value
+   * @param value Value derived from it
+   */
+  public void put(String key, String value) {
+    if (enabled && null != key && null != value) {
+      CachedValue entry = new CachedValue(value, clock.getAsLong() + ttl);
+      synchronized (values) {
+        values.put(key, entry);
+      }
+    }
+  }
+
+  /** Drop all cached values. */
+  public void clear() {
+    synchronized (values) {
+      values.clear();
+    }
+  }
+
+  int size() {
+    synchronized (values) {
+      return values.size();
+    }
+  }
+
+  Map<String, Object> getMetrics() {
+    Map<String, Object> metrics = new TreeMap<>();
+    metrics.put("enabled", enabled);
+    metrics.put("size", size());
+    metrics.put("maxSize", maxSize);
+    metrics.put("hits", hits.sum());
+    metrics.put("misses", misses.sum());
+    metrics.put("evictions", evictions.sum());
+    metrics.put("expirations", expirations.sum());
+    return metrics;
+  }
+
+  private static int getInt(String key, int defaultValue) {
+    String value = ProjectUtil.getConfigValue(key);
+    if (StringUtils.isBlank(value)) {
+      return defaultValue;
+    }
+    try {
+      return Integer.parseInt(value.trim());
+    } catch (NumberFormatException e) {
+      logger.info("DecryptedValueCache:getInt: invalid value " + value + " for " + key);
+      return defaultValue;
+    }
+  }
+
+  private static final class CachedValue {
+    private final String value;
+    private final long expiresAt;
+
+    CachedValue(String value, long expiresAt) {
+      this.value = value;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
@@ -1,14 +1,24 @@
 /** */
 package org.sunbird.datasecurity.impl;
 
+import java.util.function.UnaryOperator;
 import org.apache.commons.lang3.StringUtils;
 import org.sunbird.datasecurity.DataMaskingService;
+import org.sunbird.datasecurity.DecryptedValueCache;
+import org.sunbird.datasecurity.DecryptionService;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.util.ProjectUtil;
 
 /** @author Manzarul */
 public class DefaultDataMaskServiceImpl implements DataMaskingService {
 
+  /**
+   * Masked values by encrypted value, kept apart from the decrypted values so that they can be
+   * cached without the plain values staying in memory.
+   */
+  private static final DecryptedValueCache maskedValues =
+      DecryptedValueCache.create("masked_value");
+
   @Override
   public String maskPhone(String phone) {
     if (StringUtils.isBlank(phone) || phone.length() < 10) {
@@ -45,4 +55,31 @@ public class DefaultDataMaskServiceImpl implements DataMaskingService {
     }
     return builder.toString();
   }
+
+  @Override
+  public String maskEncryptedPhone(String encryptedPhone, DecryptionService decryptionService) {
+    return maskEncrypted(JsonKey.PHONE, encryptedPhone, decryptionService, this::maskPhone);
+  }
+
+  @Override
+  public String maskEncryptedEmail(String encryptedEmail, DecryptionService decryptionService) {
+    return maskEncrypted(JsonKey.EMAIL, encryptedEmail, decryptionService, this::maskEmail);
+  }
+
+  private static String maskEncrypted(
+      String type,
+      String encryptedValue,
+      DecryptionService decryptionService,
+      UnaryOperator<String> mask) {
+    if (StringUtils.isBlank(encryptedValue) || !maskedValues.isEnabled()) {
+      return mask.apply(decryptionService.decryptData(encryptedValue, null));
+    }
+    String key = type + ":" + encryptedValue;
+    String maskedValue = maskedValues.get(key);
+    if (null == maskedValue) {
+      maskedValue = mask.apply(decryptionService.decryptData(encryptedValue, null));
+      maskedValues.put(key, maskedValue);
+    }
+    return maskedValue;
+  }
 }
@@ -1,14 +1,13 @@
 package org.sunbird.datasecurity.impl;
 
-import java.nio.charset.StandardCharsets;
-import java.security.Key;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import javax.crypto.Cipher;
-import javax.crypto.spec.SecretKeySpec;
 import org.apache.commons.lang3.StringUtils;
+import org.sunbird.datasecurity.CipherEngine;
+import org.sunbird.datasecurity.DecryptedValueCache;
 import org.sunbird.datasecurity.DecryptionService;
 import org.sunbird.exception.ProjectCommonException;
 import org.sunbird.exception.ResponseCode;
@@ -24,14 +23,14 @@ public class DefaultDecryptionServiceImpl implements DecryptionService {
 
   private String sunbirdEncryption = "";
 
-  private static Cipher c;
+  private static CipherEngine engine;
+
+  private static final DecryptedValueCache cache = DecryptedValueCache.create("decryption");
 
   static {
     try {
       sunbird_encryption = DefaultEncryptionServiceImpl.getSalt();
-      Key key = generateKey();
-      c = Cipher.getInstance(ALGORITHM);
-      c.init(Cipher.DECRYPT_MODE, key);
+      engine = new CipherEngine(Cipher.DECRYPT_MODE, keyValue, sunbird_encryption);
     } catch (Exception e) {
       logger.error(e.getMessage(), e);
     }
@@ -97,16 +96,13 @@ public class DefaultDecryptionServiceImpl implements DecryptionService {
 
   public static String decrypt(
       String value, boolean throwExceptionOnFailure, RequestContext context) {
+    String cached = cache.get(value);
+    if (null != cached) {
+      return cached;
+    }
     try {
-      String dValue = null;
-      String valueToDecrypt = value.trim();
-      for (int i = 0; i < ITERATIONS; i++) {
-        byte[] decordedValue = new BASE64Decoder().decodeBuffer(valueToDecrypt);
-        byte[] decValue = c.doFinal(decordedValue);
-        dValue =
-            new String(decValue, StandardCharsets.UTF_8).substring(sunbird_encryption.length());
-        valueToDecrypt = dValue;
-      }
+      String dValue = engine.decrypt(value);
+      cache.put(value, dValue);
       return dValue;
     } catch (Exception ex) {
       // This could happen with masked email and phone number. Not others.
@@ -119,8 +115,4 @@ public class DefaultDecryptionServiceImpl implements DecryptionService {
     }
     return value;
   }
-
-  private static Key generateKey() {
-    return new SecretKeySpec(keyValue, ALGORITHM);
-  }
 }
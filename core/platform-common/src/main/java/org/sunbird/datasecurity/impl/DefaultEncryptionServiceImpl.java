@@ -1,14 +1,12 @@
 package org.sunbird.datasecurity.impl;
 
-import java.nio.charset.StandardCharsets;
-import java.security.Key;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import javax.crypto.Cipher;
-import javax.crypto.spec.SecretKeySpec;
 import org.apache.commons.lang3.StringUtils;
+import org.sunbird.datasecurity.CipherEngine;
 import org.sunbird.datasecurity.EncryptionService;
 import org.sunbird.exception.ProjectCommonException;
 import org.sunbird.exception.ResponseCode;
@@ -29,14 +27,12 @@ public class DefaultEncryptionServiceImpl implements EncryptionService {
 
   private String sunbirdEncryption = "";
 
-  private static Cipher c;
+  private static CipherEngine engine;
 
   static {
     try {
       encryption_key = getSalt();
-      Key key = generateKey();
-      c = Cipher.getInstance(ALGORITHM);
-      c.init(Cipher.ENCRYPT_MODE, key);
+      engine = new CipherEngine(Cipher.ENCRYPT_MODE, keyValue, encryption_key);
     } catch (Exception e) {
       logger.error(e.getMessage(), e);
     }
@@ -100,30 +96,17 @@ public class DefaultEncryptionServiceImpl implements EncryptionService {
    * @param value String password
    * @return encrypted password.
    */
-  @SuppressWarnings("restriction")
   public static String encrypt(String value, RequestContext context) {
-    String valueToEnc = null;
-    String eValue = value;
-    for (int i = 0; i < ITERATIONS; i++) {
-      valueToEnc = encryption_key + eValue;
-      byte[] encValue = new byte[0];
-      try {
-        encValue = c.doFinal(valueToEnc.getBytes(StandardCharsets.UTF_8));
-      } catch (Exception e) {
-        logger.error(
-            context, "Exception while encrypting user data, with message : " + e.getMessage(), e);
-        throw new ProjectCommonException(
-            ResponseCode.serverError,
-            ResponseCode.serverError.getErrorMessage(),
-            ResponseCode.SERVER_ERROR.getResponseCode());
-      }
-      eValue = new BASE64Encoder().encode(encValue);
+    try {
+      return engine.encrypt(value);
+    } catch (Exception e) {
+      logger.error(
+          context, "Exception while encrypting user data, with message : " + e.getMessage(), e);
+      throw new ProjectCommonException(
+          ResponseCode.serverError,
+          ResponseCode.serverError.getErrorMessage(),
+          ResponseCode.SERVER_ERROR.getResponseCode());
     }
-    return eValue;
-  }
-
-  private static Key generateKey() {
-    return new SecretKeySpec(keyValue, ALGORITHM);
   }
 
   /** @return */
@@ -61,10 +61,12 @@ public final class JsonKey {
   public static final String CREATED_BY = "createdBy";
   public static final String CREATED_DATE = "createdDate";
   public static final String CURRENT_STATE = "CURRENT_STATE";
+  public static final String CURSOR = "cursor";
   public static final String DATA = "data";
   public static final String KEY = "key";
   public static final String KEYS = "keys";
   public static final String DATE_HISTOGRAM = "DATE_HISTOGRAM";
+  public static final String DECRYPTION_CACHE = "Decryption cache";
   public static final String DEFAULT_CONSUMER_ID = "internal";
   public static final String DEFAULT_ROOT_ORG_ID = "ORG_001";
   public static final String DELETE = "delete";
@@ -153,6 +155,7 @@ public final class JsonKey {
   public static final String MISSING_FIELDS = "missingFields";
   public static final String MOBILE = "mobile";
   public static final String NAME = "name";
+  public static final String NEXT_CURSOR = "nextCursor";
   public static final String NOT_EXISTS = "not_exists";
   public static final String NOTE = "note";
   public static final String NOTE_ID = "noteId";
@@ -482,6 +485,8 @@ public final class JsonKey {
   public static final String LIMIT_MANAGED_USER_CREATION = "limit_managed_user_creation";
   public static final String MANAGED_USER_LIMIT = "managed_user_limit";
   public static final String ACCESS_TOKEN_PUBLICKEY_BASEPATH = "accesstoken.publickey.basepath";
+  public static final String ACCESS_TOKEN_KEYS = "Access token keys";
+  public static final String TELEMETRY_WRITER = "Telemetry writer";
   public static final String SHA_256_WITH_RSA = "SHA256withRSA";
   public static final String SUB = "sub";
   public static final String DOT_SEPARATOR = ".";
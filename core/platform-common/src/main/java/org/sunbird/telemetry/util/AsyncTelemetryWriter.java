@@ -0,0 +1,234 @@
+package org.sunbird.telemetry.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import org.apache.commons.lang3.StringUtils;
+import org.sunbird.logging.LoggerUtil;
+import org.sunbird.request.Request;
+import org.sunbird.util.ProjectUtil;
+
+/**
+ * Writes telemetry events off the request threads: callers only add the event to a bounded queue, a
+ * single background thread takes the events in batches, assembles and validates them and hands
+ * them to the telemetry logger.
+ *
+ * <p>When the queue is full, events are either dropped (and counted) or the caller waits for room,
+ * at most for the configured time, before dropping the event. Queue size, capacity and event counts
+ * are published by {@link #getMetrics()}.
+ */
+public final class AsyncTelemetryWriter {
+  private static final LoggerUtil logger = new LoggerUtil(AsyncTelemetryWriter.class);
+
+  static final String ENABLED = "sunbird_telemetry_async_enabled";
+  static final String QUEUE_SIZE = "sunbird_telemetry_queue_size";
+  static final String BATCH_SIZE = "sunbird_telemetry_batch_size";
+  static final String OVERFLOW_POLICY = "sunbird_telemetry_overflow_policy";
+  static final String BLOCK_TIMEOUT = "sunbird_telemetry_block_timeout_ms";
+
+  private static final int DEFAULT_QUEUE_SIZE = 10000;
+  private static final int DEFAULT_BATCH_SIZE = 100;
+  private static final int DEFAULT_BLOCK_TIMEOUT = 1000;
+  /** Queued on shutdown to wake the background thread up, never written. */
+  private static final Request STOP = new Request();
+
+  /** What to do with an event when the queue is full. */
+  public enum OverflowPolicy {
+    DROP,
+    BLOCK
+  }
+
+  private final BlockingQueue<Request> queue;
+  private final int capacity;
+  private final int batchSize;
+  private final OverflowPolicy overflowPolicy;
+  private final long blockTimeout;
+  private final Predicate<Request> processor;
+  private final Thread thread;
+  private final LongAdder enqueued = new LongAdder();
+  private final LongAdder dropped = new LongAdder();
+  private final LongAdder written = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private final LongAdder batches = new LongAdder();
+  private volatile boolean running = true;
+
+  AsyncTelemetryWriter(
+      int capacity,
+      int batchSize,
+      OverflowPolicy overflowPolicy,
+      long blockTimeout,
+      Predicate<Request> processor) {
+    this.capacity = Math.max(1, capacity);
+    this.batchSize = Math.max(1, batchSize);
+    this.overflowPolicy = overflowPolicy;
+    this.blockTimeout = blockTimeout;
+    this.processor = processor;
+    this.queue = new ArrayBlockingQueue<>(this.capacity);
+    this.thread = new Thread(this::run, "telemetry-writer");
+    this.thread.setDaemon(true);
+    this.thread.start();
+  }
+
+  /**
+   * Writer configured by the sunbird_telemetry_* settings, or null if telemetry is to be written on
+   * the calling thread.
+   *
+   * @param processor Assembles, validates and logs an event, returns false if it was not written
+   * @return AsyncTelemetryWriter
+   */
+  static AsyncTelemetryWriter create(Predicate<Request> processor) {
+    if ("false".equalsIgnoreCase(ProjectUtil.getConfigValue(ENABLED))) {
+      logger.info("AsyncTelemetryWriter:create: telemetry is written synchronously");
+      return null;
+    }
+    int capacity = getInt(QUEUE_SIZE, DEFAULT_QUEUE_SIZE);
+    int batchSize = getInt(BATCH_SIZE, DEFAULT_BATCH_SIZE);
+    OverflowPolicy overflowPolicy =
+        "block".equalsIgnoreCase(ProjectUtil.getConfigValue(OVERFLOW_POLICY))
+            ? OverflowPolicy.BLOCK
+            : OverflowPolicy.DROP;
+    int blockTimeout = getInt(BLOCK_TIMEOUT, DEFAULT_BLOCK_TIMEOUT);
+    logger.info(
+        "AsyncTelemetryWriter:create: queue size = "
+            + capacity
+            + ", batch size = "
+            + batchSize
+            + ", overflow policy = "
+            + overflowPolicy
+            + ", block timeout = "
+            + blockTimeout
+            + " ms");
+    return new AsyncTelemetryWriter(capacity, batchSize, overflowPolicy, blockTimeout, processor);
+  }
+
+  /**
+   * Queue an event. The maps of the request are copied, so the caller may keep using them.
+   *
+   * @param request Telemetry request
+   * @return false if the event was dropped
+   */
+  public boolean submit(Request request) {
+    Request event = new Request();
+    event.setRequest(copy(request.getRequest()));
+    event.setRequestContext(request.getRequestContext());
+    boolean queued = running && queue.offer(event);
+    if (!queued && running && OverflowPolicy.BLOCK == overflowPolicy) {
+      try {
+        queued = queue.offer(event, blockTimeout, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    if (queued) {
+      enqueued.increment();
+    } else {
+      dropped.increment();
+    }
+    return queued;
+  }
+
+  /**
+   * Stop taking events and write those already queued.
+   *
+   * @param timeout Maximum time to wait for the queued events to be written, in milliseconds
+   */
+  public void shutdown(long timeout) {
+    running = false;
+    // the thread is not interrupted, it could still be writing an event (e.g. to kafka); if the
+    // queue is full the thread does not wait for an event anyway
+    queue.offer(STOP);
+    try {
+      thread.join(timeout);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Metrics of the writer.
+   *
+   * @return Map of metric name to value
+   */
+  public Map<String, Object> getMetrics() {
+    Map<String, Object> metrics = new TreeMap<>();
+    metrics.put("queueSize", queue.size());
+    metrics.put("queueCapacity", capacity);
+    metrics.put("overflowPolicy", overflowPolicy.name());
+    metrics.put("enqueued", enqueued.sum());
+    metrics.put("dropped", dropped.sum());
+    metrics.put("written", written.sum());
+    metrics.put("failed", failed.sum());
+    metrics.put("batches", batches.sum());
+    return metrics;
+  }
+
+  private void run() {
+    List<Request> batch = new ArrayList<>(batchSize);
+    while (running || !queue.isEmpty()) {
+      try {
+        if (running) {
+          batch.add(queue.take());
+        }
+        queue.drainTo(batch, batchSize - batch.size());
+      } catch (InterruptedException e) {
+        // shutdown does not interrupt the thread: keep writing, the flag is cleared by now
+        logger.info("AsyncTelemetryWriter:run: interrupted while waiting for events");
+      }
+      batch.removeIf(request -> STOP == request);
+      if (!batch.isEmpty()) {
+        write(batch);
+        batch.clear();
+      }
+    }
+  }
+
+  private void write(List<Request> batch) {
+    batches.increment();
+    for (Request request : batch) {
+      try {
+        if (processor.test(request)) {
+          written.increment();
+        } else {
+          failed.increment();
+        }
+      } catch (Exception e) {
+        failed.increment();
+        logger.info("AsyncTelemetryWriter:write: exception occurred while writing telemetry");
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> copy(Map<String, Object> map) {
+    if (null == map) {
+      return null;
+    }
+    Map<String, Object> copy = new HashMap<>(map);
+    for (Map.Entry<String, Object> entry : copy.entrySet()) {
+      if (entry.getValue() instanceof Map) {
+        entry.setValue(copy((Map<String, Object>) entry.getValue()));
+      }
+    }
+    return copy;
+  }
+
+  private static int getInt(String key, int defaultValue) {
+    String value = ProjectUtil.getConfigValue(key);
+    if (StringUtils.isBlank(value)) {
+      return defaultValue;
+    }
+    try {
+      return Integer.parseInt(value.trim());
+    } catch (NumberFormatException e) {
+      logger.info("AsyncTelemetryWriter:getInt: invalid value " + value + " for " + key);
+      return defaultValue;
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package org.sunbird.telemetry.util;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
@@ -22,56 +23,107 @@ public class TelemetryWriter {
   private static final LoggerUtil logger = new LoggerUtil(TelemetryWriter.class);
   private static final Logger telemetryEventLogger =
       LoggerFactory.getLogger("TelemetryEventLogger");
+  private static final AsyncTelemetryWriter asyncWriter =
+      AsyncTelemetryWriter.create(TelemetryWriter::process);
 
+  /**
+   * Write a telemetry event. Unless sunbird_telemetry_async_enabled is false, the event is only
+   * queued here and assembled, validated and logged by a background thread.
+   *
+   * @param request Telemetry request
+   */
   public static void write(Request request) {
+    if (null == asyncWriter) {
+      process(request);
+      return;
+    }
+    try {
+      asyncWriter.submit(request);
+    } catch (Exception ex) {
+      logger.info("Exception occurred while queueing telemetry");
+    }
+  }
+
+  /**
+   * Metrics of the telemetry queue, empty if telemetry is written synchronously.
+   *
+   * @return Map of metric name to value
+   */
+  public static Map<String, Object> getMetrics() {
+    return null == asyncWriter ? Collections.emptyMap() : asyncWriter.getMetrics();
+  }
+
+  /**
+   * Write the queued telemetry events, on application shutdown.
+   *
+   * @param timeout Maximum time to wait, in milliseconds
+   */
+  public static void shutdown(long timeout) {
+    if (null != asyncWriter) {
+      asyncWriter.shutdown(timeout);
+    }
+  }
+
+  /**
+   * Assemble, validate and log a telemetry event.
+   *
+   * @param request Telemetry request
+   * @return false if the event was not logged: unknown event type, validation failure or error
+   */
+  static boolean process(Request request) {
     try {
       String eventType = (String) request.getRequest().get(JsonKey.TELEMETRY_EVENT_TYPE);
 
       if (TelemetryEvents.AUDIT.getName().equalsIgnoreCase(eventType)) {
-        processAuditEvent(request);
+        return processAuditEvent(request);
       } else if (TelemetryEvents.SEARCH.getName().equalsIgnoreCase(eventType)) {
-        processSearchEvent(request);
+        return processSearchEvent(request);
       } else if (TelemetryEvents.ERROR.getName().equalsIgnoreCase(eventType)) {
-        processErrorEvent(request);
+        return processErrorEvent(request);
       } else if (TelemetryEvents.LOG.getName().equalsIgnoreCase(eventType)) {
-        processLogEvent(request);
+        return processLogEvent(request);
       }
     } catch (Exception ex) {
       logger.info("Exception occurred while writing telemetry");
     }
+    return false;
   }
 
-  private static void processLogEvent(Request request) {
+  private static boolean processLogEvent(Request request) {
     Map<String, Object> context = (Map<String, Object>) request.getRequest().get(JsonKey.CONTEXT);
     Map<String, Object> params = (Map<String, Object>) request.getRequest().get(JsonKey.PARAMS);
     String telemetry = telemetryDataAssembler.log(context, params);
     if (StringUtils.isNotBlank(telemetry) && telemetryObjectValidator.validateLog(telemetry)) {
       telemetryEventLogger.info(telemetry);
-    } else {
-      logger.info(
-          "TelemetryWriter:processLogEvent: Audit Telemetry validation failed: " + telemetry);
+      return true;
     }
+    logger.info("TelemetryWriter:processLogEvent: Audit Telemetry validation failed: " + telemetry);
+    return false;
   }
 
-  private static void processErrorEvent(Request request) {
+  private static boolean processErrorEvent(Request request) {
     Map<String, Object> context = (Map<String, Object>) request.get(JsonKey.CONTEXT);
     Map<String, Object> params = (Map<String, Object>) request.get(JsonKey.PARAMS);
     String telemetry = telemetryDataAssembler.error(context, params);
     if (StringUtils.isNotBlank(telemetry) && telemetryObjectValidator.validateError(telemetry)) {
       telemetryEventLogger.info(telemetry);
+      return true;
     }
+    return false;
   }
 
-  private static void processSearchEvent(Request request) {
+  private static boolean processSearchEvent(Request request) {
     Map<String, Object> context = (Map<String, Object>) request.get(JsonKey.CONTEXT);
     Map<String, Object> params = (Map<String, Object>) request.get(JsonKey.PARAMS);
     String telemetry = telemetryDataAssembler.search(context, params);
     if (StringUtils.isNotBlank(telemetry) && telemetryObjectValidator.validateSearch(telemetry)) {
       telemetryEventLogger.info(telemetry);
+      return true;
     }
+    return false;
   }
 
-  private static void processAuditEvent(Request request) {
+  private static boolean processAuditEvent(Request request) {
     Map<String, Object> context = (Map<String, Object>) request.get(JsonKey.CONTEXT);
     Map<String, Object> targetObject = (Map<String, Object>) request.get(JsonKey.TARGET_OBJECT);
     List<Map<String, Object>> correlatedObjects =
@@ -87,6 +139,8 @@ public class TelemetryWriter {
     String telemetry = telemetryDataAssembler.audit(context, params);
     if (StringUtils.isNotBlank(telemetry) && telemetryObjectValidator.validateAudit(telemetry)) {
       telemetryEventLogger.info(telemetry);
+      return true;
     }
+    return false;
   }
 }
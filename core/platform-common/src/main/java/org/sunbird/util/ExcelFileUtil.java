@@ -3,15 +3,19 @@ package org.sunbird.util;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.util.Iterator;
 import java.util.List;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFSheet;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.sunbird.logging.LoggerUtil;
 
 public class ExcelFileUtil extends FileUtil {
 
+  private static final int ROW_ACCESS_WINDOW_SIZE = 100;
   private static LoggerUtil logger = new LoggerUtil(ExcelFileUtil.class);
 
   @SuppressWarnings({"resource", "unused"})
@@ -26,23 +30,7 @@ public class ExcelFileUtil extends FileUtil {
     for (Object key : dataValues) {
       Row row = sheet.createRow(rownum);
       List<Object> objArr = dataValues.get(rownum);
-      int cellnum = 0;
-      for (Object obj : objArr) {
-        Cell cell = row.createCell(cellnum++);
-        if (obj instanceof String) {
-          cell.setCellValue((String) obj);
-        } else if (obj instanceof Integer) {
-          cell.setCellValue((Integer) obj);
-        } else if (obj instanceof List) {
-          cell.setCellValue(getListValue(obj));
-        } else if (obj instanceof Double) {
-          cell.setCellValue((Double) obj);
-        } else {
-          if (null != (obj)) {
-            cell.setCellValue(obj.toString());
-          }
-        }
-      }
+      writeRow(row, objArr);
       rownum++;
     }
 
@@ -66,4 +54,51 @@ public class ExcelFileUtil extends FileUtil {
     }
     return file;
   }
+
+  /**
+   * Streaming variant of {@link #writeToFile(String, List)}: only a window of rows is kept in
+   * memory, older rows are flushed to a temporary file until the workbook is written.
+   */
+  public File writeToFile(String fileName, Iterator<List<Object>> rows) {
+    SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
+    File file = null;
+    try {
+      Sheet sheet = workbook.createSheet("Data");
+      int rownum = 0;
+      while (rows.hasNext()) {
+        writeRow(sheet.createRow(rownum++), rows.next());
+      }
+      file = new File(fileName + ".xlsx");
+      try (FileOutputStream out = new FileOutputStream(file)) {
+        workbook.write(out);
+      }
+      logger.info("File " + fileName + " created successfully with " + rownum + " rows");
+    } catch (Exception e) {
+      logger.error("writeToFile: " + e.getMessage(), e);
+    } finally {
+      // delete the temporary files backing the flushed rows
+      workbook.dispose();
+    }
+    return file;
+  }
+
+  private static void writeRow(Row row, List<Object> objArr) {
+    int cellnum = 0;
+    for (Object obj : objArr) {
+      Cell cell = row.createCell(cellnum++);
+      if (obj instanceof String) {
+        cell.setCellValue((String) obj);
+      } else if (obj instanceof Integer) {
+        cell.setCellValue((Integer) obj);
+      } else if (obj instanceof List) {
+        cell.setCellValue(getListValue(obj));
+      } else if (obj instanceof Double) {
+        cell.setCellValue((Double) obj);
+      } else {
+        if (null != (obj)) {
+          cell.setCellValue(obj.toString());
+        }
+      }
+    }
+  }
 }
@@ -1,6 +1,7 @@
 package org.sunbird.util;
 
 import java.io.File;
+import java.util.Iterator;
 import java.util.List;
 import org.apache.commons.lang3.StringUtils;
 
@@ -8,6 +9,16 @@ public abstract class FileUtil {
 
   public abstract File writeToFile(String fileName, List<List<Object>> dataValues);
 
+  /**
+   * Write rows as they are read from the iterator, without holding all of them in memory (e.g. rows
+   * built from an elastic search scan). Not used by any caller yet.
+   *
+   * @param fileName File name without extension
+   * @param rows Iterator over the rows, each row being the list of cell values
+   * @return Created file
+   */
+  public abstract File writeToFile(String fileName, Iterator<List<Object>> rows);
+
   @SuppressWarnings("unchecked")
   protected static String getListValue(Object obj) {
     List<Object> data = (List<Object>) obj;
@@ -8,6 +8,7 @@ import static org.powermock.api.mockito.PowerMockito.when;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.security.PublicKey;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Before;
@@ -22,7 +23,7 @@ import org.powermock.modules.junit4.PowerMockRunner;
 import org.sunbird.util.PropertiesCache;
 
 @RunWith(PowerMockRunner.class)
-@PrepareForTest({CryptoUtil.class, KeyManager.class, Base64Util.class, PropertiesCache.class})
+@PrepareForTest({CryptoUtil.class, KeyManager.class, PropertiesCache.class})
 @PowerMockIgnore({
   "javax.management.*",
   "javax.net.ssl.*",
@@ -41,7 +42,6 @@ public class AccessTokenValidatorTest {
   @Test
   public void verifyUserAccessToken() throws JsonProcessingException {
     PowerMockito.mockStatic(CryptoUtil.class);
-    PowerMockito.mockStatic(Base64Util.class);
     PowerMockito.mockStatic(KeyManager.class);
     PropertiesCache propertiesCache = mock(PropertiesCache.class);
     PowerMockito.when(propertiesCache.getProperty(Mockito.anyString())).thenReturn("anyString");
@@ -55,24 +55,17 @@ public class AccessTokenValidatorTest {
     payload.put("iss", "nullrealms/null");
     payload.put("kid", "kid");
     payload.put("sub", "f:ca00376d-395f-aee687d7c8ad:10cca27c-2a13-443c-9e2b-c7d9589c1f5f");
-    ObjectMapper mapper = new ObjectMapper();
-    Mockito.when(Base64Util.decode(Mockito.any(String.class), Mockito.anyInt()))
-        .thenReturn(mapper.writeValueAsString(payload).getBytes());
     Mockito.when(
             CryptoUtil.verifyRSASign(
                 Mockito.anyString(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyMap()))
         .thenReturn(true);
-    String userId =
-        AccessTokenValidator.verifyUserToken(
-            "eyJhbGciOiJSUzI1NiIsInR5cCIgOiAiSldUIiwia2lkIiA6ICI5emhhVnZDbl81OEtheHpldHBzYXNZQ2lEallkemJIX3U2LV93SDk4SEc0In0.eyJqdGkiOiI5ZmQzNzgzYy01YjZmLTQ3OWQtYmMzYy0yZWEzOGUzZmRmYzgiLCJleHAiOjE1MDUxMTQyNDYsIm5iZiI6MCwiaWF0IjoxNTA1MTEzNjQ2LCJpc3MiOiJodHRwOi8vbG9jYWxob3N0OjgwODAvYXV0aC9yZWFsbXMvbWFzdGVyIiwiYXVkIjoic2VjdXJpdHktYWRtaW4tY29uc29sZSIsInN1YiI6ImIzYTZkMTY4LWJjZmQtNDE2MS1hYzVmLTljZjYyODIyNzlmMyIsInR5cCI6IkJlYXJlciIsImF6cCI6InNlY3VyaXR5LWFkbWluLWNvbnNvbGUiLCJub25jZSI6ImMxOGVlMDM2LTAyMWItNGVlZC04NWVhLTc0MjMyYzg2ZmI4ZSIsImF1dGhfdGltZSI6MTUwNTExMzY0Niwic2Vzc2lvbl9zdGF0ZSI6ImRiZTU2NDlmLTY4MDktNDA3NS05Njk5LTVhYjIyNWMwZTkyMiIsImFjciI6IjEiLCJhbGxvd2VkLW9yaWdpbnMiOltdLCJyZXNvdXJjZV9hY2Nlc3MiOnt9LCJuYW1lIjoiTWFuemFydWwgaGFxdWUiLCJwcmVmZXJyZWRfdXNlcm5hbWUiOiJ0ZXN0MTIzNDU2NyIsImdpdmVuX25hbWUiOiJNYW56YXJ1bCBoYXF1ZSIsImVtYWlsIjoidGVzdDEyM0B0LmNvbSJ9.Xdjqe16MSkiR94g-Uj_pVZ2L3gnIdKpkJ6aB82W_w_c3yEmx1mXYBdkxe4zMz3ks4OX_PWwSFEbJECHcnujUwF6Ula0xtXTfuESB9hFyiWHtVAhuh5UlCCwPnsihv5EqK6u-Qzo0aa6qZOiQK3Zo7FLpnPUDxn4yHyo3mRZUiWf76KTl8PhSMoXoWxcR2vGW0b-cPixILTZPV0xXUZoozCui70QnvTgOJDWqr7y80EWDkS4Ptn-QM3q2nJlw63mZreOG3XTdraOlcKIP5vFK992dyyHlYGqWVzigortS9Ah4cprFVuLlX8mu1cQvqHBtW-0Dq_JlcTMaztEnqvJ6XA",
-            new HashMap<>());
+    String userId = AccessTokenValidator.verifyUserToken(token(payload), new HashMap<>());
     assertNotNull(userId);
   }
 
   @Test
   public void verifySourceUserAccessToken() throws JsonProcessingException {
     PowerMockito.mockStatic(CryptoUtil.class);
-    PowerMockito.mockStatic(Base64Util.class);
     PowerMockito.mockStatic(KeyManager.class);
     PropertiesCache propertiesCache = mock(PropertiesCache.class);
     PowerMockito.when(propertiesCache.getProperty(Mockito.anyString())).thenReturn("anyString");
@@ -86,25 +79,18 @@ public class AccessTokenValidatorTest {
     payload.put("iss", "urlrealms/master");
     payload.put("kid", "kid");
     payload.put("sub", "f:ca00376d-395f-aee687d7c8ad:10cca27c-2a13-443c-9e2b-c7d9589c1f5f");
-    ObjectMapper mapper = new ObjectMapper();
-    Mockito.when(Base64Util.decode(Mockito.any(String.class), Mockito.anyInt()))
-        .thenReturn(mapper.writeValueAsString(payload).getBytes());
     Mockito.when(
             CryptoUtil.verifyRSASign(
                 Mockito.anyString(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyMap()))
         .thenReturn(true);
     String userId =
-        AccessTokenValidator.verifySourceUserToken(
-            "eyJhbGciOiJSUzI1NiIsInR5cCIgOiAiSldUIiwia2lkIiA6ICI5emhhVnZDbl81OEtheHpldHBzYXNZQ2lEallkemJIX3U2LV93SDk4SEc0In0.eyJqdGkiOiI5ZmQzNzgzYy01YjZmLTQ3OWQtYmMzYy0yZWEzOGUzZmRmYzgiLCJleHAiOjE1MDUxMTQyNDYsIm5iZiI6MCwiaWF0IjoxNTA1MTEzNjQ2LCJpc3MiOiJodHRwOi8vbG9jYWxob3N0OjgwODAvYXV0aC9yZWFsbXMvbWFzdGVyIiwiYXVkIjoic2VjdXJpdHktYWRtaW4tY29uc29sZSIsInN1YiI6ImIzYTZkMTY4LWJjZmQtNDE2MS1hYzVmLTljZjYyODIyNzlmMyIsInR5cCI6IkJlYXJlciIsImF6cCI6InNlY3VyaXR5LWFkbWluLWNvbnNvbGUiLCJub25jZSI6ImMxOGVlMDM2LTAyMWItNGVlZC04NWVhLTc0MjMyYzg2ZmI4ZSIsImF1dGhfdGltZSI6MTUwNTExMzY0Niwic2Vzc2lvbl9zdGF0ZSI6ImRiZTU2NDlmLTY4MDktNDA3NS05Njk5LTVhYjIyNWMwZTkyMiIsImFjciI6IjEiLCJhbGxvd2VkLW9yaWdpbnMiOltdLCJyZXNvdXJjZV9hY2Nlc3MiOnt9LCJuYW1lIjoiTWFuemFydWwgaGFxdWUiLCJwcmVmZXJyZWRfdXNlcm5hbWUiOiJ0ZXN0MTIzNDU2NyIsImdpdmVuX25hbWUiOiJNYW56YXJ1bCBoYXF1ZSIsImVtYWlsIjoidGVzdDEyM0B0LmNvbSJ9.Xdjqe16MSkiR94g-Uj_pVZ2L3gnIdKpkJ6aB82W_w_c3yEmx1mXYBdkxe4zMz3ks4OX_PWwSFEbJECHcnujUwF6Ula0xtXTfuESB9hFyiWHtVAhuh5UlCCwPnsihv5EqK6u-Qzo0aa6qZOiQK3Zo7FLpnPUDxn4yHyo3mRZUiWf76KTl8PhSMoXoWxcR2vGW0b-cPixILTZPV0xXUZoozCui70QnvTgOJDWqr7y80EWDkS4Ptn-QM3q2nJlw63mZreOG3XTdraOlcKIP5vFK992dyyHlYGqWVzigortS9Ah4cprFVuLlX8mu1cQvqHBtW-0Dq_JlcTMaztEnqvJ6XA",
-            "url",
-            new HashMap<>());
+        AccessTokenValidator.verifySourceUserToken(token(payload), "url", new HashMap<>());
     assertNotNull(userId);
   }
 
   @Test
   public void verifyUserAccessTokenInvalidToken() throws JsonProcessingException {
     PowerMockito.mockStatic(CryptoUtil.class);
-    PowerMockito.mockStatic(Base64Util.class);
     PowerMockito.mockStatic(KeyManager.class);
     KeyData keyData = PowerMockito.mock(KeyData.class);
     Mockito.when(KeyManager.getPublicKey(Mockito.anyString())).thenReturn(keyData);
@@ -114,24 +100,17 @@ public class AccessTokenValidatorTest {
     int expTime = Time.currentTime() + 3600000;
     payload.put("exp", expTime);
     payload.put("kid", "kid");
-    ObjectMapper mapper = new ObjectMapper();
-    Mockito.when(Base64Util.decode(Mockito.any(String.class), Mockito.anyInt()))
-        .thenReturn(mapper.writeValueAsString(payload).getBytes());
     Mockito.when(
             CryptoUtil.verifyRSASign(
                 Mockito.anyString(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyMap()))
         .thenReturn(false);
-    String userId =
-        AccessTokenValidator.verifyUserToken(
-            "eyJhbGciOiJSUzI1NiIsInR5cCIgOiAiSldUIiwia2lkIiA6ICI5emhhVnZDbl81OEtheHpldHBzYXNZQ2lEallkemJIX3U2LV93SDk4SEc0In0.eyJqdGkiOiI5ZmQzNzgzYy01YjZmLTQ3OWQtYmMzYy0yZWEzOGUzZmRmYzgiLCJleHAiOjE1MDUxMTQyNDYsIm5iZiI6MCwiaWF0IjoxNTA1MTEzNjQ2LCJpc3MiOiJodHRwOi8vbG9jYWxob3N0OjgwODAvYXV0aC9yZWFsbXMvbWFzdGVyIiwiYXVkIjoic2VjdXJpdHktYWRtaW4tY29uc29sZSIsInN1YiI6ImIzYTZkMTY4LWJjZmQtNDE2MS1hYzVmLTljZjYyODIyNzlmMyIsInR5cCI6IkJlYXJlciIsImF6cCI6InNlY3VyaXR5LWFkbWluLWNvbnNvbGUiLCJub25jZSI6ImMxOGVlMDM2LTAyMWItNGVlZC04NWVhLTc0MjMyYzg2ZmI4ZSIsImF1dGhfdGltZSI6MTUwNTExMzY0Niwic2Vzc2lvbl9zdGF0ZSI6ImRiZTU2NDlmLTY4MDktNDA3NS05Njk5LTVhYjIyNWMwZTkyMiIsImFjciI6IjEiLCJhbGxvd2VkLW9yaWdpbnMiOltdLCJyZXNvdXJjZV9hY2Nlc3MiOnt9LCJuYW1lIjoiTWFuemFydWwgaGFxdWUiLCJwcmVmZXJyZWRfdXNlcm5hbWUiOiJ0ZXN0MTIzNDU2NyIsImdpdmVuX25hbWUiOiJNYW56YXJ1bCBoYXF1ZSIsImVtYWlsIjoidGVzdDEyM0B0LmNvbSJ9.Xdjqe16MSkiR94g-Uj_pVZ2L3gnIdKpkJ6aB82W_w_c3yEmx1mXYBdkxe4zMz3ks4OX_PWwSFEbJECHcnujUwF6Ula0xtXTfuESB9hFyiWHtVAhuh5UlCCwPnsihv5EqK6u-Qzo0aa6qZOiQK3Zo7FLpnPUDxn4yHyo3mRZUiWf76KTl8PhSMoXoWxcR2vGW0b-cPixILTZPV0xXUZoozCui70QnvTgOJDWqr7y80EWDkS4Ptn-QM3q2nJlw63mZreOG3XTdraOlcKIP5vFK992dyyHlYGqWVzigortS9Ah4cprFVuLlX8mu1cQvqHBtW-0Dq_JlcTMaztEnqvJ6XA",
-            new HashMap<>());
+    String userId = AccessTokenValidator.verifyUserToken(token(payload), new HashMap<>());
     assertEquals("Unauthorized", userId);
   }
 
   @Test
   public void verifyUserAccessTokenExpiredToken() throws JsonProcessingException {
     PowerMockito.mockStatic(CryptoUtil.class);
-    PowerMockito.mockStatic(Base64Util.class);
     PowerMockito.mockStatic(KeyManager.class);
     KeyData keyData = PowerMockito.mock(KeyData.class);
     Mockito.when(KeyManager.getPublicKey(Mockito.anyString())).thenReturn(keyData);
@@ -141,24 +120,17 @@ public class AccessTokenValidatorTest {
     int expTime = Time.currentTime() - 3600000;
     payload.put("exp", expTime);
     payload.put("kid", "kid");
-    ObjectMapper mapper = new ObjectMapper();
-    Mockito.when(Base64Util.decode(Mockito.any(String.class), Mockito.anyInt()))
-        .thenReturn(mapper.writeValueAsString(payload).getBytes());
     Mockito.when(
             CryptoUtil.verifyRSASign(
                 Mockito.anyString(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyMap()))
         .thenReturn(true);
-    String userId =
-        AccessTokenValidator.verifyUserToken(
-            "eyJhbGciOiJSUzI1NiIsInR5cCIgOiAiSldUIiwia2lkIiA6ICI5emhhVnZDbl81OEtheHpldHBzYXNZQ2lEallkemJIX3U2LV93SDk4SEc0In0.eyJqdGkiOiI5ZmQzNzgzYy01YjZmLTQ3OWQtYmMzYy0yZWEzOGUzZmRmYzgiLCJleHAiOjE1MDUxMTQyNDYsIm5iZiI6MCwiaWF0IjoxNTA1MTEzNjQ2LCJpc3MiOiJodHRwOi8vbG9jYWxob3N0OjgwODAvYXV0aC9yZWFsbXMvbWFzdGVyIiwiYXVkIjoic2VjdXJpdHktYWRtaW4tY29uc29sZSIsInN1YiI6ImIzYTZkMTY4LWJjZmQtNDE2MS1hYzVmLTljZjYyODIyNzlmMyIsInR5cCI6IkJlYXJlciIsImF6cCI6InNlY3VyaXR5LWFkbWluLWNvbnNvbGUiLCJub25jZSI6ImMxOGVlMDM2LTAyMWItNGVlZC04NWVhLTc0MjMyYzg2ZmI4ZSIsImF1dGhfdGltZSI6MTUwNTExMzY0Niwic2Vzc2lvbl9zdGF0ZSI6ImRiZTU2NDlmLTY4MDktNDA3NS05Njk5LTVhYjIyNWMwZTkyMiIsImFjciI6IjEiLCJhbGxvd2VkLW9yaWdpbnMiOltdLCJyZXNvdXJjZV9hY2Nlc3MiOnt9LCJuYW1lIjoiTWFuemFydWwgaGFxdWUiLCJwcmVmZXJyZWRfdXNlcm5hbWUiOiJ0ZXN0MTIzNDU2NyIsImdpdmVuX25hbWUiOiJNYW56YXJ1bCBoYXF1ZSIsImVtYWlsIjoidGVzdDEyM0B0LmNvbSJ9.Xdjqe16MSkiR94g-Uj_pVZ2L3gnIdKpkJ6aB82W_w_c3yEmx1mXYBdkxe4zMz3ks4OX_PWwSFEbJECHcnujUwF6Ula0xtXTfuESB9hFyiWHtVAhuh5UlCCwPnsihv5EqK6u-Qzo0aa6qZOiQK3Zo7FLpnPUDxn4yHyo3mRZUiWf76KTl8PhSMoXoWxcR2vGW0b-cPixILTZPV0xXUZoozCui70QnvTgOJDWqr7y80EWDkS4Ptn-QM3q2nJlw63mZreOG3XTdraOlcKIP5vFK992dyyHlYGqWVzigortS9Ah4cprFVuLlX8mu1cQvqHBtW-0Dq_JlcTMaztEnqvJ6XA",
-            new HashMap<>());
+    String userId = AccessTokenValidator.verifyUserToken(token(payload), new HashMap<>());
     assertEquals("Unauthorized", userId);
   }
 
   @Test
   public void verifyToken() throws JsonProcessingException {
     PowerMockito.mockStatic(CryptoUtil.class);
-    PowerMockito.mockStatic(Base64Util.class);
     PowerMockito.mockStatic(KeyManager.class);
     KeyData keyData = PowerMockito.mock(KeyData.class);
     Mockito.when(KeyManager.getPublicKey(Mockito.anyString())).thenReturn(keyData);
@@ -172,17 +144,13 @@ public class AccessTokenValidatorTest {
     payload.put("kid", "kid");
     payload.put("parentId", "386c7960-7f85-4a24-8131-a8aba519ce7d");
     payload.put("sub", "386c7960-7f85-4a24-8131-a8aba519ce7e");
-    ObjectMapper mapper = new ObjectMapper();
-    Mockito.when(Base64Util.decode(Mockito.any(String.class), Mockito.anyInt()))
-        .thenReturn(mapper.writeValueAsString(payload).getBytes());
-
     Mockito.when(
             CryptoUtil.verifyRSASign(
                 Mockito.anyString(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyMap()))
         .thenReturn(true);
     String userId =
         AccessTokenValidator.verifyManagedUserToken(
-            "eyJhbGciOiJSUzI1NiIsInR5cCIgOiAiSldUIiwia2lkIiA6ICI5emhhVnZDbl81OEtheHpldHBzYXNZQ2lEallkemJIX3U2LV93SDk4SEc0In0.eyJqdGkiOiI5ZmQzNzgzYy01YjZmLTQ3OWQtYmMzYy0yZWEzOGUzZmRmYzgiLCJleHAiOjE1MDUxMTQyNDYsIm5iZiI6MCwiaWF0IjoxNTA1MTEzNjQ2LCJpc3MiOiJodHRwOi8vbG9jYWxob3N0OjgwODAvYXV0aC9yZWFsbXMvbWFzdGVyIiwiYXVkIjoic2VjdXJpdHktYWRtaW4tY29uc29sZSIsInN1YiI6ImIzYTZkMTY4LWJjZmQtNDE2MS1hYzVmLTljZjYyODIyNzlmMyIsInR5cCI6IkJlYXJlciIsImF6cCI6InNlY3VyaXR5LWFkbWluLWNvbnNvbGUiLCJub25jZSI6ImMxOGVlMDM2LTAyMWItNGVlZC04NWVhLTc0MjMyYzg2ZmI4ZSIsImF1dGhfdGltZSI6MTUwNTExMzY0Niwic2Vzc2lvbl9zdGF0ZSI6ImRiZTU2NDlmLTY4MDktNDA3NS05Njk5LTVhYjIyNWMwZTkyMiIsImFjciI6IjEiLCJhbGxvd2VkLW9yaWdpbnMiOltdLCJyZXNvdXJjZV9hY2Nlc3MiOnt9LCJuYW1lIjoiTWFuemFydWwgaGFxdWUiLCJwcmVmZXJyZWRfdXNlcm5hbWUiOiJ0ZXN0MTIzNDU2NyIsImdpdmVuX25hbWUiOiJNYW56YXJ1bCBoYXF1ZSIsImVtYWlsIjoidGVzdDEyM0B0LmNvbSJ9.Xdjqe16MSkiR94g-Uj_pVZ2L3gnIdKpkJ6aB82W_w_c3yEmx1mXYBdkxe4zMz3ks4OX_PWwSFEbJECHcnujUwF6Ula0xtXTfuESB9hFyiWHtVAhuh5UlCCwPnsihv5EqK6u-Qzo0aa6qZOiQK3Zo7FLpnPUDxn4yHyo3mRZUiWf76KTl8PhSMoXoWxcR2vGW0b-cPixILTZPV0xXUZoozCui70QnvTgOJDWqr7y80EWDkS4Ptn-QM3q2nJlw63mZreOG3XTdraOlcKIP5vFK992dyyHlYGqWVzigortS9Ah4cprFVuLlX8mu1cQvqHBtW-0Dq_JlcTMaztEnqvJ6XA",
+            token(payload),
             "386c7960-7f85-4a24-8131-a8aba519ce7d",
             "386c7960-7f85-4a24-8131-a8aba519ce7e",
             new HashMap<>());
@@ -192,7 +160,6 @@ public class AccessTokenValidatorTest {
   @Test
   public void verifyTokenWithNullParentId() throws JsonProcessingException {
     PowerMockito.mockStatic(CryptoUtil.class);
-    PowerMockito.mockStatic(Base64Util.class);
     PowerMockito.mockStatic(KeyManager.class);
     KeyData keyData = PowerMockito.mock(KeyData.class);
     Mockito.when(KeyManager.getPublicKey(Mockito.anyString())).thenReturn(keyData);
@@ -205,17 +172,13 @@ public class AccessTokenValidatorTest {
     payload.put("requestedForUserId", "386c7960-7f85-4a24-8131-a8aba519ce7e");
     payload.put("kid", "kid");
     payload.put("sub", "386c7960-7f85-4a24-8131-a8aba519ce7e");
-    ObjectMapper mapper = new ObjectMapper();
-    Mockito.when(Base64Util.decode(Mockito.any(String.class), Mockito.anyInt()))
-        .thenReturn(mapper.writeValueAsString(payload).getBytes());
-
     Mockito.when(
             CryptoUtil.verifyRSASign(
                 Mockito.anyString(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyMap()))
         .thenReturn(true);
     try {
       AccessTokenValidator.verifyManagedUserToken(
-          "eyJhbGciOiJSUzI1NiIsInR5cCIgOiAiSldUIiwia2lkIiA6ICI5emhhVnZDbl81OEtheHpldHBzYXNZQ2lEallkemJIX3U2LV93SDk4SEc0In0.eyJqdGkiOiI5ZmQzNzgzYy01YjZmLTQ3OWQtYmMzYy0yZWEzOGUzZmRmYzgiLCJleHAiOjE1MDUxMTQyNDYsIm5iZiI6MCwiaWF0IjoxNTA1MTEzNjQ2LCJpc3MiOiJodHRwOi8vbG9jYWxob3N0OjgwODAvYXV0aC9yZWFsbXMvbWFzdGVyIiwiYXVkIjoic2VjdXJpdHktYWRtaW4tY29uc29sZSIsInN1YiI6ImIzYTZkMTY4LWJjZmQtNDE2MS1hYzVmLTljZjYyODIyNzlmMyIsInR5cCI6IkJlYXJlciIsImF6cCI6InNlY3VyaXR5LWFkbWluLWNvbnNvbGUiLCJub25jZSI6ImMxOGVlMDM2LTAyMWItNGVlZC04NWVhLTc0MjMyYzg2ZmI4ZSIsImF1dGhfdGltZSI6MTUwNTExMzY0Niwic2Vzc2lvbl9zdGF0ZSI6ImRiZTU2NDlmLTY4MDktNDA3NS05Njk5LTVhYjIyNWMwZTkyMiIsImFjciI6IjEiLCJhbGxvd2VkLW9yaWdpbnMiOltdLCJyZXNvdXJjZV9hY2Nlc3MiOnt9LCJuYW1lIjoiTWFuemFydWwgaGFxdWUiLCJwcmVmZXJyZWRfdXNlcm5hbWUiOiJ0ZXN0MTIzNDU2NyIsImdpdmVuX25hbWUiOiJNYW56YXJ1bCBoYXF1ZSIsImVtYWlsIjoidGVzdDEyM0B0LmNvbSJ9.Xdjqe16MSkiR94g-Uj_pVZ2L3gnIdKpkJ6aB82W_w_c3yEmx1mXYBdkxe4zMz3ks4OX_PWwSFEbJECHcnujUwF6Ula0xtXTfuESB9hFyiWHtVAhuh5UlCCwPnsihv5EqK6u-Qzo0aa6qZOiQK3Zo7FLpnPUDxn4yHyo3mRZUiWf76KTl8PhSMoXoWxcR2vGW0b-cPixILTZPV0xXUZoozCui70QnvTgOJDWqr7y80EWDkS4Ptn-QM3q2nJlw63mZreOG3XTdraOlcKIP5vFK992dyyHlYGqWVzigortS9Ah4cprFVuLlX8mu1cQvqHBtW-0Dq_JlcTMaztEnqvJ6XA",
+          token(payload),
           "386c7960-7f85-4a24-8131-a8aba519ce7d",
           "386c7960-7f85-4a24-8131-a8aba519ce7e",
           new HashMap<>());
@@ -223,4 +186,18 @@ public class AccessTokenValidatorTest {
       assertNotNull(e);
     }
   }
+
+  private static String token(Map<String, Object> payload) throws JsonProcessingException {
+    ObjectMapper mapper = new ObjectMapper();
+    Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    Map<String, Object> header = new HashMap<>();
+    header.put("alg", "RS256");
+    header.put("typ", "JWT");
+    header.put("kid", "kid");
+    return encoder.encodeToString(mapper.writeValueAsBytes(header))
+        + "."
+        + encoder.encodeToString(mapper.writeValueAsBytes(payload))
+        + "."
+        + encoder.encodeToString("signature".getBytes());
+  }
 }
@@ -0,0 +1,140 @@
+package org.sunbird.auth.verifier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PublicKeyRegistryTest {
+
+  private final AtomicLong clock = new AtomicLong();
+  private String jwks = "";
+  private PublicKeyRegistry registry;
+  private Path directory;
+
+  @Before
+  public void setUp() throws Exception {
+    registry = new PublicKeyRegistry(clock::get, 1000, 30000, () -> jwks);
+    directory = Files.createTempDirectory("keys");
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    registry.stop();
+    for (Path file : Files.list(directory).toArray(Path[]::new)) {
+      Files.delete(file);
+    }
+    Files.delete(directory);
+  }
+
+  @Test
+  public void testDirectoryIsReloadedWhenKeysChange() throws Exception {
+    PublicKey first = generateKey();
+    writeKey("kid1", first);
+    registry.start(directory.toString());
+    assertEquals(first, registry.getPublicKey("kid1").getPublicKey());
+    assertNull(registry.getPublicKey("kid2"));
+
+    PublicKey second = generateKey();
+    writeKey("kid2", second);
+    Files.delete(directory.resolve("kid1"));
+    long deadline = System.currentTimeMillis() + 10000;
+    while (null != registry.getPublicKey("kid1") && System.currentTimeMillis() < deadline) {
+      Thread.sleep(100);
+    }
+    assertNull(registry.getPublicKey("kid1"));
+    assertEquals(second, registry.getPublicKey("kid2").getPublicKey());
+    assertEquals(1, registry.getMetrics().get("keyCount"));
+  }
+
+  @Test
+  public void testUnreadableKeyFileKeepsPreviousKey() throws Exception {
+    PublicKey key = generateKey();
+    writeKey("kid1", key);
+    registry.start(directory.toString());
+    Files.write(directory.resolve("kid1"), "-----BEGIN PUBLIC KEY-----".getBytes());
+    registry.reloadDirectory();
+    assertEquals(key, registry.getPublicKey("kid1").getPublicKey());
+  }
+
+  @Test
+  public void testUnknownKidIsRememberedUntilReload() throws Exception {
+    registry.start(directory.toString());
+    assertNull(registry.getPublicKey("kid1"));
+    assertNull(registry.getPublicKey("kid1"));
+    assertEquals(2L, registry.getMetrics().get("unknownKidLookups"));
+    assertEquals(1, registry.getMetrics().get("unknownKids"));
+
+    RSAPublicKey key = (RSAPublicKey) generateKey();
+    jwks =
+        "{\"keys\":[{\"kid\":\"kid1\",\"kty\":\"RSA\",\"use\":\"sig\",\"n\":\""
+            + encode(key.getModulus())
+            + "\",\"e\":\""
+            + encode(key.getPublicExponent())
+            + "\"},{\"kid\":\"kid2\",\"kty\":\"RSA\",\"use\":\"enc\",\"n\":\"AQAB\",\"e\":\"AQAB\"}]}";
+    clock.set(5000);
+    registry.reloadJwks();
+    assertNotNull(registry.getPublicKey("kid1"));
+    assertEquals(key, registry.getPublicKey("kid1").getPublicKey());
+    assertNull(registry.getPublicKey("kid2"));
+    assertEquals(5000L, registry.getMetrics().get("lastReload"));
+  }
+
+  @Test
+  public void testEarlyPullsAreLimitedWhateverTheKid() {
+    assertTrue(registry.tryEarlyPull(0));
+    assertFalse(registry.tryEarlyPull(1000));
+    assertFalse(registry.tryEarlyPull(29999));
+    assertTrue(registry.tryEarlyPull(30000));
+    assertEquals(2L, registry.getMetrics().get("earlyPulls"));
+  }
+
+  @Test
+  public void testKeysOfSubdirectoriesAreNotLoaded() throws Exception {
+    Path subdirectory = Files.createDirectory(directory.resolve("old"));
+    writeKey("kid1", generateKey());
+    Files.move(directory.resolve("kid1"), subdirectory.resolve("kid1"));
+    registry.start(directory.toString());
+    assertNull(registry.getPublicKey("kid1"));
+    Files.delete(subdirectory.resolve("kid1"));
+  }
+
+  private void writeKey(String keyId, PublicKey key) throws Exception {
+    String pem =
+        "-----BEGIN PUBLIC KEY-----\n"
+            + Base64.getMimeEncoder().encodeToString(key.getEncoded())
+            + "\n-----END PUBLIC KEY-----\n";
+    Path file = Files.createTempFile(directory.getParent(), keyId, ".tmp");
+    Files.write(file, pem.getBytes(StandardCharsets.UTF_8));
+    Files.move(file, directory.resolve(keyId));
+  }
+
+  private static PublicKey generateKey() throws Exception {
+    KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+    generator.initialize(2048);
+    return generator.generateKeyPair().getPublic();
+  }
+
+  private static String encode(BigInteger value) {
+    byte[] bytes = value.toByteArray();
+    if (bytes[0] == 0) {
+      bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+    }
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+  }
+}
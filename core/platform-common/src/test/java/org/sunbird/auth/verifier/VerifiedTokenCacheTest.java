@@ -0,0 +1,44 @@
+package org.sunbird.auth.verifier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+
+public class VerifiedTokenCacheTest {
+
+  @Test
+  public void testTokensAreKeptUntilTheyExpire() {
+    AtomicLong clock = new AtomicLong(100);
+    VerifiedTokenCache cache = new VerifiedTokenCache(10, clock::get);
+    Map<String, Object> payload = Collections.singletonMap("sub", "user");
+    cache.put("a.b.c", payload, 200);
+    cache.put("d.e.f", payload, 50);
+    assertEquals(payload, cache.get("a.b.c"));
+    assertNull(cache.get("d.e.f"));
+    assertNull(cache.get("a.b.x"));
+
+    clock.set(201);
+    assertNull(cache.get("a.b.c"));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testLeastRecentlyUsedTokensAreEvicted() {
+    VerifiedTokenCache cache = new VerifiedTokenCache(2, () -> 0);
+    Map<String, Object> payload = Collections.singletonMap("sub", "user");
+    cache.put("a", payload, 10);
+    cache.put("b", payload, 10);
+    cache.get("a");
+    cache.put("c", payload, 10);
+    assertNull(cache.get("b"));
+    assertEquals(payload, cache.get("a"));
+    assertEquals(2, cache.size());
+
+    cache.clear();
+    assertNull(cache.get("a"));
+  }
+}
@@ -0,0 +1,113 @@
+package org.sunbird.datasecurity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import org.sunbird.datasecurity.impl.BASE64Decoder;
+import org.sunbird.datasecurity.impl.BASE64Encoder;
+
+/**
+ * Throughput of {@link CipherEngine} against the previous implementation (one shared cipher, which
+ * has to be synchronized to be used from several threads, and a new base64 encoder per round),
+ * encrypting and decrypting an email address.
+ *
+ * <p>Not run as part of the tests: run its main method, optionally with the number of threads and
+ * the number of operations per thread.
+ */
+public class CipherEngineBenchmark {
+
+  private static final String SALT = "sunbirdSalt";
+  private static final String VALUE = "firstname.lastname@sunbird.org";
+
+  private interface Operation {
+    String apply(String value) throws Exception;
+  }
+
+  public static void main(String[] args) throws Exception {
+    int threads = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+    int operations = args.length > 1 ? Integer.parseInt(args[1]) : 50000;
+
+    CipherEngine encryption =
+        new CipherEngine(Cipher.ENCRYPT_MODE, EncryptionService.keyValue, SALT);
+    CipherEngine decryption =
+        new CipherEngine(Cipher.DECRYPT_MODE, DecryptionService.keyValue, SALT);
+    Cipher encryptCipher = legacyCipher(Cipher.ENCRYPT_MODE);
+    Cipher decryptCipher = legacyCipher(Cipher.DECRYPT_MODE);
+    Operation legacy = value -> legacyDecrypt(decryptCipher, legacyEncrypt(encryptCipher, value));
+    Operation engine = value -> decryption.decrypt(encryption.encrypt(value));
+
+    for (int t : new int[] {1, threads}) {
+      // first round warms up
+      run("legacy", legacy, t, operations);
+      run("engine", engine, t, operations);
+      run("legacy", legacy, t, operations);
+      run("engine", engine, t, operations);
+    }
+  }
+
+  private static void run(String name, Operation operation, int threads, int operations)
+      throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      long start = System.nanoTime();
+      List<Future<?>> results = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        results.add(
+            executor.submit(
+                () -> {
+                  for (int i = 0; i < operations; i++) {
+                    if (!VALUE.equals(operation.apply(VALUE))) {
+                      throw new IllegalStateException("Corrupt value");
+                    }
+                  }
+                  return null;
+                }));
+      }
+      for (Future<?> result : results) {
+        result.get();
+      }
+      double seconds = (System.nanoTime() - start) / 1e9;
+      System.out.printf(
+          "%s, %d thread(s): %.0f encrypt+decrypt/s%n",
+          name, threads, threads * operations / seconds);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static Cipher legacyCipher(int mode) throws Exception {
+    Cipher cipher = Cipher.getInstance(EncryptionService.ALGORITHM);
+    cipher.init(mode, new SecretKeySpec(EncryptionService.keyValue, EncryptionService.ALGORITHM));
+    return cipher;
+  }
+
+  private static String legacyEncrypt(Cipher cipher, String value) throws Exception {
+    String eValue = value;
+    for (int i = 0; i < EncryptionService.ITERATIONS; i++) {
+      byte[] encValue;
+      synchronized (cipher) {
+        encValue = cipher.doFinal((SALT + eValue).getBytes(StandardCharsets.UTF_8));
+      }
+      eValue = new BASE64Encoder().encode(encValue);
+    }
+    return eValue;
+  }
+
+  private static String legacyDecrypt(Cipher cipher, String value) throws Exception {
+    String dValue = value.trim();
+    for (int i = 0; i < DecryptionService.ITERATIONS; i++) {
+      byte[] decValue;
+      byte[] decodedValue = new BASE64Decoder().decodeBuffer(dValue);
+      synchronized (cipher) {
+        decValue = cipher.doFinal(decodedValue);
+      }
+      dValue = new String(decValue, StandardCharsets.UTF_8).substring(SALT.length());
+    }
+    return dValue;
+  }
+}
@@ -0,0 +1,103 @@
+package org.sunbird.datasecurity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Test;
+import org.sunbird.datasecurity.impl.BASE64Decoder;
+import org.sunbird.datasecurity.impl.BASE64Encoder;
+
+public class CipherEngineTest {
+
+  private static final String SALT = "sunbirdSalt";
+
+  private final CipherEngine encryption =
+      new CipherEngine(Cipher.ENCRYPT_MODE, EncryptionService.keyValue, SALT);
+  private final CipherEngine decryption =
+      new CipherEngine(Cipher.DECRYPT_MODE, DecryptionService.keyValue, SALT);
+
+  @Test
+  public void testEncryptMatchesLegacyEncoding() throws Exception {
+    Cipher cipher = Cipher.getInstance(EncryptionService.ALGORITHM);
+    cipher.init(
+        Cipher.ENCRYPT_MODE,
+        new SecretKeySpec(EncryptionService.keyValue, EncryptionService.ALGORITHM));
+    // covers values encoded on one line, several lines and on exactly full lines
+    for (int length = 0; length < 1000; length++) {
+      String value = StringUtils.repeat('a', length) + "é";
+      String expected = value;
+      for (int i = 0; i < EncryptionService.ITERATIONS; i++) {
+        expected =
+            new BASE64Encoder()
+                .encode(cipher.doFinal((SALT + expected).getBytes(StandardCharsets.UTF_8)));
+      }
+      String encrypted = encryption.encrypt(value);
+      assertEquals(expected, encrypted);
+      assertEquals(value, decryption.decrypt(encrypted));
+      assertEquals(value, legacyDecrypt(encrypted));
+    }
+  }
+
+  @Test
+  public void testEncryptDecryptConcurrently() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+        String prefix = "user" + t + "@sunbird.org";
+        Callable<Boolean> task =
+            () -> {
+              for (int i = 0; i < 200; i++) {
+                String value = prefix + i;
+                if (!value.equals(decryption.decrypt(encryption.encrypt(value)))) {
+                  return false;
+                }
+              }
+              return true;
+            };
+        results.add(executor.submit(task));
+      }
+      for (Future<Boolean> result : results) {
+        assertTrue(result.get());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testDecryptAfterFailure() throws Exception {
+    String encrypted = encryption.encrypt("9999999999");
+    try {
+      decryption.decrypt("ab****@gmail.com");
+    } catch (Exception e) {
+      // masked values are not encrypted
+    }
+    assertEquals("9999999999", decryption.decrypt(encrypted));
+  }
+
+  private static String legacyDecrypt(String value) throws Exception {
+    Cipher cipher = Cipher.getInstance(DecryptionService.ALGORITHM);
+    cipher.init(
+        Cipher.DECRYPT_MODE,
+        new SecretKeySpec(DecryptionService.keyValue, DecryptionService.ALGORITHM));
+    String dValue = value.trim();
+    for (int i = 0; i < DecryptionService.ITERATIONS; i++) {
+      dValue =
+          new String(
+                  cipher.doFinal(new BASE64Decoder().decodeBuffer(dValue)), StandardCharsets.UTF_8)
+              .substring(SALT.length());
+    }
+    return dValue;
+  }
+}
@@ -0,0 +1,44 @@
+package org.sunbird.datasecurity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+
+public class DecryptedValueCacheTest {
+
+  @Test
+  public void testValuesExpireAndLeastRecentlyUsedAreEvicted() {
+    AtomicLong clock = new AtomicLong();
+    DecryptedValueCache cache = new DecryptedValueCache(true, 2, 1000, clock::get);
+    cache.put("a", "1");
+    cache.put("b", "2");
+    assertEquals("1", cache.get("a"));
+    cache.put("c", "3");
+    assertNull(cache.get("b"));
+    assertEquals("1", cache.get("a"));
+    assertEquals("3", cache.get("c"));
+
+    clock.set(1000);
+    assertNull(cache.get("a"));
+    assertEquals(1, cache.size());
+
+    Map<String, Object> metrics = cache.getMetrics();
+    assertEquals(3L, metrics.get("hits"));
+    assertEquals(2L, metrics.get("misses"));
+    assertEquals(1L, metrics.get("evictions"));
+    assertEquals(1L, metrics.get("expirations"));
+  }
+
+  @Test
+  public void testDisabledCacheKeepsNothing() {
+    DecryptedValueCache cache = new DecryptedValueCache(false, 10, 1000, () -> 0);
+    cache.put("a", "1");
+    assertFalse(cache.isEnabled());
+    assertNull(cache.get("a"));
+    assertEquals(0, cache.size());
+  }
+}
@@ -0,0 +1,130 @@
+package org.sunbird.telemetry.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.Test;
+import org.sunbird.keys.JsonKey;
+import org.sunbird.request.Request;
+
+public class AsyncTelemetryWriterTest {
+
+  @Test
+  public void testEventsAreDroppedWhenQueueIsFullAndQueuedOnesWrittenOnShutdown()
+      throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    List<Object> written = Collections.synchronizedList(new ArrayList<>());
+    AtomicBoolean interrupted = new AtomicBoolean();
+    AsyncTelemetryWriter writer =
+        new AsyncTelemetryWriter(
+            2,
+            10,
+            AsyncTelemetryWriter.OverflowPolicy.DROP,
+            0,
+            request -> {
+              started.countDown();
+              await(release);
+              interrupted.compareAndSet(false, Thread.currentThread().isInterrupted());
+              return written.add(request.get(JsonKey.PARAMS));
+            });
+    assertTrue(writer.submit(request(0)));
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    assertTrue(writer.submit(request(1)));
+    assertTrue(writer.submit(request(2)));
+    assertFalse(writer.submit(request(3)));
+
+    Thread shutdown = new Thread(() -> writer.shutdown(5000));
+    shutdown.start();
+    Thread.sleep(100);
+    release.countDown();
+    shutdown.join();
+    assertEquals(3, written.size());
+    assertFalse(interrupted.get());
+    Map<String, Object> metrics = writer.getMetrics();
+    assertEquals(3L, metrics.get("enqueued"));
+    assertEquals(1L, metrics.get("dropped"));
+    assertEquals(3L, metrics.get("written"));
+    assertEquals(2L, metrics.get("batches"));
+    assertEquals(0, metrics.get("queueSize"));
+  }
+
+  @Test
+  public void testBlockedEventIsQueuedOnceThereIsRoomAndCallerMapsAreCopied() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    List<Object> written = Collections.synchronizedList(new ArrayList<>());
+    AsyncTelemetryWriter writer =
+        new AsyncTelemetryWriter(
+            1,
+            10,
+            AsyncTelemetryWriter.OverflowPolicy.BLOCK,
+            5000,
+            request -> {
+              started.countDown();
+              await(release);
+              return written.add(request.get(JsonKey.PARAMS));
+            });
+    Request first = request(0);
+    assertTrue(writer.submit(first));
+    ((Map<String, Object>) first.get(JsonKey.PARAMS)).put(JsonKey.VALUE, 5);
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    assertTrue(writer.submit(request(1)));
+
+    new Thread(release::countDown).start();
+    assertTrue(writer.submit(request(2)));
+    writer.shutdown(5000);
+    assertEquals(3, written.size());
+    assertEquals(0, ((Map<String, Object>) written.get(0)).get(JsonKey.VALUE));
+    assertEquals(0L, writer.getMetrics().get("dropped"));
+  }
+
+  @Test
+  public void testFailedEventsAreCounted() {
+    AsyncTelemetryWriter writer =
+        new AsyncTelemetryWriter(
+            10,
+            10,
+            AsyncTelemetryWriter.OverflowPolicy.DROP,
+            0,
+            request -> {
+              int value =
+                  (int) ((Map<String, Object>) request.get(JsonKey.PARAMS)).get(JsonKey.VALUE);
+              if (0 == value) {
+                throw new IllegalStateException();
+              }
+              return 2 == value;
+            });
+    writer.submit(request(0));
+    writer.submit(request(1));
+    writer.submit(request(2));
+    writer.shutdown(5000);
+    assertEquals(2L, writer.getMetrics().get("failed"));
+    assertEquals(1L, writer.getMetrics().get("written"));
+  }
+
+  private static Request request(int value) {
+    Map<String, Object> params = new HashMap<>();
+    params.put(JsonKey.VALUE, value);
+    Request request = new Request();
+    request.getRequest().put(JsonKey.PARAMS, params);
+    return request;
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
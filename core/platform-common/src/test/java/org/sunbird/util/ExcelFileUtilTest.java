@@ -27,6 +27,21 @@ public class ExcelFileUtilTest {
     Assert.assertEquals("xlsx", expectedFileName[1]);
   }
 
+  @Test
+  public void testWriteToFileFromIterator() {
+    List<List<Object>> data = new ArrayList<>();
+    for (int i = 0; i < 150; i++) {
+      List<Object> dataObjects = new ArrayList<>();
+      dataObjects.add("test" + i);
+      dataObjects.add(i);
+      data.add(dataObjects);
+    }
+    ExcelFileUtil excelFileUtil = new ExcelFileUtil();
+    File file = excelFileUtil.writeToFile("test", data.iterator());
+    Assert.assertEquals("test.xlsx", file.getName());
+    Assert.assertTrue(file.length() > 0);
+  }
+
   @Test
   public void testgetFileUtil() {
     FileUtil util = FileUtil.getFileUtil("Excel");
@@ -1,12 +1,13 @@
 package org.sunbird.actor;
 
+import akka.dispatch.Mapper;
+import akka.dispatch.OnComplete;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.sunbird.actor.core.BaseActor;
-import org.sunbird.common.ElasticSearchHelper;
 import org.sunbird.common.factory.EsClientFactory;
 import org.sunbird.common.inf.ElasticSearchService;
 import org.sunbird.keys.JsonKey;
@@ -39,42 +40,63 @@ public class BackgroundJobManager extends BaseActor {
   private void updateUserOrgInfoToEs(Request actorMessage) {
     Map<String, Object> orgMap = (Map<String, Object>) actorMessage.getRequest().get(JsonKey.USER);
     Future<Map<String, Object>> resultF =
-        esService.getDataByIdentifier(
+        esService.getDataByIdentifierForUpdate(
             ProjectUtil.EsType.user.getTypeName(),
             (String) orgMap.get(JsonKey.USER_ID),
             actorMessage.getRequestContext());
-    Map<String, Object> result =
-        (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(resultF);
-    if (result.containsKey(JsonKey.ORGANISATIONS) && null != result.get(JsonKey.ORGANISATIONS)) {
-      List<Map<String, Object>> orgMapList =
-          (List<Map<String, Object>>) result.get(JsonKey.ORGANISATIONS);
-      orgMapList.add(orgMap);
-    } else {
-      List<Map<String, Object>> mapList = new ArrayList<>();
-      mapList.add(orgMap);
-      result.put(JsonKey.ORGANISATIONS, mapList);
-    }
-    updateDataToElastic(
-        ProjectUtil.EsIndex.sunbird.getIndexName(),
-        ProjectUtil.EsType.user.getTypeName(),
-        (String) result.get(JsonKey.IDENTIFIER),
-        result,
-        actorMessage.getRequestContext());
+    Future<Boolean> responseF =
+        resultF.flatMap(
+            new Mapper<Map<String, Object>, Future<Boolean>>() {
+              @Override
+              public Future<Boolean> apply(Map<String, Object> result) {
+                if (result.containsKey(JsonKey.ORGANISATIONS)
+                    && null != result.get(JsonKey.ORGANISATIONS)) {
+                  List<Map<String, Object>> orgMapList =
+                      (List<Map<String, Object>>) result.get(JsonKey.ORGANISATIONS);
+                  orgMapList.add(orgMap);
+                } else {
+                  List<Map<String, Object>> mapList = new ArrayList<>();
+                  mapList.add(orgMap);
+                  result.put(JsonKey.ORGANISATIONS, mapList);
+                }
+                // the write must not wait for a bulk flush, concurrent updates read the document
+                return esService.update(
+                    ProjectUtil.EsType.user.getTypeName(),
+                    (String) result.get(JsonKey.IDENTIFIER),
+                    result,
+                    actorMessage.getRequestContext());
+              }
+            },
+            getContext().dispatcher());
+    logUpdateResponse(
+        responseF, (String) orgMap.get(JsonKey.USER_ID), actorMessage.getRequestContext());
   }
 
-  private boolean updateDataToElastic(
+  private void updateDataToElastic(
       String indexName,
       String typeName,
       String identifier,
       Map<String, Object> data,
       RequestContext context) {
-    Future<Boolean> responseF = esService.update(typeName, identifier, data, context);
-    boolean response = (boolean) ElasticSearchHelper.getResponseFromFuture(responseF);
-    if (response) {
-      return true;
-    }
-    logger.info(context, "unable to save the data to ES with identifier " + identifier);
-    return false;
+    Future<Boolean> responseF = esService.bulkUpdate(typeName, identifier, data, context);
+    logUpdateResponse(responseF, identifier, context);
+  }
+
+  private void logUpdateResponse(
+      Future<Boolean> responseF, String identifier, RequestContext context) {
+    responseF.onComplete(
+        new OnComplete<Boolean>() {
+          @Override
+          public void onComplete(Throwable failure, Boolean response) {
+            if (null != failure) {
+              logger.error(
+                  context, "unable to save the data to ES with identifier " + identifier, failure);
+            } else if (!Boolean.TRUE.equals(response)) {
+              logger.info(context, "unable to save the data to ES with identifier " + identifier);
+            }
+          }
+        },
+        getContext().dispatcher());
   }
 
   private void updateUserInfoToEs(Request actorMessage) {
@@ -102,9 +124,8 @@ public class BackgroundJobManager extends BaseActor {
    * @param type String
    * @param identifier String
    * @param data Map<String,Object>
-   * @return boolean
    */
-  private boolean insertDataToElastic(
+  private void insertDataToElastic(
       String index,
       String type,
       String identifier,
@@ -113,17 +134,28 @@ public class BackgroundJobManager extends BaseActor {
     logger.info(
         context,
         "BackgroundJobManager:insertDataToElastic: type = " + type + " identifier = " + identifier);
-    Future<String> responseF = esService.save(type, identifier, data, context);
-    String response = (String) ElasticSearchHelper.getResponseFromFuture(responseF);
-    logger.info(
-        context,
-        "ES save response for type , identifier == " + type + "  " + identifier + "  " + response);
-    if (!StringUtils.isBlank(response)) {
-      logger.info(context, "Data saved successfully to ES ." + type + "  " + identifier);
-      return true;
-    }
-    logger.info(context, "unable to save the data inside ES with identifier " + identifier);
-    return false;
+    Future<String> responseF = esService.bulkSave(type, identifier, data, context);
+    responseF.onComplete(
+        new OnComplete<String>() {
+          @Override
+          public void onComplete(Throwable failure, String response) {
+            logger.info(
+                context,
+                "ES save response for type , identifier == "
+                    + type
+                    + "  "
+                    + identifier
+                    + "  "
+                    + response);
+            if (null == failure && !StringUtils.isBlank(response)) {
+              logger.info(context, "Data saved successfully to ES ." + type + "  " + identifier);
+            } else {
+              logger.info(
+                  context, "unable to save the data inside ES with identifier " + identifier);
+            }
+          }
+        },
+        getContext().dispatcher());
   }
 
   private void mergeUserDetailsToEs(Request mergeRequest) {
@@ -15,6 +15,7 @@ import org.apache.commons.collections.MapUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.ArrayUtils;
 import org.sunbird.actor.core.BaseActor;
+import org.sunbird.common.BatchWriteException;
 import org.sunbird.dao.bulkupload.BulkUploadProcessDao;
 import org.sunbird.dao.bulkupload.BulkUploadProcessTaskDao;
 import org.sunbird.dao.bulkupload.impl.BulkUploadProcessDaoImpl;
@@ -318,7 +319,7 @@ public abstract class BaseBulkUploadActor extends BaseActor {
       bulkUploadProcessTaskDao.insertBatchRecord(records, context);
     } catch (Exception ex) {
       logger.error(context, "Cassandra batch insert failed , performing retry logic.", ex);
-      for (BulkUploadProcessTask task : records) {
+      for (BulkUploadProcessTask task : getRecordsToRetry(records, ex)) {
         try {
           bulkUploadProcessTaskDao.create(task, context);
         } catch (Exception exception) {
@@ -339,7 +340,7 @@ public abstract class BaseBulkUploadActor extends BaseActor {
       bulkUploadProcessTaskDao.updateBatchRecord(records, context);
     } catch (Exception ex) {
       logger.error(context, "Cassandra batch update failed , performing retry logic.", ex);
-      for (BulkUploadProcessTask task : records) {
+      for (BulkUploadProcessTask task : getRecordsToRetry(records, ex)) {
         try {
           bulkUploadProcessTaskDao.update(task, context);
         } catch (Exception exception) {
@@ -354,6 +355,22 @@ public abstract class BaseBulkUploadActor extends BaseActor {
     }
   }
 
+  /**
+   * Records to be written again after a failed batch write: only the failed ones when the batch
+   * reports them, otherwise all of them.
+   */
+  private static List<BulkUploadProcessTask> getRecordsToRetry(
+      List<BulkUploadProcessTask> records, Exception ex) {
+    if (!(ex instanceof BatchWriteException)) {
+      return records;
+    }
+    List<BulkUploadProcessTask> failedRecords = new ArrayList<>();
+    for (Integer index : ((BatchWriteException) ex).getFailures().keySet()) {
+      failedRecords.add(records.get(index));
+    }
+    return failedRecords;
+  }
+
   protected void validateFileHeaderFields(
       Map<String, Object> req, String[] bulkAllowedFields, Boolean allFieldsMandatory)
       throws IOException {
@@ -268,8 +268,7 @@ public class BulkUploadManagementActor extends BaseBulkUploadActor {
       searchDto.getAdditionalProperties().put(JsonKey.FILTERS, filters);
       Future<Map<String, Object>> resultF =
           esService.search(searchDto, ProjectUtil.EsType.organisation.getTypeName(), context);
-      Map<String, Object> result =
-          (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(resultF);
+      Map<String, Object> result = ElasticSearchHelper.awaitResult(resultF);
       List<Map<String, Object>> dataMapList =
           (List<Map<String, Object>>) result.get(JsonKey.CONTENT);
       response.getResult().put(JsonKey.RESPONSE, dataMapList);
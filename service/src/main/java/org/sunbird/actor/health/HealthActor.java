@@ -6,19 +6,16 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.sunbird.actor.core.BaseActor;
-import org.sunbird.cassandra.CassandraOperation;
-import org.sunbird.common.ElasticSearchHelper;
-import org.sunbird.common.factory.EsClientFactory;
-import org.sunbird.common.inf.ElasticSearchService;
-import org.sunbird.helper.ServiceFactory;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.operations.ActorOperations;
 import org.sunbird.request.Request;
 import org.sunbird.response.Response;
+import org.sunbird.service.health.HealthCheckService;
+import org.sunbird.service.health.HealthCheckServiceImpl;
+import org.sunbird.service.health.HealthStatus;
 import org.sunbird.telemetry.dto.TelemetryEnvKey;
 import org.sunbird.util.ProjectUtil;
 import org.sunbird.util.Util;
-import scala.concurrent.Future;
 
 public class HealthActor extends BaseActor {
 
@@ -45,29 +42,13 @@ public class HealthActor extends BaseActor {
 
   /** */
   private void esHealthCheck() {
-    // check the elastic search
-    boolean isallHealthy = true;
     Map<String, Object> finalResponseMap = new HashMap<>();
     List<Map<String, Object>> responseList = new ArrayList<>();
     responseList.add(ProjectUtil.createCheckResponse(JsonKey.ACTOR_SERVICE, false, null));
-    try {
-      Future<Boolean> esResponseF = getEsConnection().healthCheck();
-      boolean esResponse = (boolean) ElasticSearchHelper.getResponseFromFuture(esResponseF);
-
-      responseList.add(ProjectUtil.createCheckResponse(JsonKey.ES_SERVICE, esResponse, null));
-      isallHealthy = esResponse;
-    } catch (Exception e) {
-      responseList.add(ProjectUtil.createCheckResponse(JsonKey.ES_SERVICE, true, e));
-      isallHealthy = false;
-      logger.error("Elastic search health Error == ", e);
-    }
+    boolean isallHealthy = addCheckResponse(responseList, JsonKey.ES_SERVICE);
     finalResponseMap.put(JsonKey.CHECKS, responseList);
     finalResponseMap.put(JsonKey.NAME, "ES health check api");
-    if (isallHealthy) {
-      finalResponseMap.put(JsonKey.Healthy, true);
-    } else {
-      finalResponseMap.put(JsonKey.Healthy, false);
-    }
+    finalResponseMap.put(JsonKey.Healthy, isallHealthy);
     Response response = new Response();
     response.getResult().put(JsonKey.RESPONSE, finalResponseMap);
     sender().tell(response, self());
@@ -77,25 +58,12 @@ public class HealthActor extends BaseActor {
   private void cassandraHealthCheck() {
     Map<String, Object> finalResponseMap = new HashMap<>();
     List<Map<String, Object>> responseList = new ArrayList<>();
-    boolean isallHealthy = false;
     responseList.add(ProjectUtil.createCheckResponse(JsonKey.LEARNER_SERVICE, false, null));
     responseList.add(ProjectUtil.createCheckResponse(JsonKey.ACTOR_SERVICE, false, null));
-    try {
-      Util.DbInfo orgTypeDbInfo = Util.dbInfoMap.get(JsonKey.ROLE);
-      getCassandraOperation()
-          .getAllRecords(orgTypeDbInfo.getKeySpace(), orgTypeDbInfo.getTableName(), null);
-      responseList.add(ProjectUtil.createCheckResponse(JsonKey.CASSANDRA_SERVICE, false, null));
-    } catch (Exception e) {
-      responseList.add(ProjectUtil.createCheckResponse(JsonKey.CASSANDRA_SERVICE, true, e));
-      isallHealthy = false;
-    }
+    boolean isallHealthy = addCheckResponse(responseList, JsonKey.CASSANDRA_SERVICE);
     finalResponseMap.put(JsonKey.CHECKS, responseList);
     finalResponseMap.put(JsonKey.NAME, "cassandra health check api");
-    if (isallHealthy) {
-      finalResponseMap.put(JsonKey.Healthy, true);
-    } else {
-      finalResponseMap.put(JsonKey.Healthy, false);
-    }
+    finalResponseMap.put(JsonKey.Healthy, isallHealthy);
     Response response = new Response();
     response.getResult().put(JsonKey.RESPONSE, finalResponseMap);
     sender().tell(response, self());
@@ -117,47 +85,35 @@ public class HealthActor extends BaseActor {
 
   /** */
   private void checkAllComponentHealth() {
-    boolean isallHealthy = true;
     Map<String, Object> finalResponseMap = new HashMap<>();
     List<Map<String, Object>> responseList = new ArrayList<>();
     responseList.add(ProjectUtil.createCheckResponse(JsonKey.LEARNER_SERVICE, false, null));
     responseList.add(ProjectUtil.createCheckResponse(JsonKey.ACTOR_SERVICE, false, null));
-    try {
-      Util.DbInfo orgTypeDbInfo = Util.dbInfoMap.get(JsonKey.ROLE);
-      getCassandraOperation()
-          .getAllRecords(orgTypeDbInfo.getKeySpace(), orgTypeDbInfo.getTableName(), null);
-      responseList.add(ProjectUtil.createCheckResponse(JsonKey.CASSANDRA_SERVICE, false, null));
-    } catch (Exception e) {
-      responseList.add(ProjectUtil.createCheckResponse(JsonKey.CASSANDRA_SERVICE, true, e));
-      isallHealthy = false;
-    }
-    // check the elastic search
-    try {
-      Future<Boolean> responseF = getEsConnection().healthCheck();
-      boolean response = (boolean) ElasticSearchHelper.getResponseFromFuture(responseF);
-      responseList.add(ProjectUtil.createCheckResponse(JsonKey.ES_SERVICE, !response, null));
-      isallHealthy = response;
-    } catch (Exception e) {
-      responseList.add(ProjectUtil.createCheckResponse(JsonKey.ES_SERVICE, true, e));
-      isallHealthy = false;
-    }
+    boolean isallHealthy = addCheckResponse(responseList, JsonKey.CASSANDRA_SERVICE);
+    isallHealthy &= addCheckResponse(responseList, JsonKey.ES_SERVICE);
     finalResponseMap.put(JsonKey.CHECKS, responseList);
     finalResponseMap.put(JsonKey.NAME, "Complete health check api");
-    if (isallHealthy) {
-      finalResponseMap.put(JsonKey.Healthy, true);
-    } else {
-      finalResponseMap.put(JsonKey.Healthy, false);
-    }
+    finalResponseMap.put(JsonKey.Healthy, isallHealthy);
     Response response = new Response();
     response.getResult().put(JsonKey.RESPONSE, finalResponseMap);
     sender().tell(response, self());
   }
 
-  public CassandraOperation getCassandraOperation() {
-    return ServiceFactory.getInstance();
+  /**
+   * Add the check response of a component from the status cached by the background probes. No call
+   * is made to the component itself.
+   *
+   * @param responseList List of check responses
+   * @param name Component name
+   * @return true if the component is healthy
+   */
+  private boolean addCheckResponse(List<Map<String, Object>> responseList, String name) {
+    HealthStatus status = getHealthCheckService().getStatus(name);
+    responseList.add(ProjectUtil.createCheckResponse(name, !status.isHealthy(), status.getError()));
+    return status.isHealthy();
   }
 
-  public ElasticSearchService getEsConnection() {
-    return EsClientFactory.getInstance(JsonKey.REST);
+  public HealthCheckService getHealthCheckService() {
+    return HealthCheckServiceImpl.getInstance();
   }
 }
@@ -228,8 +228,7 @@ public class LocationRequestValidator extends BaseLocationRequestValidator {
   private Map<String, Object> getLocationById(String id, String parameter, RequestContext context) {
     Future<Map<String, Object>> locationF =
         esUtil.getDataByIdentifier(ProjectUtil.EsType.location.getTypeName(), id, context);
-    Map<String, Object> location =
-        (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(locationF);
+    Map<String, Object> location = ElasticSearchHelper.awaitResult(locationF);
     if (MapUtils.isEmpty(location)) {
       throw new ProjectCommonException(
           ResponseCode.invalidParameter,
@@ -301,8 +300,7 @@ public class LocationRequestValidator extends BaseLocationRequestValidator {
       Map<String, Object> searchQueryMap, String esType, RequestContext context) {
     SearchDTO searchDto = ElasticSearchHelper.createSearchDTO(searchQueryMap);
     Future<Map<String, Object>> resultF = esUtil.search(searchDto, esType, context);
-    Map<String, Object> result =
-        (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(resultF);
+    Map<String, Object> result = ElasticSearchHelper.awaitResult(resultF);
     return (List<Map<String, Object>>) result.get(JsonKey.CONTENT);
   }
 
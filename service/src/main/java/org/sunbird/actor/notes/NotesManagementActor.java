@@ -1,5 +1,6 @@
 package org.sunbird.actor.notes;
 
+import akka.dispatch.Mapper;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -17,6 +18,7 @@ import org.sunbird.service.notes.NotesService;
 import org.sunbird.telemetry.dto.TelemetryEnvKey;
 import org.sunbird.telemetry.util.TelemetryUtil;
 import org.sunbird.util.Util;
+import scala.concurrent.Future;
 
 public class NotesManagementActor extends BaseActor {
 
@@ -83,117 +85,158 @@ public class NotesManagementActor extends BaseActor {
   private void updateNote(Request actorMessage) {
     RequestContext context = actorMessage.getRequestContext();
     logger.debug(context, "Update Note method call start");
-    // object of telemetry event...
-    Map<String, Object> targetObject;
-    List<Map<String, Object>> correlatedObject = new ArrayList<>();
-    try {
-      String noteId = (String) actorMessage.getContext().get(JsonKey.NOTE_ID);
-      String userId = (String) actorMessage.getContext().get(JsonKey.REQUESTED_BY);
-      if (!notesService.validateUserForNoteUpdate(userId, noteId, context)) {
-        ProjectCommonException.throwUnauthorizedErrorException();
-      }
-      Map<String, Object> list = notesService.getNoteById(noteId, context);
-      if (list.isEmpty()) {
-        ProjectCommonException.throwClientErrorException(
-            ResponseCode.invalidParameter,
-            MessageFormat.format(ResponseCode.invalidParameter.getErrorMessage(), JsonKey.NOTE_ID));
-      }
-      Response response = notesService.updateNote(actorMessage);
-      sender().tell(response, self());
-
-      targetObject = TelemetryUtil.generateTargetObject(noteId, JsonKey.NOTE, JsonKey.UPDATE, null);
-      TelemetryUtil.generateCorrelatedObject(noteId, JsonKey.NOTE, null, correlatedObject);
-      TelemetryUtil.generateCorrelatedObject(userId, JsonKey.USER, null, correlatedObject);
-      Map<String, String> rollup = new HashMap<>();
-      TelemetryUtil.addTargetObjectRollUp(rollup, targetObject);
-
-      TelemetryUtil.telemetryProcessingCall(
-          actorMessage.getRequest(), targetObject, correlatedObject, actorMessage.getContext());
-    } catch (Exception e) {
-      logger.error(context, "Exception while updating note", e);
-      sender().tell(e, self());
-    }
+    String noteId = (String) actorMessage.getContext().get(JsonKey.NOTE_ID);
+    String userId = (String) actorMessage.getContext().get(JsonKey.REQUESTED_BY);
+    Future<Response> responseF =
+        notesService
+            .validateUserForNoteUpdate(userId, noteId, context, getContext().dispatcher())
+            .flatMap(
+                new Mapper<Boolean, Future<Map<String, Object>>>() {
+                  @Override
+                  public Future<Map<String, Object>> apply(Boolean isValidUser) {
+                    if (!isValidUser) {
+                      ProjectCommonException.throwUnauthorizedErrorException();
+                    }
+                    return notesService.getNoteById(noteId, context);
+                  }
+                },
+                getContext().dispatcher())
+            .map(
+                new Mapper<Map<String, Object>, Response>() {
+                  @Override
+                  public Response apply(Map<String, Object> list) {
+                    if (list.isEmpty()) {
+                      ProjectCommonException.throwClientErrorException(
+                          ResponseCode.invalidParameter,
+                          MessageFormat.format(
+                              ResponseCode.invalidParameter.getErrorMessage(), JsonKey.NOTE_ID));
+                    }
+                    Response response = notesService.updateNote(actorMessage);
+                    generateNoteTelemetry(actorMessage, noteId, userId, JsonKey.UPDATE);
+                    return response;
+                  }
+                },
+                getContext().dispatcher());
+    pipeToSender(responseF, actorMessage);
   }
 
   private void getNote(Request actorMessage) {
     RequestContext context = actorMessage.getRequestContext();
     logger.debug(context, "Get Note method call start");
-    try {
-      String noteId = (String) actorMessage.getContext().get(JsonKey.NOTE_ID);
-      String userId = (String) actorMessage.getContext().get(JsonKey.REQUESTED_BY);
-      if (!notesService.validateUserForNoteUpdate(userId, noteId, context)) {
-        throw new ProjectCommonException(
-            ResponseCode.invalidParameterValue,
-            ResponseCode.invalidParameterValue.getErrorMessage(),
-            ResponseCode.RESOURCE_NOT_FOUND.getResponseCode());
-      }
-      Map<String, Object> request = new HashMap<>();
-      Map<String, Object> filters = new HashMap<>();
-      filters.put(JsonKey.ID, noteId);
-
-      request.put(JsonKey.FILTERS, filters);
-      Response response = new Response();
-      Map<String, Object> result = notesService.searchNotes(request, context);
-      if (!result.isEmpty() && ((Long) result.get(JsonKey.COUNT) == 0)) {
-        ProjectCommonException.throwClientErrorException(
-            ResponseCode.invalidParameter,
-            MessageFormat.format(ResponseCode.invalidParameter.getErrorMessage(), JsonKey.NOTE_ID));
-      }
-      response.put(JsonKey.RESPONSE, result);
-      sender().tell(response, self());
-    } catch (Exception e) {
-      logger.error(context, "Exception while fetching note", e);
-      sender().tell(e, self());
-    }
+    String noteId = (String) actorMessage.getContext().get(JsonKey.NOTE_ID);
+    String userId = (String) actorMessage.getContext().get(JsonKey.REQUESTED_BY);
+    Future<Response> responseF =
+        notesService
+            .validateUserForNoteUpdate(userId, noteId, context, getContext().dispatcher())
+            .flatMap(
+                new Mapper<Boolean, Future<Map<String, Object>>>() {
+                  @Override
+                  public Future<Map<String, Object>> apply(Boolean isValidUser) {
+                    if (!isValidUser) {
+                      throw new ProjectCommonException(
+                          ResponseCode.invalidParameterValue,
+                          ResponseCode.invalidParameterValue.getErrorMessage(),
+                          ResponseCode.RESOURCE_NOT_FOUND.getResponseCode());
+                    }
+                    Map<String, Object> request = new HashMap<>();
+                    Map<String, Object> filters = new HashMap<>();
+                    filters.put(JsonKey.ID, noteId);
+                    request.put(JsonKey.FILTERS, filters);
+                    return notesService.searchNotes(request, context);
+                  }
+                },
+                getContext().dispatcher())
+            .map(
+                new Mapper<Map<String, Object>, Response>() {
+                  @Override
+                  public Response apply(Map<String, Object> result) {
+                    if (!result.isEmpty() && ((Long) result.get(JsonKey.COUNT) == 0)) {
+                      ProjectCommonException.throwClientErrorException(
+                          ResponseCode.invalidParameter,
+                          MessageFormat.format(
+                              ResponseCode.invalidParameter.getErrorMessage(), JsonKey.NOTE_ID));
+                    }
+                    Response response = new Response();
+                    response.put(JsonKey.RESPONSE, result);
+                    return response;
+                  }
+                },
+                getContext().dispatcher());
+    pipeToSender(responseF, actorMessage);
   }
 
   private void searchNote(Request actorMessage) {
     RequestContext context = actorMessage.getRequestContext();
     logger.debug(context, "Search Note method call start");
-    try {
-      Map<String, Object> searchQueryMap = actorMessage.getRequest();
-      searchQueryMap.put(JsonKey.REQUESTED_BY, actorMessage.getContext().get(JsonKey.REQUESTED_BY));
-      Response response = new Response();
-      Map<String, Object> result = notesService.searchNotes(searchQueryMap, context);
-      response.put(JsonKey.RESPONSE, result);
-      sender().tell(response, self());
-    } catch (Exception e) {
-      logger.error(context, "Exception while search", e);
-      sender().tell(e, self());
-    }
+    Map<String, Object> searchQueryMap = actorMessage.getRequest();
+    searchQueryMap.put(JsonKey.REQUESTED_BY, actorMessage.getContext().get(JsonKey.REQUESTED_BY));
+    Future<Response> responseF =
+        notesService
+            .searchNotes(searchQueryMap, context)
+            .map(
+                new Mapper<Map<String, Object>, Response>() {
+                  @Override
+                  public Response apply(Map<String, Object> result) {
+                    Response response = new Response();
+                    response.put(JsonKey.RESPONSE, result);
+                    return response;
+                  }
+                },
+                getContext().dispatcher());
+    pipeToSender(responseF, actorMessage);
   }
 
   private void deleteNote(Request actorMessage) {
     RequestContext context = actorMessage.getRequestContext();
     logger.debug(context, "Delete Note method call start");
-    // object of telemetry event...
-    Map<String, Object> targetObject;
-    List<Map<String, Object>> correlatedObject = new ArrayList<>();
-    try {
-      String noteId = (String) actorMessage.getContext().get(JsonKey.NOTE_ID);
-      String userId = (String) actorMessage.getContext().get(JsonKey.REQUESTED_BY);
-      if (!notesService.validateUserForNoteUpdate(userId, noteId, context)) {
-        ProjectCommonException.throwUnauthorizedErrorException();
-      }
-      if (!notesService.noteIdExists(noteId, context)) {
-        ProjectCommonException.throwClientErrorException(
-            ResponseCode.invalidParameter,
-            MessageFormat.format(ResponseCode.invalidParameter.getErrorMessage(), JsonKey.NOTE_ID));
-      }
-      Response result = notesService.deleteNote(noteId, userId, context);
-      result.getResult().remove(JsonKey.RESPONSE);
-      sender().tell(result, self());
-
-      targetObject = TelemetryUtil.generateTargetObject(noteId, JsonKey.NOTE, JsonKey.DELETE, null);
-      TelemetryUtil.generateCorrelatedObject(noteId, JsonKey.NOTE, null, correlatedObject);
-      TelemetryUtil.generateCorrelatedObject(userId, JsonKey.USER, null, correlatedObject);
+    String noteId = (String) actorMessage.getContext().get(JsonKey.NOTE_ID);
+    String userId = (String) actorMessage.getContext().get(JsonKey.REQUESTED_BY);
+    Future<Response> responseF =
+        notesService
+            .validateUserForNoteUpdate(userId, noteId, context, getContext().dispatcher())
+            .flatMap(
+                new Mapper<Boolean, Future<Boolean>>() {
+                  @Override
+                  public Future<Boolean> apply(Boolean isValidUser) {
+                    if (!isValidUser) {
+                      ProjectCommonException.throwUnauthorizedErrorException();
+                    }
+                    return notesService.noteIdExists(noteId, context, getContext().dispatcher());
+                  }
+                },
+                getContext().dispatcher())
+            .map(
+                new Mapper<Boolean, Response>() {
+                  @Override
+                  public Response apply(Boolean noteIdExists) {
+                    if (!noteIdExists) {
+                      ProjectCommonException.throwClientErrorException(
+                          ResponseCode.invalidParameter,
+                          MessageFormat.format(
+                              ResponseCode.invalidParameter.getErrorMessage(), JsonKey.NOTE_ID));
+                    }
+                    Response result = notesService.deleteNote(noteId, userId, context);
+                    result.getResult().remove(JsonKey.RESPONSE);
+                    generateNoteTelemetry(actorMessage, noteId, userId, JsonKey.DELETE);
+                    return result;
+                  }
+                },
+                getContext().dispatcher());
+    pipeToSender(responseF, actorMessage);
+  }
 
-      TelemetryUtil.telemetryProcessingCall(
-          actorMessage.getRequest(), targetObject, correlatedObject, actorMessage.getContext());
-    } catch (Exception e) {
-      logger.error(context, "Exception while deleting note", e);
-      sender().tell(e, self());
+  private void generateNoteTelemetry(
+      Request actorMessage, String noteId, String userId, String operation) {
+    List<Map<String, Object>> correlatedObject = new ArrayList<>();
+    Map<String, Object> targetObject =
+        TelemetryUtil.generateTargetObject(noteId, JsonKey.NOTE, operation, null);
+    TelemetryUtil.generateCorrelatedObject(noteId, JsonKey.NOTE, null, correlatedObject);
+    TelemetryUtil.generateCorrelatedObject(userId, JsonKey.USER, null, correlatedObject);
+    if (JsonKey.UPDATE.equals(operation)) {
+      TelemetryUtil.addTargetObjectRollUp(new HashMap<>(), targetObject);
     }
+    TelemetryUtil.telemetryProcessingCall(
+        actorMessage.getRequest(), targetObject, correlatedObject, actorMessage.getContext());
   }
 
   /** This method will handle rollup values (for contentId and courseId) in object */
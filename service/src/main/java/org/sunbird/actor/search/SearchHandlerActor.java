@@ -2,7 +2,6 @@ package org.sunbird.actor.search;
 
 import akka.actor.ActorRef;
 import akka.dispatch.Mapper;
-import akka.pattern.Patterns;
 import java.util.*;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
@@ -119,7 +118,26 @@ public class SearchHandlerActor extends BaseActor {
     modifySearchQueryReqForNewRoleStructure(searchQueryMap);
     SearchDTO searchDto = ElasticSearchHelper.createSearchDTO(searchQueryMap);
     searchDto.setExcludedFields(Arrays.asList(ProjectUtil.excludes));
-    Map<String, Object> result = userService.searchUser(searchDto, request.getRequestContext());
+    Future<Map<String, Object>> resultF =
+        userService.searchUser(searchDto, request.getRequestContext());
+    Future<Response> responseF =
+        resultF.map(
+            new Mapper<>() {
+              @Override
+              public Response apply(Map<String, Object> result) {
+                return createUserSearchResponse(request, searchQueryMap, searchDto, result);
+              }
+            },
+            getContext().dispatcher());
+    pipeToSender(responseF, request);
+  }
+
+  private Response createUserSearchResponse(
+      Request request,
+      Map<String, Object> searchQueryMap,
+      SearchDTO searchDto,
+      Map<String, Object> result) {
+    String searchVersion = request.getOperation();
     Response response = new Response();
     // this fuzzy search Logic
     if (((List<Map<String, Object>>) result.get(JsonKey.CONTENT)).size() != 0
@@ -185,9 +203,9 @@ public class SearchHandlerActor extends BaseActor {
     String requestedFields = (String) request.getContext().get(JsonKey.FIELDS);
     updateUserDetailsWithOrgName(requestedFields, userMapList, request.getRequestContext());
     response.put(JsonKey.RESPONSE, result);
-    sender().tell(response, self());
     generateSearchTelemetryEvent(
         searchDto, ProjectUtil.EsType.user.getTypeName(), result, request.getContext());
+    return response;
   }
 
   private void updateUserSearchResponseWithOrgLevelRole(
@@ -308,7 +326,7 @@ public class SearchHandlerActor extends BaseActor {
               }
             },
             getContext().dispatcher());
-    Patterns.pipe(response, getContext().dispatcher()).to(sender());
+    pipeToSender(response, request);
     Request telemetryReq = new Request();
     telemetryReq.getRequest().put("context", request.getContext());
     telemetryReq.getRequest().put("searchFResponse", response);
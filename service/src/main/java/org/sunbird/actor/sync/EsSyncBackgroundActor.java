@@ -1,11 +1,16 @@
 package org.sunbird.actor.sync;
 
+import akka.dispatch.Futures;
+import akka.dispatch.Mapper;
+import akka.dispatch.Recover;
 import java.text.MessageFormat;
 import java.util.*;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.sunbird.actor.core.BaseActor;
+import org.sunbird.common.factory.EsClientFactory;
+import org.sunbird.common.inf.ElasticSearchService;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.operations.ActorOperations;
 import org.sunbird.request.Request;
@@ -18,12 +23,14 @@ import org.sunbird.service.organisation.impl.OrgServiceImpl;
 import org.sunbird.service.user.UserService;
 import org.sunbird.service.user.impl.UserServiceImpl;
 import org.sunbird.util.ProjectUtil;
+import scala.concurrent.Future;
 
 public class EsSyncBackgroundActor extends BaseActor {
 
   private final OrgService orgService = OrgServiceImpl.getInstance();
   private final LocationService locationService = LocationServiceImpl.getInstance();
   private final UserService userService = UserServiceImpl.getInstance();
+  private final ElasticSearchService esService = EsClientFactory.getInstance(JsonKey.REST);
 
   @Override
   public void onReceive(Request request) throws Throwable {
@@ -48,75 +55,67 @@ public class EsSyncBackgroundActor extends BaseActor {
     if (null != dataMap.get(JsonKey.OBJECT_IDS)) {
       objectIds = (List<String>) dataMap.get(JsonKey.OBJECT_IDS);
     }
-    Response finalResponse = new Response();
+    Future<Map<String, Object>> esSyncResponseF = Futures.successful(null);
     if (JsonKey.USER.equalsIgnoreCase(objectType)) {
-      handleUserSyncRequest(objectIds, finalResponse, message.getRequestContext());
+      esSyncResponseF = handleUserSyncRequest(objectIds, message.getRequestContext());
     } else if (JsonKey.ORGANISATION.equalsIgnoreCase(objectType)) {
-      handleOrgAndLocationSync(objectIds, objectType, finalResponse, message.getRequestContext());
+      esSyncResponseF =
+          handleOrgAndLocationSync(objectIds, objectType, message.getRequestContext());
     } else if (JsonKey.LOCATION.equalsIgnoreCase(objectType)) {
-      handleOrgAndLocationSync(objectIds, objectType, finalResponse, message.getRequestContext());
+      esSyncResponseF =
+          handleOrgAndLocationSync(objectIds, objectType, message.getRequestContext());
     }
-    long stopTime = System.currentTimeMillis();
-    long elapsedTime = stopTime - startTime;
-
-    logger.info(
-        message.getRequestContext(),
-        "EsSyncBackgroundActor:sync: Total time taken to sync for type = "
-            + objectType
-            + " is "
-            + elapsedTime
-            + " ms");
+    Future<Response> responseF =
+        esSyncResponseF.map(
+            new Mapper<>() {
+              @Override
+              public Response apply(Map<String, Object> esSyncResponse) {
+                long elapsedTime = System.currentTimeMillis() - startTime;
+                logger.info(
+                    message.getRequestContext(),
+                    "EsSyncBackgroundActor:sync: Total time taken to sync for type = "
+                        + objectType
+                        + " is "
+                        + elapsedTime
+                        + " ms");
+                Response finalResponse = new Response();
+                if (null != esSyncResponse) {
+                  finalResponse.getResult().put(JsonKey.ES_SYNC_RESPONSE, esSyncResponse);
+                }
+                finalResponse.put(JsonKey.RESPONSE, JsonKey.SUCCESS);
+                return finalResponse;
+              }
+            },
+            getContext().dispatcher());
     if (StringUtils.isNotBlank(operationType) && JsonKey.SYNC.equalsIgnoreCase(operationType)) {
-      finalResponse.put(JsonKey.RESPONSE, JsonKey.SUCCESS);
-      sender().tell(finalResponse, self());
+      pipeToSender(responseF, message);
     }
   }
 
-  private void handleOrgAndLocationSync(
-      List<String> objectIds,
-      String objectType,
-      Response finalResponse,
-      RequestContext requestContext) {
-    if (CollectionUtils.isNotEmpty(objectIds)) {
-      List<Map<String, Object>> responseList = getObjectData(objectIds, objectType, requestContext);
-      Map<String, Object> responseMap = new HashMap<>();
-      if (CollectionUtils.isNotEmpty(responseList)) {
-        for (Map<String, Object> map : responseList) {
-          String objectId = (String) map.get(JsonKey.ID);
-          try {
-            logger.info(
-                requestContext,
-                "EsSyncBackgroundActor:handleOrgAndLocationSync for objectType :"
-                    + objectType
-                    + " for id : "
-                    + objectId);
-            String esResponse = "";
-            if (JsonKey.ORGANISATION.equals(objectType)
-                || (JsonKey.LOCATION.equalsIgnoreCase(objectType))) {
-              esResponse = saveDataToEs(getType(objectType), objectId, map, requestContext);
-            }
-            if (StringUtils.isNotBlank(esResponse) && (esResponse).equalsIgnoreCase(objectId)) {
-              responseMap.put(
-                  objectId, ((objectId).equalsIgnoreCase((String) map.get(JsonKey.ID))));
-            }
-          } catch (Exception ex) {
-            logger.error(
-                requestContext,
-                "Exception occurred while making sync call for "
-                    + objectType
-                    + ", id : "
-                    + objectId,
-                ex);
-            responseMap.put(objectId, false);
-          }
-        }
-      } else {
+  private Future<Map<String, Object>> handleOrgAndLocationSync(
+      List<String> objectIds, String objectType, RequestContext requestContext) {
+    if (CollectionUtils.isEmpty(objectIds)) {
+      return Futures.successful(null);
+    }
+    List<Map<String, Object>> responseList = getObjectData(objectIds, objectType, requestContext);
+    Map<String, Future<String>> esResponses = new LinkedHashMap<>();
+    if (CollectionUtils.isNotEmpty(responseList)) {
+      for (Map<String, Object> map : responseList) {
+        String objectId = (String) map.get(JsonKey.ID);
         logger.info(
             requestContext,
-            "EsSyncBackgroundActor:handleOrgAndLocationSync invalid Ids " + objectIds);
+            "EsSyncBackgroundActor:handleOrgAndLocationSync for objectType :"
+                + objectType
+                + " for id : "
+                + objectId);
+        esResponses.put(objectId, saveDataToEs(getType(objectType), objectId, map, requestContext));
       }
-      finalResponse.getResult().put(JsonKey.ES_SYNC_RESPONSE, responseMap);
+    } else {
+      logger.info(
+          requestContext,
+          "EsSyncBackgroundActor:handleOrgAndLocationSync invalid Ids " + objectIds);
     }
+    return collectSyncResponse(esResponses, new HashMap<>(), objectType, requestContext);
   }
 
   private List<Map<String, Object>> getObjectData(
@@ -144,54 +143,101 @@ public class EsSyncBackgroundActor extends BaseActor {
     return responseList;
   }
 
-  private void handleUserSyncRequest(
-      List<String> objectIds, Response finalResponse, RequestContext context) {
-    if (CollectionUtils.isNotEmpty(objectIds)) {
-      Map<String, Object> esResponse = new HashMap<>();
-      for (String userId : objectIds) {
-        try {
+  private Future<Map<String, Object>> handleUserSyncRequest(
+      List<String> objectIds, RequestContext context) {
+    if (CollectionUtils.isEmpty(objectIds)) {
+      return Futures.successful(null);
+    }
+    Map<String, Future<String>> esResponses = new LinkedHashMap<>();
+    Map<String, Object> failedResponse = new HashMap<>();
+    for (String userId : objectIds) {
+      try {
+        logger.info(
+            context,
+            "EsSyncBackgroundActor:handleUserSyncRequest: Trigger sync of user details to ES");
+        Map<String, Object> userDetails = userService.getUserDetailsForES(userId, context);
+        if (MapUtils.isNotEmpty(userDetails)) {
           logger.info(
               context,
-              "EsSyncBackgroundActor:handleUserSyncRequest: Trigger sync of user details to ES");
-          Map<String, Object> userDetails = userService.getUserDetailsForES(userId, context);
-          if (MapUtils.isNotEmpty(userDetails)) {
-            logger.info(
-                context,
-                "EsSyncBackgroundActor:handleUserSyncRequest user rootOrgId :"
-                    + userDetails.get(JsonKey.ROOT_ORG_ID)
-                    + ", userId : "
-                    + userDetails.get(JsonKey.ID));
-            String response =
-                saveDataToEs(ProjectUtil.EsType.user.getTypeName(), userId, userDetails, context);
-            if (StringUtils.isNotBlank(response) && userId.equalsIgnoreCase(response)) {
-              esResponse.put(userId, userId.equalsIgnoreCase(response));
-            }
-          } else {
-            logger.info(
-                context, "EsSyncBackgroundActor:handleUserSyncRequest invalid userId " + userId);
-          }
-        } catch (Exception ex) {
-          logger.error(
-              context,
-              "Exception occurred while making sync call for user with id : " + userId,
-              ex);
-          finalResponse.put(userId, false);
+              "EsSyncBackgroundActor:handleUserSyncRequest user rootOrgId :"
+                  + userDetails.get(JsonKey.ROOT_ORG_ID)
+                  + ", userId : "
+                  + userDetails.get(JsonKey.ID));
+          esResponses.put(
+              userId,
+              saveDataToEs(ProjectUtil.EsType.user.getTypeName(), userId, userDetails, context));
+        } else {
+          logger.info(
+              context, "EsSyncBackgroundActor:handleUserSyncRequest invalid userId " + userId);
         }
+      } catch (Exception ex) {
+        logger.error(
+            context, "Exception occurred while making sync call for user with id : " + userId, ex);
+        failedResponse.put(userId, false);
       }
-      finalResponse.getResult().put(JsonKey.ES_SYNC_RESPONSE, esResponse);
     }
+    return collectSyncResponse(esResponses, failedResponse, JsonKey.USER, context);
+  }
+
+  /**
+   * Wait (without blocking) for all ES writes and build the sync response: true for every id that
+   * was saved, false for every id whose save failed.
+   */
+  private Future<Map<String, Object>> collectSyncResponse(
+      Map<String, Future<String>> esResponses,
+      Map<String, Object> syncResponse,
+      String objectType,
+      RequestContext context) {
+    List<Future<String>> saves = new ArrayList<>();
+    for (Map.Entry<String, Future<String>> entry : esResponses.entrySet()) {
+      String objectId = entry.getKey();
+      saves.add(
+          entry
+              .getValue()
+              .recover(
+                  new Recover<String>() {
+                    @Override
+                    public String recover(Throwable failure) {
+                      logger.error(
+                          context,
+                          "Exception occurred while making sync call for "
+                              + objectType
+                              + ", id : "
+                              + objectId,
+                          failure);
+                      return null;
+                    }
+                  },
+                  getContext().dispatcher()));
+    }
+    List<String> objectIds = new ArrayList<>(esResponses.keySet());
+    return Futures.sequence(saves, getContext().dispatcher())
+        .map(
+            new Mapper<Iterable<String>, Map<String, Object>>() {
+              @Override
+              public Map<String, Object> apply(Iterable<String> responses) {
+                Iterator<String> response = responses.iterator();
+                for (String objectId : objectIds) {
+                  String esResponse = response.next();
+                  if (null == esResponse) {
+                    syncResponse.put(objectId, false);
+                  } else if (StringUtils.isNotBlank(esResponse)
+                      && esResponse.equalsIgnoreCase(objectId)) {
+                    syncResponse.put(objectId, true);
+                  }
+                }
+                return syncResponse;
+              }
+            },
+            getContext().dispatcher());
   }
 
-  private String saveDataToEs(
+  private Future<String> saveDataToEs(
       String esType, String id, Map<String, Object> data, RequestContext context) {
-    if (ProjectUtil.EsType.organisation.getTypeName().equalsIgnoreCase(esType)) {
-      return orgService.saveOrgToEs(id, data, context);
-    } else if (ProjectUtil.EsType.location.getTypeName().equalsIgnoreCase(esType)) {
-      return locationService.saveLocationToEs(id, data, context);
-    } else if (ProjectUtil.EsType.user.getTypeName().equalsIgnoreCase(esType)) {
-      return userService.saveUserToES(id, data, context);
+    if (StringUtils.isBlank(esType)) {
+      return Futures.successful("");
     }
-    return "";
+    return esService.bulkSave(esType, id, data, context);
   }
 
   private String getType(String objectType) {
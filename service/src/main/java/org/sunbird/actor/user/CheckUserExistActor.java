@@ -1,5 +1,7 @@
 package org.sunbird.actor.user;
 
+import akka.dispatch.Futures;
+import akka.dispatch.Mapper;
 import java.util.List;
 import java.util.Map;
 import java.util.WeakHashMap;
@@ -15,6 +17,7 @@ import org.sunbird.service.user.UserService;
 import org.sunbird.service.user.impl.UserServiceImpl;
 import org.sunbird.telemetry.dto.TelemetryEnvKey;
 import org.sunbird.util.Util;
+import scala.concurrent.Future;
 
 public class CheckUserExistActor extends BaseActor {
 
@@ -37,16 +40,14 @@ public class CheckUserExistActor extends BaseActor {
   }
 
   private void checkUserExistence(Request request) {
-    Response userResponse = checkUserExists(request, true);
-    sender().tell(userResponse, self());
+    pipeToSender(checkUserExists(request, true), request);
   }
 
   private void checkUserExistenceV2(Request request) {
-    Response userResponse = checkUserExists(request, false);
-    sender().tell(userResponse, self());
+    pipeToSender(checkUserExists(request, false), request);
   }
 
-  private Response checkUserExists(Request request, boolean isV1) {
+  private Future<Response> checkUserExists(Request request, boolean isV1) {
     Response resp = new Response();
     String key = (String) request.get(JsonKey.KEY);
     if (JsonKey.PHONE.equalsIgnoreCase(key)
@@ -58,7 +59,7 @@ public class CheckUserExistActor extends BaseActor {
               key.toLowerCase(), StringUtils.lowerCase(value), request.getRequestContext());
       if (StringUtils.isBlank(userId)) {
         resp.put(JsonKey.EXISTS, false);
-        return resp;
+        return Futures.successful(resp);
       }
       resp.put(JsonKey.EXISTS, true);
       if (!isV1) {
@@ -70,27 +71,34 @@ public class CheckUserExistActor extends BaseActor {
         }
         resp.put(JsonKey.NAME, name);
       }
-    } else {
-      Map<String, Object> responseMap = searchUser(request);
-      List<Map<String, Object>> respList = (List) responseMap.get(JsonKey.CONTENT);
-      long size = respList.size();
-      boolean isExists = (size > 0);
-      resp.put(JsonKey.EXISTS, isExists);
-      if (isExists && !isV1) {
-        Map<String, Object> response = respList.get(0);
-        resp.put(JsonKey.EXISTS, true);
-        resp.put(JsonKey.ID, response.get(JsonKey.USER_ID));
-        String name = (String) response.get(JsonKey.FIRST_NAME);
-        if (StringUtils.isNotEmpty((String) response.get(JsonKey.LAST_NAME))) {
-          name += " " + response.get(JsonKey.LAST_NAME);
-        }
-        resp.put(JsonKey.NAME, name);
-      }
+      return Futures.successful(resp);
     }
-    return resp;
+    return searchUser(request)
+        .map(
+            new Mapper<>() {
+              @Override
+              public Response apply(Map<String, Object> responseMap) {
+                List<Map<String, Object>> respList = (List) responseMap.get(JsonKey.CONTENT);
+                long size = respList.size();
+                boolean isExists = (size > 0);
+                resp.put(JsonKey.EXISTS, isExists);
+                if (isExists && !isV1) {
+                  Map<String, Object> response = respList.get(0);
+                  resp.put(JsonKey.EXISTS, true);
+                  resp.put(JsonKey.ID, response.get(JsonKey.USER_ID));
+                  String name = (String) response.get(JsonKey.FIRST_NAME);
+                  if (StringUtils.isNotEmpty((String) response.get(JsonKey.LAST_NAME))) {
+                    name += " " + response.get(JsonKey.LAST_NAME);
+                  }
+                  resp.put(JsonKey.NAME, name);
+                }
+                return resp;
+              }
+            },
+            getContext().dispatcher());
   }
 
-  private Map<String, Object> searchUser(Request request) {
+  private Future<Map<String, Object>> searchUser(Request request) {
     Map<String, Object> searchMap = new WeakHashMap<>();
     String value = (String) request.get(JsonKey.VALUE);
     EncryptionService encryptionService =
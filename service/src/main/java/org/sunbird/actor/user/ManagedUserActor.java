@@ -1,5 +1,6 @@
 package org.sunbird.actor.user;
 
+import akka.dispatch.Mapper;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -27,6 +28,7 @@ import org.sunbird.service.user.impl.UserServiceImpl;
 import org.sunbird.telemetry.dto.TelemetryEnvKey;
 import org.sunbird.util.*;
 import org.sunbird.util.user.UserUtil;
+import scala.concurrent.Future;
 
 public class ManagedUserActor extends UserBaseActor {
 
@@ -200,8 +202,22 @@ public class ManagedUserActor extends UserBaseActor {
       searchRequestMap.put(JsonKey.SORT_BY, sortBy);
     }
     SearchDTO searchDTO = ElasticSearchHelper.createSearchDTO(searchRequestMap);
-    Map<String, Object> searchResult =
+    Future<Map<String, Object>> searchResultF =
         userService.searchUser(searchDTO, request.getRequestContext());
+    Future<Response> responseF =
+        searchResultF.map(
+            new Mapper<>() {
+              @Override
+              public Response apply(Map<String, Object> searchResult) {
+                return createManagedUsersResponse(request, uuid, withTokens, searchResult);
+              }
+            },
+            getContext().dispatcher());
+    pipeToSender(responseF, request);
+  }
+
+  private Response createManagedUsersResponse(
+      Request request, String uuid, boolean withTokens, Map<String, Object> searchResult) {
     List<Map<String, Object>> userList = (List) searchResult.get(JsonKey.CONTENT);
 
     List<Map<String, Object>> activeUserList = null;
@@ -230,6 +246,6 @@ public class ManagedUserActor extends UserBaseActor {
     }
     Response response = new Response();
     response.put(JsonKey.RESPONSE, responseMap);
-    sender().tell(response, self());
+    return response;
   }
 }
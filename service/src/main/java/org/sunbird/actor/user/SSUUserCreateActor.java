@@ -126,13 +126,11 @@ public class SSUUserCreateActor extends UserBaseActor {
               getContext().dispatcher());
       Map<String, Object> finalEsResponse = esResponse;
       Future<Response> future =
-          Futures.future(
-                  () ->
-                      userService.saveUserToES(
-                          (String) finalEsResponse.get(JsonKey.USER_ID),
-                          finalEsResponse,
-                          actorMessage.getRequestContext()),
-                  getContext().dispatcher())
+          userService
+              .saveUserToES(
+                  (String) finalEsResponse.get(JsonKey.USER_ID),
+                  finalEsResponse,
+                  actorMessage.getRequestContext())
               .zip(kcFuture)
               .map(
                   new Mapper<>() {
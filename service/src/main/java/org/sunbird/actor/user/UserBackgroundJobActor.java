@@ -1,10 +1,10 @@
 package org.sunbird.actor.user;
 
+import akka.dispatch.OnComplete;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.HashMap;
 import java.util.Map;
 import org.sunbird.actor.core.BaseActor;
-import org.sunbird.common.ElasticSearchHelper;
 import org.sunbird.common.factory.EsClientFactory;
 import org.sunbird.common.inf.ElasticSearchService;
 import org.sunbird.keys.JsonKey;
@@ -69,14 +69,27 @@ public class UserBackgroundJobActor extends BaseActor {
       String typeName, String id, Map<String, Object> userDetails, RequestContext context) {
 
     Future<Boolean> bool = esUtil.upsert(typeName, id, userDetails, context);
-
-    logger.info(
-        context,
-        "Getting ES save response for type , identifier=="
-            + typeName
-            + "  "
-            + id
-            + "  "
-            + ElasticSearchHelper.getResponseFromFuture(bool));
+    bool.onComplete(
+        new OnComplete<Boolean>() {
+          @Override
+          public void onComplete(Throwable failure, Boolean response) {
+            if (null != failure) {
+              logger.error(
+                  context,
+                  "Getting ES save response for type , identifier==" + typeName + "  " + id,
+                  failure);
+            } else {
+              logger.info(
+                  context,
+                  "Getting ES save response for type , identifier=="
+                      + typeName
+                      + "  "
+                      + id
+                      + "  "
+                      + response);
+            }
+          }
+        },
+        getContext().dispatcher());
   }
 }
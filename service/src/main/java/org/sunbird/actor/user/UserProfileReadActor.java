@@ -1,5 +1,6 @@
 package org.sunbird.actor.user;
 
+import akka.dispatch.Mapper;
 import java.text.MessageFormat;
 import java.util.List;
 import java.util.Map;
@@ -20,6 +21,7 @@ import org.sunbird.service.user.UserService;
 import org.sunbird.service.user.impl.UserServiceImpl;
 import org.sunbird.telemetry.dto.TelemetryEnvKey;
 import org.sunbird.util.Util;
+import scala.concurrent.Future;
 
 public class UserProfileReadActor extends BaseActor {
 
@@ -68,13 +70,13 @@ public class UserProfileReadActor extends BaseActor {
         || JsonKey.USERNAME.equalsIgnoreCase(key)) {
       value = value.toLowerCase();
     }
-    String userId = null;
     if (JsonKey.PHONE.equalsIgnoreCase(key)
         || JsonKey.EMAIL.equalsIgnoreCase(key)
         || JsonKey.USERNAME.equalsIgnoreCase(key)) {
-      userId =
+      String userId =
           userService.getUserIdByUserLookUp(
               key.toLowerCase(), StringUtils.lowerCase(value), actorMessage.getRequestContext());
+      sender().tell(getUserProfileById(actorMessage, userId), self());
     } else {
       String encryptedValue =
           encryptionService.encryptData(value, actorMessage.getRequestContext());
@@ -82,25 +84,36 @@ public class UserProfileReadActor extends BaseActor {
       searchMap.put(key, encryptedValue);
       SearchDTO searchDTO = new SearchDTO();
       searchDTO.getAdditionalProperties().put(JsonKey.FILTERS, searchMap);
-      Map<String, Object> esResponse =
+      Future<Map<String, Object>> esResponseF =
           userService.searchUser(searchDTO, actorMessage.getRequestContext());
-      List<Map<String, Object>> userList =
-          (List<Map<String, Object>>) esResponse.get(JsonKey.CONTENT);
-      if (CollectionUtils.isNotEmpty(userList)) {
-        userId = (String) userList.get(0).get(JsonKey.USER_ID);
-      }
+      Future<Response> responseF =
+          esResponseF.map(
+              new Mapper<>() {
+                @Override
+                public Response apply(Map<String, Object> esResponse) {
+                  String userId = null;
+                  List<Map<String, Object>> userList =
+                      (List<Map<String, Object>>) esResponse.get(JsonKey.CONTENT);
+                  if (CollectionUtils.isNotEmpty(userList)) {
+                    userId = (String) userList.get(0).get(JsonKey.USER_ID);
+                  }
+                  return getUserProfileById(actorMessage, userId);
+                }
+              },
+              getContext().dispatcher());
+      pipeToSender(responseF, actorMessage);
     }
-    if (StringUtils.isNotBlank(userId)) {
-      actorMessage.put(JsonKey.USER_ID, userId);
-      actorMessage.setOperation(ActorOperations.GET_USER_PROFILE_V5.getValue());
-      actorMessage.getContext().put(JsonKey.PRIVATE, false);
-      Response response = profileReadService.getUserProfileData(actorMessage);
-      sender().tell(response, self());
-    } else {
+  }
+
+  private Response getUserProfileById(Request actorMessage, String userId) {
+    if (StringUtils.isBlank(userId)) {
       ProjectCommonException.throwResourceNotFoundException(
-        ResponseCode.resourceNotFound,
-        MessageFormat.format(
-          ResponseCode.resourceNotFound.getErrorMessage(), JsonKey.USER));
+          ResponseCode.resourceNotFound,
+          MessageFormat.format(ResponseCode.resourceNotFound.getErrorMessage(), JsonKey.USER));
     }
+    actorMessage.put(JsonKey.USER_ID, userId);
+    actorMessage.setOperation(ActorOperations.GET_USER_PROFILE_V5.getValue());
+    actorMessage.getContext().put(JsonKey.PRIVATE, false);
+    return profileReadService.getUserProfileData(actorMessage);
   }
 }
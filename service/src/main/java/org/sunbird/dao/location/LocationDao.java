@@ -5,6 +5,7 @@ import java.util.Map;
 import org.sunbird.model.location.Location;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
+import scala.concurrent.Future;
 
 /** @author Amit Kumar */
 public interface LocationDao {
@@ -53,5 +54,5 @@ public interface LocationDao {
    */
   Response getRecordByProperty(Map<String, Object> queryMap, RequestContext context);
 
-  String saveLocationToEs(String id, Map<String, Object> data, RequestContext context);
+  Future<String> saveLocationToEs(String id, Map<String, Object> data, RequestContext context);
 }
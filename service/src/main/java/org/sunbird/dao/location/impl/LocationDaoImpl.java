@@ -56,8 +56,7 @@ public class LocationDaoImpl implements LocationDao {
     addSortBy(searchDto);
     String type = ProjectUtil.EsType.location.getTypeName();
     Future<Map<String, Object>> resultF = esUtil.search(searchDto, type, context);
-    Map<String, Object> result =
-        (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(resultF);
+    Map<String, Object> result = ElasticSearchHelper.awaitResult(resultF);
     Response response = new Response();
     if (result != null) {
       response.put(JsonKey.COUNT, result.get(JsonKey.COUNT));
@@ -91,10 +90,10 @@ public class LocationDaoImpl implements LocationDao {
   }
 
   @Override
-  public String saveLocationToEs(String id, Map<String, Object> data, RequestContext context) {
+  public Future<String> saveLocationToEs(
+      String id, Map<String, Object> data, RequestContext context) {
     String type = ProjectUtil.EsType.location.getTypeName();
-    Future<String> responseF = esUtil.save(type, id, data, context);
-    return (String) ElasticSearchHelper.getResponseFromFuture(responseF);
+    return esUtil.save(type, id, data, context);
   }
 
   public SearchDTO addSortBy(SearchDTO searchDtO) {
@@ -3,6 +3,7 @@ package org.sunbird.dao.notes;
 import java.util.Map;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
+import scala.concurrent.Future;
 
 public interface NotesDao {
 
@@ -10,7 +11,8 @@ public interface NotesDao {
 
   Response updateNote(Map<String, Object> request, RequestContext context);
 
-  Map<String, Object> searchNotes(Map<String, Object> searchQueryMap, RequestContext context);
+  Future<Map<String, Object>> searchNotes(
+      Map<String, Object> searchQueryMap, RequestContext context);
 
-  Map<String, Object> getNoteById(String noteId, RequestContext context);
+  Future<Map<String, Object>> getNoteById(String noteId, RequestContext context);
 }
@@ -1,5 +1,8 @@
 package org.sunbird.dao.notes.impl;
 
+import akka.dispatch.ExecutionContexts;
+import akka.dispatch.Mapper;
+import akka.dispatch.OnComplete;
 import java.util.*;
 import org.apache.commons.lang3.StringUtils;
 import org.sunbird.cassandra.CassandraOperation;
@@ -14,6 +17,7 @@ import org.sunbird.logging.LoggerUtil;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
 import org.sunbird.util.ProjectUtil;
+import scala.concurrent.ExecutionContext;
 import scala.concurrent.Future;
 
 public class NotesDaoImpl implements NotesDao {
@@ -23,6 +27,8 @@ public class NotesDaoImpl implements NotesDao {
 
   private static final String KEYSPACE_NAME = JsonKey.SUNBIRD;
   private static final String TABLE_NAME = "user_notes";
+  /** Runs cheap transformations of results on the thread completing the future. */
+  private static final ExecutionContext SAME_THREAD = ExecutionContexts.fromExecutor(Runnable::run);
 
   private static NotesDao notesDao;
 
@@ -52,7 +58,7 @@ public class NotesDaoImpl implements NotesDao {
   }
 
   @Override
-  public Map<String, Object> searchNotes(
+  public Future<Map<String, Object>> searchNotes(
       Map<String, Object> searchQueryMap, RequestContext context) {
     Map<String, Object> filters = new HashMap<>();
     if (searchQueryMap.containsKey(JsonKey.FILTERS)) {
@@ -72,49 +78,57 @@ public class NotesDaoImpl implements NotesDao {
     searchDto.setExcludedFields(excludedFields);
     Future<Map<String, Object>> resultF =
         esService.search(searchDto, ProjectUtil.EsType.usernotes.getTypeName(), context);
-    Map<String, Object> result =
-        (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(resultF);
-    if (result != null) {
-      Object count = result.get(JsonKey.COUNT);
-      Object note = result.get(JsonKey.CONTENT);
-      result = new LinkedHashMap<>();
-      result.put(JsonKey.COUNT, count);
-      result.put(JsonKey.NOTE, note);
-      result.put(JsonKey.CONTENT, note);
-    } else {
-      result = new HashMap<>();
-    }
-    return result;
+    return resultF.map(
+        new Mapper<Map<String, Object>, Map<String, Object>>() {
+          @Override
+          public Map<String, Object> apply(Map<String, Object> esResult) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            Object note = esResult.get(JsonKey.CONTENT);
+            result.put(JsonKey.COUNT, esResult.get(JsonKey.COUNT));
+            result.put(JsonKey.NOTE, note);
+            result.put(JsonKey.CONTENT, note);
+            return result;
+          }
+        },
+        SAME_THREAD);
   }
 
   @Override
-  public Map<String, Object> getNoteById(String noteId, RequestContext context) {
-    Future<Map<String, Object>> resultF =
-        esService.getDataByIdentifier(ProjectUtil.EsType.usernotes.getTypeName(), noteId, context);
-    return (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(resultF);
+  public Future<Map<String, Object>> getNoteById(String noteId, RequestContext context) {
+    return esService.getDataByIdentifier(
+        ProjectUtil.EsType.usernotes.getTypeName(), noteId, context);
   }
 
-  private boolean insertDataToElastic(
+  private void insertDataToElastic(
       String identifier, Map<String, Object> data, RequestContext context) {
     String type = ProjectUtil.EsType.usernotes.getTypeName();
     Future<String> responseF = esService.save(type, identifier, data, context);
-    String response = (String) ElasticSearchHelper.getResponseFromFuture(responseF);
-    if (StringUtils.isNotBlank(response)) {
-      return true;
-    }
-    logger.debug(context, "unable to save the data inside ES with identifier " + identifier);
-    return false;
+    responseF.onComplete(
+        new OnComplete<String>() {
+          @Override
+          public void onComplete(Throwable failure, String response) {
+            if (null != failure || StringUtils.isBlank(response)) {
+              logger.debug(
+                  context, "unable to save the data inside ES with identifier " + identifier);
+            }
+          }
+        },
+        SAME_THREAD);
   }
 
-  private boolean updateDataToElastic(
+  private void updateDataToElastic(
       String identifier, Map<String, Object> data, RequestContext context) {
     String type = ProjectUtil.EsType.usernotes.getTypeName();
     Future<Boolean> responseF = esService.update(type, identifier, data, context);
-    boolean response = (boolean) ElasticSearchHelper.getResponseFromFuture(responseF);
-    if (response) {
-      return true;
-    }
-    logger.debug(context, "unable to save the data to ES with identifier " + identifier);
-    return false;
+    responseF.onComplete(
+        new OnComplete<Boolean>() {
+          @Override
+          public void onComplete(Throwable failure, Boolean response) {
+            if (null != failure || !Boolean.TRUE.equals(response)) {
+              logger.debug(context, "unable to save the data to ES with identifier " + identifier);
+            }
+          }
+        },
+        SAME_THREAD);
   }
 }
@@ -24,5 +24,5 @@ public interface OrgDao {
   List<Map<String, Object>> getOrgByIds(
       List<String> orgIds, List<String> fields, RequestContext context);
 
-  String saveOrgToEs(String id, Map<String, Object> data, RequestContext context);
+  Future<String> saveOrgToEs(String id, Map<String, Object> data, RequestContext context);
 }
@@ -80,10 +80,9 @@ public class OrgDaoImpl implements OrgDao {
   }
 
   @Override
-  public String saveOrgToEs(String id, Map<String, Object> data, RequestContext context) {
+  public Future<String> saveOrgToEs(String id, Map<String, Object> data, RequestContext context) {
     String type = ProjectUtil.EsType.organisation.getTypeName();
-    Future<String> responseF = esService.save(type, id, data, context);
-    return (String) ElasticSearchHelper.getResponseFromFuture(responseF);
+    return esService.save(type, id, data, context);
   }
 
   private void enrichOrgDetails(Map<String, Object> orgMap, RequestContext context) {
@@ -135,8 +134,7 @@ public class OrgDaoImpl implements OrgDao {
   @Override
   public Response search(Map<String, Object> searchQueryMap, RequestContext context) {
     SearchDTO searchDto = ElasticSearchHelper.createSearchDTO(searchQueryMap);
-    Map<String, Object> result =
-        (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(search(searchDto, context));
+    Map<String, Object> result = ElasticSearchHelper.awaitResult(search(searchDto, context));
     Response response = new Response();
     if (result != null) {
       response.put(JsonKey.COUNT, result.get(JsonKey.COUNT));
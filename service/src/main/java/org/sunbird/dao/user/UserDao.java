@@ -6,6 +6,7 @@ import org.sunbird.dto.SearchDTO;
 import org.sunbird.model.user.User;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
+import scala.concurrent.Future;
 
 /**
  * This interface will have all methods required for user service api.
@@ -73,11 +74,16 @@ public interface UserDao {
   Response getUserPropertiesById(
       List<String> userId, List<String> properties, RequestContext context);
 
-  Map<String, Object> search(SearchDTO searchDTO, RequestContext context);
+  Future<Map<String, Object>> search(SearchDTO searchDTO, RequestContext context);
 
-  Map<String, Object> getEsUserById(String userId, RequestContext context);
+  /**
+   * Fetch the user document from ES. The returned future fails with ProjectCommonException if the
+   * user is not found.
+   */
+  Future<Map<String, Object>> getEsUserById(String userId, RequestContext context);
 
-  boolean updateUserDataToES(String identifier, Map<String, Object> data, RequestContext context);
+  Future<Boolean> updateUserDataToES(
+      String identifier, Map<String, Object> data, RequestContext context);
 
-  String saveUserToES(String identifier, Map<String, Object> data, RequestContext context);
+  Future<String> saveUserToES(String identifier, Map<String, Object> data, RequestContext context);
 }
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Map;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
+import scala.concurrent.Future;
 
 public interface UserRoleDao {
 
@@ -15,5 +16,6 @@ public interface UserRoleDao {
 
   List<Map<String, Object>> getUserRoles(String userId, String role, RequestContext context);
 
-  boolean updateUserRoleToES(String identifier, Map<String, Object> data, RequestContext context);
+  Future<Boolean> updateUserRoleToES(
+      String identifier, Map<String, Object> data, RequestContext context);
 }
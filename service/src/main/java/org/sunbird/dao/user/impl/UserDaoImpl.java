@@ -1,5 +1,7 @@
 package org.sunbird.dao.user.impl;
 
+import akka.dispatch.ExecutionContexts;
+import akka.dispatch.Mapper;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.text.MessageFormat;
 import java.util.List;
@@ -7,7 +9,6 @@ import java.util.Map;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.sunbird.cassandra.CassandraOperation;
-import org.sunbird.common.ElasticSearchHelper;
 import org.sunbird.common.factory.EsClientFactory;
 import org.sunbird.common.inf.ElasticSearchService;
 import org.sunbird.dao.user.UserDao;
@@ -21,6 +22,7 @@ import org.sunbird.model.user.User;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
 import org.sunbird.util.ProjectUtil;
+import scala.concurrent.ExecutionContext;
 import scala.concurrent.Future;
 
 /**
@@ -33,6 +35,9 @@ public class UserDaoImpl implements UserDao {
   private final LoggerUtil logger = new LoggerUtil(UserDaoImpl.class);
   private static final String TABLE_NAME = JsonKey.USER;
   private static final String KEY_SPACE_NAME = JsonKey.SUNBIRD;
+  /** Runs cheap transformations of results on the thread completing the future. */
+  private static final ExecutionContext SAME_THREAD = ExecutionContexts.fromExecutor(Runnable::run);
+
   private final ElasticSearchService esService = EsClientFactory.getInstance(JsonKey.REST);
   private final CassandraOperation cassandraOperation = ServiceFactory.getInstance();
   private final ObjectMapper mapper = new ObjectMapper();
@@ -90,45 +95,56 @@ public class UserDaoImpl implements UserDao {
   }
 
   @Override
-  public Map<String, Object> search(SearchDTO searchDTO, RequestContext context) {
-    Future<Map<String, Object>> esResultF =
-        esService.search(searchDTO, ProjectUtil.EsType.user.getTypeName(), context);
-    return (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(esResultF);
+  public Future<Map<String, Object>> search(SearchDTO searchDTO, RequestContext context) {
+    return esService.search(searchDTO, ProjectUtil.EsType.user.getTypeName(), context);
   }
 
   @Override
-  public Map<String, Object> getEsUserById(String userId, RequestContext context) {
+  public Future<Map<String, Object>> getEsUserById(String userId, RequestContext context) {
     Future<Map<String, Object>> esResultF =
         esService.getDataByIdentifier(ProjectUtil.EsType.user.getTypeName(), userId, context);
-    Map<String, Object> esResult =
-        (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(esResultF);
-    if (MapUtils.isEmpty(esResult)) {
-      throw new ProjectCommonException(
-          ResponseCode.resourceNotFound,
-          MessageFormat.format(ResponseCode.resourceNotFound.getErrorMessage(), JsonKey.USER),
-          ResponseCode.RESOURCE_NOT_FOUND.getResponseCode());
-    }
-    return esResult;
+    return esResultF.map(
+        new Mapper<Map<String, Object>, Map<String, Object>>() {
+          @Override
+          public Map<String, Object> apply(Map<String, Object> esResult) {
+            if (MapUtils.isEmpty(esResult)) {
+              throw new ProjectCommonException(
+                  ResponseCode.resourceNotFound,
+                  MessageFormat.format(
+                      ResponseCode.resourceNotFound.getErrorMessage(), JsonKey.USER),
+                  ResponseCode.RESOURCE_NOT_FOUND.getResponseCode());
+            }
+            return esResult;
+          }
+        },
+        SAME_THREAD);
   }
 
   @Override
-  public boolean updateUserDataToES(
+  public Future<Boolean> updateUserDataToES(
       String identifier, Map<String, Object> data, RequestContext context) {
     Future<Boolean> responseF =
         esService.update(ProjectUtil.EsType.user.getTypeName(), identifier, data, context);
-    if ((boolean) ElasticSearchHelper.getResponseFromFuture(responseF)) {
-      return true;
-    }
-    logger.info(
-        context,
-        "updateUserDataToES:unable to save the user data to ES with identifier " + identifier);
-    return false;
+    return responseF.map(
+        new Mapper<Boolean, Boolean>() {
+          @Override
+          public Boolean apply(Boolean updated) {
+            if (!Boolean.TRUE.equals(updated)) {
+              logger.info(
+                  context,
+                  "updateUserDataToES:unable to save the user data to ES with identifier "
+                      + identifier);
+            }
+            return updated;
+          }
+        },
+        SAME_THREAD);
   }
 
   @Override
-  public String saveUserToES(String identifier, Map<String, Object> data, RequestContext context) {
+  public Future<String> saveUserToES(
+      String identifier, Map<String, Object> data, RequestContext context) {
     String type = ProjectUtil.EsType.user.getTypeName();
-    Future<String> responseF = esService.save(type, identifier, data, context);
-    return (String) ElasticSearchHelper.getResponseFromFuture(responseF);
+    return esService.save(type, identifier, data, context);
   }
 }
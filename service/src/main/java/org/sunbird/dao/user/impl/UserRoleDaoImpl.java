@@ -1,9 +1,10 @@
 package org.sunbird.dao.user.impl;
 
+import akka.dispatch.ExecutionContexts;
+import akka.dispatch.Mapper;
 import java.util.*;
 import org.apache.commons.lang3.StringUtils;
 import org.sunbird.cassandra.CassandraOperation;
-import org.sunbird.common.ElasticSearchHelper;
 import org.sunbird.common.factory.EsClientFactory;
 import org.sunbird.common.inf.ElasticSearchService;
 import org.sunbird.dao.user.UserRoleDao;
@@ -13,12 +14,16 @@ import org.sunbird.logging.LoggerUtil;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
 import org.sunbird.util.ProjectUtil;
+import scala.concurrent.ExecutionContext;
 import scala.concurrent.Future;
 
 public final class UserRoleDaoImpl implements UserRoleDao {
 
   private final LoggerUtil logger = new LoggerUtil(UserRoleDaoImpl.class);
   private static final String TABLE_NAME = JsonKey.USER_ROLES;
+  /** Runs cheap transformations of results on the thread completing the future. */
+  private static final ExecutionContext SAME_THREAD = ExecutionContexts.fromExecutor(Runnable::run);
+
   private final CassandraOperation cassandraOperation = ServiceFactory.getInstance();
   private final ElasticSearchService esService = EsClientFactory.getInstance(JsonKey.REST);
 
@@ -76,17 +81,23 @@ public final class UserRoleDaoImpl implements UserRoleDao {
   }
 
   @Override
-  public boolean updateUserRoleToES(
+  public Future<Boolean> updateUserRoleToES(
       String identifier, Map<String, Object> data, RequestContext context) {
     Future<Boolean> responseF =
         esService.update(ProjectUtil.EsType.user.getTypeName(), identifier, data, context);
-    if ((boolean) ElasticSearchHelper.getResponseFromFuture(responseF)) {
-      return true;
-    }
-    logger.info(
-        context,
-        "UserRoleDaoImpl:updateUserRoleToES:unable to save the user role data to ES with identifier "
-            + identifier);
-    return false;
+    return responseF.map(
+        new Mapper<Boolean, Boolean>() {
+          @Override
+          public Boolean apply(Boolean updated) {
+            if (!Boolean.TRUE.equals(updated)) {
+              logger.info(
+                  context,
+                  "UserRoleDaoImpl:updateUserRoleToES:unable to save the user role data to ES with identifier "
+                      + identifier);
+            }
+            return updated;
+          }
+        },
+        SAME_THREAD);
   }
 }
@@ -0,0 +1,38 @@
+package org.sunbird.service.health;
+
+import org.sunbird.helper.CassandraConnectionMngrFactory;
+import org.sunbird.keys.JsonKey;
+
+/** Checks cassandra with the connection pool state and a query on system.local. */
+public class CassandraHealthProbe implements HealthProbe {
+
+  private final String keyspaceName;
+  private final long intervalInSec;
+  private final long ttlInSec;
+
+  public CassandraHealthProbe(String keyspaceName, long intervalInSec, long ttlInSec) {
+    this.keyspaceName = keyspaceName;
+    this.intervalInSec = intervalInSec;
+    this.ttlInSec = ttlInSec;
+  }
+
+  @Override
+  public String getName() {
+    return JsonKey.CASSANDRA_SERVICE;
+  }
+
+  @Override
+  public long getIntervalInSec() {
+    return intervalInSec;
+  }
+
+  @Override
+  public long getTtlInSec() {
+    return ttlInSec;
+  }
+
+  @Override
+  public boolean isHealthy() {
+    return CassandraConnectionMngrFactory.getInstance().isHealthy(keyspaceName);
+  }
+}
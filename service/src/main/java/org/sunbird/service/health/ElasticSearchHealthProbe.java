@@ -0,0 +1,45 @@
+package org.sunbird.service.health;
+
+import java.util.concurrent.TimeUnit;
+import org.sunbird.common.factory.EsClientFactory;
+import org.sunbird.common.inf.ElasticSearchService;
+import org.sunbird.keys.JsonKey;
+import scala.concurrent.Await;
+import scala.concurrent.Future;
+import scala.concurrent.duration.Duration;
+
+/** Checks elastic search with a cluster health request; no index is queried. */
+public class ElasticSearchHealthProbe implements HealthProbe {
+
+  private final long intervalInSec;
+  private final long ttlInSec;
+  private final long timeoutInMillis;
+
+  public ElasticSearchHealthProbe(long intervalInSec, long ttlInSec, long timeoutInMillis) {
+    this.intervalInSec = intervalInSec;
+    this.ttlInSec = ttlInSec;
+    this.timeoutInMillis = timeoutInMillis;
+  }
+
+  @Override
+  public String getName() {
+    return JsonKey.ES_SERVICE;
+  }
+
+  @Override
+  public long getIntervalInSec() {
+    return intervalInSec;
+  }
+
+  @Override
+  public long getTtlInSec() {
+    return ttlInSec;
+  }
+
+  @Override
+  public boolean isHealthy() throws Exception {
+    ElasticSearchService esService = EsClientFactory.getInstance(JsonKey.REST);
+    Future<Boolean> future = esService.healthCheck();
+    return Await.result(future, Duration.create(timeoutInMillis, TimeUnit.MILLISECONDS));
+  }
+}
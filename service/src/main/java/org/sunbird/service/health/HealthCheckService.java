@@ -0,0 +1,20 @@
+package org.sunbird.service.health;
+
+public interface HealthCheckService {
+
+  /**
+   * Schedule every registered probe on a daemon thread of its own, each with its own interval, so
+   * that a slow probe delays neither the other probes nor the shared scheduler jobs. Probes are
+   * scheduled once, later calls do nothing.
+   */
+  void schedule();
+
+  /**
+   * Read the cached result of a probe. A result older than the probe's TTL, or a probe which has
+   * not run yet, is reported as unhealthy.
+   *
+   * @param name Component name of the probe
+   * @return Last known status of the component
+   */
+  HealthStatus getStatus(String name);
+}
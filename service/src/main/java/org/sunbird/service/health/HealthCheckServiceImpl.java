@@ -0,0 +1,127 @@
+package org.sunbird.service.health;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.sunbird.keys.JsonKey;
+import org.sunbird.logging.LoggerUtil;
+import org.sunbird.util.ProjectUtil;
+import org.sunbird.util.Util;
+
+public class HealthCheckServiceImpl implements HealthCheckService {
+  private static final LoggerUtil logger = new LoggerUtil(HealthCheckServiceImpl.class);
+
+  private static final String CASSANDRA_INTERVAL = "health_check_cassandra_interval_sec";
+  private static final String CASSANDRA_TTL = "health_check_cassandra_ttl_sec";
+  private static final String ES_INTERVAL = "health_check_es_interval_sec";
+  private static final String ES_TTL = "health_check_es_ttl_sec";
+  private static final String ES_TIMEOUT = "health_check_es_timeout_ms";
+  private static final long DEFAULT_INTERVAL = 10;
+  private static final long DEFAULT_TTL = 30;
+  private static final long DEFAULT_ES_TIMEOUT = 2000;
+
+  private static volatile HealthCheckService healthCheckService = null;
+
+  private final List<HealthProbe> probes;
+  private final Map<String, HealthStatus> statusMap = new ConcurrentHashMap<>();
+  private final List<ScheduledExecutorService> schedulers = new ArrayList<>();
+
+  HealthCheckServiceImpl(List<HealthProbe> probes) {
+    this.probes = probes;
+  }
+
+  public static HealthCheckService getInstance() {
+    if (healthCheckService == null) {
+      synchronized (HealthCheckServiceImpl.class) {
+        if (healthCheckService == null) {
+          healthCheckService =
+              new HealthCheckServiceImpl(
+                  Arrays.asList(
+                      new CassandraHealthProbe(
+                          Util.dbInfoMap.get(JsonKey.ROLE).getKeySpace(),
+                          getConfigValue(CASSANDRA_INTERVAL, DEFAULT_INTERVAL),
+                          getConfigValue(CASSANDRA_TTL, DEFAULT_TTL)),
+                      new ElasticSearchHealthProbe(
+                          getConfigValue(ES_INTERVAL, DEFAULT_INTERVAL),
+                          getConfigValue(ES_TTL, DEFAULT_TTL),
+                          getConfigValue(ES_TIMEOUT, DEFAULT_ES_TIMEOUT))));
+        }
+      }
+    }
+    return healthCheckService;
+  }
+
+  @Override
+  public synchronized void schedule() {
+    if (!schedulers.isEmpty()) {
+      logger.info("HealthCheckServiceImpl:schedule: Health probes are already scheduled");
+      return;
+    }
+    for (HealthProbe probe : probes) {
+      ScheduledExecutorService service =
+          Executors.newSingleThreadScheduledExecutor(
+              runnable -> {
+                Thread thread = new Thread(runnable, "health-probe-" + probe.getName());
+                thread.setDaemon(true);
+                return thread;
+              });
+      service.scheduleWithFixedDelay(
+          () -> runProbe(probe), 0, probe.getIntervalInSec(), TimeUnit.SECONDS);
+      schedulers.add(service);
+      logger.info(
+          "HealthCheckServiceImpl:schedule: Started health probe for "
+              + probe.getName()
+              + " with interval in sec = "
+              + probe.getIntervalInSec());
+    }
+  }
+
+  void runProbe(HealthProbe probe) {
+    HealthStatus status;
+    try {
+      status = new HealthStatus(probe.isHealthy(), null, System.currentTimeMillis());
+    } catch (Exception e) {
+      logger.error(
+          "HealthCheckServiceImpl:runProbe: " + probe.getName() + " health check failed", e);
+      status = new HealthStatus(false, e, System.currentTimeMillis());
+    }
+    statusMap.put(probe.getName(), status);
+  }
+
+  @Override
+  public HealthStatus getStatus(String name) {
+    HealthStatus status = statusMap.get(name);
+    long now = System.currentTimeMillis();
+    if (null == status) {
+      return new HealthStatus(
+          false, new IllegalStateException(name + " health check has not run yet"), now);
+    }
+    long ttlInMillis = TimeUnit.SECONDS.toMillis(getTtlInSec(name));
+    if (now - status.getCheckedAt() > ttlInMillis) {
+      return new HealthStatus(
+          false,
+          new IllegalStateException(name + " health check result is stale"),
+          status.getCheckedAt());
+    }
+    return status;
+  }
+
+  private long getTtlInSec(String name) {
+    for (HealthProbe probe : probes) {
+      if (probe.getName().equals(name)) {
+        return probe.getTtlInSec();
+      }
+    }
+    return DEFAULT_TTL;
+  }
+
+  private static long getConfigValue(String key, long defaultValue) {
+    return NumberUtils.toLong(ProjectUtil.getConfigValue(key), defaultValue);
+  }
+}
@@ -0,0 +1,25 @@
+package org.sunbird.service.health;
+
+/**
+ * A cheap liveness check of one backing component. Probes are run periodically in the background by
+ * {@link HealthCheckService}, never on the request path.
+ */
+public interface HealthProbe {
+
+  /** @return Component name reported in the health check response */
+  String getName();
+
+  /** @return Delay in seconds between two consecutive runs of the probe */
+  long getIntervalInSec();
+
+  /** @return Time in seconds after which the last result is no longer trusted */
+  long getTtlInSec();
+
+  /**
+   * Run the probe against the component.
+   *
+   * @return true if the component is reachable and usable
+   * @throws Exception if the component could not be reached
+   */
+  boolean isHealthy() throws Exception;
+}
@@ -0,0 +1,27 @@
+package org.sunbird.service.health;
+
+/** Result of the last run of a {@link HealthProbe}. */
+public class HealthStatus {
+
+  private final boolean healthy;
+  private final Exception error;
+  private final long checkedAt;
+
+  public HealthStatus(boolean healthy, Exception error, long checkedAt) {
+    this.healthy = healthy;
+    this.error = error;
+    this.checkedAt = checkedAt;
+  }
+
+  public boolean isHealthy() {
+    return healthy;
+  }
+
+  public Exception getError() {
+    return error;
+  }
+
+  public long getCheckedAt() {
+    return checkedAt;
+  }
+}
@@ -5,6 +5,7 @@ import java.util.Map;
 import org.sunbird.model.location.Location;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
+import scala.concurrent.Future;
 
 public interface LocationService {
   Response createLocation(Location location, RequestContext context);
@@ -27,5 +28,5 @@ public interface LocationService {
   List<Map<String, Object>> getLocationsByIds(
       List<String> locationIds, List<String> locationFields, RequestContext context);
 
-  String saveLocationToEs(String id, Map<String, Object> data, RequestContext context);
+  Future<String> saveLocationToEs(String id, Map<String, Object> data, RequestContext context);
 }
@@ -15,6 +15,7 @@ import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
 import org.sunbird.util.DataCacheHandler;
 import org.sunbird.util.ProjectUtil;
+import scala.concurrent.Future;
 
 public class LocationServiceImpl implements LocationService {
   public static LocationService locationService = null;
@@ -201,7 +202,8 @@ public class LocationServiceImpl implements LocationService {
   }
 
   @Override
-  public String saveLocationToEs(String id, Map<String, Object> data, RequestContext context) {
+  public Future<String> saveLocationToEs(
+      String id, Map<String, Object> data, RequestContext context) {
     return locationDao.saveLocationToEs(id, data, context);
   }
 }
@@ -1,5 +1,6 @@
 package org.sunbird.service.notes;
 
+import akka.dispatch.Mapper;
 import java.util.HashMap;
 import java.util.Map;
 import org.apache.commons.collections.MapUtils;
@@ -15,6 +16,8 @@ import org.sunbird.response.Response;
 import org.sunbird.service.user.UserService;
 import org.sunbird.service.user.impl.UserServiceImpl;
 import org.sunbird.util.ProjectUtil;
+import scala.concurrent.ExecutionContext;
+import scala.concurrent.Future;
 
 public class NotesService {
 
@@ -57,7 +60,8 @@ public class NotesService {
     return result;
   }
 
-  public Map<String, Object> searchNotes(Map<String, Object> searchQuery, RequestContext context) {
+  public Future<Map<String, Object>> searchNotes(
+      Map<String, Object> searchQuery, RequestContext context) {
     return notesDao.searchNotes(searchQuery, context);
   }
 
@@ -72,7 +76,7 @@ public class NotesService {
     return result;
   }
 
-  public Map<String, Object> getNoteById(String noteId, RequestContext context) {
+  public Future<Map<String, Object>> getNoteById(String noteId, RequestContext context) {
     return notesDao.getNoteById(noteId, context);
   }
 
@@ -88,27 +92,51 @@ public class NotesService {
     return false;
   }
 
-  public Boolean noteIdExists(String noteId, RequestContext context) {
-    Boolean result = false;
-    Map<String, Object> list = getNoteById(noteId, context);
-    if (!list.isEmpty()) {
-      result = true;
-    }
-    return result;
+  /**
+   * @param noteId Note id
+   * @param context Request context
+   * @param ec Execution context of the calling actor, the result is mapped on it
+   * @return Future of true if the note exists
+   */
+  public Future<Boolean> noteIdExists(String noteId, RequestContext context, ExecutionContext ec) {
+    return getNoteById(noteId, context)
+        .map(
+            new Mapper<Map<String, Object>, Boolean>() {
+              @Override
+              public Boolean apply(Map<String, Object> list) {
+                return !list.isEmpty();
+              }
+            },
+            ec);
   }
 
-  public boolean validateUserForNoteUpdate(String userId, String noteId, RequestContext context) {
-    Map<String, Object> noteData = getNoteById(noteId, context);
-    if (MapUtils.isEmpty(noteData)) return false;
-    if (!StringUtils.isBlank(userId)) {
-      return true;
-    }
-    if (!userId.equalsIgnoreCase((String) noteData.get(JsonKey.USER_ID))) {
-      throw new ProjectCommonException(
-          ResponseCode.errorForbidden,
-          ResponseCode.errorForbidden.getErrorMessage(),
-          ResponseCode.FORBIDDEN.getResponseCode());
-    }
-    return false;
+  /**
+   * @param userId Requesting user id
+   * @param noteId Note id
+   * @param context Request context
+   * @param ec Execution context of the calling actor, the note is validated on it
+   * @return Future of true if the user may update the note
+   */
+  public Future<Boolean> validateUserForNoteUpdate(
+      String userId, String noteId, RequestContext context, ExecutionContext ec) {
+    return getNoteById(noteId, context)
+        .map(
+            new Mapper<Map<String, Object>, Boolean>() {
+              @Override
+              public Boolean apply(Map<String, Object> noteData) {
+                if (MapUtils.isEmpty(noteData)) return false;
+                if (!StringUtils.isBlank(userId)) {
+                  return true;
+                }
+                if (!userId.equalsIgnoreCase((String) noteData.get(JsonKey.USER_ID))) {
+                  throw new ProjectCommonException(
+                      ResponseCode.errorForbidden,
+                      ResponseCode.errorForbidden.getErrorMessage(),
+                      ResponseCode.FORBIDDEN.getResponseCode());
+                }
+                return false;
+              }
+            },
+            ec);
   }
 }
@@ -47,7 +47,7 @@ public interface OrgService {
 
   boolean registerChannel(Map<String, Object> req, String operationType, RequestContext context);
 
-  String saveOrgToEs(String id, Map<String, Object> data, RequestContext context);
+  Future<String> saveOrgToEs(String id, Map<String, Object> data, RequestContext context);
 
   boolean checkOrgStatusTransition(Integer currentState, Integer nextState);
 }
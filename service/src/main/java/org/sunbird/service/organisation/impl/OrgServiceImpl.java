@@ -182,8 +182,7 @@ public class OrgServiceImpl implements OrgService {
     SearchDTO searchDTO = new SearchDTO();
     searchDTO.getAdditionalProperties().put(JsonKey.FILTERS, filters);
     Future<Map<String, Object>> esResultF = orgDao.search(searchDTO, context);
-    Map<String, Object> esResult =
-        (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(esResultF);
+    Map<String, Object> esResult = ElasticSearchHelper.awaitResult(esResultF);
     if (MapUtils.isNotEmpty(esResult)
         && CollectionUtils.isNotEmpty((List) esResult.get(JsonKey.CONTENT))) {
       Map<String, Object> esContent =
@@ -291,7 +290,7 @@ public class OrgServiceImpl implements OrgService {
   }
 
   @Override
-  public String saveOrgToEs(String id, Map<String, Object> data, RequestContext context) {
+  public Future<String> saveOrgToEs(String id, Map<String, Object> data, RequestContext context) {
     return orgDao.saveOrgToEs(id, data, context);
   }
 
@@ -8,6 +8,7 @@ import org.sunbird.model.user.User;
 import org.sunbird.request.Request;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
+import scala.concurrent.Future;
 
 public interface UserService {
 
@@ -23,7 +24,7 @@ public interface UserService {
 
   void validateUploader(Request request, RequestContext context);
 
-  Map<String, Object> esGetPublicUserProfileById(String userId, RequestContext context);
+  Future<Map<String, Object>> esGetPublicUserProfileById(String userId, RequestContext context);
 
   List<String> generateUsernames(
       String name, List<String> excludedUsernames, RequestContext context);
@@ -56,11 +57,12 @@ public interface UserService {
   List<Map<String, Object>> getUserEmailsBySearchQuery(
       Map<String, Object> searchQuery, RequestContext context);
 
-  Map<String, Object> searchUser(SearchDTO searchDTO, RequestContext context);
+  Future<Map<String, Object>> searchUser(SearchDTO searchDTO, RequestContext context);
 
-  boolean updateUserDataToES(String identifier, Map<String, Object> data, RequestContext context);
+  Future<Boolean> updateUserDataToES(
+      String identifier, Map<String, Object> data, RequestContext context);
 
-  String saveUserToES(String identifier, Map<String, Object> data, RequestContext context);
+  Future<String> saveUserToES(String identifier, Map<String, Object> data, RequestContext context);
 
   Map<String, Object> getUserDetailsForES(String userId, RequestContext context);
 }
@@ -21,6 +21,7 @@ import org.sunbird.logging.LoggerUtil;
 import org.sunbird.request.RequestContext;
 import org.sunbird.service.user.UserRoleService;
 import org.sunbird.util.ProjectUtil;
+import scala.concurrent.Future;
 
 public class UserRoleServiceImpl implements UserRoleService {
   private final LoggerUtil logger = new LoggerUtil(UserRoleServiceImpl.class);
@@ -268,7 +269,7 @@ public class UserRoleServiceImpl implements UserRoleService {
   }
 
   @Override
-  public boolean updateUserRoleToES(
+  public Future<Boolean> updateUserRoleToES(
       String identifier, Map<String, Object> data, RequestContext context) {
     return userRoleDao.updateUserRoleToES(identifier, data, context);
   }
@@ -127,7 +127,8 @@ public class UserServiceImpl implements UserService {
   }
 
   @Override
-  public Map<String, Object> esGetPublicUserProfileById(String userId, RequestContext context) {
+  public Future<Map<String, Object>> esGetPublicUserProfileById(
+      String userId, RequestContext context) {
     return userDao.getEsUserById(userId, context);
   }
 
@@ -385,7 +386,8 @@ public class UserServiceImpl implements UserService {
       Map<String, Object> searchQuery, RequestContext context) {
     List<Map<String, Object>> usersList = new ArrayList<>();
     Map<String, Object> esResult =
-        searchUser(ElasticSearchHelper.createSearchDTO(searchQuery), context);
+        ElasticSearchHelper.awaitResult(
+            searchUser(ElasticSearchHelper.createSearchDTO(searchQuery), context));
     if (MapUtils.isNotEmpty(esResult)
         && CollectionUtils.isNotEmpty((List) esResult.get(JsonKey.CONTENT))) {
       usersList = (List<Map<String, Object>>) esResult.get(JsonKey.CONTENT);
@@ -408,18 +410,19 @@ public class UserServiceImpl implements UserService {
   }
 
   @Override
-  public Map<String, Object> searchUser(SearchDTO searchDTO, RequestContext context) {
+  public Future<Map<String, Object>> searchUser(SearchDTO searchDTO, RequestContext context) {
     return userDao.search(searchDTO, context);
   }
 
   @Override
-  public boolean updateUserDataToES(
+  public Future<Boolean> updateUserDataToES(
       String identifier, Map<String, Object> data, RequestContext context) {
     return userDao.updateUserDataToES(identifier, data, context);
   }
 
   @Override
-  public String saveUserToES(String identifier, Map<String, Object> data, RequestContext context) {
+  public Future<String> saveUserToES(
+      String identifier, Map<String, Object> data, RequestContext context) {
     return userDao.saveUserToES(identifier, data, context);
   }
 
@@ -107,9 +107,9 @@ public final class UserUtility {
       return StringUtils.EMPTY;
     }
     if (phoneMaskedAttributes.contains(type)) {
-      return maskingService.maskPhone(decryptionService.decryptData(encryptedEmailOrPhone, null));
+      return maskingService.maskEncryptedPhone(encryptedEmailOrPhone, decryptionService);
     } else if (emailMaskedAttributes.contains(type)) {
-      return maskingService.maskEmail(decryptionService.decryptData(encryptedEmailOrPhone, null));
+      return maskingService.maskEncryptedEmail(encryptedEmailOrPhone, decryptionService);
     }
     return StringUtils.EMPTY;
   }
@@ -135,10 +135,10 @@ public final class Util {
     userMap.put(JsonKey.ENC_PHONE, phone);
     userMap.put(JsonKey.ENC_EMAIL, email);
     if (!StringUtils.isBlank(phone)) {
-      userMap.put(JsonKey.PHONE, maskingService.maskPhone(decService.decryptData(phone, null)));
+      userMap.put(JsonKey.PHONE, maskingService.maskEncryptedPhone(phone, decService));
     }
     if (!StringUtils.isBlank(email)) {
-      userMap.put(JsonKey.EMAIL, maskingService.maskEmail(decService.decryptData(email, null)));
+      userMap.put(JsonKey.EMAIL, maskingService.maskEncryptedEmail(email, decService));
     }
   }
 
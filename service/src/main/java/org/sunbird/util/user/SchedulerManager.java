@@ -3,6 +3,7 @@ package org.sunbird.util.user;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import org.sunbird.logging.LoggerUtil;
+import org.sunbird.service.health.HealthCheckServiceImpl;
 import org.sunbird.util.DataCacheHandler;
 import org.sunbird.util.ExecutorManager;
 import org.sunbird.util.ProjectUtil;
@@ -25,5 +26,6 @@ public class SchedulerManager {
     logger.info(
         "SchedulerManager:schedule: Started scheduler job for cache refresh with ttl in sec ="
             + TTL);
+    HealthCheckServiceImpl.getInstance().schedule();
   }
 }
@@ -612,7 +612,8 @@ public class UserUtil {
       Map<String, Object> searchRequestMap = new HashMap<>();
       searchRequestMap.put(JsonKey.FILTERS, searchQueryMap);
       SearchDTO searchDTO = ElasticSearchHelper.createSearchDTO(searchRequestMap);
-      Map<String, Object> searchResult = userService.searchUser(searchDTO, context);
+      Map<String, Object> searchResult =
+          ElasticSearchHelper.awaitResult(userService.searchUser(searchDTO, context));
       List<Map<String, Object>> managedUserList =
           (List<Map<String, Object>>) searchResult.get(JsonKey.CONTENT);
       if (CollectionUtils.isNotEmpty(managedUserList)
@@ -725,8 +726,7 @@ public class UserUtil {
         searchQueryMap.put(JsonKey.FILTERS, filters);
         SearchDTO searchDTO = ElasticSearchHelper.createSearchDTO(searchQueryMap);
         Future<Map<String, Object>> esOrgResF = orgService.searchOrg(searchDTO, context);
-        Map<String, Object> esResOrg =
-            (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(esOrgResF);
+        Map<String, Object> esResOrg = ElasticSearchHelper.awaitResult(esOrgResF);
         if (MapUtils.isNotEmpty(esResOrg)) {
           List<Map<String, Object>> orgList =
               (List<Map<String, Object>>) esResOrg.get(JsonKey.CONTENT);
@@ -1,66 +1,27 @@
 package org.sunbird.actor.health;
 
 import static akka.testkit.JavaTestKit.duration;
-import static org.powermock.api.mockito.PowerMockito.when;
 
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.actor.Props;
-import akka.dispatch.Futures;
 import akka.testkit.javadsl.TestKit;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
-import org.junit.runner.RunWith;
-import org.powermock.api.mockito.PowerMockito;
-import org.powermock.core.classloader.annotations.PowerMockIgnore;
-import org.powermock.core.classloader.annotations.PrepareForTest;
-import org.powermock.modules.junit4.PowerMockRunner;
-import org.sunbird.cassandra.CassandraOperation;
-import org.sunbird.cassandraimpl.CassandraOperationImpl;
-import org.sunbird.common.CassandraUtil;
-import org.sunbird.common.ElasticSearchHelper;
-import org.sunbird.common.ElasticSearchRestHighImpl;
-import org.sunbird.common.factory.EsClientFactory;
-import org.sunbird.common.inf.ElasticSearchService;
-import org.sunbird.helper.ServiceFactory;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.operations.ActorOperations;
 import org.sunbird.request.Request;
 import org.sunbird.response.Response;
-import org.sunbird.util.Util;
-import scala.concurrent.Promise;
 
-@RunWith(PowerMockRunner.class)
-@PrepareForTest({
-  CassandraOperationImpl.class,
-  ServiceFactory.class,
-  CassandraOperation.class,
-  CassandraUtil.class,
-  Util.class,
-  EsClientFactory.class,
-  ElasticSearchService.class,
-  ElasticSearchHelper.class,
-  ElasticSearchRestHighImpl.class
-})
-@PowerMockIgnore({
-  "javax.management.*",
-  "javax.net.ssl.*",
-  "javax.security.*",
-  "jdk.internal.reflect.*",
-  "javax.crypto.*"
-})
 public class HealthActorTest {
 
   private static ActorSystem system;
-  Util.DbInfo orgTypeDbInfo = Util.dbInfoMap.get(JsonKey.ROLE);
-  private CassandraOperation cassandraOperation;
   private static final Props props = Props.create(HealthActor.class);
 
   @BeforeClass
   public static void setUp() {
     system = ActorSystem.create("system");
-    PowerMockito.mockStatic(ServiceFactory.class);
   }
 
   @Test
@@ -88,12 +49,6 @@ public class HealthActorTest {
 
   @Test
   public void getESHealthCheck() {
-    ElasticSearchService elasticSearchService = PowerMockito.mock(ElasticSearchService.class);
-    Promise<Boolean> promise = Futures.promise();
-    promise.success(true);
-    PowerMockito.mockStatic(EsClientFactory.class);
-    when(EsClientFactory.getInstance(JsonKey.REST)).thenReturn(elasticSearchService);
-    when(elasticSearchService.healthCheck()).thenReturn(promise.future());
     TestKit probe = new TestKit(system);
     ActorRef subject = system.actorOf(props);
     Request reqObj = new Request();
@@ -104,13 +59,7 @@ public class HealthActorTest {
   }
 
   @Test
-  @PrepareForTest(ServiceFactory.class)
   public void getCASSANDRAHealthCheck() {
-    cassandraOperation = PowerMockito.mock(CassandraOperation.class);
-    when(ServiceFactory.getInstance()).thenReturn(cassandraOperation);
-    when(cassandraOperation.getAllRecords(
-            orgTypeDbInfo.getKeySpace(), orgTypeDbInfo.getTableName(), null))
-        .thenReturn(new Response());
     TestKit probe = new TestKit(system);
     ActorRef subject = system.actorOf(props);
     Request reqObj = new Request();
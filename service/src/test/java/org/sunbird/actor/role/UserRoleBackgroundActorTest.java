@@ -5,6 +5,7 @@ import static akka.testkit.JavaTestKit.duration;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.actor.Props;
+import akka.dispatch.Futures;
 import akka.testkit.javadsl.TestKit;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -49,7 +50,7 @@ public class UserRoleBackgroundActorTest {
     PowerMockito.when(
             userRoleService.updateUserRoleToES(
                 Mockito.anyString(), Mockito.anyMap(), Mockito.any(RequestContext.class)))
-        .thenReturn(true);
+        .thenReturn(Futures.successful(true));
   }
 
   @Test
@@ -74,6 +74,9 @@ public class EsSyncBackgroundActorTest {
     promise2.success("anyId");
     when(esService.save(Mockito.anyString(), Mockito.anyString(), Mockito.anyMap(), Mockito.any()))
         .thenReturn(promise2.future());
+    when(esService.bulkSave(
+            Mockito.anyString(), Mockito.anyString(), Mockito.anyMap(), Mockito.any()))
+        .thenReturn(promise2.future());
 
     Map<String, Object> user = new HashMap<>();
     user.put(JsonKey.FIRST_NAME, "firstName");
@@ -508,7 +508,7 @@ public class UserProfileReadActorTest {
   public void testGetUserByLoginId() {
     reqMap = getUserProfileByKeyRequest(JsonKey.LOGIN_ID, "loginId");
     when(userService.searchUser(Mockito.any(SearchDTO.class), Mockito.any(RequestContext.class)))
-        .thenReturn(getUserExistsSearchResponseMap());
+        .thenReturn(Futures.successful(getUserExistsSearchResponseMap()));
     setCassandraResponse(getCassandraResponse(true));
     boolean result =
         testScenario(
@@ -523,7 +523,7 @@ public class UserProfileReadActorTest {
     request.put(JsonKey.LOGIN_ID, "loginId");
     request.getContext().put(JsonKey.PRIVATE, false);
     when(userService.searchUser(Mockito.any(SearchDTO.class), Mockito.any(RequestContext.class)))
-        .thenReturn(getUserExistsSearchResponseMap());
+        .thenReturn(Futures.successful(getUserExistsSearchResponseMap()));
     setCassandraResponse(getCassandraResponse(true));
     boolean result = testScenario(request, ResponseCode.resourceNotFound);
     assertTrue(result);
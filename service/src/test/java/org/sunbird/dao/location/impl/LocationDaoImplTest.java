@@ -7,6 +7,7 @@ import akka.dispatch.Futures;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -26,7 +27,9 @@ import org.sunbird.keys.JsonKey;
 import org.sunbird.model.location.Location;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
+import scala.concurrent.Await;
 import scala.concurrent.Promise;
+import scala.concurrent.duration.Duration;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest({
@@ -174,12 +177,15 @@ public class LocationDaoImplTest {
   }
 
   @Test
-  public void saveToEs() {
+  public void saveToEs() throws Exception {
     Map<String, Object> data = new HashMap<>();
     data.put(JsonKey.ID, "546546-6787-5476");
     data.put(JsonKey.LOCATION_CODES, "code");
     LocationDaoImpl dao = new LocationDaoImpl();
-    String response = dao.saveLocationToEs("546546-6787-5476", data, new RequestContext());
+    String response =
+        Await.result(
+            dao.saveLocationToEs("546546-6787-5476", data, new RequestContext()),
+            Duration.create(1, TimeUnit.SECONDS));
     Assert.assertNotNull(response);
   }
 
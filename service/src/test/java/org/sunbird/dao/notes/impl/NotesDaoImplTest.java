@@ -7,6 +7,7 @@ import akka.dispatch.Futures;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -26,7 +27,9 @@ import org.sunbird.helper.ServiceFactory;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
+import scala.concurrent.Await;
 import scala.concurrent.Promise;
+import scala.concurrent.duration.Duration;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest({
@@ -103,7 +106,7 @@ public class NotesDaoImplTest {
   }
 
   @Test
-  public void searchNote() {
+  public void searchNote() throws Exception {
     NotesDao notesDao = NotesDaoImpl.getInstance();
 
     Map<String, Object> filters = new HashMap<>();
@@ -112,14 +115,20 @@ public class NotesDaoImplTest {
     searchQueryMap.put(JsonKey.FILTERS, filters);
     searchQueryMap.put(JsonKey.REQUESTED_BY, "requestedBy");
 
-    Map<String, Object> response = notesDao.searchNotes(searchQueryMap, new RequestContext());
+    Map<String, Object> response =
+        Await.result(
+            notesDao.searchNotes(searchQueryMap, new RequestContext()),
+            Duration.create(1, TimeUnit.SECONDS));
     Assert.assertNotNull(response);
   }
 
   @Test
-  public void getNoteById() {
+  public void getNoteById() throws Exception {
     NotesDao notesDao = NotesDaoImpl.getInstance();
-    Map<String, Object> response = notesDao.getNoteById("noteId", new RequestContext());
+    Map<String, Object> response =
+        Await.result(
+            notesDao.getNoteById("noteId", new RequestContext()),
+            Duration.create(1, TimeUnit.SECONDS));
     Assert.assertNotNull(response);
   }
 
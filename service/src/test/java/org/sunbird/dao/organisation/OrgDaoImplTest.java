@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -30,7 +31,9 @@ import org.sunbird.model.organisation.OrgTypeEnum;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
 import org.sunbird.util.Util;
+import scala.concurrent.Await;
 import scala.concurrent.Promise;
+import scala.concurrent.duration.Duration;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest({
@@ -152,12 +155,15 @@ public class OrgDaoImplTest {
   }
 
   @Test
-  public void saveToEs() {
+  public void saveToEs() throws Exception {
     Map<String, Object> data = new HashMap<>();
     data.put(JsonKey.ID, "546546-6787-5476");
     data.put(JsonKey.ORG_NAME, "name");
     OrgDao orgDao = OrgDaoImpl.getInstance();
-    String response = orgDao.saveOrgToEs("546546-6787-5476", data, new RequestContext());
+    String response =
+        Await.result(
+            orgDao.saveOrgToEs("546546-6787-5476", data, new RequestContext()),
+            Duration.create(1, TimeUnit.SECONDS));
     Assert.assertNotNull(response);
   }
 }
@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -30,7 +31,9 @@ import org.sunbird.keys.JsonKey;
 import org.sunbird.model.user.User;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
+import scala.concurrent.Await;
 import scala.concurrent.Promise;
+import scala.concurrent.duration.Duration;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest({
@@ -93,7 +96,7 @@ public class UserDaoImplTest {
   }
 
   @Test
-  public void testGetEsUserById() {
+  public void testGetEsUserById() throws Exception {
     Map<String, Object> esResponse = new HashMap<>();
     esResponse.put(JsonKey.CONTENT, new ArrayList<>());
     esResponse.put(JsonKey.ID, "userId");
@@ -103,12 +106,15 @@ public class UserDaoImplTest {
     when(esService.getDataByIdentifier(Mockito.anyString(), Mockito.anyString(), Mockito.any()))
         .thenReturn(promise.future());
     UserDao userDao = new UserDaoImpl();
-    Map<String, Object> user = userDao.getEsUserById("123-456-789", new RequestContext());
+    Map<String, Object> user =
+        Await.result(
+            userDao.getEsUserById("123-456-789", new RequestContext()),
+            Duration.create(1, TimeUnit.SECONDS));
     Assert.assertNotNull(user);
   }
 
   @Test
-  public void testUpdateUserDataToES() {
+  public void testUpdateUserDataToES() throws Exception {
     Map<String, Object> esRequest = new HashMap<>();
     Promise<Boolean> promise = Futures.promise();
     promise.success(false);
@@ -116,12 +122,15 @@ public class UserDaoImplTest {
             Mockito.anyString(), Mockito.anyString(), Mockito.anyMap(), Mockito.any()))
         .thenReturn(promise.future());
     UserDao userDao = new UserDaoImpl();
-    Boolean bool = userDao.updateUserDataToES("123-456-789", esRequest, new RequestContext());
+    Boolean bool =
+        Await.result(
+            userDao.updateUserDataToES("123-456-789", esRequest, new RequestContext()),
+            Duration.create(1, TimeUnit.SECONDS));
     Assert.assertFalse(bool);
   }
 
   @Test
-  public void testUpdateUserDataToESWithResponse() {
+  public void testUpdateUserDataToESWithResponse() throws Exception {
     Map<String, Object> esRequest = new HashMap<>();
     Promise<Boolean> promise = Futures.promise();
     promise.success(true);
@@ -129,12 +138,15 @@ public class UserDaoImplTest {
             Mockito.anyString(), Mockito.anyString(), Mockito.anyMap(), Mockito.any()))
         .thenReturn(promise.future());
     UserDao userDao = new UserDaoImpl();
-    Boolean bool = userDao.updateUserDataToES("123-456-789", esRequest, new RequestContext());
+    Boolean bool =
+        Await.result(
+            userDao.updateUserDataToES("123-456-789", esRequest, new RequestContext()),
+            Duration.create(1, TimeUnit.SECONDS));
     Assert.assertTrue(bool);
   }
 
   @Test(expected = ProjectCommonException.class)
-  public void testGetEsUserByIdWithEmptyResponse() {
+  public void testGetEsUserByIdWithEmptyResponse() throws Exception {
     Map<String, Object> esResponse = new HashMap<>();
     Promise<Map<String, Object>> promise = Futures.promise();
     promise.success(esResponse);
@@ -142,16 +154,21 @@ public class UserDaoImplTest {
     when(esService.getDataByIdentifier(Mockito.anyString(), Mockito.anyString(), Mockito.any()))
         .thenReturn(promise.future());
     UserDao userDao = new UserDaoImpl();
-    userDao.getEsUserById("123-456-789", new RequestContext());
+    Await.result(
+        userDao.getEsUserById("123-456-789", new RequestContext()),
+        Duration.create(1, TimeUnit.SECONDS));
   }
 
   @Test
-  public void saveToEs() {
+  public void saveToEs() throws Exception {
     Map<String, Object> data = new HashMap<>();
     data.put(JsonKey.ID, "546546-6787-5476");
     data.put(JsonKey.FIRST_NAME, "name");
     UserDao userDao = UserDaoImpl.getInstance();
-    String response = userDao.saveUserToES("546546-6787-5476", data, new RequestContext());
+    String response =
+        Await.result(
+            userDao.saveUserToES("546546-6787-5476", data, new RequestContext()),
+            Duration.create(1, TimeUnit.SECONDS));
     Assert.assertNotNull(response);
   }
 }
@@ -4,9 +4,9 @@ import static org.powermock.api.mockito.PowerMockito.doNothing;
 import static org.powermock.api.mockito.PowerMockito.mock;
 import static org.powermock.api.mockito.PowerMockito.when;
 
-import java.util.*;
-
 import akka.dispatch.Futures;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -27,7 +27,9 @@ import org.sunbird.helper.ServiceFactory;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
+import scala.concurrent.Await;
 import scala.concurrent.Promise;
+import scala.concurrent.duration.Duration;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest({
@@ -132,12 +134,15 @@ public class UserRoleDaoImplTest {
   }
 
   @Test
-  public void testUpdateUserRoleToES() {
+  public void testUpdateUserRoleToES() throws Exception {
     Map<String, Object> userRole = new HashMap<>();
     userRole.put(JsonKey.USER_ID,"userId");
     userRole.put(JsonKey.ORGANISATION_ID, "randomOrgID");
     UserRoleDao userRoleDao = UserRoleDaoImpl.getInstance();
-    boolean bool = userRoleDao.updateUserRoleToES("userId", userRole, new RequestContext());
+    boolean bool =
+        Await.result(
+            userRoleDao.updateUserRoleToES("userId", userRole, new RequestContext()),
+            Duration.create(1, TimeUnit.SECONDS));
     Assert.assertTrue(bool);
   }
 
@@ -0,0 +1,105 @@
+package org.sunbird.service.health;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class HealthCheckServiceTest {
+
+  @Test
+  public void testGetStatusBeforeFirstRunIsUnhealthy() {
+    HealthCheckServiceImpl service =
+        new HealthCheckServiceImpl(Arrays.asList(new TestProbe("db", 30, true)));
+    HealthStatus status = service.getStatus("db");
+    assertFalse(status.isHealthy());
+    assertNotNull(status.getError());
+  }
+
+  @Test
+  public void testGetStatusReturnsCachedResult() {
+    TestProbe probe = new TestProbe("db", 30, true);
+    HealthCheckServiceImpl service = new HealthCheckServiceImpl(Arrays.asList(probe));
+    service.runProbe(probe);
+    probe.healthy = false;
+    HealthStatus status = service.getStatus("db");
+    assertTrue(status.isHealthy());
+    assertNull(status.getError());
+  }
+
+  @Test
+  public void testGetStatusWithFailedProbe() {
+    TestProbe probe = new TestProbe("db", 30, true);
+    probe.failure = new IllegalStateException("connection refused");
+    HealthCheckServiceImpl service = new HealthCheckServiceImpl(Arrays.asList(probe));
+    service.runProbe(probe);
+    HealthStatus status = service.getStatus("db");
+    assertFalse(status.isHealthy());
+    assertTrue(status.getError() == probe.failure);
+  }
+
+  @Test
+  public void testGetStatusWithExpiredResultIsUnhealthy() {
+    TestProbe probe = new TestProbe("db", -1, true);
+    HealthCheckServiceImpl service = new HealthCheckServiceImpl(Arrays.asList(probe));
+    service.runProbe(probe);
+    assertFalse(service.getStatus("db").isHealthy());
+  }
+
+  @Test
+  public void testScheduleTwiceSchedulesProbesOnce() throws Exception {
+    TestProbe probe = new TestProbe("db", 30, true);
+    HealthCheckServiceImpl service = new HealthCheckServiceImpl(Arrays.asList(probe));
+    service.schedule();
+    service.schedule();
+    long deadline = System.currentTimeMillis() + 5000;
+    while (probe.calls.get() == 0 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    Thread.sleep(200);
+    assertEquals(1, probe.calls.get());
+  }
+
+  private static class TestProbe implements HealthProbe {
+    private final String name;
+    private final long ttlInSec;
+    private final AtomicInteger calls = new AtomicInteger();
+    private boolean healthy;
+    private Exception failure;
+
+    TestProbe(String name, long ttlInSec, boolean healthy) {
+      this.name = name;
+      this.ttlInSec = ttlInSec;
+      this.healthy = healthy;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    public long getIntervalInSec() {
+      return 10;
+    }
+
+    @Override
+    public long getTtlInSec() {
+      return ttlInSec;
+    }
+
+    @Override
+    public boolean isHealthy() throws Exception {
+      calls.incrementAndGet();
+      if (null != failure) {
+        throw failure;
+      }
+      return healthy;
+    }
+  }
+}
@@ -3,10 +3,12 @@ package org.sunbird.service.notes;
 import static org.powermock.api.mockito.PowerMockito.mock;
 import static org.powermock.api.mockito.PowerMockito.when;
 
+import akka.dispatch.ExecutionContexts;
 import akka.dispatch.Futures;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -26,7 +28,9 @@ import org.sunbird.keys.JsonKey;
 import org.sunbird.request.Request;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
+import scala.concurrent.Await;
 import scala.concurrent.Promise;
+import scala.concurrent.duration.Duration;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest({
@@ -108,7 +112,7 @@ public class NotesServiceTest {
   }
 
   @Test
-  public void searchNote() {
+  public void searchNote() throws Exception {
     NotesService notesService = new NotesService();
 
     Map<String, Object> filters = new HashMap<>();
@@ -117,7 +121,10 @@ public class NotesServiceTest {
     searchQueryMap.put(JsonKey.FILTERS, filters);
     searchQueryMap.put(JsonKey.REQUESTED_BY, "requestedBy");
 
-    Map<String, Object> response = notesService.searchNotes(searchQueryMap, new RequestContext());
+    Map<String, Object> response =
+        Await.result(
+            notesService.searchNotes(searchQueryMap, new RequestContext()),
+            Duration.create(1, TimeUnit.SECONDS));
     Assert.assertNotNull(response);
   }
 
@@ -129,9 +136,12 @@ public class NotesServiceTest {
   }
 
   @Test
-  public void getNoteById() {
+  public void getNoteById() throws Exception {
     NotesService notesService = new NotesService();
-    Map<String, Object> response = notesService.getNoteById("noteId", new RequestContext());
+    Map<String, Object> response =
+        Await.result(
+            notesService.getNoteById("noteId", new RequestContext()),
+            Duration.create(1, TimeUnit.SECONDS));
     Assert.assertNotNull(response);
   }
 
@@ -143,9 +153,12 @@ public class NotesServiceTest {
   }
 
   @Test
-  public void noteIdExist() {
+  public void noteIdExist() throws Exception {
     NotesService notesService = new NotesService();
-    Boolean response = notesService.noteIdExists("noteId", new RequestContext());
+    Boolean response =
+        Await.result(
+            notesService.noteIdExists("noteId", new RequestContext(), ExecutionContexts.global()),
+            Duration.create(1, TimeUnit.SECONDS));
     Assert.assertNotNull(response);
   }
 
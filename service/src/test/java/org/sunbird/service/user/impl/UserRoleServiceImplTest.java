@@ -1,6 +1,16 @@
 package org.sunbird.service.user.impl;
 
+import static org.powermock.api.mockito.PowerMockito.doNothing;
+import static org.powermock.api.mockito.PowerMockito.mock;
+import static org.powermock.api.mockito.PowerMockito.when;
+
 import akka.dispatch.Futures;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -20,17 +30,9 @@ import org.sunbird.keys.JsonKey;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
 import org.sunbird.service.user.UserRoleService;
+import scala.concurrent.Await;
 import scala.concurrent.Promise;
-
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
-import static org.powermock.api.mockito.PowerMockito.doNothing;
-import static org.powermock.api.mockito.PowerMockito.mock;
-import static org.powermock.api.mockito.PowerMockito.when;
+import scala.concurrent.duration.Duration;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest({
@@ -202,12 +204,15 @@ public class UserRoleServiceImplTest {
   }
 
   @Test
-  public void updateUserRoleToESTest () {
+  public void updateUserRoleToESTest() throws Exception {
     Map<String,Object> userMap = new HashMap<>();
     userMap.put(JsonKey.ID,"userId");
     userMap.put(JsonKey.ROLES,Arrays.asList("ADMIN"));
     UserRoleService service = UserRoleServiceImpl.getInstance();
-    Boolean response = service.updateUserRoleToES("userId", userMap, new RequestContext());
+    Boolean response =
+        Await.result(
+            service.updateUserRoleToES("userId", userMap, new RequestContext()),
+            Duration.create(1, TimeUnit.SECONDS));
     Assert.assertNotNull(response);
   }
 